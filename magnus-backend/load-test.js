@@ -0,0 +1,154 @@
+const http = require('http');
+const https = require('https');
+const fs = require('fs');
+
+// Load test configuration, override with environment variables
+const LOAD_CONFIG = {
+  baseUrl: process.env.LOAD_TEST_URL || 'http://localhost:8080',
+  username: process.env.LOAD_TEST_USER || 'admin',
+  password: process.env.LOAD_TEST_PASSWORD || 'admin',
+  concurrency: parseInt(process.env.LOAD_TEST_CONCURRENCY || '200', 10),
+  durationSeconds: parseInt(process.env.LOAD_TEST_DURATION || '60', 10),
+  warmupSeconds: parseInt(process.env.LOAD_TEST_WARMUP || '10', 10),
+  // List endpoints that block on JDBC, hit round-robin
+  paths: ['/api/tasks?page=0&size=20', '/api/budgets?page=0&size=20', '/api/clients?page=0&size=20', '/api/dashboard/rollups']
+};
+
+function makeRequest(url, options, data = null) {
+  return new Promise((resolve, reject) => {
+    const protocol = url.protocol === 'https:' ? https : http;
+    const req = protocol.request(url, options, res => {
+      let body = '';
+      res.on('data', chunk => (body += chunk));
+      res.on('end', () => resolve({ statusCode: res.statusCode, body }));
+    });
+    req.on('error', reject);
+    if (data) {
+      req.write(JSON.stringify(data));
+    }
+    req.end();
+  });
+}
+
+async function authenticate() {
+  const result = await makeRequest(
+    new URL('/api/authenticate', LOAD_CONFIG.baseUrl),
+    { method: 'POST', headers: { 'Content-Type': 'application/json', Accept: 'application/json' } },
+    { username: LOAD_CONFIG.username, password: LOAD_CONFIG.password, rememberMe: false }
+  );
+  if (result.statusCode !== 200) {
+    throw new Error(`Authentication failed with status ${result.statusCode}`);
+  }
+  return JSON.parse(result.body).id_token;
+}
+
+function percentile(sorted, p) {
+  if (sorted.length === 0) {
+    return 0;
+  }
+  return sorted[Math.min(sorted.length - 1, Math.ceil((p / 100) * sorted.length) - 1)];
+}
+
+// Each worker sends one request at a time until the deadline
+async function run(token, seconds, record) {
+  const agent = new (LOAD_CONFIG.baseUrl.startsWith('https') ? https : http).Agent({ keepAlive: true, maxSockets: LOAD_CONFIG.concurrency });
+  const headers = { Authorization: `Bearer ${token}`, Accept: 'application/json' };
+  const deadline = Date.now() + seconds * 1000;
+  let next = 0;
+
+  async function worker() {
+    while (Date.now() < deadline) {
+      const path = LOAD_CONFIG.paths[next++ % LOAD_CONFIG.paths.length];
+      const start = process.hrtime.bigint();
+      try {
+        const result = await makeRequest(new URL(path, LOAD_CONFIG.baseUrl), { method: 'GET', headers, agent });
+        record(Number(process.hrtime.bigint() - start) / 1e6, result.statusCode < 400);
+      } catch (e) {
+        record(Number(process.hrtime.bigint() - start) / 1e6, false);
+      }
+    }
+  }
+
+  await Promise.all(Array.from({ length: LOAD_CONFIG.concurrency }, worker));
+  agent.destroy();
+}
+
+async function runLoadTest(label) {
+  console.log(`🚀 Load test '${label}' against ${LOAD_CONFIG.baseUrl}`);
+  console.log(`   ${LOAD_CONFIG.concurrency} concurrent clients, ${LOAD_CONFIG.warmupSeconds}s warm-up, ${LOAD_CONFIG.durationSeconds}s measured`);
+  const token = await authenticate();
+
+  await run(token, LOAD_CONFIG.warmupSeconds, () => {});
+
+  const latencies = [];
+  let errors = 0;
+  await run(token, LOAD_CONFIG.durationSeconds, (ms, ok) => {
+    latencies.push(ms);
+    if (!ok) {
+      errors++;
+    }
+  });
+
+  latencies.sort((a, b) => a - b);
+  const result = {
+    label,
+    baseUrl: LOAD_CONFIG.baseUrl,
+    concurrency: LOAD_CONFIG.concurrency,
+    durationSeconds: LOAD_CONFIG.durationSeconds,
+    requests: latencies.length,
+    errors,
+    throughput: latencies.length / LOAD_CONFIG.durationSeconds,
+    p50: percentile(latencies, 50),
+    p90: percentile(latencies, 90),
+    p99: percentile(latencies, 99),
+    max: percentile(latencies, 100)
+  };
+  printResult(result);
+
+  const file = `load-test-${label}.json`;
+  fs.writeFileSync(file, JSON.stringify(result, null, 2));
+  console.log(`\n📄 Results written to ${file}`);
+  return result;
+}
+
+function printResult(result) {
+  console.log(`\n📊 ${result.label}`);
+  console.log('━'.repeat(60));
+  console.log(`   Requests:   ${result.requests} (${result.errors} errors)`);
+  console.log(`   Throughput: ${result.throughput.toFixed(1)} req/s`);
+  console.log(`   Latency:    p50 ${result.p50.toFixed(1)}ms, p90 ${result.p90.toFixed(1)}ms, p99 ${result.p99.toFixed(1)}ms, max ${result.max.toFixed(1)}ms`);
+}
+
+function compare(baselineFile, candidateFile) {
+  const baseline = JSON.parse(fs.readFileSync(baselineFile, 'utf8'));
+  const candidate = JSON.parse(fs.readFileSync(candidateFile, 'utf8'));
+  const change = (a, b) => `${(((b - a) / a) * 100).toFixed(1)}%`;
+  printResult(baseline);
+  printResult(candidate);
+  console.log(`\n⚖️  ${candidate.label} vs ${baseline.label}`);
+  console.log('━'.repeat(60));
+  console.log(`   Throughput: ${change(baseline.throughput, candidate.throughput)}`);
+  for (const p of ['p50', 'p90', 'p99']) {
+    console.log(`   ${p}:        ${change(baseline[p], candidate[p])}`);
+  }
+}
+
+// Usage:
+//   node load-test.js run <label>                 e.g. platform-threads or virtual-threads
+//   node load-test.js compare <baseline.json> <candidate.json>
+if (require.main === module) {
+  const [command, ...args] = process.argv.slice(2);
+  if (command === 'compare' && args.length === 2) {
+    compare(args[0], args[1]);
+  } else if (command === 'run') {
+    runLoadTest(args[0] || 'run').catch(e => {
+      console.error(e.message);
+      process.exit(1);
+    });
+  } else {
+    console.log('Usage: node load-test.js run <label> | compare <baseline.json> <candidate.json>');
+    process.exit(1);
+  }
+}
+
+module.exports = { runLoadTest, compare };
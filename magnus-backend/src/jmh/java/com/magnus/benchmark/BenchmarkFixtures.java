@@ -0,0 +1,131 @@
+package com.magnus.benchmark;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Budget;
+import com.magnus.domain.BudgetTemplate;
+import com.magnus.domain.Client;
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.Task;
+import com.magnus.domain.WeeklyPlan;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.EventGender;
+import com.magnus.domain.enumeration.PaymentStatus;
+import com.magnus.domain.enumeration.ProductCategory;
+import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.domain.enumeration.TaskPriority;
+import com.magnus.domain.enumeration.TaskStatus;
+import com.magnus.domain.enumeration.TaskType;
+import com.magnus.domain.enumeration.UserRole;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Fully populated entities, so the benchmarks measure every mapped field rather than nulls.
+ */
+final class BenchmarkFixtures {
+
+    static final Instant NOW = Instant.parse("2025-07-08T10:00:00Z");
+
+    static final LocalDate EVENT_DATE = LocalDate.of(2025, 7, 19);
+
+    private BenchmarkFixtures() {}
+
+    static Budget budget(long id) {
+        return new Budget()
+            .id(id)
+            .name("Budget " + id)
+            .clientName("Client " + id)
+            .eventDate(EVENT_DATE)
+            .eventLocation("Estancia La Magnus")
+            .guestCount(120)
+            .eventGender(EventGender.MIXED)
+            .description("Corporate retreat with lunch, activities and transport")
+            .totalAmount(new BigDecimal("125000.00"))
+            .totalCost(new BigDecimal("81000.00"))
+            .profitMargin(new BigDecimal("35.20"))
+            .mealsAmount(new BigDecimal("60000.00"))
+            .activitiesAmount(new BigDecimal("25000.00"))
+            .transportAmount(new BigDecimal("30000.00"))
+            .accommodationAmount(new BigDecimal("10000.00"))
+            .status(BudgetStatus.RESERVA)
+            .paymentStatus(PaymentStatus.PARTIALLY_PAID)
+            .isClosed(false)
+            .internalNotes("Vegetarian menu for 12 guests")
+            .clientNotes("Arrival around 10:30")
+            .templateId("corporate-day")
+            .workflowTriggered(false)
+            .lastWorkflowExecution(NOW)
+            .version(3)
+            .conflictStatus(ConflictStatus.NONE)
+            .lastModifiedBy("sales")
+            .approvedAt(NOW)
+            .reservedAt(NOW)
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .createdBy(new AppUser().id(1L))
+            .assignedTo(new AppUser().id(2L))
+            .client(new Client().id(id))
+            .template(new BudgetTemplate().id(1L))
+            .weeklyPlan(new WeeklyPlan().id(1L));
+    }
+
+    static Task task(long id) {
+        return new Task()
+            .id(id)
+            .title("Cooking - Budget " + id)
+            .description("Prepare lunch for 120 guests")
+            .type(TaskType.COOKING)
+            .priority(TaskPriority.HIGH)
+            .status(TaskStatus.TODO)
+            .assignedToRole(UserRole.COOK)
+            .dueDate(EVENT_DATE)
+            .dueTime(LocalTime.of(14, 0))
+            .estimatedDuration(240)
+            .actualDuration(0)
+            .location("Main kitchen")
+            .requirements("Grill, 3 cooks")
+            .notes("Auto-generated by workflow")
+            .invoiceUrl("https://invoices.example.com/" + id)
+            .autoScheduled(true)
+            .isRecurring(false)
+            .version(1)
+            .conflictStatus(ConflictStatus.NONE)
+            .lastModifiedBy("system")
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .createdBy(new AppUser().id(1L))
+            .assignedTo(new AppUser().id(3L))
+            .weeklyPlan(new WeeklyPlan().id(1L))
+            .relatedBudget(new Budget().id(id));
+    }
+
+    static ShoppingItem shoppingItem(long id) {
+        return new ShoppingItem()
+            .id(id)
+            .productName("Product " + id)
+            .totalQuantity(42.5)
+            .unit(ProductUnit.KG)
+            .category(ProductCategory.MEAT)
+            .budgetIds("1,2,3")
+            .clientNames("Client 1, Client 2, Client 3")
+            .isPurchased(false)
+            .purchasedQuantity(0d)
+            .weekStart(EVENT_DATE.minusDays(5))
+            .weekEnd(EVENT_DATE.plusDays(1))
+            .notes("Ask for the weekly price")
+            .supplier("Frigorifico Central")
+            .supplierContact("+54 11 5555 0000")
+            .estimatedCost(new BigDecimal("340000.00"))
+            .deliveryDate(EVENT_DATE.minusDays(1))
+            .isConsolidated(true)
+            .consolidatedAt(NOW)
+            .conflictStatus(ConflictStatus.NONE)
+            .version(1)
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .weeklyPlan(new WeeklyPlan().id(1L));
+    }
+}
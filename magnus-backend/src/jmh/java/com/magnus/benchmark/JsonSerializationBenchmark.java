@@ -0,0 +1,77 @@
+package com.magnus.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.magnus.config.JacksonConfiguration;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.dto.TaskDTO;
+import com.magnus.service.mapper.BudgetMapper;
+import com.magnus.service.mapper.TaskMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson serialisation of a page of DTOs, with the modules the application registers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ObjectWriter budgetPageWriter;
+
+    private ObjectWriter taskPageWriter;
+
+    private List<BudgetDTO> budgetPage;
+
+    private List<TaskDTO> taskPage;
+
+    @Setup
+    public void setUp() {
+        JacksonConfiguration configuration = new JacksonConfiguration();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modules(configuration.javaTimeModule(), configuration.jdk8TimeModule(), configuration.hibernate6Module())
+            .build();
+        budgetPageWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, BudgetDTO.class));
+        taskPageWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDTO.class));
+
+        BudgetMapper budgetMapper = Mappers.getMapper(BudgetMapper.class);
+        TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+        budgetPage = new ArrayList<>(pageSize);
+        taskPage = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            budgetPage.add(budgetMapper.toDto(BenchmarkFixtures.budget(id)));
+            taskPage.add(taskMapper.toDto(BenchmarkFixtures.task(id)));
+        }
+    }
+
+    @Benchmark
+    public byte[] budgetPage() throws Exception {
+        return budgetPageWriter.writeValueAsBytes(budgetPage);
+    }
+
+    @Benchmark
+    public byte[] taskPage() throws Exception {
+        return taskPageWriter.writeValueAsBytes(taskPage);
+    }
+}
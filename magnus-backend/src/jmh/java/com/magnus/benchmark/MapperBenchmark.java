@@ -0,0 +1,93 @@
+package com.magnus.benchmark;
+
+import com.magnus.domain.Budget;
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.Task;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.dto.ShoppingItemDTO;
+import com.magnus.service.dto.TaskDTO;
+import com.magnus.service.mapper.BudgetMapper;
+import com.magnus.service.mapper.ShoppingItemMapper;
+import com.magnus.service.mapper.TaskMapper;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MapStruct {@code toDto}/{@code toEntity} of the largest entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final BudgetMapper budgetMapper = Mappers.getMapper(BudgetMapper.class);
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+
+    private final ShoppingItemMapper shoppingItemMapper = Mappers.getMapper(ShoppingItemMapper.class);
+
+    private Budget budget;
+
+    private BudgetDTO budgetDTO;
+
+    private Task task;
+
+    private TaskDTO taskDTO;
+
+    private ShoppingItem shoppingItem;
+
+    private ShoppingItemDTO shoppingItemDTO;
+
+    @Setup
+    public void setUp() {
+        budget = BenchmarkFixtures.budget(1L);
+        budgetDTO = budgetMapper.toDto(budget);
+        task = BenchmarkFixtures.task(1L);
+        taskDTO = taskMapper.toDto(task);
+        shoppingItem = BenchmarkFixtures.shoppingItem(1L);
+        shoppingItemDTO = shoppingItemMapper.toDto(shoppingItem);
+    }
+
+    @Benchmark
+    public BudgetDTO budgetToDto() {
+        return budgetMapper.toDto(budget);
+    }
+
+    @Benchmark
+    public Budget budgetToEntity() {
+        return budgetMapper.toEntity(budgetDTO);
+    }
+
+    @Benchmark
+    public TaskDTO taskToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public Task taskToEntity() {
+        return taskMapper.toEntity(taskDTO);
+    }
+
+    @Benchmark
+    public ShoppingItemDTO shoppingItemToDto() {
+        return shoppingItemMapper.toDto(shoppingItem);
+    }
+
+    @Benchmark
+    public ShoppingItem shoppingItemToEntity() {
+        return shoppingItemMapper.toEntity(shoppingItemDTO);
+    }
+}
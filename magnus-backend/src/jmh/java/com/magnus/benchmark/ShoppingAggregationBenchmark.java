@@ -0,0 +1,99 @@
+package com.magnus.benchmark;
+
+import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.repository.ProductQuantityRow;
+import com.magnus.service.shopping.ShoppingListAggregator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consolidation of a weekly plan's ingredient and requirement rows into shopping lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShoppingAggregationBenchmark {
+
+    private static final ProductUnit[] UNITS = { ProductUnit.KG, ProductUnit.G, ProductUnit.LITERS, ProductUnit.ML, ProductUnit.UNITS };
+
+    @Param({ "1000", "20000" })
+    private int rowCount;
+
+    @Param({ "200" })
+    private int productCount;
+
+    private List<ProductQuantityRow> ingredients;
+
+    private List<ProductQuantityRow> requirements;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ingredients = new ArrayList<>(rowCount / 4);
+        requirements = new ArrayList<>(rowCount);
+        for (long requirementId = 1; requirementId <= rowCount; requirementId++) {
+            long productId = 1 + random.nextInt(productCount);
+            ProductUnit unit = UNITS[(int) (productId % UNITS.length)];
+            long budgetId = 1 + random.nextInt(50);
+            requirements.add(new Row(requirementId, productId, 1 + random.nextDouble() * 10, unit, budgetId));
+            if (requirementId % 4 == 0) {
+                ingredients.add(new Row(requirementId, productId, 1 + random.nextDouble() * 10, unit, budgetId));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<ShoppingListAggregator.Line> aggregate() {
+        ShoppingListAggregator aggregator = new ShoppingListAggregator();
+        for (ProductQuantityRow row : ingredients) {
+            aggregator.addIngredient(row);
+        }
+        for (ProductQuantityRow row : requirements) {
+            aggregator.addRequirement(row);
+        }
+        return aggregator.lines();
+    }
+
+    private record Row(Long requirementId, Long productId, Double quantity, ProductUnit unit, Long budgetId) implements ProductQuantityRow {
+        @Override
+        public Long getRequirementId() {
+            return requirementId;
+        }
+
+        @Override
+        public Long getProductId() {
+            return productId;
+        }
+
+        @Override
+        public Double getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public ProductUnit getUnit() {
+            return unit;
+        }
+
+        @Override
+        public Long getBudgetId() {
+            return budgetId;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.magnus.service;
+
+import com.magnus.service.dto.AppUserDTO;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.dto.TaskDTO;
+import com.magnus.service.dto.TaskDependencyDTO;
+import com.magnus.service.dto.WeeklyPlanDTO;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * In-memory construction of the workflow task graph (tasks and their dependencies) for a batch of
+ * reserved budgets, without the persistence and notification steps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkflowTaskGraphBenchmark {
+
+    @Param({ "1", "50" })
+    private int budgetCount;
+
+    private final WorkflowAutomationService workflowAutomationService = new WorkflowAutomationService(null, null, null, null);
+
+    private List<BudgetDTO> budgets;
+
+    @Setup
+    public void setUp() {
+        AppUserDTO createdBy = new AppUserDTO();
+        createdBy.setId(1L);
+        WeeklyPlanDTO weeklyPlan = new WeeklyPlanDTO();
+        weeklyPlan.setId(1L);
+        budgets = new ArrayList<>(budgetCount);
+        for (long id = 1; id <= budgetCount; id++) {
+            BudgetDTO budget = new BudgetDTO();
+            budget.setId(id);
+            budget.setName("Budget " + id);
+            budget.setEventDate(LocalDate.of(2025, 7, 19));
+            budget.setGuestCount(120);
+            budget.setMealsAmount(new BigDecimal("60000.00"));
+            budget.setActivitiesAmount(new BigDecimal("25000.00"));
+            budget.setTransportAmount(new BigDecimal("30000.00"));
+            budget.setCreatedBy(createdBy);
+            budget.setWeeklyPlan(weeklyPlan);
+            budgets.add(budget);
+        }
+    }
+
+    @Benchmark
+    public List<TaskDependencyDTO> buildTaskGraph() {
+        List<TaskDependencyDTO> dependencies = new ArrayList<>();
+        long taskId = 0;
+        for (BudgetDTO budget : budgets) {
+            List<TaskDTO> tasks = workflowAutomationService.generateTasksForBudget(budget);
+            for (TaskDTO task : tasks) {
+                // stands in for the ids assigned by the batched insert
+                task.setId(++taskId);
+            }
+            dependencies.addAll(workflowAutomationService.createTaskDependencies(tasks));
+        }
+        return dependencies;
+    }
+}
@@ -0,0 +1,122 @@
+package com.magnus.aop.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which instrumented calls get their arguments and results logged.
+ * <p>
+ * Argument logging is switched on or off per package, the most specific package wins and nothing is
+ * logged by default. Of the calls in an enabled package only a sample is logged, and only if the
+ * class logger is at {@code DEBUG}. Both the packages and the sample rate can be changed at runtime
+ * through the {@code instrumentation} management endpoint.
+ */
+public class ArgumentLogging {
+
+    private final ConcurrentMap<String, Boolean> packages = new ConcurrentHashMap<>();
+
+    /**
+     * Resolved setting per class name, cleared whenever a package is toggled.
+     */
+    private final ConcurrentMap<String, Boolean> resolved = new ConcurrentHashMap<>();
+
+    private final int maxArgumentLength;
+
+    private volatile double sampleRate;
+
+    public ArgumentLogging(Map<String, Boolean> packages, double sampleRate, int maxArgumentLength) {
+        this.packages.putAll(packages);
+        this.maxArgumentLength = maxArgumentLength;
+        setSampleRate(sampleRate);
+    }
+
+    /**
+     * @return whether argument logging is switched on for the package of the given class.
+     */
+    public boolean isEnabled(String className) {
+        return resolved.computeIfAbsent(className, this::resolve);
+    }
+
+    /**
+     * @return whether this call of a method of the given class should be logged.
+     */
+    public boolean sample(String className) {
+        if (!isEnabled(className)) {
+            return false;
+        }
+        double rate = sampleRate;
+        return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Switches argument logging on or off for a package and its sub-packages.
+     */
+    public void setEnabled(String packageName, boolean enabled) {
+        packages.put(packageName, enabled);
+        resolved.clear();
+    }
+
+    /**
+     * Removes the setting of a package so that it inherits the one of its parent again.
+     */
+    public void reset(String packageName) {
+        packages.remove(packageName);
+        resolved.clear();
+    }
+
+    /**
+     * @return the package settings, sorted by package name.
+     */
+    public Map<String, Boolean> getPackages() {
+        return new TreeMap<>(packages);
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("The sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return the string value of an argument or result, shortened to the configured length.
+     */
+    String format(Object value) {
+        String text;
+        if (value instanceof Object[] array) {
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < array.length && builder.length() <= maxArgumentLength; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(array[i]);
+            }
+            text = builder.append(']').toString();
+        } else {
+            text = String.valueOf(value);
+        }
+        return text.length() > maxArgumentLength ? text.substring(0, maxArgumentLength) + "..." : text;
+    }
+
+    private boolean resolve(String className) {
+        String name = className;
+        while (true) {
+            Boolean enabled = packages.get(name);
+            if (enabled != null) {
+                return enabled;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return false;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+}
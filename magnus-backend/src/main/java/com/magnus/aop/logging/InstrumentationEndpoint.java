@@ -0,0 +1,53 @@
+package com.magnus.aop.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code /management/instrumentation}: shows and changes {@link ArgumentLogging} at runtime.
+ * <ul>
+ *     <li>{@code POST /management/instrumentation} with {@code {"sampleRate": 0.5}} changes the sample rate;</li>
+ *     <li>{@code POST /management/instrumentation/com.magnus.service} with {@code {"enabled": true}} switches
+ *     a package on or off;</li>
+ *     <li>{@code DELETE /management/instrumentation/com.magnus.service} makes it inherit its parent again.</li>
+ * </ul>
+ * Arguments are only logged for classes whose logger is at {@code DEBUG}, see the {@code loggers} endpoint.
+ */
+@Endpoint(id = "instrumentation")
+public class InstrumentationEndpoint {
+
+    private final ArgumentLogging argumentLogging;
+
+    public InstrumentationEndpoint(ArgumentLogging argumentLogging) {
+        this.argumentLogging = argumentLogging;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("sampleRate", argumentLogging.getSampleRate());
+        settings.put("packages", argumentLogging.getPackages());
+        return settings;
+    }
+
+    @WriteOperation
+    public void configureSampleRate(double sampleRate) {
+        argumentLogging.setSampleRate(sampleRate);
+    }
+
+    @WriteOperation
+    public void configurePackage(@Selector String packageName, @Nullable Boolean enabled) {
+        argumentLogging.setEnabled(packageName, !Boolean.FALSE.equals(enabled));
+    }
+
+    @DeleteOperation
+    public void resetPackage(@Selector String packageName) {
+        argumentLogging.reset(packageName);
+    }
+}
@@ -0,0 +1,130 @@
+package com.magnus.aop.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodClassKey;
+
+/**
+ * Times every call of a repository, service or REST component and logs a sample of the arguments.
+ * <p>
+ * Calls are recorded by the {@value #TIMER_NAME} timer, tagged with the layer, the component's simple
+ * class name and the outcome only, so the number of series is bounded by the number of components.
+ * Loggers and timers are resolved once per method; on a call that is not sampled the only work done is
+ * reading the clock twice and recording the duration. Log messages are built by the logging framework
+ * itself, only for sampled calls of a class whose logger is at {@code DEBUG}, see {@link ArgumentLogging}.
+ */
+public class InstrumentationInterceptor implements MethodInterceptor {
+
+    public static final String TIMER_NAME = "app.layer.calls";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final ArgumentLogging argumentLogging;
+
+    private final ConcurrentMap<MethodClassKey, InstrumentedMethod> methods = new ConcurrentHashMap<>();
+
+    public InstrumentationInterceptor(ObjectProvider<MeterRegistry> meterRegistry, ArgumentLogging argumentLogging) {
+        this.meterRegistry = meterRegistry;
+        this.argumentLogging = argumentLogging;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        InstrumentedMethod method = instrumented(invocation);
+        boolean logged = method.log.isDebugEnabled() && argumentLogging.sample(method.className);
+        if (logged) {
+            method.log
+                .atDebug()
+                .setMessage("Enter: {}() with argument[s] = {}")
+                .addArgument(method.name)
+                .addArgument(() -> argumentLogging.format(invocation.getArguments()))
+                .log();
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            method.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (logged) {
+                method.log
+                    .atDebug()
+                    .setMessage("Exit: {}() with result = {}")
+                    .addArgument(method.name)
+                    .addArgument(() -> argumentLogging.format(result))
+                    .log();
+            }
+            return result;
+        } catch (Throwable e) {
+            method.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (argumentLogging.isEnabled(method.className)) {
+                logFailure(invocation, method, e);
+            }
+            throw e;
+        }
+    }
+
+    private void logFailure(MethodInvocation invocation, InstrumentedMethod method, Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            method.log
+                .atError()
+                .setMessage("Illegal argument: {} in {}()")
+                .addArgument(() -> argumentLogging.format(invocation.getArguments()))
+                .addArgument(method.name)
+                .log();
+        } else if (method.log.isDebugEnabled()) {
+            method.log.error("Exception in {}() with cause = '{}'", method.name, e.getCause() != null ? e.getCause() : "NULL", e);
+        } else {
+            method.log.error("Exception in {}() with cause = {}", method.name, e.getCause() != null ? String.valueOf(e.getCause()) : "NULL");
+        }
+    }
+
+    private InstrumentedMethod instrumented(MethodInvocation invocation) {
+        Class<?> beanClass = invocation.getThis() != null ? invocation.getThis().getClass() : invocation.getMethod().getDeclaringClass();
+        return methods.computeIfAbsent(new MethodClassKey(invocation.getMethod(), beanClass), key ->
+            new InstrumentedMethod(invocation.getMethod(), beanClass, meterRegistry.getObject())
+        );
+    }
+
+    private static final class InstrumentedMethod {
+
+        private final String name;
+
+        private final String className;
+
+        private final Logger log;
+
+        private final Timer success;
+
+        private final Timer error;
+
+        private InstrumentedMethod(Method method, Class<?> beanClass, MeterRegistry registry) {
+            Class<?> component = InstrumentedLayer.componentOf(beanClass);
+            if (component == null) {
+                component = method.getDeclaringClass();
+            }
+            InstrumentedLayer layer = InstrumentedLayer.layerOf(component);
+            this.name = method.getName();
+            this.className = component.getName();
+            this.log = LoggerFactory.getLogger(component);
+            this.success = timer(registry, layer, component, "success");
+            this.error = timer(registry, layer, component, "error");
+        }
+
+        private static Timer timer(MeterRegistry registry, InstrumentedLayer layer, Class<?> component, String outcome) {
+            return Timer.builder(TIMER_NAME)
+                .description("Calls of repository, service and REST components")
+                .tag("layer", layer != null ? layer.getTag() : "other")
+                .tag("component", component.getSimpleName())
+                .tag("outcome", outcome)
+                .register(registry);
+        }
+    }
+}
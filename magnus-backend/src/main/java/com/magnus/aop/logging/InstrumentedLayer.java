@@ -0,0 +1,64 @@
+package com.magnus.aop.logging;
+
+import java.lang.annotation.Annotation;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The application layers timed by the {@link InstrumentationInterceptor}: a component belongs to a layer
+ * when it is declared in the layer's package and carries its stereotype.
+ */
+public enum InstrumentedLayer {
+    REPOSITORY("repository", "com.magnus.repository.", Repository.class),
+    SERVICE("service", "com.magnus.service.", Service.class),
+    REST("rest", "com.magnus.web.rest.", RestController.class);
+
+    private final String tag;
+
+    private final String packagePrefix;
+
+    private final Class<? extends Annotation> stereotype;
+
+    InstrumentedLayer(String tag, String packagePrefix, Class<? extends Annotation> stereotype) {
+        this.tag = tag;
+        this.packagePrefix = packagePrefix;
+        this.stereotype = stereotype;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Finds the application type behind a bean class: the class itself, or for Spring Data repositories
+     * the repository interface implemented by the proxy.
+     *
+     * @param beanClass the class of the bean.
+     * @return the instrumented component type, or {@code null} if the bean is not in an instrumented layer.
+     */
+    public static Class<?> componentOf(Class<?> beanClass) {
+        if (layerOf(beanClass) != null) {
+            return beanClass;
+        }
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+            if (layerOf(type) != null) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the layer of a component type, or {@code null} if it is not in an instrumented layer.
+     */
+    public static InstrumentedLayer layerOf(Class<?> type) {
+        for (InstrumentedLayer layer : values()) {
+            if (type.getName().startsWith(layer.packagePrefix) && type.isAnnotationPresent(layer.stereotype)) {
+                return layer;
+            }
+        }
+        return null;
+    }
+}
@@ -1,4 +1,4 @@
 /**
- * Logging aspect.
+ * Timing and sampled argument logging of repository, service and REST calls.
  */
 package com.magnus.aop.logging;
@@ -1,6 +1,12 @@
 package com.magnus.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Magnus.
@@ -17,6 +23,14 @@ public class ApplicationProperties {
     private final Cache cache = new Cache();
     private final Websocket websocket = new Websocket();
     private final Realtime realtime = new Realtime();
+    private final Notifications notifications = new Notifications();
+    private final Audit audit = new Audit();
+    private final Concurrency concurrency = new Concurrency();
+    private final BudgetTotals budgetTotals = new BudgetTotals();
+    private final Dashboard dashboard = new Dashboard();
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+    private final Instrumentation instrumentation = new Instrumentation();
+    private final JwtCache jwtCache = new JwtCache();
 
     // jhipster-needle-application-properties-property
 
@@ -40,6 +54,38 @@ public class ApplicationProperties {
         return realtime;
     }
 
+    public Notifications getNotifications() {
+        return notifications;
+    }
+
+    public Audit getAudit() {
+        return audit;
+    }
+
+    public Concurrency getConcurrency() {
+        return concurrency;
+    }
+
+    public BudgetTotals getBudgetTotals() {
+        return budgetTotals;
+    }
+
+    public Dashboard getDashboard() {
+        return dashboard;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -61,6 +107,8 @@ public class ApplicationProperties {
         private final TaskGeneration taskGeneration = new TaskGeneration();
         private final Notifications notifications = new Notifications();
         private final Scheduling scheduling = new Scheduling();
+        private final Jobs jobs = new Jobs();
+        private final Rules rules = new Rules();
 
         public TaskGeneration getTaskGeneration() {
             return taskGeneration;
@@ -74,6 +122,14 @@ public class ApplicationProperties {
             return scheduling;
         }
 
+        public Jobs getJobs() {
+            return jobs;
+        }
+
+        public Rules getRules() {
+            return rules;
+        }
+
         public static class TaskGeneration {
             private Boolean enabled;
             private Boolean asyncProcessing;
@@ -145,6 +201,102 @@ public class ApplicationProperties {
                 this.cookingHoursBefore = cookingHoursBefore;
             }
         }
+
+        public static class Jobs {
+            private boolean enabled = true;
+            private int workerPoolSize = 2;
+            private int batchSize = 50;
+            private long pollIntervalMs = 1000;
+            private int maxAttempts = 5;
+            private long initialBackoffMs = 5000;
+            private long maxBackoffMs = 600000;
+            private long leaseTimeoutMs = 300000;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getWorkerPoolSize() {
+                return workerPoolSize;
+            }
+
+            public void setWorkerPoolSize(int workerPoolSize) {
+                this.workerPoolSize = workerPoolSize;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public long getPollIntervalMs() {
+                return pollIntervalMs;
+            }
+
+            public void setPollIntervalMs(long pollIntervalMs) {
+                this.pollIntervalMs = pollIntervalMs;
+            }
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            public long getInitialBackoffMs() {
+                return initialBackoffMs;
+            }
+
+            public void setInitialBackoffMs(long initialBackoffMs) {
+                this.initialBackoffMs = initialBackoffMs;
+            }
+
+            public long getMaxBackoffMs() {
+                return maxBackoffMs;
+            }
+
+            public void setMaxBackoffMs(long maxBackoffMs) {
+                this.maxBackoffMs = maxBackoffMs;
+            }
+
+            public long getLeaseTimeoutMs() {
+                return leaseTimeoutMs;
+            }
+
+            public void setLeaseTimeoutMs(long leaseTimeoutMs) {
+                this.leaseTimeoutMs = leaseTimeoutMs;
+            }
+        }
+
+        public static class Rules {
+            private boolean enabled = true;
+            private long statsFlushIntervalMs = 10000;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getStatsFlushIntervalMs() {
+                return statsFlushIntervalMs;
+            }
+
+            public void setStatsFlushIntervalMs(long statsFlushIntervalMs) {
+                this.statsFlushIntervalMs = statsFlushIntervalMs;
+            }
+        }
     }
 
     public static class Cache {
@@ -152,6 +304,8 @@ public class ApplicationProperties {
         private Integer shoppingListsTtl;
         private Integer taskListsTtl;
         private Integer dashboardAnalyticsTtl;
+        private String diskPath = System.getProperty("java.io.tmpdir") + "/magnus-cache";
+        private final Map<String, Region> regions = new LinkedHashMap<>();
 
         public Integer getTemplatesTtl() {
             return templatesTtl;
@@ -184,11 +338,98 @@ public class ApplicationProperties {
         public void setDashboardAnalyticsTtl(Integer dashboardAnalyticsTtl) {
             this.dashboardAnalyticsTtl = dashboardAnalyticsTtl;
         }
+
+        public String getDiskPath() {
+            return diskPath;
+        }
+
+        public void setDiskPath(String diskPath) {
+            this.diskPath = diskPath;
+        }
+
+        /**
+         * Per-region overrides, keyed by cache name without the {@code com.magnus.domain.} prefix
+         * (e.g. {@code Product}, {@code Menu.menuItems}, {@code usersByLogin}).
+         */
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        /**
+         * Sizing and expiry of one cache region. Unset values fall back to {@code jhipster.cache.ehcache}.
+         */
+        public static class Region {
+            private Long maxEntries;
+            private DataSize heapSize;
+            private DataSize offHeapSize;
+            private DataSize diskSize;
+            private boolean diskPersistent;
+            private Duration timeToLive;
+            private Duration timeToIdle;
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public DataSize getHeapSize() {
+                return heapSize;
+            }
+
+            public void setHeapSize(DataSize heapSize) {
+                this.heapSize = heapSize;
+            }
+
+            public DataSize getOffHeapSize() {
+                return offHeapSize;
+            }
+
+            public void setOffHeapSize(DataSize offHeapSize) {
+                this.offHeapSize = offHeapSize;
+            }
+
+            public DataSize getDiskSize() {
+                return diskSize;
+            }
+
+            public void setDiskSize(DataSize diskSize) {
+                this.diskSize = diskSize;
+            }
+
+            public boolean isDiskPersistent() {
+                return diskPersistent;
+            }
+
+            public void setDiskPersistent(boolean diskPersistent) {
+                this.diskPersistent = diskPersistent;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+        }
     }
 
     public static class Websocket {
         private Integer heartbeatInterval;
         private Integer taskSchedulerPoolSize;
+        private final Presence presence = new Presence();
+        private final Broker broker = new Broker();
 
         public Integer getHeartbeatInterval() {
             return heartbeatInterval;
@@ -205,6 +446,126 @@ public class ApplicationProperties {
         public void setTaskSchedulerPoolSize(Integer taskSchedulerPoolSize) {
             this.taskSchedulerPoolSize = taskSchedulerPoolSize;
         }
+
+        public Presence getPresence() {
+            return presence;
+        }
+
+        public Broker getBroker() {
+            return broker;
+        }
+
+        public static class Presence {
+            private long publishIntervalMs = 2000;
+            private long snapshotIntervalMs = 60000;
+
+            public long getPublishIntervalMs() {
+                return publishIntervalMs;
+            }
+
+            public void setPublishIntervalMs(long publishIntervalMs) {
+                this.publishIntervalMs = publishIntervalMs;
+            }
+
+            public long getSnapshotIntervalMs() {
+                return snapshotIntervalMs;
+            }
+
+            public void setSnapshotIntervalMs(long snapshotIntervalMs) {
+                this.snapshotIntervalMs = snapshotIntervalMs;
+            }
+        }
+
+        public static class Broker {
+            private Mode mode = Mode.SIMPLE;
+            private String relayHost = "localhost";
+            private int relayPort = 61613;
+            private String virtualHost;
+            private String clientLogin = "guest";
+            private String clientPasscode = "guest";
+            private String systemLogin = "guest";
+            private String systemPasscode = "guest";
+
+            /**
+             * Where STOMP messages to {@code /topic} and {@code /queue} are brokered.
+             */
+            public enum Mode {
+                /** In-memory broker, messages only reach clients connected to this node. */
+                SIMPLE,
+                /** Relay to an Artemis broker started in this JVM on relay-host:relay-port, single node or development only. */
+                EMBEDDED,
+                /** Relay to an external STOMP broker on relay-host:relay-port, shared by all nodes. */
+                EXTERNAL,
+            }
+
+            public boolean isRelay() {
+                return mode != Mode.SIMPLE;
+            }
+
+            public Mode getMode() {
+                return mode;
+            }
+
+            public void setMode(Mode mode) {
+                this.mode = mode;
+            }
+
+            public String getRelayHost() {
+                return relayHost;
+            }
+
+            public void setRelayHost(String relayHost) {
+                this.relayHost = relayHost;
+            }
+
+            public int getRelayPort() {
+                return relayPort;
+            }
+
+            public void setRelayPort(int relayPort) {
+                this.relayPort = relayPort;
+            }
+
+            public String getVirtualHost() {
+                return virtualHost;
+            }
+
+            public void setVirtualHost(String virtualHost) {
+                this.virtualHost = virtualHost;
+            }
+
+            public String getClientLogin() {
+                return clientLogin;
+            }
+
+            public void setClientLogin(String clientLogin) {
+                this.clientLogin = clientLogin;
+            }
+
+            public String getClientPasscode() {
+                return clientPasscode;
+            }
+
+            public void setClientPasscode(String clientPasscode) {
+                this.clientPasscode = clientPasscode;
+            }
+
+            public String getSystemLogin() {
+                return systemLogin;
+            }
+
+            public void setSystemLogin(String systemLogin) {
+                this.systemLogin = systemLogin;
+            }
+
+            public String getSystemPasscode() {
+                return systemPasscode;
+            }
+
+            public void setSystemPasscode(String systemPasscode) {
+                this.systemPasscode = systemPasscode;
+            }
+        }
     }
 
     public static class Realtime {
@@ -245,4 +606,413 @@ public class ApplicationProperties {
             this.ingredientModificationSync = ingredientModificationSync;
         }
     }
+
+    public static class Notifications {
+        private long countersResyncIntervalMs = 600000;
+        private final Sweeper sweeper = new Sweeper();
+
+        public long getCountersResyncIntervalMs() {
+            return countersResyncIntervalMs;
+        }
+
+        public void setCountersResyncIntervalMs(long countersResyncIntervalMs) {
+            this.countersResyncIntervalMs = countersResyncIntervalMs;
+        }
+
+        public Sweeper getSweeper() {
+            return sweeper;
+        }
+
+        public static class Sweeper {
+            private boolean enabled = true;
+            private boolean archive = true;
+            private long intervalMs = 300000;
+            private int batchSize = 500;
+            private int maxBatchesPerRun = 100;
+            private Duration readRetention = Duration.ofDays(30);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public boolean isArchive() {
+                return archive;
+            }
+
+            public void setArchive(boolean archive) {
+                this.archive = archive;
+            }
+
+            public long getIntervalMs() {
+                return intervalMs;
+            }
+
+            public void setIntervalMs(long intervalMs) {
+                this.intervalMs = intervalMs;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public int getMaxBatchesPerRun() {
+                return maxBatchesPerRun;
+            }
+
+            public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+                this.maxBatchesPerRun = maxBatchesPerRun;
+            }
+
+            public Duration getReadRetention() {
+                return readRetention;
+            }
+
+            public void setReadRetention(Duration readRetention) {
+                this.readRetention = readRetention;
+            }
+        }
+    }
+
+    public static class Audit {
+        private boolean enabled = true;
+        private List<String> entities = new ArrayList<>(List.of("Budget", "Task", "Payment", "ShoppingItem"));
+        private List<String> ignoredFields = new ArrayList<>(List.of("updatedAt", "version"));
+        private int bufferCapacity = 10000;
+        private int batchSize = 200;
+        private long flushIntervalMs = 500;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private long blockTimeoutMs = 100;
+        private int retentionMonths = 24;
+        private int partitionsAhead = 3;
+        private String partitionMaintenanceCron = "0 15 3 * * *";
+
+        /**
+         * What to do with a new audit entry when the buffer is full.
+         */
+        public enum OverflowPolicy {
+            /** Wait up to block-timeout-ms for space, then drop the new entry. */
+            BLOCK,
+            /** Drop the new entry immediately. */
+            DROP_NEWEST,
+            /** Evict the oldest buffered entry to make room. */
+            DROP_OLDEST,
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getEntities() {
+            return entities;
+        }
+
+        public void setEntities(List<String> entities) {
+            this.entities = entities;
+        }
+
+        public List<String> getIgnoredFields() {
+            return ignoredFields;
+        }
+
+        public void setIgnoredFields(List<String> ignoredFields) {
+            this.ignoredFields = ignoredFields;
+        }
+
+        public int getBufferCapacity() {
+            return bufferCapacity;
+        }
+
+        public void setBufferCapacity(int bufferCapacity) {
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public long getBlockTimeoutMs() {
+            return blockTimeoutMs;
+        }
+
+        public void setBlockTimeoutMs(long blockTimeoutMs) {
+            this.blockTimeoutMs = blockTimeoutMs;
+        }
+
+        public int getRetentionMonths() {
+            return retentionMonths;
+        }
+
+        public void setRetentionMonths(int retentionMonths) {
+            this.retentionMonths = retentionMonths;
+        }
+
+        public int getPartitionsAhead() {
+            return partitionsAhead;
+        }
+
+        public void setPartitionsAhead(int partitionsAhead) {
+            this.partitionsAhead = partitionsAhead;
+        }
+
+        public String getPartitionMaintenanceCron() {
+            return partitionMaintenanceCron;
+        }
+
+        public void setPartitionMaintenanceCron(String partitionMaintenanceCron) {
+            this.partitionMaintenanceCron = partitionMaintenanceCron;
+        }
+    }
+
+    public static class Concurrency {
+        private List<String> versionedEntities = new ArrayList<>(
+            List.of("Budget", "Task", "ShoppingItem", "CookingSchedule", "BudgetItem", "ProductRequirement")
+        );
+        private Duration snapshotRetention = Duration.ofDays(7);
+        private long snapshotPurgeIntervalMs = 3600000;
+
+        public List<String> getVersionedEntities() {
+            return versionedEntities;
+        }
+
+        public void setVersionedEntities(List<String> versionedEntities) {
+            this.versionedEntities = versionedEntities;
+        }
+
+        public Duration getSnapshotRetention() {
+            return snapshotRetention;
+        }
+
+        public void setSnapshotRetention(Duration snapshotRetention) {
+            this.snapshotRetention = snapshotRetention;
+        }
+
+        public long getSnapshotPurgeIntervalMs() {
+            return snapshotPurgeIntervalMs;
+        }
+
+        public void setSnapshotPurgeIntervalMs(long snapshotPurgeIntervalMs) {
+            this.snapshotPurgeIntervalMs = snapshotPurgeIntervalMs;
+        }
+    }
+
+    public static class BudgetTotals {
+        private boolean enabled = true;
+        private boolean reconcileEnabled = true;
+        private long reconcileIntervalMs = 21600000;
+        private int reconcileBatchSize = 200;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isReconcileEnabled() {
+            return reconcileEnabled;
+        }
+
+        public void setReconcileEnabled(boolean reconcileEnabled) {
+            this.reconcileEnabled = reconcileEnabled;
+        }
+
+        public long getReconcileIntervalMs() {
+            return reconcileIntervalMs;
+        }
+
+        public void setReconcileIntervalMs(long reconcileIntervalMs) {
+            this.reconcileIntervalMs = reconcileIntervalMs;
+        }
+
+        public int getReconcileBatchSize() {
+            return reconcileBatchSize;
+        }
+
+        public void setReconcileBatchSize(int reconcileBatchSize) {
+            this.reconcileBatchSize = reconcileBatchSize;
+        }
+    }
+
+    public static class Dashboard {
+        private boolean enabled = true;
+        private long refreshIntervalMs = 2000;
+        private int refreshBatchSize = 500;
+        private String resyncCron = "0 30 4 * * *";
+        private int maxRangeDays = 1830;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getRefreshIntervalMs() {
+            return refreshIntervalMs;
+        }
+
+        public void setRefreshIntervalMs(long refreshIntervalMs) {
+            this.refreshIntervalMs = refreshIntervalMs;
+        }
+
+        public int getRefreshBatchSize() {
+            return refreshBatchSize;
+        }
+
+        public void setRefreshBatchSize(int refreshBatchSize) {
+            this.refreshBatchSize = refreshBatchSize;
+        }
+
+        public String getResyncCron() {
+            return resyncCron;
+        }
+
+        public void setResyncCron(String resyncCron) {
+            this.resyncCron = resyncCron;
+        }
+
+        public int getMaxRangeDays() {
+            return maxRangeDays;
+        }
+
+        public void setMaxRangeDays(int maxRangeDays) {
+            this.maxRangeDays = maxRangeDays;
+        }
+    }
+
+    public static class VirtualThreads {
+        private int jdbcMaxConcurrency = 0;
+        private Duration jdbcAcquireTimeout = Duration.ofSeconds(30);
+
+        /**
+         * @return how many threads may hold a JDBC connection at once, 0 for the connection pool size.
+         */
+        public int getJdbcMaxConcurrency() {
+            return jdbcMaxConcurrency;
+        }
+
+        public void setJdbcMaxConcurrency(int jdbcMaxConcurrency) {
+            this.jdbcMaxConcurrency = jdbcMaxConcurrency;
+        }
+
+        public Duration getJdbcAcquireTimeout() {
+            return jdbcAcquireTimeout;
+        }
+
+        public void setJdbcAcquireTimeout(Duration jdbcAcquireTimeout) {
+            this.jdbcAcquireTimeout = jdbcAcquireTimeout;
+        }
+    }
+
+    public static class Instrumentation {
+        private boolean enabled = true;
+        private double argumentSampleRate = 0.01;
+        private int maxArgumentLength = 200;
+        private Map<String, Boolean> packages = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return the share of calls, between 0 and 1, whose arguments and results are logged.
+         */
+        public double getArgumentSampleRate() {
+            return argumentSampleRate;
+        }
+
+        public void setArgumentSampleRate(double argumentSampleRate) {
+            this.argumentSampleRate = argumentSampleRate;
+        }
+
+        public int getMaxArgumentLength() {
+            return maxArgumentLength;
+        }
+
+        public void setMaxArgumentLength(int maxArgumentLength) {
+            this.maxArgumentLength = maxArgumentLength;
+        }
+
+        /**
+         * @return argument logging switched on or off per package at startup, the most specific package wins.
+         */
+        public Map<String, Boolean> getPackages() {
+            return packages;
+        }
+
+        public void setPackages(Map<String, Boolean> packages) {
+            this.packages = packages;
+        }
+    }
+
+    public static class JwtCache {
+        private boolean enabled = true;
+        private int maxSize = 10000;
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return how long a verified token is kept at most, never beyond its {@code exp}.
+         */
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
 }
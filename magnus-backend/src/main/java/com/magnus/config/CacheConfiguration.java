@@ -1,9 +1,20 @@
 package com.magnus.config;
 
+import java.io.File;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -15,26 +26,53 @@ import org.springframework.context.annotation.*;
 import tech.jhipster.config.JHipsterProperties;
 import tech.jhipster.config.cache.PrefixedKeyGenerator;
 
+/**
+ * Ehcache configuration.
+ * <p>
+ * Every cache gets its own resource pools and expiry from {@code application.cache.regions}, falling
+ * back to {@code jhipster.cache.ehcache} for anything not configured. Regions may add off-heap and
+ * disk tiers. To stop caching an entity, remove its {@code @Cache} annotation and its cache below rather
+ * than configuring an empty region. Statistics are enabled on every
+ * cache so Spring Boot publishes {@code cache.gets}, {@code cache.puts} and {@code cache.evictions}
+ * per cache through Micrometer.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CacheConfiguration.class);
+
+    private static final String DOMAIN_PREFIX = "com.magnus.domain.";
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
-
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
-
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
-            )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
-        );
+    private final JHipsterProperties.Cache.Ehcache defaults;
+    private final ApplicationProperties.Cache cacheProperties;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.defaults = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
+    }
+
+    /**
+     * Creates the JSR-107 cache manager itself (instead of letting Spring Boot do it) so that a disk
+     * persistence service can be registered when a region asks for a disk tier.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager jCacheManager(JCacheManagerCustomizer cacheManagerCustomizer) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        boolean diskTier = cacheProperties.getRegions().values().stream().anyMatch(region -> region.getDiskSize() != null);
+        DefaultConfiguration configuration = diskTier
+            ? new DefaultConfiguration(provider.getDefaultClassLoader(), new DefaultPersistenceConfiguration(new File(cacheProperties.getDiskPath())))
+            : new DefaultConfiguration(provider.getDefaultClassLoader());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), configuration);
+        cacheManagerCustomizer.customize(cacheManager);
+        Set<String> unknown = new HashSet<>(cacheProperties.getRegions().keySet());
+        cacheManager.getCacheNames().forEach(cacheName -> unknown.remove(regionName(cacheName)));
+        if (!unknown.isEmpty()) {
+            LOG.warn("Cache regions configured but not used by any cache: {}", unknown);
+        }
+        return cacheManager;
     }
 
     @Bean
@@ -109,7 +147,6 @@ public class CacheConfiguration {
             createCache(cm, com.magnus.domain.Need.class.getName());
             createCache(cm, com.magnus.domain.Notification.class.getName());
             createCache(cm, com.magnus.domain.SystemConfig.class.getName());
-            createCache(cm, com.magnus.domain.AuditLog.class.getName());
             createCache(cm, com.magnus.domain.WorkflowTrigger.class.getName());
             createCache(cm, com.magnus.domain.ConflictResolution.class.getName());
             // jhipster-needle-ehcache-add-entry
@@ -121,8 +158,52 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            ApplicationProperties.Cache.Region region = cacheProperties.getRegions().get(regionName(cacheName));
+            cm.createCache(cacheName, Eh107Configuration.fromEhcacheCacheConfiguration(regionConfiguration(region, defaults)));
+        }
+        cm.enableStatistics(cacheName, true);
+    }
+
+    static String regionName(String cacheName) {
+        return cacheName.startsWith(DOMAIN_PREFIX) ? cacheName.substring(DOMAIN_PREFIX.length()) : cacheName;
+    }
+
+    /**
+     * Builds the Ehcache configuration of a region.
+     *
+     * @param region the region settings, or {@code null} to use the defaults.
+     * @param defaults the JHipster cache defaults.
+     * @return the cache configuration.
+     */
+    static org.ehcache.config.CacheConfiguration<Object, Object> regionConfiguration(
+        ApplicationProperties.Cache.Region region,
+        JHipsterProperties.Cache.Ehcache defaults
+    ) {
+        ApplicationProperties.Cache.Region settings = region != null ? region : new ApplicationProperties.Cache.Region();
+        ResourcePoolsBuilder pools = settings.getHeapSize() != null
+            ? ResourcePoolsBuilder.newResourcePoolsBuilder().heap(settings.getHeapSize().toBytes(), MemoryUnit.B)
+            : ResourcePoolsBuilder.heap(settings.getMaxEntries() != null ? settings.getMaxEntries() : defaults.getMaxEntries());
+        if (settings.getOffHeapSize() != null) {
+            pools = pools.offheap(settings.getOffHeapSize().toBytes(), MemoryUnit.B);
+        }
+        if (settings.getDiskSize() != null) {
+            pools = pools.disk(settings.getDiskSize().toBytes(), MemoryUnit.B, settings.isDiskPersistent());
+        }
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, pools)
+            .withExpiry(expiry(settings, defaults))
+            .build();
+    }
+
+    private static ExpiryPolicy<Object, Object> expiry(ApplicationProperties.Cache.Region settings, JHipsterProperties.Cache.Ehcache defaults) {
+        Duration timeToIdle = settings.getTimeToIdle();
+        if (timeToIdle != null && settings.getTimeToLive() == null) {
+            return ExpiryPolicyBuilder.timeToIdleExpiration(timeToIdle);
+        }
+        Duration timeToLive = settings.getTimeToLive() != null ? settings.getTimeToLive() : Duration.ofSeconds(defaults.getTimeToLiveSeconds());
+        if (timeToIdle == null) {
+            return ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive);
         }
+        return ExpiryPolicyBuilder.expiry().create(timeToLive).access(timeToIdle).update(timeToLive).build();
     }
 
     @Autowired(required = false)
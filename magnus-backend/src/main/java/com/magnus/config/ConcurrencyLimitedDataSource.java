@@ -0,0 +1,129 @@
+package com.magnus.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Lets at most a fixed number of threads hold a connection of the target pool at once.
+ * <p>
+ * With virtual threads there is no thread pool in front of the database any more: thousands of
+ * requests can reach the connection pool together and spin in its hand-off queue. Waiting threads
+ * park on a fair semaphore instead, which is cheap for virtual threads, and the permit is returned
+ * when the connection is closed.
+ * <p>
+ * Only the first connection a thread holds takes a permit. Further connections opened while it is
+ * still held, e.g. by a {@code REQUIRES_NEW} transaction, pass straight through, otherwise a thread
+ * could wait for a permit that only it can give back.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final long acquireTimeoutMs;
+
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutMs = acquireTimeout.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger heldByThread = held.get();
+        boolean permitted = heldByThread.get() == 0;
+        if (permitted) {
+            acquire();
+        }
+        try {
+            Connection connection = releasingOnClose(super.getConnection(), heldByThread, permitted);
+            heldByThread.incrementAndGet();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            if (permitted) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger heldByThread = held.get();
+        boolean permitted = heldByThread.get() == 0;
+        if (permitted) {
+            acquire();
+        }
+        try {
+            Connection connection = releasingOnClose(super.getConnection(username, password), heldByThread, permitted);
+            heldByThread.incrementAndGet();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            if (permitted) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of threads that may get a connection right now.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No JDBC permit available after " + acquireTimeoutMs + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC permit", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection, AtomicInteger heldByThread, boolean permitted) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            ConcurrencyLimitedDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                    if (!released.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        connection.close();
+                    } finally {
+                        heldByThread.decrementAndGet();
+                        if (permitted) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                }
+                if ("unwrap".equals(method.getName()) && args != null && Connection.class.equals(args[0])) {
+                    return connection;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        );
+    }
+}
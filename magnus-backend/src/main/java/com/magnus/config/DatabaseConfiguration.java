@@ -1,5 +1,21 @@
 package com.magnus.config;
 
+import com.magnus.service.analytics.BudgetRollupListener;
+import com.magnus.service.audit.AuditEntityListener;
+import com.magnus.service.budget.BudgetTotalsListener;
+import com.magnus.service.concurrency.EntityVersionSnapshotListener;
+import java.util.List;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -9,4 +25,42 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableJpaRepositories({ "com.magnus.repository" })
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
-public class DatabaseConfiguration {}
+public class DatabaseConfiguration {
+
+    /**
+     * Registers the audit trail listener for post-commit insert, update and delete events, the
+     * version snapshot listener for insert and update events and the budget totals listener for
+     * insert, update and delete events.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityListenerCustomizer(
+        AuditEntityListener auditEntityListener,
+        EntityVersionSnapshotListener entityVersionSnapshotListener,
+        BudgetTotalsListener budgetTotalsListener,
+        BudgetRollupListener budgetRollupListener
+    ) {
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+                registry.appendListeners(EventType.POST_COMMIT_INSERT, auditEntityListener);
+                registry.appendListeners(EventType.POST_COMMIT_UPDATE, auditEntityListener);
+                registry.appendListeners(EventType.POST_COMMIT_DELETE, auditEntityListener);
+                registry.appendListeners(EventType.POST_INSERT, entityVersionSnapshotListener);
+                registry.appendListeners(EventType.POST_UPDATE, entityVersionSnapshotListener);
+                registry.appendListeners(EventType.POST_INSERT, budgetTotalsListener);
+                registry.appendListeners(EventType.POST_UPDATE, budgetTotalsListener);
+                registry.appendListeners(EventType.POST_DELETE, budgetTotalsListener);
+                registry.appendListeners(EventType.POST_COMMIT_INSERT, budgetRollupListener);
+                registry.appendListeners(EventType.POST_COMMIT_UPDATE, budgetRollupListener);
+                registry.appendListeners(EventType.POST_COMMIT_DELETE, budgetRollupListener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+                // listeners go away with the session factory
+            }
+        };
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+}
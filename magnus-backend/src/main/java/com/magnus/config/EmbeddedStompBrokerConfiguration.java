@@ -0,0 +1,53 @@
+package com.magnus.config;
+
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.core.settings.impl.AddressSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The embedded Artemis broker of {@code application.websocket.broker.mode=embedded}, meant for a single
+ * node or development: every node would start its own broker and only see its own messages. Several nodes
+ * use {@code external} and point at the same broker.
+ * <p>
+ * The Artemis dependencies are optional and left out of the production package, so this class is only
+ * loaded when the mode is selected.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.websocket.broker.mode", havingValue = "embedded")
+public class EmbeddedStompBrokerConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EmbeddedStompBrokerConfiguration.class);
+
+    /**
+     * A non-persistent Artemis broker with a STOMP acceptor on the relay host and port. Destinations are
+     * created on first use and are multicast, like those of the simple broker: every subscriber gets its
+     * own copy and messages without subscribers are dropped.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedStompBroker(ApplicationProperties applicationProperties) throws Exception {
+        ApplicationProperties.Websocket.Broker broker = applicationProperties.getWebsocket().getBroker();
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.setJMXManagementEnabled(false);
+        configuration.addAcceptorConfiguration("stomp", "tcp://" + broker.getRelayHost() + ":" + broker.getRelayPort() + "?protocols=STOMP");
+        configuration.addAddressSetting(
+            "#",
+            new AddressSettings()
+                .setDefaultAddressRoutingType(RoutingType.MULTICAST)
+                .setDefaultQueueRoutingType(RoutingType.MULTICAST)
+                .setAutoCreateAddresses(true)
+                .setAutoCreateQueues(true)
+                .setAutoDeleteAddresses(true)
+                .setAutoDeleteQueues(true)
+        );
+        LOG.info("Starting embedded STOMP broker on {}:{}", broker.getRelayHost(), broker.getRelayPort());
+        return new EmbeddedActiveMQ().setConfiguration(configuration);
+    }
+}
@@ -0,0 +1,52 @@
+package com.magnus.config;
+
+import com.magnus.aop.logging.ArgumentLogging;
+import com.magnus.aop.logging.InstrumentationEndpoint;
+import com.magnus.aop.logging.InstrumentationInterceptor;
+import com.magnus.aop.logging.InstrumentedLayer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Times repository, service and REST calls and logs a sample of their arguments, see
+ * {@link InstrumentationInterceptor}. Turned off entirely with {@code application.instrumentation.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class InstrumentationConfiguration {
+
+    @Bean
+    public static ArgumentLogging argumentLogging(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Instrumentation properties = applicationProperties.getInstrumentation();
+        return new ArgumentLogging(properties.getPackages(), properties.getArgumentSampleRate(), properties.getMaxArgumentLength());
+    }
+
+    /**
+     * Advisors are created while bean post-processors are still being registered, so the meter registry is
+     * only looked up on the first call.
+     */
+    @Bean
+    public static Advisor instrumentationAdvisor(ObjectProvider<MeterRegistry> meterRegistry, ArgumentLogging argumentLogging) {
+        StaticMethodMatcherPointcutAdvisor advisor = new StaticMethodMatcherPointcutAdvisor(
+            new InstrumentationInterceptor(meterRegistry, argumentLogging)
+        ) {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class && InstrumentedLayer.componentOf(targetClass) != null;
+            }
+        };
+        advisor.setOrder(0);
+        return advisor;
+    }
+
+    @Bean
+    public InstrumentationEndpoint instrumentationEndpoint(ArgumentLogging argumentLogging) {
+        return new InstrumentationEndpoint(argumentLogging);
+    }
+}
@@ -3,12 +3,12 @@ package com.magnus.config;
 import static com.magnus.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.magnus.management.SecurityMetersService;
+import com.magnus.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
+import java.time.Clock;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,34 +22,16 @@ import org.springframework.security.oauth2.server.resource.web.DefaultBearerToke
 @Configuration
 public class SecurityJwtConfiguration {
 
-    private static final Logger LOG = LoggerFactory.getLogger(SecurityJwtConfiguration.class);
-
     @Value("${jhipster.security.authentication.jwt.base64-secret}")
     private String jwtKey;
 
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public JwtDecoder jwtDecoder(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
-            try {
-                return jwtDecoder.decode(token);
-            } catch (Exception e) {
-                if (e.getMessage().contains("Invalid signature")) {
-                    metersService.trackTokenInvalidSignature();
-                } else if (e.getMessage().contains("Jwt expired at")) {
-                    metersService.trackTokenExpired();
-                } else if (
-                    e.getMessage().contains("Invalid JWT serialization") ||
-                    e.getMessage().contains("Malformed token") ||
-                    e.getMessage().contains("Invalid unsecured/JWS/JWE")
-                ) {
-                    metersService.trackTokenMalformed();
-                } else {
-                    LOG.error("Unknown JWT error {}", e.getMessage());
-                }
-                throw e;
-            }
-        };
+        jwtDecoder.setJwtValidator(CachingJwtDecoder.timestampValidator());
+        ApplicationProperties.JwtCache cache = applicationProperties.getJwtCache();
+        int maxSize = cache.isEnabled() ? cache.getMaxSize() : 0;
+        return new CachingJwtDecoder(jwtDecoder, metersService, maxSize, cache.getTimeToLive(), Clock.systemUTC());
     }
 
     @Bean
@@ -0,0 +1,91 @@
+package com.magnus.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Runs servlet requests and {@code @Scheduled} jobs on virtual threads when
+ * {@code spring.threads.virtual.enabled} is set, see the {@code virtual-threads} profile.
+ * {@code @Async} methods are switched in {@link AsyncConfiguration}.
+ * <p>
+ * Requires a Java 21 runtime.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration implements SchedulingConfigurer, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    /**
+     * Not a bean: {@code taskScheduler} is the websocket heartbeat scheduler, which stays on platform threads.
+     */
+    private final SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+
+    public VirtualThreadsConfiguration() {
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("scheduling-vt-");
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(scheduler);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.close();
+    }
+
+    /**
+     * Spring Boot only switches Tomcat and Jetty to virtual threads; Undertow dispatches blocking servlet
+     * work to the deployment executor, which replaces its worker pool.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowVirtualThreadsCustomizer() {
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo -> {
+                deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-vt-"));
+                deploymentInfo.setAsyncExecutor(new VirtualThreadTaskExecutor("undertow-async-vt-"));
+            });
+    }
+
+    /**
+     * Puts a {@link ConcurrencyLimitedDataSource} in front of the connection pool.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(ObjectProvider<ApplicationProperties> applicationProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                ApplicationProperties.VirtualThreads properties = applicationProperties.getObject().getVirtualThreads();
+                int maxConcurrency = properties.getJdbcMaxConcurrency();
+                if (maxConcurrency <= 0) {
+                    if (!(dataSource instanceof HikariDataSource hikari)) {
+                        return bean;
+                    }
+                    maxConcurrency = hikari.getMaximumPoolSize();
+                }
+                LOG.info("Limiting data source '{}' to {} concurrent connections", beanName, maxConcurrency);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, properties.getJdbcAcquireTimeout());
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.magnus.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Queue metrics of the STOMP client channels of {@link WebsocketConfiguration}. The embedded broker lives in
+ * {@link EmbeddedStompBrokerConfiguration}.
+ */
+@Configuration
+public class WebsocketBrokerConfiguration {
+
+    /**
+     * Queue size and active threads of the executors behind the inbound (client to server) and outbound
+     * (server to client) channels; a growing queue means handlers or slow clients cannot keep up. Only
+     * thread pool executors have a queue to measure, others are not bound.
+     */
+    @Bean
+    public MeterBinder websocketChannelMetrics(
+        @Qualifier("clientInboundChannelExecutor") Executor clientInboundChannelExecutor,
+        @Qualifier("clientOutboundChannelExecutor") Executor clientOutboundChannelExecutor
+    ) {
+        return registry -> {
+            bindChannel(registry, "inbound", clientInboundChannelExecutor);
+            bindChannel(registry, "outbound", clientOutboundChannelExecutor);
+        };
+    }
+
+    private static void bindChannel(MeterRegistry registry, String channel, Executor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor threadPool)) {
+            return;
+        }
+        Gauge.builder("websocket.channel.queue.size", threadPool, e -> e.getThreadPoolExecutor().getQueue().size())
+            .description("Messages waiting in the STOMP channel executor queue")
+            .tag("channel", channel)
+            .register(registry);
+        Gauge.builder("websocket.channel.active.threads", threadPool, ThreadPoolTaskExecutor::getActiveCount)
+            .description("Threads currently handling STOMP channel messages")
+            .tag("channel", channel)
+            .register(registry);
+    }
+}
@@ -1,12 +1,15 @@
 package com.magnus.config;
 
 import com.magnus.security.AuthoritiesConstants;
+import com.magnus.web.websocket.RoleTopicSubscriptionInterceptor;
 import java.security.Principal;
 import java.util.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.*;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -23,22 +26,68 @@ public class WebsocketConfiguration implements WebSocketMessageBrokerConfigurer
 
     public static final String IP_ADDRESS = "IP_ADDRESS";
 
+    /**
+     * Where a node relays user destinations it cannot resolve locally, for the node holding the session.
+     */
+    public static final String UNRESOLVED_USER_DESTINATION = "/topic/unresolved-user-destination";
+
+    /**
+     * Where nodes periodically broadcast their local user sessions to each other.
+     */
+    public static final String USER_REGISTRY_DESTINATION = "/topic/simp-user-registry";
+
     private final JHipsterProperties jHipsterProperties;
 
-    public WebsocketConfiguration(JHipsterProperties jHipsterProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final RoleTopicSubscriptionInterceptor roleTopicSubscriptionInterceptor;
+
+    public WebsocketConfiguration(
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        RoleTopicSubscriptionInterceptor roleTopicSubscriptionInterceptor
+    ) {
         this.jHipsterProperties = jHipsterProperties;
+        this.applicationProperties = applicationProperties;
+        this.roleTopicSubscriptionInterceptor = roleTopicSubscriptionInterceptor;
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enhanced message broker for Party Budget Bliss real-time features
-        config.enableSimpleBroker("/topic", "/queue")
-            .setHeartbeatValue(new long[]{10000, 10000})
-            .setTaskScheduler(taskScheduler());
+        ApplicationProperties.Websocket.Broker broker = applicationProperties.getWebsocket().getBroker();
+        if (broker.isRelay()) {
+            // Every node relays to the same broker, so a message reaches subscribers on all nodes and
+            // /user destinations are resolved against the sessions of the whole cluster
+            StompBrokerRelayRegistration relay = config
+                .enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(broker.getRelayHost())
+                .setRelayPort(broker.getRelayPort())
+                .setClientLogin(broker.getClientLogin())
+                .setClientPasscode(broker.getClientPasscode())
+                .setSystemLogin(broker.getSystemLogin())
+                .setSystemPasscode(broker.getSystemPasscode())
+                .setSystemHeartbeatSendInterval(10000)
+                .setSystemHeartbeatReceiveInterval(10000)
+                .setUserDestinationBroadcast(UNRESOLVED_USER_DESTINATION)
+                .setUserRegistryBroadcast(USER_REGISTRY_DESTINATION);
+            if (broker.getVirtualHost() != null) {
+                relay.setVirtualHost(broker.getVirtualHost());
+            }
+        } else {
+            // Enhanced message broker for Party Budget Bliss real-time features
+            config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{10000, 10000})
+                .setTaskScheduler(taskScheduler());
+        }
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(roleTopicSubscriptionInterceptor);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         String[] allowedOrigins = Optional.ofNullable(jHipsterProperties.getCors().getAllowedOrigins())
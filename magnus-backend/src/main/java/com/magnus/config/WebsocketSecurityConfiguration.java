@@ -14,7 +14,10 @@ public class WebsocketSecurityConfiguration extends AbstractSecurityWebSocketMes
         messages
             .nullDestMatcher()
             .authenticated()
-            .simpDestMatchers("/topic/tracker")
+            // broadcasts between the nodes sharing a relay broker, never for clients to read or forge
+            .simpDestMatchers(WebsocketConfiguration.UNRESOLVED_USER_DESTINATION, WebsocketConfiguration.USER_REGISTRY_DESTINATION)
+            .denyAll()
+            .simpDestMatchers("/topic/tracker", "/app/tracker/snapshot")
             .hasAuthority(AuthoritiesConstants.ADMIN)
             // Enhanced WebSocket security for Party Budget Bliss real-time features
             .simpDestMatchers("/topic/tasks/**")
@@ -27,6 +30,13 @@ public class WebsocketSecurityConfiguration extends AbstractSecurityWebSocketMes
             .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER)
             .simpDestMatchers("/topic/workflow/**")
             .hasAnyAuthority(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER)
+            // notification push: role topics are further restricted to the user's own role
+            .simpDestMatchers("/topic/role/**")
+            .authenticated()
+            .simpDestMatchers("/user/queue/notifications", "/user/queue/notifications/replay")
+            .authenticated()
+            .simpDestMatchers("/app/notifications/replay")
+            .authenticated()
             // matches any destination that starts with /topic/
             // (i.e. cannot send messages directly to /topic/)
             // (i.e. cannot subscribe to /topic/messages/* to get messages sent to
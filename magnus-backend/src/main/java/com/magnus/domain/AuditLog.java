@@ -7,15 +7,16 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.time.Instant;
-import org.hibernate.annotations.Cache;
-import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 /**
- * Comprehensive audit trail
+ * Comprehensive audit trail.
+ * Append-only: the table is range-partitioned by month on {@code timestamp} and old rows leave by
+ * dropping partitions, so it is neither updated nor cached.
  */
 @Entity
 @Table(name = "audit_log")
-@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Immutable
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class AuditLog implements Serializable {
 
@@ -78,7 +79,7 @@ public class AuditLog implements Serializable {
     private String sessionId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "app_user_id")
+    @JoinColumn(name = "app_user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @JsonIgnoreProperties(
         value = {
             "createdBudgets",
@@ -1,5 +1,6 @@
 package com.magnus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.BudgetStatus;
 import com.magnus.domain.enumeration.ConflictStatus;
@@ -15,6 +16,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Core budget entity - triggers workflow automation
@@ -23,7 +25,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "budget")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class Budget implements Serializable {
+public class Budget implements Serializable, Persistable<Long> {
 
     private static final long serialVersionUID = 1L;
 
@@ -129,6 +131,7 @@ public class Budget implements Serializable {
 
     @NotNull
     @Min(value = 1)
+    @Version
     @Column(name = "version", nullable = false)
     private Integer version;
 
@@ -185,7 +188,7 @@ public class Budget implements Serializable {
     @JsonIgnoreProperties(value = { "relatedTask", "cookingIngredients", "budget" }, allowSetters = true)
     private Set<CookingSchedule> cookingSchedules = new HashSet<>();
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -232,7 +235,7 @@ public class Budget implements Serializable {
     )
     private AppUser assignedTo;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "budgets" }, allowSetters = true)
     private Client client;
@@ -261,6 +264,15 @@ public class Budget implements Serializable {
         this.id = id;
     }
 
+    /**
+     * New until the database assigned an id; {@code version} is the optimistic lock, not the new-entity marker.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return this.id == null;
+    }
+
     public String getName() {
         return this.name;
     }
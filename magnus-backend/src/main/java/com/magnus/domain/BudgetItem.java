@@ -1,6 +1,8 @@
 package com.magnus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.magnus.domain.id.BlockId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -8,6 +10,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Individual items within a budget
@@ -16,12 +19,12 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "budget_item")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class BudgetItem implements Serializable {
+public class BudgetItem implements Serializable, Persistable<Long> {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId
     @Column(name = "id")
     private Long id;
 
@@ -77,6 +80,7 @@ public class BudgetItem implements Serializable {
 
     @NotNull
     @Min(value = 1)
+    @Version
     @Column(name = "version", nullable = false)
     private Integer version;
 
@@ -88,7 +92,7 @@ public class BudgetItem implements Serializable {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -122,6 +126,15 @@ public class BudgetItem implements Serializable {
         this.id = id;
     }
 
+    /**
+     * New until the database assigned an id; {@code version} is the optimistic lock, not the new-entity marker.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return this.id == null;
+    }
+
     public String getItemType() {
         return this.itemType;
     }
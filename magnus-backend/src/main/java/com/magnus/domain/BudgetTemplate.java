@@ -93,7 +93,7 @@ public class BudgetTemplate implements Serializable {
     )
     private Set<Budget> budgets = new HashSet<>();
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
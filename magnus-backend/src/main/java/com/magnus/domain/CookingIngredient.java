@@ -2,6 +2,7 @@ package com.magnus.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.domain.id.BlockId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -21,7 +22,7 @@ public class CookingIngredient implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId
     @Column(name = "id")
     private Long id;
 
@@ -70,12 +71,12 @@ public class CookingIngredient implements Serializable {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "product", "relatedTask", "foodItem", "activity" }, allowSetters = true)
     private ProductRequirement productRequirement;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "relatedTask", "cookingIngredients", "budget" }, allowSetters = true)
     private CookingSchedule cookingSchedule;
@@ -1,5 +1,6 @@
 package com.magnus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.ConflictStatus;
 import com.magnus.domain.enumeration.MealType;
@@ -13,6 +14,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Cooking schedules with ingredient management
@@ -21,7 +23,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "cooking_schedule")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class CookingSchedule implements Serializable {
+public class CookingSchedule implements Serializable, Persistable<Long> {
 
     private static final long serialVersionUID = 1L;
 
@@ -81,6 +83,7 @@ public class CookingSchedule implements Serializable {
 
     @NotNull
     @Min(value = 1)
+    @Version
     @Column(name = "version", nullable = false)
     private Integer version;
 
@@ -116,7 +119,7 @@ public class CookingSchedule implements Serializable {
     @JsonIgnoreProperties(value = { "productRequirement", "cookingSchedule" }, allowSetters = true)
     private Set<CookingIngredient> cookingIngredients = new HashSet<>();
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -150,6 +153,15 @@ public class CookingSchedule implements Serializable {
         this.id = id;
     }
 
+    /**
+     * New until the database assigned an id; {@code version} is the optimistic lock, not the new-entity marker.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return this.id == null;
+    }
+
     public LocalDate getEventDate() {
         return this.eventDate;
     }
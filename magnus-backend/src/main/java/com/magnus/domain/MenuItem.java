@@ -73,7 +73,7 @@ public class MenuItem implements Serializable {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "menuItems", "includedFoodItems" }, allowSetters = true)
     private Menu menu;
@@ -84,7 +84,7 @@ public class Notification implements Serializable {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -1,5 +1,6 @@
 package com.magnus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.ConflictStatus;
 import com.magnus.domain.enumeration.ProductUnit;
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Product requirements linking to various entities
@@ -18,7 +20,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "product_requirement")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class ProductRequirement implements Serializable {
+public class ProductRequirement implements Serializable, Persistable<Long> {
 
     private static final long serialVersionUID = 1L;
 
@@ -62,6 +64,7 @@ public class ProductRequirement implements Serializable {
 
     @NotNull
     @Min(value = 1)
+    @Version
     @Column(name = "version", nullable = false)
     private Integer version;
 
@@ -78,7 +81,7 @@ public class ProductRequirement implements Serializable {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "createdBy" }, allowSetters = true)
     private Product product;
@@ -115,6 +118,15 @@ public class ProductRequirement implements Serializable {
         this.id = id;
     }
 
+    /**
+     * New until the database assigned an id; {@code version} is the optimistic lock, not the new-entity marker.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return this.id == null;
+    }
+
     public Double getQuantity() {
         return this.quantity;
     }
@@ -1,9 +1,11 @@
 package com.magnus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.ConflictStatus;
 import com.magnus.domain.enumeration.ProductCategory;
 import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.domain.id.BlockId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -12,6 +14,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Weekly consolidated shopping lists
@@ -20,12 +23,12 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "shopping_item")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class ShoppingItem implements Serializable {
+public class ShoppingItem implements Serializable, Persistable<Long> {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId
     @Column(name = "id")
     private Long id;
 
@@ -49,6 +52,9 @@ public class ShoppingItem implements Serializable {
     @Column(name = "category", nullable = false)
     private ProductCategory category;
 
+    /**
+     * Display copy of the contributing budget ids, mirrored into {@link ShoppingItemBudget} on every write; query that instead of parsing it.
+     */
     @Lob
     @Column(name = "budget_ids")
     private String budgetIds;
@@ -113,6 +119,7 @@ public class ShoppingItem implements Serializable {
 
     @NotNull
     @Min(value = 1)
+    @Version
     @Column(name = "version", nullable = false)
     private Integer version;
 
@@ -147,7 +154,7 @@ public class ShoppingItem implements Serializable {
     )
     private AppUser purchasedBy;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "budgets", "shoppingItems", "tasks", "createdBy" }, allowSetters = true)
     private WeeklyPlan weeklyPlan;
@@ -167,6 +174,15 @@ public class ShoppingItem implements Serializable {
         this.id = id;
     }
 
+    /**
+     * New until the database assigned an id; {@code version} is the optimistic lock, not the new-entity marker.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return this.id == null;
+    }
+
     public String getProductName() {
         return this.productName;
     }
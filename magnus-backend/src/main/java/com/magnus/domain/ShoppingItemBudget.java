@@ -0,0 +1,113 @@
+package com.magnus.domain;
+
+import com.magnus.domain.id.BlockId;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+
+/**
+ * Quantity a budget contributes to a consolidated shopping item, expressed in the item's unit.
+ */
+@Entity
+@Table(name = "shopping_item_budget")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ShoppingItemBudget implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @BlockId
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @DecimalMin(value = "0")
+    @Column(name = "quantity", nullable = false)
+    private Double quantity;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @NotNull
+    private ShoppingItem shoppingItem;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @NotNull
+    private Budget budget;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public ShoppingItemBudget id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Double getQuantity() {
+        return this.quantity;
+    }
+
+    public ShoppingItemBudget quantity(Double quantity) {
+        this.setQuantity(quantity);
+        return this;
+    }
+
+    public void setQuantity(Double quantity) {
+        this.quantity = quantity;
+    }
+
+    public ShoppingItem getShoppingItem() {
+        return this.shoppingItem;
+    }
+
+    public void setShoppingItem(ShoppingItem shoppingItem) {
+        this.shoppingItem = shoppingItem;
+    }
+
+    public ShoppingItemBudget shoppingItem(ShoppingItem shoppingItem) {
+        this.setShoppingItem(shoppingItem);
+        return this;
+    }
+
+    public Budget getBudget() {
+        return this.budget;
+    }
+
+    public void setBudget(Budget budget) {
+        this.budget = budget;
+    }
+
+    public ShoppingItemBudget budget(Budget budget) {
+        this.setBudget(budget);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ShoppingItemBudget)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((ShoppingItemBudget) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ShoppingItemBudget{" +
+            "id=" + getId() +
+            ", quantity=" + getQuantity() +
+            "}";
+    }
+}
@@ -1,11 +1,13 @@
 package com.magnus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.ConflictStatus;
 import com.magnus.domain.enumeration.TaskPriority;
 import com.magnus.domain.enumeration.TaskStatus;
 import com.magnus.domain.enumeration.TaskType;
 import com.magnus.domain.enumeration.UserRole;
+import com.magnus.domain.id.BlockId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -16,6 +18,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Task management with workflow automation
@@ -24,12 +27,12 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Table(name = "task")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
-public class Task implements Serializable {
+public class Task implements Serializable, Persistable<Long> {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId
     @Column(name = "id")
     private Long id;
 
@@ -113,6 +116,7 @@ public class Task implements Serializable {
 
     @NotNull
     @Min(value = 1)
+    @Version
     @Column(name = "version", nullable = false)
     private Integer version;
 
@@ -148,7 +152,7 @@ public class Task implements Serializable {
     @JsonIgnoreProperties(value = { "prerequisiteTask", "dependentTask" }, allowSetters = true)
     private Set<TaskDependency> taskDependencies = new HashSet<>();
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -199,7 +203,7 @@ public class Task implements Serializable {
     @JsonIgnoreProperties(value = { "budgets", "shoppingItems", "tasks", "createdBy" }, allowSetters = true)
     private WeeklyPlan weeklyPlan;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -237,6 +241,15 @@ public class Task implements Serializable {
         this.id = id;
     }
 
+    /**
+     * New until the database assigned an id; {@code version} is the optimistic lock, not the new-entity marker.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return this.id == null;
+    }
+
     public String getTitle() {
         return this.title;
     }
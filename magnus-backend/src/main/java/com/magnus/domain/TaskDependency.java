@@ -2,6 +2,7 @@ package com.magnus.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.magnus.domain.enumeration.DependencyType;
+import com.magnus.domain.id.BlockId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
@@ -21,7 +22,7 @@ public class TaskDependency implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId
     @Column(name = "id")
     private Long id;
 
@@ -42,7 +43,7 @@ public class TaskDependency implements Serializable {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -52,7 +53,7 @@ public class TaskDependency implements Serializable {
     )
     private Task prerequisiteTask;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
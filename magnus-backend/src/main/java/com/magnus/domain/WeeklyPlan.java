@@ -116,7 +116,7 @@ public class WeeklyPlan implements Serializable {
     )
     private Set<Task> tasks = new HashSet<>();
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(
         value = {
@@ -0,0 +1,260 @@
+package com.magnus.domain;
+
+import com.magnus.domain.enumeration.WorkflowJobStatus;
+import com.magnus.domain.enumeration.WorkflowJobType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Durable workflow job written as a transactional outbox entry and
+ * processed asynchronously by the workflow job worker.
+ */
+@Entity
+@Table(name = "workflow_job")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class WorkflowJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", length = 50, nullable = false)
+    private WorkflowJobType jobType;
+
+    @NotNull
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private WorkflowJobStatus status;
+
+    @NotNull
+    @Min(value = 0)
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "locked_at")
+    private Instant lockedAt;
+
+    @Size(max = 100)
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Size(max = 1000)
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public WorkflowJob id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public WorkflowJobType getJobType() {
+        return this.jobType;
+    }
+
+    public WorkflowJob jobType(WorkflowJobType jobType) {
+        this.setJobType(jobType);
+        return this;
+    }
+
+    public void setJobType(WorkflowJobType jobType) {
+        this.jobType = jobType;
+    }
+
+    public Long getBudgetId() {
+        return this.budgetId;
+    }
+
+    public WorkflowJob budgetId(Long budgetId) {
+        this.setBudgetId(budgetId);
+        return this;
+    }
+
+    public void setBudgetId(Long budgetId) {
+        this.budgetId = budgetId;
+    }
+
+    public WorkflowJobStatus getStatus() {
+        return this.status;
+    }
+
+    public WorkflowJob status(WorkflowJobStatus status) {
+        this.setStatus(status);
+        return this;
+    }
+
+    public void setStatus(WorkflowJobStatus status) {
+        this.status = status;
+    }
+
+    public Integer getAttempts() {
+        return this.attempts;
+    }
+
+    public WorkflowJob attempts(Integer attempts) {
+        this.setAttempts(attempts);
+        return this;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return this.nextAttemptAt;
+    }
+
+    public WorkflowJob nextAttemptAt(Instant nextAttemptAt) {
+        this.setNextAttemptAt(nextAttemptAt);
+        return this;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getLockedAt() {
+        return this.lockedAt;
+    }
+
+    public WorkflowJob lockedAt(Instant lockedAt) {
+        this.setLockedAt(lockedAt);
+        return this;
+    }
+
+    public void setLockedAt(Instant lockedAt) {
+        this.lockedAt = lockedAt;
+    }
+
+    public String getLockedBy() {
+        return this.lockedBy;
+    }
+
+    public WorkflowJob lockedBy(String lockedBy) {
+        this.setLockedBy(lockedBy);
+        return this;
+    }
+
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+
+    public String getLastError() {
+        return this.lastError;
+    }
+
+    public WorkflowJob lastError(String lastError) {
+        this.setLastError(lastError);
+        return this;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
+    public WorkflowJob createdAt(Instant createdAt) {
+        this.setCreatedAt(createdAt);
+        return this;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return this.updatedAt;
+    }
+
+    public WorkflowJob updatedAt(Instant updatedAt) {
+        this.setUpdatedAt(updatedAt);
+        return this;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return this.completedAt;
+    }
+
+    public WorkflowJob completedAt(Instant completedAt) {
+        this.setCompletedAt(completedAt);
+        return this;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WorkflowJob)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((WorkflowJob) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "WorkflowJob{" +
+            "id=" + getId() +
+            ", jobType='" + getJobType() + "'" +
+            ", budgetId=" + getBudgetId() +
+            ", status='" + getStatus() + "'" +
+            ", attempts=" + getAttempts() +
+            ", nextAttemptAt='" + getNextAttemptAt() + "'" +
+            ", lockedAt='" + getLockedAt() + "'" +
+            ", lockedBy='" + getLockedBy() + "'" +
+            ", createdAt='" + getCreatedAt() + "'" +
+            ", completedAt='" + getCompletedAt() + "'" +
+            "}";
+    }
+}
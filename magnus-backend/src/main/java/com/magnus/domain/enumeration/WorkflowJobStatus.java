@@ -0,0 +1,21 @@
+package com.magnus.domain.enumeration;
+
+/**
+ * The WorkflowJobStatus enumeration.
+ */
+public enum WorkflowJobStatus {
+    PENDING("Waiting to be claimed by a worker"),
+    RUNNING("Claimed by a worker"),
+    COMPLETED("Processed successfully"),
+    FAILED("Retries exhausted");
+
+    private final String value;
+
+    WorkflowJobStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,18 @@
+package com.magnus.domain.enumeration;
+
+/**
+ * The WorkflowJobType enumeration.
+ */
+public enum WorkflowJobType {
+    BUDGET_RESERVED("Generate the task graph for a budget moved to RESERVA");
+
+    private final String value;
+
+    WorkflowJobType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
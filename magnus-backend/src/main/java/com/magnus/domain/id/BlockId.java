@@ -0,0 +1,19 @@
+package com.magnus.domain.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Assigns the id from a block reserved by {@link BlockIdGenerator} before the insert, so inserts of the entity
+ * are JDBC-batched, unlike IDENTITY ids which Hibernate can only read back one row at a time.
+ */
+@IdGeneratorType(BlockIdGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface BlockId {
+}
@@ -0,0 +1,4 @@
+/**
+ * Identifier generation for entities inserted in JDBC batches.
+ */
+package com.magnus.domain.id;
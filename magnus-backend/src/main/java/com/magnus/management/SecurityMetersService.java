@@ -1,7 +1,11 @@
 package com.magnus.management;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +17,32 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_DECODE_METER_NAME = "security.authentication.token-decode";
+    public static final String TOKEN_DECODE_METER_DESCRIPTION =
+        "Time to turn a bearer token into a verified Jwt; the share of 'hit' results is the cache hit ratio.";
+    public static final String TOKEN_DECODE_METER_RESULT_DIMENSION = "result";
+    public static final String TOKEN_CACHE_SIZE_METER_NAME = "security.authentication.token-cache.size";
+
+    private final MeterRegistry registry;
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
 
+    private final Timer tokenDecodeHitTimer;
+    private final Timer tokenDecodeMissTimer;
+    private final Timer tokenDecodeInvalidTimer;
+
     public SecurityMetersService(MeterRegistry registry) {
+        this.registry = registry;
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+        this.tokenDecodeHitTimer = tokenDecodeTimerForResultBuilder("hit").register(registry);
+        this.tokenDecodeMissTimer = tokenDecodeTimerForResultBuilder("miss").register(registry);
+        this.tokenDecodeInvalidTimer = tokenDecodeTimerForResultBuilder("invalid").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +52,10 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Timer.Builder tokenDecodeTimerForResultBuilder(String result) {
+        return Timer.builder(TOKEN_DECODE_METER_NAME).description(TOKEN_DECODE_METER_DESCRIPTION).tag(TOKEN_DECODE_METER_RESULT_DIMENSION, result);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +71,20 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenDecodeHit(long nanos) {
+        this.tokenDecodeHitTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackTokenDecodeMiss(long nanos) {
+        this.tokenDecodeMissTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackTokenDecodeInvalid(long nanos) {
+        this.tokenDecodeInvalidTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> void registerTokenCacheSize(T cache, ToDoubleFunction<T> size) {
+        Gauge.builder(TOKEN_CACHE_SIZE_METER_NAME, cache, size).description("Verified tokens held in the decoder cache").register(registry);
+    }
 }
@@ -1,7 +1,10 @@
 package com.magnus.repository;
 
 import com.magnus.domain.AppUser;
+import com.magnus.domain.enumeration.UserRole;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,22 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AppUserRepository extends JpaRepository<AppUser, Long> {}
+public interface AppUserRepository extends JpaRepository<AppUser, Long> {
+    /**
+     * Id and role of a user, the audience keys of notifications.
+     */
+    interface AudienceRow {
+        Long getId();
+
+        UserRole getRole();
+    }
+
+    @Query("select appUser.id as id, appUser.role as role from AppUser appUser where appUser.login = :login")
+    Optional<AudienceRow> findAudienceByLogin(@Param("login") String login);
+
+    @Query("select appUser.role from AppUser appUser where appUser.login = :login")
+    Optional<UserRole> findRoleByLogin(@Param("login") String login);
+
+    @Query("select appUser.login from AppUser appUser where appUser.id = :id")
+    Optional<String> findLoginById(@Param("id") Long id);
+}
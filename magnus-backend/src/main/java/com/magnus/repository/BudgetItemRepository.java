@@ -1,7 +1,9 @@
 package com.magnus.repository;
 
 import com.magnus.domain.BudgetItem;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +11,7 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BudgetItemRepository extends JpaRepository<BudgetItem, Long> {}
+public interface BudgetItemRepository extends JpaRepository<BudgetItem, Long> {
+    @Query("select budgetItem.version from BudgetItem budgetItem where budgetItem.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+}
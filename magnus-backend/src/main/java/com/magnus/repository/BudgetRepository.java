@@ -1,7 +1,11 @@
 package com.magnus.repository;
 
 import com.magnus.domain.Budget;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +13,22 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface BudgetRepository extends JpaRepository<Budget, Long> {}
+public interface BudgetRepository extends JpaRepository<Budget, Long>, JpaSpecificationExecutor<Budget> {
+    /**
+     * Client name of a budget, without loading the entity and its associations.
+     */
+    interface ClientNameRow {
+        Long getId();
+
+        String getClientName();
+    }
+
+    @Query("select b.id as id, b.clientName as clientName from Budget b where b.id in :ids")
+    List<ClientNameRow> findClientNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select b.weeklyPlan.id from Budget b where b.id = :id")
+    Optional<Long> findWeeklyPlanIdById(@Param("id") Long id);
+
+    @Query("select b.id from Budget b where b.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,7 +1,15 @@
 package com.magnus.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.magnus.domain.CookingIngredient;
+import com.magnus.domain.enumeration.BudgetStatus;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +17,35 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CookingIngredientRepository extends JpaRepository<CookingIngredient, Long> {}
+public interface CookingIngredientRepository extends JpaRepository<CookingIngredient, Long> {
+    String QUANTITIES_BY_WEEKLY_PLAN =
+        "select r.id as requirementId, r.product.id as productId, coalesce(i.modifiedQuantity, i.originalQuantity) as quantity, " +
+        "coalesce(i.modifiedUnit, r.unit) as unit, b.id as budgetId " +
+        "from CookingIngredient i join i.productRequirement r join i.cookingSchedule s join s.budget b " +
+        "where b.weeklyPlan.id = :weeklyPlanId and b.status not in :excludedStatuses";
+
+    /**
+     * Stream the cooking ingredient quantities (modified values win over the original ones) of every
+     * budget of a weekly plan.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(QUANTITIES_BY_WEEKLY_PLAN)
+    Stream<ProductQuantityRow> streamQuantitiesByWeeklyPlanId(
+        @Param("weeklyPlanId") Long weeklyPlanId,
+        @Param("excludedStatuses") Collection<BudgetStatus> excludedStatuses
+    );
+
+    /**
+     * Same as {@link #streamQuantitiesByWeeklyPlanId} restricted to the given products.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(QUANTITIES_BY_WEEKLY_PLAN + " and r.product.id in :productIds")
+    Stream<ProductQuantityRow> streamQuantitiesByWeeklyPlanIdAndProductIdIn(
+        @Param("weeklyPlanId") Long weeklyPlanId,
+        @Param("excludedStatuses") Collection<BudgetStatus> excludedStatuses,
+        @Param("productIds") Collection<Long> productIds
+    );
+
+    @Query("select distinct i.productRequirement.product.id from CookingIngredient i where i.cookingSchedule.budget.id = :budgetId")
+    List<Long> findProductIdsByBudgetId(@Param("budgetId") Long budgetId);
+}
@@ -1,7 +1,9 @@
 package com.magnus.repository;
 
 import com.magnus.domain.CookingSchedule;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +11,7 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CookingScheduleRepository extends JpaRepository<CookingSchedule, Long> {}
+public interface CookingScheduleRepository extends JpaRepository<CookingSchedule, Long> {
+    @Query("select cookingSchedule.version from CookingSchedule cookingSchedule where cookingSchedule.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+}
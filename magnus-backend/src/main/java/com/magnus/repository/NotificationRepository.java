@@ -1,9 +1,16 @@
 package com.magnus.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 import com.magnus.domain.Notification;
 import com.magnus.domain.enumeration.UserRole;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,7 +18,26 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, JpaSpecificationExecutor<Notification> {
+    /**
+     * Number of unread notifications per audience.
+     */
+    interface UnreadCountRow {
+        Long getTargetUserId();
+
+        UserRole getTargetRole();
+
+        Boolean getIsGlobal();
+
+        long getUnread();
+    }
+
+    @Query(
+        "select targetUser.id as targetUserId, notification.targetRole as targetRole, notification.isGlobal as isGlobal, " +
+        "count(notification) as unread from Notification notification left join notification.targetUser targetUser " +
+        "where notification.isRead = false group by targetUser.id, notification.targetRole, notification.isGlobal"
+    )
+    List<UnreadCountRow> countUnreadByAudience();
     
     /**
      * Find notifications by target role or global notifications.
@@ -22,4 +48,99 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * Find unread notifications by target role or global unread notifications.
      */
     List<Notification> findByTargetRoleAndIsReadFalseOrIsGlobalTrueAndIsReadFalse(UserRole targetRole);
+
+    /**
+     * Unread notifications visible to a user (addressed to them, to their role or global) and not expired at
+     * {@code now}, created after the {@code (createdAt, id)} position, oldest first.
+     */
+    @Query(
+        "select notification from Notification notification left join notification.targetUser targetUser " +
+        "where notification.isRead = false " +
+        "and (targetUser.login = :login or notification.targetRole = :role or notification.isGlobal = true) " +
+        "and (notification.expiresAt is null or notification.expiresAt > :now) " +
+        "and (notification.createdAt > :createdAt or (notification.createdAt = :createdAt and notification.id > :id)) " +
+        "order by notification.createdAt asc, notification.id asc"
+    )
+    List<Notification> findUnreadVisibleAfter(
+        @Param("login") String login,
+        @Param("role") UserRole role,
+        @Param("now") Instant now,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Audience and read state of a notification due for sweeping.
+     */
+    interface SweepRow {
+        Long getId();
+
+        Long getTargetUserId();
+
+        UserRole getTargetRole();
+
+        Boolean getIsGlobal();
+
+        Boolean getIsRead();
+    }
+
+    String SWEEPABLE = "(notification.expiresAt < :now or (notification.isRead = true and notification.readAt < :readBefore))";
+
+    /**
+     * Notifications that expired before {@code now} or were read before {@code readBefore},
+     * with an id greater than {@code afterId}, in id order.
+     */
+    @Query(
+        "select notification.id as id, targetUser.id as targetUserId, notification.targetRole as targetRole, " +
+        "notification.isGlobal as isGlobal, notification.isRead as isRead " +
+        "from Notification notification left join notification.targetUser targetUser " +
+        "where notification.id > :afterId and " +
+        SWEEPABLE +
+        " order by notification.id asc"
+    )
+    List<SweepRow> findSweepable(
+        @Param("afterId") Long afterId,
+        @Param("now") Instant now,
+        @Param("readBefore") Instant readBefore,
+        Pageable pageable
+    );
+
+    /**
+     * Locks the given notifications that are still sweepable.
+     *
+     * @return the locked notifications, which stay sweepable until the transaction ends.
+     */
+    @Query(
+        value = "select id as id, target_user_id as targetUserId, target_role as targetRole, is_global as isGlobal, " +
+        "is_read as isRead from notification where id in (:ids) and " +
+        "(expires_at < :now or (is_read = true and read_at < :readBefore)) for update",
+        nativeQuery = true
+    )
+    List<SweepRow> lockSweepable(@Param("ids") Collection<Long> ids, @Param("now") Instant now, @Param("readBefore") Instant readBefore);
+
+    /**
+     * Copies the given notifications, if still sweepable, to {@code notification_archive}. The query space
+     * is declared so that Hibernate leaves the second-level cache alone, no cached entity maps that table.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "notification_archive"))
+    @Query(
+        value = "insert into notification_archive (id, archived_at, archive_reason, title, message, type, target_role, " +
+        "related_entity_type, related_entity_id, is_read, is_global, action_required, action_url, priority, expires_at, read_at, " +
+        "created_at, created_by_id, target_user_id) " +
+        "select id, :now, case when expires_at < :now then 'EXPIRED' else 'READ' end, title, message, type, target_role, " +
+        "related_entity_type, related_entity_id, is_read, is_global, action_required, action_url, priority, expires_at, read_at, " +
+        "created_at, created_by_id, target_user_id from notification " +
+        "where id in (:ids) and (expires_at < :now or (is_read = true and read_at < :readBefore))",
+        nativeQuery = true
+    )
+    int archiveSweepable(@Param("ids") Collection<Long> ids, @Param("now") Instant now, @Param("readBefore") Instant readBefore);
+
+    /**
+     * Deletes the given notifications, if still sweepable.
+     */
+    @Modifying
+    @Query("delete from Notification notification where notification.id in :ids and " + SWEEPABLE)
+    int deleteSweepable(@Param("ids") Collection<Long> ids, @Param("now") Instant now, @Param("readBefore") Instant readBefore);
 }
@@ -0,0 +1,18 @@
+package com.magnus.repository;
+
+import com.magnus.domain.enumeration.ProductUnit;
+
+/**
+ * Projection of a product quantity needed by a budget, used by shopping list consolidation.
+ */
+public interface ProductQuantityRow {
+    Long getRequirementId();
+
+    Long getProductId();
+
+    Double getQuantity();
+
+    ProductUnit getUnit();
+
+    Long getBudgetId();
+}
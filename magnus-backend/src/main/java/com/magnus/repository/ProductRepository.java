@@ -1,7 +1,10 @@
 package com.magnus.repository;
 
 import com.magnus.domain.Product;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,7 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {}
+public interface ProductRepository extends JpaRepository<Product, Long> {
+    @Query("select p.id from Product p where p.name in :names")
+    List<Long> findIdsByNameIn(@Param("names") Collection<String> names);
+}
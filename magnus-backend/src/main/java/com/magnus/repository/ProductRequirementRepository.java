@@ -1,7 +1,16 @@
 package com.magnus.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.magnus.domain.ProductRequirement;
+import com.magnus.domain.enumeration.BudgetStatus;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +18,36 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ProductRequirementRepository extends JpaRepository<ProductRequirement, Long> {}
+public interface ProductRequirementRepository extends JpaRepository<ProductRequirement, Long> {
+    String QUANTITIES_BY_WEEKLY_PLAN =
+        "select r.id as requirementId, r.product.id as productId, r.quantity as quantity, r.unit as unit, b.id as budgetId " +
+        "from ProductRequirement r join r.relatedTask t join t.relatedBudget b " +
+        "where b.weeklyPlan.id = :weeklyPlanId and b.status not in :excludedStatuses";
+
+    /**
+     * Stream the requirement quantities of every budget of a weekly plan.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(QUANTITIES_BY_WEEKLY_PLAN)
+    Stream<ProductQuantityRow> streamQuantitiesByWeeklyPlanId(
+        @Param("weeklyPlanId") Long weeklyPlanId,
+        @Param("excludedStatuses") Collection<BudgetStatus> excludedStatuses
+    );
+
+    /**
+     * Same as {@link #streamQuantitiesByWeeklyPlanId} restricted to the given products.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(QUANTITIES_BY_WEEKLY_PLAN + " and r.product.id in :productIds")
+    Stream<ProductQuantityRow> streamQuantitiesByWeeklyPlanIdAndProductIdIn(
+        @Param("weeklyPlanId") Long weeklyPlanId,
+        @Param("excludedStatuses") Collection<BudgetStatus> excludedStatuses,
+        @Param("productIds") Collection<Long> productIds
+    );
+
+    @Query("select distinct r.product.id from ProductRequirement r where r.relatedTask.relatedBudget.id = :budgetId")
+    List<Long> findProductIdsByBudgetId(@Param("budgetId") Long budgetId);
+
+    @Query("select productRequirement.version from ProductRequirement productRequirement where productRequirement.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+}
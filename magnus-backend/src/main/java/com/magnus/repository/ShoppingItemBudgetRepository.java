@@ -0,0 +1,24 @@
+package com.magnus.repository;
+
+import com.magnus.domain.ShoppingItemBudget;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ShoppingItemBudget entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ShoppingItemBudgetRepository extends JpaRepository<ShoppingItemBudget, Long> {
+    /**
+     * Find the contributions of a budget together with their shopping items.
+     */
+    @Query("select c from ShoppingItemBudget c join fetch c.shoppingItem where c.budget.id = :budgetId")
+    List<ShoppingItemBudget> findByBudgetId(@Param("budgetId") Long budgetId);
+
+    @Query("select c from ShoppingItemBudget c where c.shoppingItem.id in :shoppingItemIds")
+    List<ShoppingItemBudget> findByShoppingItemIdIn(@Param("shoppingItemIds") Collection<Long> shoppingItemIds);
+}
@@ -1,7 +1,10 @@
 package com.magnus.repository;
 
 import com.magnus.domain.ShoppingItem;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,15 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ShoppingItemRepository extends JpaRepository<ShoppingItem, Long> {}
+public interface ShoppingItemRepository extends JpaRepository<ShoppingItem, Long>, JpaSpecificationExecutor<ShoppingItem> {
+    List<ShoppingItem> findAllByWeeklyPlanIdAndIsConsolidatedTrue(Long weeklyPlanId);
+
+    /**
+     * Find the shopping items a budget contributes to, through the indexed shopping_item_budget association.
+     */
+    @Query("select c.shoppingItem from ShoppingItemBudget c where c.budget.id = :budgetId")
+    List<ShoppingItem> findByBudgetId(@Param("budgetId") Long budgetId);
+
+    @Query("select shoppingItem.version from ShoppingItem shoppingItem where shoppingItem.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Long id);
+}
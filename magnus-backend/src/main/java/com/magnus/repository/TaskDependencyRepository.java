@@ -1,8 +1,13 @@
 package com.magnus.repository;
 
+import com.magnus.domain.Task;
 import com.magnus.domain.TaskDependency;
+import com.magnus.domain.enumeration.DependencyType;
+import com.magnus.domain.enumeration.TaskStatus;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -21,4 +26,51 @@ public interface TaskDependencyRepository extends JpaRepository<TaskDependency,
      * Find dependencies where the given task is the prerequisite task.
      */
     List<TaskDependency> findByPrerequisiteTaskId(Long taskId);
+
+    /**
+     * A dependency edge reduced to the ids of its two tasks.
+     */
+    interface Edge {
+        Long getPrerequisiteId();
+
+        Long getDependentId();
+    }
+
+    /**
+     * Find the active edges of the given types whose dependent task belongs to the budget.
+     */
+    @Query(
+        "select d.prerequisiteTask.id as prerequisiteId, d.dependentTask.id as dependentId from TaskDependency d " +
+        "where d.isActive = true and d.dependencyType in :types and d.dependentTask.relatedBudget.id = :budgetId"
+    )
+    List<Edge> findActiveEdgesByBudgetId(@Param("budgetId") Long budgetId, @Param("types") Collection<DependencyType> types);
+
+    /**
+     * Find the active edges of the given types whose dependent task belongs to the weekly plan.
+     */
+    @Query(
+        "select d.prerequisiteTask.id as prerequisiteId, d.dependentTask.id as dependentId from TaskDependency d " +
+        "where d.isActive = true and d.dependencyType in :types and d.dependentTask.weeklyPlan.id = :weeklyPlanId"
+    )
+    List<Edge> findActiveEdgesByWeeklyPlanId(
+        @Param("weeklyPlanId") Long weeklyPlanId,
+        @Param("types") Collection<DependencyType> types
+    );
+
+    /**
+     * Find the tasks in {@code blocked} status that depend on the given task and have no other
+     * prerequisite left outside the {@code finished} statuses.
+     */
+    @Query(
+        "select distinct t from TaskDependency d join d.dependentTask t " +
+        "where d.prerequisiteTask.id = :taskId and d.isActive = true and d.dependencyType in :types and t.status = :blocked " +
+        "and not exists (select o.id from TaskDependency o where o.dependentTask = t and o.isActive = true " +
+        "and o.dependencyType in :types and o.prerequisiteTask.status not in :finished)"
+    )
+    List<Task> findUnblockedDependents(
+        @Param("taskId") Long taskId,
+        @Param("types") Collection<DependencyType> types,
+        @Param("blocked") TaskStatus blocked,
+        @Param("finished") Collection<TaskStatus> finished
+    );
 }
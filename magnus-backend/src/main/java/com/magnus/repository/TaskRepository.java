@@ -1,7 +1,15 @@
 package com.magnus.repository;
 
 import com.magnus.domain.Task;
+import com.magnus.domain.enumeration.TaskStatus;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +17,57 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {}
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    /**
+     * Scheduling-relevant columns of a task, without loading the entity and its associations.
+     */
+    interface ScheduleRow {
+        Long getId();
+
+        String getTitle();
+
+        TaskStatus getStatus();
+
+        Integer getEstimatedDuration();
+
+        LocalDate getDueDate();
+
+        LocalTime getDueTime();
+    }
+
+    /**
+     * The inverse {@code cookingSchedule} one-to-one cannot be proxied, so it is joined into list
+     * queries instead of being selected once per task.
+     */
+    @Override
+    @EntityGraph(attributePaths = "cookingSchedule")
+    Page<Task> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "cookingSchedule")
+    Page<Task> findAll(Specification<Task> specification, Pageable pageable);
+
+    @Query(
+        "select t.id as id, t.title as title, t.status as status, t.estimatedDuration as estimatedDuration, " +
+        "t.dueDate as dueDate, t.dueTime as dueTime from Task t where t.relatedBudget.id = :budgetId"
+    )
+    List<ScheduleRow> findScheduleRowsByBudgetId(@Param("budgetId") Long budgetId);
+
+    @Query(
+        "select t.id as id, t.title as title, t.status as status, t.estimatedDuration as estimatedDuration, " +
+        "t.dueDate as dueDate, t.dueTime as dueTime from Task t where t.weeklyPlan.id = :weeklyPlanId"
+    )
+    List<ScheduleRow> findScheduleRowsByWeeklyPlanId(@Param("weeklyPlanId") Long weeklyPlanId);
+
+    /**
+     * Tasks without a cooking schedule. The left join doubles as the anti-join (probing the unique
+     * {@code cooking_schedule.related_task_id} index) and as the fetch of the inverse one-to-one,
+     * which would otherwise be loaded with one select per task.
+     */
+    @Query(
+        value = "select task from Task task left join fetch task.cookingSchedule cookingSchedule where cookingSchedule.id is null",
+        countQuery = "select count(task) from Task task where not exists " +
+        "(select cookingSchedule.id from CookingSchedule cookingSchedule where cookingSchedule.relatedTask = task)"
+    )
+    Page<Task> findAllWhereCookingScheduleIsNull(Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.magnus.repository;
+
+import com.magnus.domain.WorkflowJob;
+import com.magnus.domain.enumeration.WorkflowJobStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the WorkflowJob entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface WorkflowJobRepository extends JpaRepository<WorkflowJob, Long> {
+    /**
+     * Lock a batch of due pending jobs. Rows already locked by another worker are skipped,
+     * so concurrent workers (threads or nodes) never claim the same job.
+     */
+    @Query(
+        value = "SELECT * FROM workflow_job WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+        "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    List<WorkflowJob> lockNextPending(@Param("now") Instant now, @Param("limit") int limit);
+
+    boolean existsByBudgetIdAndStatusIn(Long budgetId, Collection<WorkflowJobStatus> statuses);
+
+    long countByStatus(WorkflowJobStatus status);
+
+    @Query("select min(j.createdAt) from WorkflowJob j where j.status = :status")
+    Instant findOldestCreatedAtByStatus(@Param("status") WorkflowJobStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update WorkflowJob j set j.status = :completed, j.completedAt = :now, j.updatedAt = :now, " +
+        "j.lockedAt = null, j.lockedBy = null, j.lastError = null where j.id in :ids"
+    )
+    int markCompleted(@Param("ids") Collection<Long> ids, @Param("completed") WorkflowJobStatus completed, @Param("now") Instant now);
+
+    /**
+     * Return jobs whose worker died mid-flight to the pending queue.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update WorkflowJob j set j.status = :pending, j.lockedAt = null, j.lockedBy = null, j.updatedAt = :now " +
+        "where j.status = :running and j.lockedAt < :staleBefore"
+    )
+    int releaseStale(
+        @Param("pending") WorkflowJobStatus pending,
+        @Param("running") WorkflowJobStatus running,
+        @Param("staleBefore") Instant staleBefore,
+        @Param("now") Instant now
+    );
+}
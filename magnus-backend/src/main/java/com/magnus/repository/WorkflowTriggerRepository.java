@@ -1,7 +1,10 @@
 package com.magnus.repository;
 
 import com.magnus.domain.WorkflowTrigger;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,19 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface WorkflowTriggerRepository extends JpaRepository<WorkflowTrigger, Long> {}
+public interface WorkflowTriggerRepository extends JpaRepository<WorkflowTrigger, Long> {
+    /**
+     * Find all active triggers, in execution order.
+     */
+    List<WorkflowTrigger> findAllByIsActiveTrueOrderByExecutionOrderAsc();
+
+    /**
+     * Add a batch of executions to a trigger's statistics.
+     */
+    @Modifying
+    @Query(
+        "update WorkflowTrigger t set t.executionCount = coalesce(t.executionCount, 0) + :executions, " +
+        "t.lastExecuted = :lastExecuted where t.id = :id"
+    )
+    int incrementExecutionStats(@Param("id") Long id, @Param("executions") long executions, @Param("lastExecuted") Instant lastExecuted);
+}
@@ -11,5 +11,11 @@ public final class AuthoritiesConstants {
 
     public static final String ANONYMOUS = "ROLE_ANONYMOUS";
 
+    /**
+     * Prefix of the authority carrying the {@link com.magnus.domain.enumeration.UserRole} of the user,
+     * e.g. {@code USER_ROLE_COOK}.
+     */
+    public static final String USER_ROLE_PREFIX = "USER_ROLE_";
+
     private AuthoritiesConstants() {}
 }
@@ -0,0 +1,177 @@
+package com.magnus.security;
+
+import com.magnus.management.SecurityMetersService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+/**
+ * {@link JwtDecoder} that remembers verified tokens.
+ * <p>
+ * A screen of the SPA sends the same bearer token with every API call, so a verified {@link Jwt} is kept
+ * under the SHA-256 digest of the token (the token itself is not retained) until the time-to-live or the
+ * token's {@code exp} passes, whichever comes first. At most {@code maxSize} tokens are held, expired
+ * entries are evicted first; a {@code maxSize} of 0 disables the cache. Rejected tokens are never cached
+ * and are counted by cause from the type of the exception, see {@link SecurityMetersService}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingJwtDecoder.class);
+
+    /**
+     * Error code of the {@link #timestampValidator()}, so that expired tokens can be told apart from the
+     * other validation failures.
+     */
+    public static final String TOKEN_EXPIRED = "token_expired";
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    private final int maxSize;
+
+    private final long timeToLiveMs;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<ByteBuffer, CachedJwt> cache = new ConcurrentHashMap<>();
+
+    public CachingJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService, int maxSize, Duration timeToLive, Clock clock) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+        this.maxSize = maxSize;
+        this.timeToLiveMs = timeToLive.toMillis();
+        this.clock = clock;
+        metersService.registerTokenCacheSize(cache, Map::size);
+    }
+
+    /**
+     * Validates {@code exp} and {@code nbf} like the default validator, failing with {@link #TOKEN_EXPIRED}.
+     */
+    public static OAuth2TokenValidator<Jwt> timestampValidator() {
+        OAuth2TokenValidator<Jwt> timestamps = new JwtTimestampValidator();
+        OAuth2Error expired = new OAuth2Error(TOKEN_EXPIRED, "The token has expired or is not valid yet", null);
+        return jwt -> timestamps.validate(jwt).hasErrors() ? OAuth2TokenValidatorResult.failure(expired) : OAuth2TokenValidatorResult.success();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        ByteBuffer key = maxSize > 0 ? digest(token) : null;
+        long now = clock.millis();
+        CachedJwt cached = key != null ? cache.get(key) : null;
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                metersService.trackTokenDecodeHit(System.nanoTime() - start);
+                return cached.jwt;
+            }
+            cache.remove(key, cached);
+        }
+        Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } catch (JwtException e) {
+            metersService.trackTokenDecodeInvalid(System.nanoTime() - start);
+            trackFailure(e);
+            throw e;
+        }
+        if (key != null) {
+            put(key, jwt, now);
+        }
+        metersService.trackTokenDecodeMiss(System.nanoTime() - start);
+        return jwt;
+    }
+
+    /**
+     * @return the number of tokens held.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private void put(ByteBuffer key, Jwt jwt, long now) {
+        long expiresAt = now + timeToLiveMs;
+        Instant exp = jwt.getExpiresAt();
+        if (exp != null) {
+            expiresAt = Math.min(expiresAt, exp.toEpochMilli());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (cache.size() >= maxSize) {
+            evict(now);
+        }
+        cache.put(key, new CachedJwt(jwt, expiresAt));
+    }
+
+    /**
+     * Drops expired entries and, if that was not enough, arbitrary ones until there is room again.
+     */
+    private void evict(long now) {
+        cache.values().removeIf(cached -> cached.expiresAt <= now);
+        for (Iterator<ByteBuffer> it = cache.keySet().iterator(); it.hasNext() && cache.size() >= maxSize;) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private void trackFailure(JwtException e) {
+        if (e instanceof JwtValidationException validation) {
+            if (validation.getErrors().stream().anyMatch(error -> TOKEN_EXPIRED.equals(error.getErrorCode()))) {
+                metersService.trackTokenExpired();
+                return;
+            }
+        } else if (hasCause(e, BadJWSException.class)) {
+            metersService.trackTokenInvalidSignature();
+            return;
+        } else if (hasCause(e, ParseException.class)) {
+            metersService.trackTokenMalformed();
+            return;
+        } else if (hasCause(e, BadJOSEException.class) || hasCause(e, JOSEException.class)) {
+            metersService.trackTokenUnsupported();
+            return;
+        }
+        LOG.error("Unknown JWT error {}", e.getMessage());
+    }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedJwt(Jwt jwt, long expiresAt) {}
+}
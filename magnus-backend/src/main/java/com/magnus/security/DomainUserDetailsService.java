@@ -2,6 +2,8 @@ package com.magnus.security;
 
 import com.magnus.domain.Authority;
 import com.magnus.domain.User;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.repository.AppUserRepository;
 import com.magnus.repository.UserRepository;
 import java.util.*;
 import org.hibernate.validator.internal.constraintvalidators.hv.EmailValidator;
@@ -25,8 +27,11 @@ public class DomainUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
-    public DomainUserDetailsService(UserRepository userRepository) {
+    private final AppUserRepository appUserRepository;
+
+    public DomainUserDetailsService(UserRepository userRepository, AppUserRepository appUserRepository) {
         this.userRepository = userRepository;
+        this.appUserRepository = appUserRepository;
     }
 
     @Override
@@ -52,7 +57,7 @@ public class DomainUserDetailsService implements UserDetailsService {
         if (!user.isActivated()) {
             throw new UserNotActivatedException("User " + lowercaseLogin + " was not activated");
         }
-        return UserWithId.fromUser(user);
+        return UserWithId.fromUser(user, appUserRepository.findRoleByLogin(user.getLogin()).orElse(null));
     }
 
     public static class UserWithId extends org.springframework.security.core.userdetails.User {
@@ -79,12 +84,20 @@ public class DomainUserDetailsService implements UserDetailsService {
         }
 
         public static UserWithId fromUser(User user) {
-            return new UserWithId(
-                user.getLogin(),
-                user.getPassword(),
-                user.getAuthorities().stream().map(Authority::getName).map(SimpleGrantedAuthority::new).toList(),
-                user.getId()
-            );
+            return fromUser(user, null);
+        }
+
+        /**
+         * @param role the role of the matching {@link com.magnus.domain.AppUser}, added as a
+         * {@link AuthoritiesConstants#USER_ROLE_PREFIX} authority, or {@code null} if there is none.
+         */
+        public static UserWithId fromUser(User user, UserRole role) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            user.getAuthorities().stream().map(Authority::getName).map(SimpleGrantedAuthority::new).forEach(authorities::add);
+            if (role != null) {
+                authorities.add(new SimpleGrantedAuthority(AuthoritiesConstants.USER_ROLE_PREFIX + role.name()));
+            }
+            return new UserWithId(user.getLogin(), user.getPassword(), authorities, user.getId());
         }
     }
 }
@@ -0,0 +1,133 @@
+package com.magnus.service;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.AppUser_;
+import com.magnus.domain.AuditLog;
+import com.magnus.domain.AuditLog_;
+import com.magnus.repository.AuditLogRepository;
+import com.magnus.service.criteria.AuditLogCriteria;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.dto.AuditLogDTO;
+import com.magnus.service.mapper.AuditLogMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link AuditLog} entities in the database.
+ * The main input is a {@link AuditLogCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page}, a {@link Slice} or a {@link KeysetSlice} of {@link AuditLogDTO} which fulfills the criteria.
+ * Keyset pages are ordered by {@code (timestamp desc, id desc)}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AuditLogQueryService extends KeysetQueryService<AuditLog> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditLogQueryService.class);
+
+    private final AuditLogRepository auditLogRepository;
+
+    private final AuditLogMapper auditLogMapper;
+
+    public AuditLogQueryService(EntityManager entityManager, AuditLogRepository auditLogRepository, AuditLogMapper auditLogMapper) {
+        super(entityManager, AuditLog.class);
+        this.auditLogRepository = auditLogRepository;
+        this.auditLogMapper = auditLogMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link AuditLogDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<AuditLogDTO> findByCriteria(AuditLogCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<AuditLog> specification = createSpecification(criteria);
+        return auditLogRepository.findAll(specification, page).map(auditLogMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link AuditLogDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Slice<AuditLogDTO> findSliceByCriteria(AuditLogCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        return findSlice(createSpecification(criteria), page).map(auditLogMapper::toDto);
+    }
+
+    /**
+     * Return the {@link AuditLogDTO} which match the criteria from the database and come after the cursor.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param cursor The position to continue from, or {@code null} for the first page.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public KeysetSlice<AuditLogDTO> findByCriteria(AuditLogCriteria criteria, KeysetCursor cursor, int size) {
+        LOG.debug("find by criteria : {}, cursor: {}, size: {}", criteria, cursor, size);
+        return findKeyset(createSpecification(criteria), cursor, size).map(auditLogMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(AuditLogCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<AuditLog> specification = createSpecification(criteria);
+        return auditLogRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link AuditLogCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<AuditLog> createSpecification(AuditLogCriteria criteria) {
+        Specification<AuditLog> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), AuditLog_.id),
+                buildStringSpecification(criteria.getEntityType(), AuditLog_.entityType),
+                buildStringSpecification(criteria.getEntityId(), AuditLog_.entityId),
+                buildSpecification(criteria.getAction(), AuditLog_.action),
+                buildStringSpecification(criteria.getUserId(), AuditLog_.userId),
+                buildSpecification(criteria.getUserRole(), AuditLog_.userRole),
+                buildRangeSpecification(criteria.getTimestamp(), AuditLog_.timestamp),
+                buildSpecification(criteria.getAppUserId(), root -> root.join(AuditLog_.user, JoinType.LEFT).get(AppUser_.id))
+            );
+        }
+        return specification;
+    }
+
+    @Override
+    protected SingularAttribute<? super AuditLog, Instant> keysetTime() {
+        return AuditLog_.timestamp;
+    }
+
+    @Override
+    protected SingularAttribute<? super AuditLog, Long> keysetId() {
+        return AuditLog_.id;
+    }
+
+    @Override
+    protected KeysetCursor cursorOf(AuditLog auditLog) {
+        return new KeysetCursor(auditLog.getTimestamp(), auditLog.getId());
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 
 /**
  * Service Interface for managing {@link com.magnus.domain.AuditLog}.
+ * The audit log is append-only; old entries are removed by dropping partitions.
  */
 public interface AuditLogService {
     /**
@@ -17,22 +18,6 @@ public interface AuditLogService {
      */
     AuditLogDTO save(AuditLogDTO auditLogDTO);
 
-    /**
-     * Updates a auditLog.
-     *
-     * @param auditLogDTO the entity to update.
-     * @return the persisted entity.
-     */
-    AuditLogDTO update(AuditLogDTO auditLogDTO);
-
-    /**
-     * Partially updates a auditLog.
-     *
-     * @param auditLogDTO the entity to update partially.
-     * @return the persisted entity.
-     */
-    Optional<AuditLogDTO> partialUpdate(AuditLogDTO auditLogDTO);
-
     /**
      * Get all the auditLogs.
      *
@@ -48,11 +33,4 @@ public interface AuditLogService {
      * @return the entity.
      */
     Optional<AuditLogDTO> findOne(Long id);
-
-    /**
-     * Delete the "id" auditLog.
-     *
-     * @param id the id of the entity.
-     */
-    void delete(Long id);
 }
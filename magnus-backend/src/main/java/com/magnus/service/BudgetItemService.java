@@ -1,5 +1,7 @@
 package com.magnus.service;
 
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.BudgetItemDTO;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +34,14 @@ public interface BudgetItemService {
      */
     Optional<BudgetItemDTO> partialUpdate(BudgetItemDTO budgetItemDTO);
 
+    /**
+     * Applies a batch of budgetItem creates, updates and deletes in one transaction.
+     *
+     * @param request the batch.
+     * @return the outcome of each item.
+     */
+    BulkResultDTO<BudgetItemDTO> bulk(BulkRequestDTO<BudgetItemDTO> request);
+
     /**
      * Get all the budgetItems.
      *
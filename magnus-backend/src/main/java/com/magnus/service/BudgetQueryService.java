@@ -0,0 +1,143 @@
+package com.magnus.service;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.AppUser_;
+import com.magnus.domain.Budget;
+import com.magnus.domain.Budget_;
+import com.magnus.domain.Client;
+import com.magnus.domain.Client_;
+import com.magnus.domain.WeeklyPlan;
+import com.magnus.domain.WeeklyPlan_;
+import com.magnus.repository.BudgetRepository;
+import com.magnus.service.criteria.BudgetCriteria;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.mapper.BudgetMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Budget} entities in the database.
+ * The main input is a {@link BudgetCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page}, a {@link Slice} or a {@link KeysetSlice} of {@link BudgetDTO} which fulfills the criteria.
+ * Keyset pages are ordered by {@code (createdAt desc, id desc)}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BudgetQueryService extends KeysetQueryService<Budget> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BudgetQueryService.class);
+
+    private final BudgetRepository budgetRepository;
+
+    private final BudgetMapper budgetMapper;
+
+    public BudgetQueryService(EntityManager entityManager, BudgetRepository budgetRepository, BudgetMapper budgetMapper) {
+        super(entityManager, Budget.class);
+        this.budgetRepository = budgetRepository;
+        this.budgetMapper = budgetMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link BudgetDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<BudgetDTO> findByCriteria(BudgetCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Budget> specification = createSpecification(criteria);
+        return budgetRepository.findAll(specification, page).map(budgetMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link BudgetDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Slice<BudgetDTO> findSliceByCriteria(BudgetCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        return findSlice(createSpecification(criteria), page).map(budgetMapper::toDto);
+    }
+
+    /**
+     * Return the {@link BudgetDTO} which match the criteria from the database and come after the cursor.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param cursor The position to continue from, or {@code null} for the first page.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public KeysetSlice<BudgetDTO> findByCriteria(BudgetCriteria criteria, KeysetCursor cursor, int size) {
+        LOG.debug("find by criteria : {}, cursor: {}, size: {}", criteria, cursor, size);
+        return findKeyset(createSpecification(criteria), cursor, size).map(budgetMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(BudgetCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Budget> specification = createSpecification(criteria);
+        return budgetRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link BudgetCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Budget> createSpecification(BudgetCriteria criteria) {
+        Specification<Budget> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Budget_.id),
+                buildStringSpecification(criteria.getName(), Budget_.name),
+                buildStringSpecification(criteria.getClientName(), Budget_.clientName),
+                buildRangeSpecification(criteria.getEventDate(), Budget_.eventDate),
+                buildRangeSpecification(criteria.getGuestCount(), Budget_.guestCount),
+                buildRangeSpecification(criteria.getTotalAmount(), Budget_.totalAmount),
+                buildSpecification(criteria.getStatus(), Budget_.status),
+                buildSpecification(criteria.getPaymentStatus(), Budget_.paymentStatus),
+                buildSpecification(criteria.getIsClosed(), Budget_.isClosed),
+                buildRangeSpecification(criteria.getCreatedAt(), Budget_.createdAt),
+                buildSpecification(criteria.getCreatedById(), root -> root.join(Budget_.createdBy, JoinType.LEFT).get(AppUser_.id)),
+                buildSpecification(criteria.getAssignedToId(), root -> root.join(Budget_.assignedTo, JoinType.LEFT).get(AppUser_.id)),
+                buildSpecification(criteria.getClientId(), root -> root.join(Budget_.client, JoinType.LEFT).get(Client_.id)),
+                buildSpecification(criteria.getWeeklyPlanId(), root -> root.join(Budget_.weeklyPlan, JoinType.LEFT).get(WeeklyPlan_.id))
+            );
+        }
+        return specification;
+    }
+
+    @Override
+    protected SingularAttribute<? super Budget, Instant> keysetTime() {
+        return Budget_.createdAt;
+    }
+
+    @Override
+    protected SingularAttribute<? super Budget, Long> keysetId() {
+        return Budget_.id;
+    }
+
+    @Override
+    protected KeysetCursor cursorOf(Budget budget) {
+        return new KeysetCursor(budget.getCreatedAt(), budget.getId());
+    }
+}
@@ -1,5 +1,7 @@
 package com.magnus.service;
 
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.CookingIngredientDTO;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +34,14 @@ public interface CookingIngredientService {
      */
     Optional<CookingIngredientDTO> partialUpdate(CookingIngredientDTO cookingIngredientDTO);
 
+    /**
+     * Applies a batch of cookingIngredient creates, updates and deletes in one transaction.
+     *
+     * @param request the batch.
+     * @return the outcome of each item.
+     */
+    BulkResultDTO<CookingIngredientDTO> bulk(BulkRequestDTO<CookingIngredientDTO> request);
+
     /**
      * Get all the cookingIngredients.
      *
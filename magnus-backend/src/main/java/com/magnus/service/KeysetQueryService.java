@@ -0,0 +1,141 @@
+package com.magnus.service;
+
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import tech.jhipster.service.QueryService;
+
+/**
+ * {@link QueryService} that can also read filtered lists without counting them.
+ * <p>
+ * {@link #findSlice} pages by offset but fetches one extra row instead of running a count query.
+ * {@link #findKeyset} orders by {@code (time desc, id desc)} and seeks past a {@link KeysetCursor},
+ * so every page costs the same index range scan no matter how deep it is.
+ *
+ * @param <ENTITY> the type of the entity which is queried.
+ */
+public abstract class KeysetQueryService<ENTITY> extends QueryService<ENTITY> {
+
+    private final EntityManager entityManager;
+
+    private final Class<ENTITY> entityClass;
+
+    protected KeysetQueryService(EntityManager entityManager, Class<ENTITY> entityClass) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * @return the (not null) time attribute the keyset is ordered by.
+     */
+    protected abstract SingularAttribute<? super ENTITY, Instant> keysetTime();
+
+    /**
+     * @return the id attribute breaking ties in the keyset order.
+     */
+    protected abstract SingularAttribute<? super ENTITY, Long> keysetId();
+
+    /**
+     * @return the cursor pointing right after {@code entity}.
+     */
+    protected abstract KeysetCursor cursorOf(ENTITY entity);
+
+    /**
+     * @return the associations fetched with the page rows, for those the mapper would otherwise load
+     * one by one (such as the inverse side of a one-to-one, which Hibernate cannot proxy).
+     */
+    protected String[] fetchedAttributes() {
+        return new String[0];
+    }
+
+    /**
+     * Returns a page of the entities matching {@code specification} without counting them.
+     *
+     * @param specification the filter, may be {@code null}.
+     * @param pageable the page and sort.
+     * @return the matching entities of the page.
+     */
+    protected Slice<ENTITY> findSlice(Specification<ENTITY> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ENTITY> query = cb.createQuery(entityClass);
+        Root<ENTITY> root = query.from(entityClass);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        TypedQuery<ENTITY> typedQuery = withFetchPlan(entityManager.createQuery(query));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<ENTITY> rows = typedQuery.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * Returns the {@code size} newest entities matching {@code specification} that come after
+     * {@code cursor} in {@code (time desc, id desc)} order.
+     *
+     * @param specification the filter, may be {@code null}.
+     * @param cursor the position to continue from, or {@code null} for the first page.
+     * @param size the maximum number of entities to return.
+     * @return the matching entities and the cursor of the next page.
+     */
+    protected KeysetSlice<ENTITY> findKeyset(Specification<ENTITY> specification, KeysetCursor cursor, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ENTITY> query = cb.createQuery(entityClass);
+        Root<ENTITY> root = query.from(entityClass);
+        Path<Instant> time = root.get(keysetTime());
+        Path<Long> id = root.get(keysetId());
+        List<Predicate> predicates = new ArrayList<>(2);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (cursor != null) {
+            predicates.add(
+                cb.or(cb.lessThan(time, cursor.time()), cb.and(cb.equal(time, cursor.time()), cb.lessThan(id, cursor.id())))
+            );
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.desc(time), cb.desc(id));
+        List<ENTITY> rows = withFetchPlan(entityManager.createQuery(query)).setMaxResults(size + 1).getResultList();
+        if (rows.size() <= size) {
+            return new KeysetSlice<>(rows, null);
+        }
+        List<ENTITY> content = rows.subList(0, size);
+        return new KeysetSlice<>(content, cursorOf(content.get(size - 1)));
+    }
+
+    private TypedQuery<ENTITY> withFetchPlan(TypedQuery<ENTITY> query) {
+        String[] attributes = fetchedAttributes();
+        if (attributes.length == 0) {
+            return query;
+        }
+        EntityGraph<ENTITY> graph = entityManager.createEntityGraph(entityClass);
+        graph.addAttributeNodes(attributes);
+        return query.setHint(AvailableHints.HINT_SPEC_LOAD_GRAPH, graph);
+    }
+}
@@ -0,0 +1,139 @@
+package com.magnus.service;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.AppUser_;
+import com.magnus.domain.Notification;
+import com.magnus.domain.Notification_;
+import com.magnus.repository.NotificationRepository;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.criteria.NotificationCriteria;
+import com.magnus.service.dto.NotificationDTO;
+import com.magnus.service.mapper.NotificationMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Notification} entities in the database.
+ * The main input is a {@link NotificationCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page}, a {@link Slice} or a {@link KeysetSlice} of {@link NotificationDTO} which fulfills the criteria.
+ * Keyset pages are ordered by {@code (createdAt desc, id desc)}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class NotificationQueryService extends KeysetQueryService<Notification> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationQueryService.class);
+
+    private final NotificationRepository notificationRepository;
+
+    private final NotificationMapper notificationMapper;
+
+    public NotificationQueryService(EntityManager entityManager, NotificationRepository notificationRepository, NotificationMapper notificationMapper) {
+        super(entityManager, Notification.class);
+        this.notificationRepository = notificationRepository;
+        this.notificationMapper = notificationMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link NotificationDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<NotificationDTO> findByCriteria(NotificationCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Notification> specification = createSpecification(criteria);
+        return notificationRepository.findAll(specification, page).map(notificationMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link NotificationDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Slice<NotificationDTO> findSliceByCriteria(NotificationCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        return findSlice(createSpecification(criteria), page).map(notificationMapper::toDto);
+    }
+
+    /**
+     * Return the {@link NotificationDTO} which match the criteria from the database and come after the cursor.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param cursor The position to continue from, or {@code null} for the first page.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public KeysetSlice<NotificationDTO> findByCriteria(NotificationCriteria criteria, KeysetCursor cursor, int size) {
+        LOG.debug("find by criteria : {}, cursor: {}, size: {}", criteria, cursor, size);
+        return findKeyset(createSpecification(criteria), cursor, size).map(notificationMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(NotificationCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Notification> specification = createSpecification(criteria);
+        return notificationRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link NotificationCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Notification> createSpecification(NotificationCriteria criteria) {
+        Specification<Notification> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Notification_.id),
+                buildStringSpecification(criteria.getTitle(), Notification_.title),
+                buildSpecification(criteria.getType(), Notification_.type),
+                buildSpecification(criteria.getTargetRole(), Notification_.targetRole),
+                buildStringSpecification(criteria.getRelatedEntityType(), Notification_.relatedEntityType),
+                buildStringSpecification(criteria.getRelatedEntityId(), Notification_.relatedEntityId),
+                buildSpecification(criteria.getIsRead(), Notification_.isRead),
+                buildSpecification(criteria.getIsGlobal(), Notification_.isGlobal),
+                buildSpecification(criteria.getActionRequired(), Notification_.actionRequired),
+                buildSpecification(criteria.getPriority(), Notification_.priority),
+                buildRangeSpecification(criteria.getExpiresAt(), Notification_.expiresAt),
+                buildRangeSpecification(criteria.getCreatedAt(), Notification_.createdAt),
+                buildSpecification(criteria.getCreatedById(), root -> root.join(Notification_.createdBy, JoinType.LEFT).get(AppUser_.id)),
+                buildSpecification(criteria.getTargetUserId(), root -> root.join(Notification_.targetUser, JoinType.LEFT).get(AppUser_.id))
+            );
+        }
+        return specification;
+    }
+
+    @Override
+    protected SingularAttribute<? super Notification, Instant> keysetTime() {
+        return Notification_.createdAt;
+    }
+
+    @Override
+    protected SingularAttribute<? super Notification, Long> keysetId() {
+        return Notification_.id;
+    }
+
+    @Override
+    protected KeysetCursor cursorOf(Notification notification) {
+        return new KeysetCursor(notification.getCreatedAt(), notification.getId());
+    }
+}
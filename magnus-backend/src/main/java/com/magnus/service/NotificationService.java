@@ -1,6 +1,7 @@
 package com.magnus.service;
 
 import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.criteria.KeysetCursor;
 import com.magnus.service.dto.NotificationDTO;
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +60,17 @@ public interface NotificationService {
      */
     List<NotificationDTO> findUnreadByTargetRole(UserRole targetRole);
 
+    /**
+     * Get the unread, unexpired notifications visible to a user (addressed to them, to their role or global)
+     * created after the cursor, oldest first.
+     *
+     * @param login the login of the user.
+     * @param cursor the position of the last notification the user has seen, or {@code null} for all.
+     * @param limit the maximum number of notifications to return.
+     * @return the list of entities.
+     */
+    List<NotificationDTO> findUnreadVisibleAfter(String login, KeysetCursor cursor, int limit);
+
     /**
      * Get the "id" notification.
      *
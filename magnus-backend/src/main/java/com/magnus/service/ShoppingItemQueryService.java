@@ -0,0 +1,191 @@
+package com.magnus.service;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.AppUser_;
+import com.magnus.domain.Budget_;
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.ShoppingItemBudget;
+import com.magnus.domain.ShoppingItemBudget_;
+import com.magnus.domain.ShoppingItem_;
+import com.magnus.domain.WeeklyPlan;
+import com.magnus.domain.WeeklyPlan_;
+import com.magnus.repository.ShoppingItemRepository;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.criteria.ShoppingItemCriteria;
+import com.magnus.service.dto.ShoppingItemDTO;
+import com.magnus.service.mapper.ShoppingItemMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+import tech.jhipster.service.filter.LongFilter;
+
+/**
+ * Service for executing complex queries for {@link ShoppingItem} entities in the database.
+ * The main input is a {@link ShoppingItemCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page}, a {@link Slice} or a {@link KeysetSlice} of {@link ShoppingItemDTO} which fulfills the criteria.
+ * Keyset pages are ordered by {@code (createdAt desc, id desc)}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ShoppingItemQueryService extends KeysetQueryService<ShoppingItem> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShoppingItemQueryService.class);
+
+    private static final ContributionQueryService CONTRIBUTIONS = new ContributionQueryService();
+
+    private final ShoppingItemRepository shoppingItemRepository;
+
+    private final ShoppingItemMapper shoppingItemMapper;
+
+    public ShoppingItemQueryService(EntityManager entityManager, ShoppingItemRepository shoppingItemRepository, ShoppingItemMapper shoppingItemMapper) {
+        super(entityManager, ShoppingItem.class);
+        this.shoppingItemRepository = shoppingItemRepository;
+        this.shoppingItemMapper = shoppingItemMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link ShoppingItemDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<ShoppingItemDTO> findByCriteria(ShoppingItemCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<ShoppingItem> specification = createSpecification(criteria);
+        return shoppingItemRepository.findAll(specification, page).map(shoppingItemMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link ShoppingItemDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Slice<ShoppingItemDTO> findSliceByCriteria(ShoppingItemCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        return findSlice(createSpecification(criteria), page).map(shoppingItemMapper::toDto);
+    }
+
+    /**
+     * Return the {@link ShoppingItemDTO} which match the criteria from the database and come after the cursor.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param cursor The position to continue from, or {@code null} for the first page.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public KeysetSlice<ShoppingItemDTO> findByCriteria(ShoppingItemCriteria criteria, KeysetCursor cursor, int size) {
+        LOG.debug("find by criteria : {}, cursor: {}, size: {}", criteria, cursor, size);
+        return findKeyset(createSpecification(criteria), cursor, size).map(shoppingItemMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(ShoppingItemCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<ShoppingItem> specification = createSpecification(criteria);
+        return shoppingItemRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ShoppingItemCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<ShoppingItem> createSpecification(ShoppingItemCriteria criteria) {
+        Specification<ShoppingItem> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), ShoppingItem_.id),
+                buildStringSpecification(criteria.getProductName(), ShoppingItem_.productName),
+                buildSpecification(criteria.getUnit(), ShoppingItem_.unit),
+                buildSpecification(criteria.getCategory(), ShoppingItem_.category),
+                buildSpecification(criteria.getIsPurchased(), ShoppingItem_.isPurchased),
+                buildSpecification(criteria.getIsConsolidated(), ShoppingItem_.isConsolidated),
+                buildRangeSpecification(criteria.getWeekStart(), ShoppingItem_.weekStart),
+                buildRangeSpecification(criteria.getWeekEnd(), ShoppingItem_.weekEnd),
+                buildRangeSpecification(criteria.getDeliveryDate(), ShoppingItem_.deliveryDate),
+                buildRangeSpecification(criteria.getCreatedAt(), ShoppingItem_.createdAt),
+                buildSpecification(criteria.getPurchasedById(), root -> root.join(ShoppingItem_.purchasedBy, JoinType.LEFT).get(AppUser_.id)),
+                buildSpecification(criteria.getWeeklyPlanId(), root -> root.join(ShoppingItem_.weeklyPlan, JoinType.LEFT).get(WeeklyPlan_.id)),
+                buildBudgetSpecification(criteria.getBudgetId())
+            );
+        }
+        return specification;
+    }
+
+    /**
+     * Budgets are linked to shopping items through {@link ShoppingItemBudget} rows, so the budget filter
+     * becomes an {@code id in (select ...)} subquery on that table instead of a join that would repeat items.
+     */
+    private Specification<ShoppingItem> buildBudgetSpecification(LongFilter filter) {
+        if (filter == null) {
+            return null;
+        }
+        LongFilter conditions = filter.copy();
+        conditions.setSpecified(null);
+        boolean hasConditions = !conditions.equals(new LongFilter());
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (hasConditions) {
+                Subquery<Long> matching = query.subquery(Long.class);
+                Root<ShoppingItemBudget> contribution = matching.from(ShoppingItemBudget.class);
+                matching
+                    .select(contribution.get(ShoppingItemBudget_.shoppingItem).get(ShoppingItem_.id))
+                    .where(CONTRIBUTIONS.byBudget(conditions).toPredicate(contribution, query, cb));
+                predicates.add(root.get(ShoppingItem_.id).in(matching));
+            }
+            if (filter.getSpecified() != null) {
+                Subquery<Long> any = query.subquery(Long.class);
+                Root<ShoppingItemBudget> contribution = any.from(ShoppingItemBudget.class);
+                any.select(contribution.get(ShoppingItemBudget_.shoppingItem).get(ShoppingItem_.id));
+                Predicate linked = root.get(ShoppingItem_.id).in(any);
+                predicates.add(Boolean.TRUE.equals(filter.getSpecified()) ? linked : cb.not(linked));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    @Override
+    protected SingularAttribute<? super ShoppingItem, Instant> keysetTime() {
+        return ShoppingItem_.createdAt;
+    }
+
+    @Override
+    protected SingularAttribute<? super ShoppingItem, Long> keysetId() {
+        return ShoppingItem_.id;
+    }
+
+    @Override
+    protected KeysetCursor cursorOf(ShoppingItem shoppingItem) {
+        return new KeysetCursor(shoppingItem.getCreatedAt(), shoppingItem.getId());
+    }
+
+    private static final class ContributionQueryService extends QueryService<ShoppingItemBudget> {
+
+        Specification<ShoppingItemBudget> byBudget(LongFilter filter) {
+            return buildSpecification(filter, root -> root.get(ShoppingItemBudget_.budget).get(Budget_.id));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.magnus.service;
 
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.ShoppingItemDTO;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +36,14 @@ public interface ShoppingItemService {
      */
     Optional<ShoppingItemDTO> partialUpdate(ShoppingItemDTO shoppingItemDTO);
 
+    /**
+     * Applies a batch of shoppingItem creates, updates and deletes in one transaction.
+     *
+     * @param request the batch.
+     * @return the outcome of each item.
+     */
+    BulkResultDTO<ShoppingItemDTO> bulk(BulkRequestDTO<ShoppingItemDTO> request);
+
     /**
      * Get all the shoppingItems.
      *
@@ -41,6 +52,14 @@ public interface ShoppingItemService {
      */
     Page<ShoppingItemDTO> findAll(Pageable pageable);
 
+    /**
+     * Get all the shoppingItems a budget contributes to.
+     *
+     * @param budgetId the id of the budget.
+     * @return the list of entities.
+     */
+    List<ShoppingItemDTO> findAllByBudgetId(Long budgetId);
+
     /**
      * Get the "id" shoppingItem.
      *
@@ -18,6 +18,14 @@ public interface TaskDependencyService {
      */
     TaskDependencyDTO save(TaskDependencyDTO taskDependencyDTO);
 
+    /**
+     * Save a list of taskDependencies using batched inserts.
+     *
+     * @param taskDependencyDTOs the entities to save.
+     * @return the persisted entities, in the same order.
+     */
+    List<TaskDependencyDTO> saveAll(List<TaskDependencyDTO> taskDependencyDTOs);
+
     /**
      * Updates a taskDependency.
      *
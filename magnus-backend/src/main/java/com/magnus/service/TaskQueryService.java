@@ -0,0 +1,150 @@
+package com.magnus.service;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.AppUser_;
+import com.magnus.domain.Budget;
+import com.magnus.domain.Budget_;
+import com.magnus.domain.CookingSchedule;
+import com.magnus.domain.CookingSchedule_;
+import com.magnus.domain.Task;
+import com.magnus.domain.Task_;
+import com.magnus.domain.WeeklyPlan;
+import com.magnus.domain.WeeklyPlan_;
+import com.magnus.repository.TaskRepository;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.criteria.TaskCriteria;
+import com.magnus.service.dto.TaskDTO;
+import com.magnus.service.mapper.TaskMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for executing complex queries for {@link Task} entities in the database.
+ * The main input is a {@link TaskCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page}, a {@link Slice} or a {@link KeysetSlice} of {@link TaskDTO} which fulfills the criteria.
+ * Keyset pages are ordered by {@code (createdAt desc, id desc)}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskQueryService extends KeysetQueryService<Task> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskQueryService.class);
+
+    private final TaskRepository taskRepository;
+
+    private final TaskMapper taskMapper;
+
+    public TaskQueryService(EntityManager entityManager, TaskRepository taskRepository, TaskMapper taskMapper) {
+        super(entityManager, Task.class);
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+    }
+
+    /**
+     * Return a {@link Page} of {@link TaskDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<TaskDTO> findByCriteria(TaskCriteria criteria, Pageable page) {
+        LOG.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Task> specification = createSpecification(criteria);
+        return taskRepository.findAll(specification, page).map(taskMapper::toDto);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link TaskDTO} which matches the criteria from the database, without counting them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Slice<TaskDTO> findSliceByCriteria(TaskCriteria criteria, Pageable page) {
+        LOG.debug("find slice by criteria : {}, page: {}", criteria, page);
+        return findSlice(createSpecification(criteria), page).map(taskMapper::toDto);
+    }
+
+    /**
+     * Return the {@link TaskDTO} which match the criteria from the database and come after the cursor.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param cursor The position to continue from, or {@code null} for the first page.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public KeysetSlice<TaskDTO> findByCriteria(TaskCriteria criteria, KeysetCursor cursor, int size) {
+        LOG.debug("find by criteria : {}, cursor: {}, size: {}", criteria, cursor, size);
+        return findKeyset(createSpecification(criteria), cursor, size).map(taskMapper::toDto);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    public long countByCriteria(TaskCriteria criteria) {
+        LOG.debug("count by criteria : {}", criteria);
+        final Specification<Task> specification = createSpecification(criteria);
+        return taskRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link TaskCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Task> createSpecification(TaskCriteria criteria) {
+        Specification<Task> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            specification = Specification.allOf(
+                Boolean.TRUE.equals(criteria.getDistinct()) ? distinct(criteria.getDistinct()) : null,
+                buildRangeSpecification(criteria.getId(), Task_.id),
+                buildStringSpecification(criteria.getTitle(), Task_.title),
+                buildSpecification(criteria.getType(), Task_.type),
+                buildSpecification(criteria.getPriority(), Task_.priority),
+                buildSpecification(criteria.getStatus(), Task_.status),
+                buildSpecification(criteria.getAssignedToRole(), Task_.assignedToRole),
+                buildRangeSpecification(criteria.getDueDate(), Task_.dueDate),
+                buildRangeSpecification(criteria.getCreatedAt(), Task_.createdAt),
+                buildRangeSpecification(criteria.getCompletedAt(), Task_.completedAt),
+                buildSpecification(criteria.getCreatedById(), root -> root.join(Task_.createdBy, JoinType.LEFT).get(AppUser_.id)),
+                buildSpecification(criteria.getAssignedToId(), root -> root.join(Task_.assignedTo, JoinType.LEFT).get(AppUser_.id)),
+                buildSpecification(criteria.getWeeklyPlanId(), root -> root.join(Task_.weeklyPlan, JoinType.LEFT).get(WeeklyPlan_.id)),
+                buildSpecification(criteria.getRelatedBudgetId(), root -> root.join(Task_.relatedBudget, JoinType.LEFT).get(Budget_.id)),
+                buildSpecification(criteria.getCookingScheduleId(), root -> root.join(Task_.cookingSchedule, JoinType.LEFT).get(CookingSchedule_.id))
+            );
+        }
+        return specification;
+    }
+
+    @Override
+    protected String[] fetchedAttributes() {
+        return new String[] { Task_.COOKING_SCHEDULE };
+    }
+
+    @Override
+    protected SingularAttribute<? super Task, Instant> keysetTime() {
+        return Task_.createdAt;
+    }
+
+    @Override
+    protected SingularAttribute<? super Task, Long> keysetId() {
+        return Task_.id;
+    }
+
+    @Override
+    protected KeysetCursor cursorOf(Task task) {
+        return new KeysetCursor(task.getCreatedAt(), task.getId());
+    }
+}
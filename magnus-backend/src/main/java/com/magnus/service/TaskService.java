@@ -18,6 +18,14 @@ public interface TaskService {
      */
     TaskDTO save(TaskDTO taskDTO);
 
+    /**
+     * Save a list of tasks using batched inserts.
+     *
+     * @param taskDTOs the entities to save.
+     * @return the persisted entities, in the same order.
+     */
+    List<TaskDTO> saveAll(List<TaskDTO> taskDTOs);
+
     /**
      * Updates a task.
      *
@@ -45,9 +53,10 @@ public interface TaskService {
     /**
      * Get all the TaskDTO where CookingSchedule is {@code null}.
      *
-     * @return the {@link List} of entities.
+     * @param pageable the pagination information.
+     * @return the list of entities.
      */
-    List<TaskDTO> findAllWhereCookingScheduleIsNull();
+    Page<TaskDTO> findAllWhereCookingScheduleIsNull(Pageable pageable);
 
     /**
      * Get the "id" task.
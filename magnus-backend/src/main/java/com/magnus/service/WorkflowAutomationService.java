@@ -1,8 +1,5 @@
 package com.magnus.service;
 
-import com.magnus.domain.Budget;
-import com.magnus.domain.Task;
-import com.magnus.domain.TaskDependency;
 import com.magnus.domain.enumeration.*;
 import com.magnus.service.dto.BudgetDTO;
 import com.magnus.service.dto.TaskDTO;
@@ -51,72 +48,111 @@ public class WorkflowAutomationService {
      * Generates all necessary tasks with proper dependencies and timing.
      */
     public void triggerWorkflowForBudget(BudgetDTO budget) {
-        LOG.info("Triggering workflow automation for budget: {} (ID: {})", budget.getName(), budget.getId());
+        triggerWorkflowForBudgets(List.of(budget));
+    }
+
+    /**
+     * Triggers workflow automation for several budgets at once.
+     * The task graphs of all budgets are written with one batched insert of tasks
+     * and one batched insert of dependencies, whatever the number of budgets.
+     */
+    public void triggerWorkflowForBudgets(List<BudgetDTO> budgets) {
+        if (budgets.isEmpty()) {
+            return;
+        }
+        LOG.info("Triggering workflow automation for {} budget(s)", budgets.size());
 
         try {
-            // 1. Generate all tasks for the budget
-            List<TaskDTO> generatedTasks = generateTasksForBudget(budget);
-            
-            // 2. Set up task dependencies
-            createTaskDependencies(generatedTasks);
-            
-            // 3. Send notifications to assigned roles
-            sendWorkflowNotifications(budget, generatedTasks);
-            
-            // 4. Update budget workflow status
-            markWorkflowTriggered(budget);
-            
-            LOG.info("Workflow automation completed successfully for budget: {}", budget.getId());
-            
+            // 1. Build all tasks in memory, then persist them in one batch
+            List<List<TaskDTO>> tasksPerBudget = new ArrayList<>(budgets.size());
+            List<TaskDTO> allTasks = new ArrayList<>();
+            for (BudgetDTO budget : budgets) {
+                List<TaskDTO> budgetTasks = generateTasksForBudget(budget);
+                tasksPerBudget.add(budgetTasks);
+                allTasks.addAll(budgetTasks);
+            }
+            List<TaskDTO> savedTasks = taskService.saveAll(allTasks);
+
+            // 2. Set up task dependencies from the saved tasks (ids are known, no re-reads)
+            List<TaskDependencyDTO> dependencies = new ArrayList<>();
+            int offset = 0;
+            for (List<TaskDTO> budgetTasks : tasksPerBudget) {
+                List<TaskDTO> savedBudgetTasks = savedTasks.subList(offset, offset + budgetTasks.size());
+                dependencies.addAll(createTaskDependencies(savedBudgetTasks));
+                offset += budgetTasks.size();
+            }
+            taskDependencyService.saveAll(dependencies);
+
+            offset = 0;
+            for (int i = 0; i < budgets.size(); i++) {
+                BudgetDTO budget = budgets.get(i);
+                List<TaskDTO> savedBudgetTasks = savedTasks.subList(offset, offset + tasksPerBudget.get(i).size());
+                offset += savedBudgetTasks.size();
+
+                // 3. Send notifications to assigned roles
+                sendWorkflowNotifications(budget, savedBudgetTasks);
+
+                // 4. Update budget workflow status
+                markWorkflowTriggered(budget);
+            }
+
+            LOG.info("Workflow automation completed: {} tasks, {} dependencies for {} budget(s)", savedTasks.size(), dependencies.size(), budgets.size());
         } catch (Exception e) {
-            LOG.error("Error triggering workflow for budget: {}", budget.getId(), e);
+            LOG.error("Error triggering workflow for budgets: {}", budgets.stream().map(BudgetDTO::getId).toList(), e);
             throw new RuntimeException("Failed to trigger workflow automation", e);
         }
     }
 
     /**
-     * Generates all required tasks for a budget based on its details.
+     * Builds (without persisting) all required tasks for a budget based on its details.
      */
-    private List<TaskDTO> generateTasksForBudget(BudgetDTO budget) {
+    List<TaskDTO> generateTasksForBudget(BudgetDTO budget) {
         List<TaskDTO> tasks = new ArrayList<>();
         LocalDate eventDate = budget.getEventDate();
         
         // Generate Shopping Tasks (2-7 days before event)
         if (budget.getMealsAmount() != null && budget.getMealsAmount().compareTo(java.math.BigDecimal.ZERO) > 0) {
-            TaskDTO shoppingTask = createShoppingTask(budget, eventDate.minusDays(3));
-            tasks.add(taskService.save(shoppingTask));
+            tasks.add(createShoppingTask(budget, eventDate.minusDays(3)));
         }
         
         // Generate Cooking Tasks (day of event)
         if (budget.getMealsAmount() != null && budget.getMealsAmount().compareTo(java.math.BigDecimal.ZERO) > 0) {
-            TaskDTO cookingTask = createCookingTask(budget, eventDate);
-            tasks.add(taskService.save(cookingTask));
+            tasks.add(createCookingTask(budget, eventDate));
         }
         
         // Generate Delivery Tasks (day of event)
-        TaskDTO deliveryTask = createDeliveryTask(budget, eventDate);
-        tasks.add(taskService.save(deliveryTask));
+        tasks.add(createDeliveryTask(budget, eventDate));
         
         // Generate Setup Tasks (day of event)
-        TaskDTO setupTask = createSetupTask(budget, eventDate);
-        tasks.add(taskService.save(setupTask));
+        tasks.add(createSetupTask(budget, eventDate));
         
         // Generate Activities Tasks if activities are included
         if (budget.getActivitiesAmount() != null && budget.getActivitiesAmount().compareTo(java.math.BigDecimal.ZERO) > 0) {
-            TaskDTO activitiesTask = createActivitiesTask(budget, eventDate);
-            tasks.add(taskService.save(activitiesTask));
+            tasks.add(createActivitiesTask(budget, eventDate));
         }
         
         // Generate Transport Tasks if transport is included
         if (budget.getTransportAmount() != null && budget.getTransportAmount().compareTo(java.math.BigDecimal.ZERO) > 0) {
-            TaskDTO transportTask = createTransportTask(budget, eventDate);
-            tasks.add(taskService.save(transportTask));
+            tasks.add(createTransportTask(budget, eventDate));
         }
 
-        LOG.info("Generated {} tasks for budget: {}", tasks.size(), budget.getId());
+        tasks.forEach(task -> linkToBudget(task, budget));
+        LOG.debug("Generated {} tasks for budget: {}", tasks.size(), budget.getId());
         return tasks;
     }
 
+    /**
+     * Links a generated task to its budget, owner and weekly plan, like {@link com.magnus.service.workflow.CreateTaskAction}
+     * does for rule-generated tasks, so the budget-scoped task and dependency queries find them.
+     */
+    private void linkToBudget(TaskDTO task, BudgetDTO budget) {
+        BudgetDTO relatedBudget = new BudgetDTO();
+        relatedBudget.setId(budget.getId());
+        task.setRelatedBudget(relatedBudget);
+        task.setCreatedBy(budget.getCreatedBy());
+        task.setWeeklyPlan(budget.getWeeklyPlan());
+    }
+
     /**
      * Creates a shopping task for ingredient procurement.
      */
@@ -278,7 +314,8 @@ public class WorkflowAutomationService {
     /**
      * Creates task dependencies to ensure proper execution order.
      */
-    private void createTaskDependencies(List<TaskDTO> tasks) {
+    List<TaskDependencyDTO> createTaskDependencies(List<TaskDTO> tasks) {
+        List<TaskDependencyDTO> dependencies = new ArrayList<>();
         TaskDTO shoppingTask = findTaskByType(tasks, TaskType.SHOPPING);
         TaskDTO cookingTask = findTaskByType(tasks, TaskType.COOKING);
         TaskDTO deliveryTask = findTaskByType(tasks, TaskType.DELIVERY);
@@ -286,45 +323,29 @@ public class WorkflowAutomationService {
 
         // Shopping blocks cooking
         if (shoppingTask != null && cookingTask != null) {
-            createDependency(cookingTask.getId(), shoppingTask.getId(), DependencyType.BLOCKS);
+            dependencies.add(createDependency(cookingTask, shoppingTask, DependencyType.BLOCKS));
         }
 
         // Delivery blocks setup
         if (deliveryTask != null && setupTask != null) {
-            createDependency(setupTask.getId(), deliveryTask.getId(), DependencyType.BLOCKS);
+            dependencies.add(createDependency(setupTask, deliveryTask, DependencyType.BLOCKS));
         }
+        return dependencies;
     }
 
     /**
-     * Creates a task dependency relationship.
+     * Builds a task dependency relationship between two persisted tasks.
      */
-    private void createDependency(Long dependentTaskId, Long prerequisiteTaskId, DependencyType dependencyType) {
-        try {
-            // Get the task DTOs
-            TaskDTO dependentTask = taskService.findOne(dependentTaskId).orElse(null);
-            TaskDTO prerequisiteTask = taskService.findOne(prerequisiteTaskId).orElse(null);
-            
-            if (dependentTask == null || prerequisiteTask == null) {
-                LOG.warn("Cannot create dependency: tasks not found (dependent: {}, prerequisite: {})", 
-                    dependentTaskId, prerequisiteTaskId);
-                return;
-            }
-
-            TaskDependencyDTO dependency = new TaskDependencyDTO();
-            dependency.setDependencyType(dependencyType);
-            dependency.setNotes("Auto-generated workflow dependency");
-            dependency.setIsActive(true);
-            dependency.setCreatedAt(Instant.now());
-            dependency.setDependentTask(dependentTask);
-            dependency.setPrerequisiteTask(prerequisiteTask);
-            
-            taskDependencyService.save(dependency);
-            
-            LOG.debug("Created dependency: {} depends on {}", dependentTaskId, prerequisiteTaskId);
-        } catch (Exception e) {
-            LOG.error("Failed to create task dependency between {} and {}: {}", 
-                dependentTaskId, prerequisiteTaskId, e.getMessage());
-        }
+    private TaskDependencyDTO createDependency(TaskDTO dependentTask, TaskDTO prerequisiteTask, DependencyType dependencyType) {
+        TaskDependencyDTO dependency = new TaskDependencyDTO();
+        dependency.setDependencyType(dependencyType);
+        dependency.setNotes("Auto-generated workflow dependency");
+        dependency.setIsActive(true);
+        dependency.setCreatedAt(Instant.now());
+        dependency.setDependentTask(dependentTask);
+        dependency.setPrerequisiteTask(prerequisiteTask);
+        LOG.debug("Created dependency: {} depends on {}", dependentTask.getId(), prerequisiteTask.getId());
+        return dependency;
     }
 
     /**
@@ -0,0 +1,168 @@
+package com.magnus.service;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.WorkflowJob;
+import com.magnus.domain.enumeration.WorkflowJobStatus;
+import com.magnus.domain.enumeration.WorkflowJobType;
+import com.magnus.repository.WorkflowJobRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the durable workflow job queue.
+ * <p>
+ * Jobs are written in the same transaction as the budget change that caused them
+ * (transactional outbox), then claimed and processed by {@link WorkflowJobWorker}.
+ */
+@Service
+@Transactional
+public class WorkflowJobService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowJobService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final WorkflowJobRepository workflowJobRepository;
+
+    private final ApplicationProperties.Workflow.Jobs jobsProperties;
+
+    public WorkflowJobService(WorkflowJobRepository workflowJobRepository, ApplicationProperties applicationProperties) {
+        this.workflowJobRepository = workflowJobRepository;
+        this.jobsProperties = applicationProperties.getWorkflow().getJobs();
+    }
+
+    /**
+     * Queues workflow generation for a budget that just moved to RESERVA.
+     * Must run inside the caller's transaction so the job is only visible once the budget change commits.
+     *
+     * @param budgetId the id of the budget.
+     * @return the queued job, or empty if one is already pending or running for that budget.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<WorkflowJob> enqueueBudgetWorkflow(Long budgetId) {
+        if (workflowJobRepository.existsByBudgetIdAndStatusIn(budgetId, EnumSet.of(WorkflowJobStatus.PENDING, WorkflowJobStatus.RUNNING))) {
+            LOG.debug("Workflow job already queued for budget: {}", budgetId);
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        WorkflowJob job = new WorkflowJob()
+            .jobType(WorkflowJobType.BUDGET_RESERVED)
+            .budgetId(budgetId)
+            .status(WorkflowJobStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(now)
+            .createdAt(now)
+            .updatedAt(now);
+        LOG.debug("Queueing workflow job for budget: {}", budgetId);
+        return Optional.of(workflowJobRepository.save(job));
+    }
+
+    /**
+     * Claims up to {@code batchSize} due jobs for this worker using {@code FOR UPDATE SKIP LOCKED}.
+     * Claimed jobs are switched to RUNNING and committed immediately so row locks are held only briefly.
+     *
+     * @param batchSize the maximum number of jobs to claim.
+     * @param workerId identifier of the claiming worker.
+     * @return the claimed jobs.
+     */
+    public List<WorkflowJob> claimBatch(int batchSize, String workerId) {
+        Instant now = Instant.now();
+        List<WorkflowJob> jobs = workflowJobRepository.lockNextPending(now, batchSize);
+        for (WorkflowJob job : jobs) {
+            job.setStatus(WorkflowJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLockedAt(now);
+            job.setLockedBy(workerId);
+            job.setUpdatedAt(now);
+        }
+        return workflowJobRepository.saveAll(jobs);
+    }
+
+    /**
+     * Marks the given jobs as completed in one statement.
+     *
+     * @param jobIds the ids of the processed jobs.
+     */
+    public void markCompleted(Collection<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            workflowJobRepository.markCompleted(jobIds, WorkflowJobStatus.COMPLETED, Instant.now());
+        }
+    }
+
+    /**
+     * Records a failed attempt. The job is rescheduled with exponential backoff,
+     * or marked FAILED once {@code maxAttempts} is reached.
+     *
+     * @param jobId the id of the failed job.
+     * @param error the failure cause.
+     * @return {@code true} if the job will be retried.
+     */
+    public boolean markFailed(Long jobId, Throwable error) {
+        return workflowJobRepository
+            .findById(jobId)
+            .map(job -> {
+                Instant now = Instant.now();
+                boolean retry = job.getAttempts() < jobsProperties.getMaxAttempts();
+                job.setStatus(retry ? WorkflowJobStatus.PENDING : WorkflowJobStatus.FAILED);
+                job.setNextAttemptAt(retry ? now.plus(backoff(job.getAttempts())) : job.getNextAttemptAt());
+                job.setLockedAt(null);
+                job.setLockedBy(null);
+                job.setLastError(abbreviate(String.valueOf(error)));
+                job.setUpdatedAt(now);
+                if (retry) {
+                    LOG.warn("Workflow job {} for budget {} failed (attempt {}), retrying at {}", jobId, job.getBudgetId(), job.getAttempts(), job.getNextAttemptAt());
+                } else {
+                    LOG.error("Workflow job {} for budget {} failed permanently after {} attempts", jobId, job.getBudgetId(), job.getAttempts());
+                }
+                return retry;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Returns RUNNING jobs whose lease expired (worker crashed or node restarted) to the queue.
+     *
+     * @return the number of released jobs.
+     */
+    public int releaseStaleJobs() {
+        Instant now = Instant.now();
+        int released = workflowJobRepository.releaseStale(
+            WorkflowJobStatus.PENDING,
+            WorkflowJobStatus.RUNNING,
+            now.minusMillis(jobsProperties.getLeaseTimeoutMs()),
+            now
+        );
+        if (released > 0) {
+            LOG.warn("Released {} stale workflow jobs back to the queue", released);
+        }
+        return released;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return workflowJobRepository.countByStatus(WorkflowJobStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> findOldestPendingCreatedAt() {
+        return Optional.ofNullable(workflowJobRepository.findOldestCreatedAtByStatus(WorkflowJobStatus.PENDING));
+    }
+
+    Duration backoff(int attempts) {
+        long delay = jobsProperties.getInitialBackoffMs() << Math.min(Math.max(attempts - 1, 0), 20);
+        return Duration.ofMillis(Math.min(delay, jobsProperties.getMaxBackoffMs()));
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,218 @@
+package com.magnus.service;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.WorkflowJob;
+import com.magnus.service.dto.BudgetDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background worker draining the durable workflow job queue.
+ * <p>
+ * Runs on its own thread pool (not the shared {@code @Async} executor), claims jobs in batches
+ * and generates the workflow for every budget of a batch in a single transaction. If a batch
+ * fails, its jobs are replayed one by one so a single bad budget cannot block the others,
+ * and failed jobs are retried with exponential backoff.
+ */
+@Component
+public class WorkflowJobWorker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowJobWorker.class);
+
+    public static final String METER_PREFIX = "workflow.jobs";
+
+    private final WorkflowJobService workflowJobService;
+
+    private final WorkflowAutomationService workflowAutomationService;
+
+    private final BudgetService budgetService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Workflow.Jobs jobsProperties;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final String workerId = "magnus-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicInteger activeDrains = new AtomicInteger();
+
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    private final AtomicLong queueLagMillis = new AtomicLong();
+
+    private final Timer jobLatency;
+
+    private final Timer batchExecution;
+
+    private final Counter completedCounter;
+
+    private final Counter retriedCounter;
+
+    private final Counter failedCounter;
+
+    public WorkflowJobWorker(
+        WorkflowJobService workflowJobService,
+        WorkflowAutomationService workflowAutomationService,
+        BudgetService budgetService,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.workflowJobService = workflowJobService;
+        this.workflowAutomationService = workflowAutomationService;
+        this.budgetService = budgetService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobsProperties = applicationProperties.getWorkflow().getJobs();
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(jobsProperties.getWorkerPoolSize());
+        this.executor.setMaxPoolSize(jobsProperties.getWorkerPoolSize());
+        this.executor.setQueueCapacity(0);
+        this.executor.setThreadNamePrefix("magnus-workflow-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.setAwaitTerminationSeconds(30);
+        this.executor.initialize();
+
+        Gauge.builder(METER_PREFIX + ".queue.depth", queueDepth, AtomicLong::get)
+            .description("Number of pending workflow jobs")
+            .register(meterRegistry);
+        TimeGauge.builder(METER_PREFIX + ".queue.lag", queueLagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest pending workflow job")
+            .register(meterRegistry);
+        this.jobLatency = Timer.builder(METER_PREFIX + ".latency")
+            .description("Time from enqueue to successful completion of a workflow job")
+            .register(meterRegistry);
+        this.batchExecution = Timer.builder(METER_PREFIX + ".batch.execution")
+            .description("Processing time of a workflow job batch")
+            .register(meterRegistry);
+        this.completedCounter = outcomeCounter(meterRegistry, "completed");
+        this.retriedCounter = outcomeCounter(meterRegistry, "retried");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METER_PREFIX + ".processed")
+            .description("Workflow jobs processed, by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Polls the queue and starts drain loops up to the configured pool size.
+     */
+    @Scheduled(fixedDelayString = "${application.workflow.jobs.poll-interval-ms:1000}")
+    public void poll() {
+        if (!jobsProperties.isEnabled()) {
+            return;
+        }
+        try {
+            workflowJobService.releaseStaleJobs();
+            refreshQueueMetrics();
+        } catch (Exception e) {
+            LOG.warn("Unable to refresh workflow job queue state: {}", e.getMessage());
+            return;
+        }
+        while (queueDepth.get() > 0 && activeDrains.get() < jobsProperties.getWorkerPoolSize()) {
+            activeDrains.incrementAndGet();
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                activeDrains.decrementAndGet();
+                break;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            List<WorkflowJob> jobs;
+            do {
+                jobs = workflowJobService.claimBatch(jobsProperties.getBatchSize(), workerId);
+                if (!jobs.isEmpty()) {
+                    processBatch(jobs);
+                }
+            } while (jobs.size() == jobsProperties.getBatchSize());
+        } catch (Exception e) {
+            LOG.error("Workflow job worker {} stopped draining", workerId, e);
+        } finally {
+            activeDrains.decrementAndGet();
+        }
+    }
+
+    void processBatch(List<WorkflowJob> jobs) {
+        LOG.debug("Processing {} workflow jobs in one transaction", jobs.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchExecution.record(() -> workflowAutomationService.triggerWorkflowForBudgets(loadBudgets(jobs)));
+                workflowJobService.markCompleted(jobs.stream().map(WorkflowJob::getId).toList());
+            });
+            jobs.forEach(this::recordCompleted);
+        } catch (Exception batchError) {
+            LOG.warn("Workflow batch of {} jobs failed, replaying jobs individually: {}", jobs.size(), batchError.getMessage());
+            jobs.forEach(this::processSingle);
+        }
+    }
+
+    private void processSingle(WorkflowJob job) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchExecution.record(() -> workflowAutomationService.triggerWorkflowForBudgets(loadBudgets(List.of(job))));
+                workflowJobService.markCompleted(List.of(job.getId()));
+            });
+            recordCompleted(job);
+        } catch (Exception e) {
+            Boolean retry = transactionTemplate.execute(status -> workflowJobService.markFailed(job.getId(), e));
+            (Boolean.TRUE.equals(retry) ? retriedCounter : failedCounter).increment();
+        }
+    }
+
+    private List<BudgetDTO> loadBudgets(List<WorkflowJob> jobs) {
+        List<BudgetDTO> budgets = new ArrayList<>(jobs.size());
+        for (WorkflowJob job : jobs) {
+            budgetService
+                .findOne(job.getBudgetId())
+                .ifPresentOrElse(budgets::add, () ->
+                    LOG.warn("Budget {} of workflow job {} no longer exists, skipping", job.getBudgetId(), job.getId())
+                );
+        }
+        return budgets;
+    }
+
+    private void recordCompleted(WorkflowJob job) {
+        completedCounter.increment();
+        jobLatency.record(Duration.between(job.getCreatedAt(), Instant.now()));
+    }
+
+    private void refreshQueueMetrics() {
+        queueDepth.set(workflowJobService.countPending());
+        queueLagMillis.set(
+            workflowJobService.findOldestPendingCreatedAt().map(oldest -> Duration.between(oldest, Instant.now()).toMillis()).orElse(0L)
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
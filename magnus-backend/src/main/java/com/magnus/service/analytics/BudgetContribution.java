@@ -0,0 +1,72 @@
+package com.magnus.service.analytics;
+
+import com.magnus.service.dto.DashboardRollupDTO.Dimension;
+import com.magnus.service.dto.DashboardRollupDTO.Period;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What one budget adds to the rollups: one unit of its measures in every (period, dimension)
+ * bucket its event date and attributes fall into. Keys are never null, a missing value is {@code ""}.
+ */
+record BudgetContribution(
+    Long budgetId,
+    LocalDate eventDate,
+    String status,
+    String eventGender,
+    String clientName,
+    String templateId,
+    long guestCount,
+    BigDecimal revenue,
+    BigDecimal cost,
+    BigDecimal paymentsReceived
+) {
+    /**
+     * Computes the rollup changes turning {@code before} into {@code after}. Buckets whose change
+     * cancels out (an edit that does not touch the grouping attributes or measures) are left out.
+     *
+     * @param before the contribution applied so far, or {@code null} for a new budget.
+     * @param after the current contribution, or {@code null} for a deleted budget.
+     * @return the non-zero changes per rollup row.
+     */
+    static Map<RollupKey, RollupMeasures> diff(BudgetContribution before, BudgetContribution after) {
+        Map<RollupKey, RollupMeasures> changes = new HashMap<>();
+        accumulate(changes, before, after);
+        changes.values().removeIf(RollupMeasures::isZero);
+        return changes;
+    }
+
+    /**
+     * Adds the changes turning {@code before} into {@code after} to {@code changes}, including the
+     * buckets that cancel out.
+     */
+    static void accumulate(Map<RollupKey, RollupMeasures> changes, BudgetContribution before, BudgetContribution after) {
+        if (before != null) {
+            before.addTo(changes, -1);
+        }
+        if (after != null) {
+            after.addTo(changes, 1);
+        }
+    }
+
+    private void addTo(Map<RollupKey, RollupMeasures> changes, int sign) {
+        for (Period period : Period.values()) {
+            LocalDate start = RollupKey.periodStart(period, eventDate);
+            for (Dimension dimension : Dimension.values()) {
+                changes.computeIfAbsent(new RollupKey(period, dimension, start, key(dimension)), k -> new RollupMeasures()).add(this, sign);
+            }
+        }
+    }
+
+    private String key(Dimension dimension) {
+        return switch (dimension) {
+            case ALL -> "";
+            case STATUS -> status;
+            case GENDER -> eventGender;
+            case CLIENT -> clientName;
+            case TEMPLATE -> templateId;
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.magnus.service.analytics;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.Budget;
+import com.magnus.domain.BudgetItem;
+import com.magnus.domain.Payment;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate post-commit listener marking a budget dirty in {@link BudgetRollupService} when the
+ * budget, one of its {@link BudgetItem}s or one of its {@link Payment}s has committed. Moving an
+ * item or payment to another budget marks both budgets.
+ */
+@Component
+public class BudgetRollupListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String BUDGET = "budget";
+
+    private final BudgetRollupService budgetRollupService;
+
+    private final boolean enabled;
+
+    public BudgetRollupListener(BudgetRollupService budgetRollupService, ApplicationProperties applicationProperties) {
+        this.budgetRollupService = budgetRollupService;
+        this.enabled = applicationProperties.getDashboard().isEnabled();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return enabled && (isBudget(persister) || isBudgetChild(persister));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        touch(event.getSession(), event.getPersister(), event.getId(), event.getState());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        touch(event.getSession(), event.getPersister(), event.getId(), event.getState());
+        if (event.getOldState() != null) {
+            touch(event.getSession(), event.getPersister(), event.getId(), event.getOldState());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        touch(event.getSession(), event.getPersister(), event.getId(), event.getDeletedState());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // nothing was committed, the rollups are unchanged
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // nothing was committed, the rollups are unchanged
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // nothing was committed, the rollups are unchanged
+    }
+
+    private void touch(EventSource session, EntityPersister persister, Object id, Object[] state) {
+        if (!requiresPostCommitHandling(persister)) {
+            return;
+        }
+        if (isBudget(persister)) {
+            budgetRollupService.markDirty((Long) id);
+            return;
+        }
+        if (state == null) {
+            return;
+        }
+        Object budget = state[persister.getPropertyIndex(BUDGET)];
+        if (budget != null) {
+            budgetRollupService.markDirty((Long) session.getFactory().getPersistenceUnitUtil().getIdentifier(budget));
+        }
+    }
+
+    private static boolean isBudget(EntityPersister persister) {
+        return Budget.class.getName().equals(persister.getEntityName());
+    }
+
+    private static boolean isBudgetChild(EntityPersister persister) {
+        String entityName = persister.getEntityName();
+        return BudgetItem.class.getName().equals(entityName) || Payment.class.getName().equals(entityName);
+    }
+}
@@ -0,0 +1,403 @@
+package com.magnus.service.analytics;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.service.dto.DashboardRollupDTO;
+import com.magnus.service.dto.DashboardRollupDTO.Dimension;
+import com.magnus.service.dto.DashboardRollupDTO.Period;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the {@code budget_rollup} table behind the dashboard: budget count, guests, revenue,
+ * cost and confirmed payments summed per week and month of the event date, overall and per status,
+ * event gender, client and template.
+ * <p>
+ * {@link BudgetRollupListener} marks a budget dirty when it, one of its items or one of its payments
+ * commits. Dirty budgets are refreshed in batches: the current contribution of each budget is read
+ * (locking the budget rows so concurrent refreshes serialize), compared with the contribution
+ * recorded in {@code budget_rollup_contribution}, and only the difference is added to the rollup
+ * rows with one upsert per touched bucket. Reads therefore cost one index range scan over the
+ * requested buckets, whatever the number of budgets. Marks are kept in memory; {@link #resync()}
+ * runs nightly (and on startup while the rollups are empty) and re-checks every budget, repairing
+ * anything missed by a restart or a direct SQL change.
+ * <p>
+ * {@link BudgetRollupListener} needs this service before the JPA transaction manager exists, so the
+ * manager is resolved on the first refresh.
+ */
+@Service
+public class BudgetRollupService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BudgetRollupService.class);
+
+    public static final String METER_PREFIX = "dashboard.rollups";
+
+    private static final String CONTRIBUTION_COLUMNS =
+        "event_date, status, event_gender, client_name, template_id, guest_count, revenue, cost, payments_received";
+
+    static final String CURRENT_SQL =
+        "select b.id as budget_id, b.event_date, b.status, coalesce(b.event_gender, '') as event_gender, " +
+        "b.client_name, coalesce(b.template_id, '') as template_id, b.guest_count, " +
+        "coalesce(b.total_amount, 0) as revenue, coalesce(b.total_cost, 0) as cost, " +
+        "(select coalesce(sum(p.amount), 0) from payment p where p.budget_id = b.id and p.is_confirmed = true) as payments_received " +
+        "from budget b where b.id in (:ids) order by b.id for update of b";
+
+    static final String APPLIED_SQL =
+        "select budget_id, " + CONTRIBUTION_COLUMNS + " from budget_rollup_contribution " +
+        "where budget_id in (:ids) order by budget_id for update";
+
+    static final String UPSERT_ROLLUP_SQL =
+        "insert into budget_rollup (period_type, dimension, period_start, dimension_key, " +
+        "budget_count, guest_count, revenue, cost, payments_received, updated_at) " +
+        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) as delta " +
+        "on duplicate key update budget_count = budget_rollup.budget_count + delta.budget_count, " +
+        "guest_count = budget_rollup.guest_count + delta.guest_count, " +
+        "revenue = budget_rollup.revenue + delta.revenue, " +
+        "cost = budget_rollup.cost + delta.cost, " +
+        "payments_received = budget_rollup.payments_received + delta.payments_received, " +
+        "updated_at = delta.updated_at";
+
+    static final String UPSERT_CONTRIBUTION_SQL =
+        "insert into budget_rollup_contribution (budget_id, " + CONTRIBUTION_COLUMNS + ") " +
+        "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) as c " +
+        "on duplicate key update event_date = c.event_date, status = c.status, event_gender = c.event_gender, " +
+        "client_name = c.client_name, template_id = c.template_id, guest_count = c.guest_count, " +
+        "revenue = c.revenue, cost = c.cost, payments_received = c.payments_received";
+
+    static final String DELETE_CONTRIBUTION_SQL = "delete from budget_rollup_contribution where budget_id = ?";
+
+    static final String FIND_SQL =
+        "select period_start, dimension_key, budget_count, guest_count, revenue, cost, payments_received " +
+        "from budget_rollup where period_type = ? and dimension = ? and period_start between ? and ? and budget_count > 0 " +
+        "order by period_start, dimension_key";
+
+    private static final String BUDGET_IDS_SQL = "select id from budget where id > ? order by id limit ?";
+
+    private static final String CONTRIBUTION_IDS_SQL = "select budget_id from budget_rollup_contribution where budget_id > ? order by budget_id limit ?";
+
+    private static final String HAS_CONTRIBUTIONS_SQL = "select exists (select 1 from budget_rollup_contribution)";
+
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator.comparing(RollupKey::period)
+        .thenComparing(RollupKey::dimension)
+        .thenComparing(key -> key.periodStart())
+        .thenComparing(RollupKey::key);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    private volatile TransactionTemplate newTransaction;
+
+    private final ApplicationProperties.Dashboard properties;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    private final Counter refreshed;
+
+    private final Counter failures;
+
+    public BudgetRollupService(
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<PlatformTransactionManager> transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionManager = transactionManager;
+        this.properties = applicationProperties.getDashboard();
+        this.refreshed = Counter.builder(METER_PREFIX + ".refreshed").description("Budgets refreshed into the dashboard rollups").register(
+            meterRegistry
+        );
+        this.failures = Counter.builder(METER_PREFIX + ".failures").description("Dashboard rollup refreshes that failed and were retried").register(
+            meterRegistry
+        );
+        Gauge.builder(METER_PREFIX + ".pending", dirty, Set::size).description("Budgets waiting for a rollup refresh").register(meterRegistry);
+    }
+
+    /**
+     * Schedules the rollups of a budget for refresh.
+     *
+     * @param budgetId the id of the budget.
+     */
+    public void markDirty(Long budgetId) {
+        if (properties.isEnabled() && budgetId != null) {
+            dirty.add(budgetId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_CONTRIBUTIONS_SQL, Boolean.class))) {
+                LOG.info("Dashboard rollups are empty, scheduling a full resync");
+                resync();
+            }
+        } catch (Exception e) {
+            LOG.warn("Unable to check the dashboard rollups: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.dashboard.refresh-interval-ms:2000}",
+        fixedDelayString = "${application.dashboard.refresh-interval-ms:2000}"
+    )
+    public void scheduledRefresh() {
+        if (!properties.isEnabled() || dirty.isEmpty()) {
+            return;
+        }
+        try {
+            refreshPending();
+        } catch (Exception e) {
+            LOG.warn("Dashboard rollup refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${application.dashboard.resync-cron:0 30 4 * * *}")
+    public void scheduledResync() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            resync();
+        } catch (Exception e) {
+            LOG.warn("Dashboard rollup resync failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Marks every budget, and every budget still contributing to the rollups, dirty. The rollups keep
+     * serving their current values while the refresh catches up, and only drifted buckets change.
+     *
+     * @return the number of budgets marked.
+     */
+    public int resync() {
+        int before = dirty.size();
+        markAll(BUDGET_IDS_SQL);
+        markAll(CONTRIBUTION_IDS_SQL);
+        return dirty.size() - before;
+    }
+
+    /**
+     * Refreshes the dirty budgets, {@code refreshBatchSize} per transaction. A failed batch is marked
+     * dirty again for the next run.
+     *
+     * @return the number of budgets refreshed.
+     */
+    public int refreshPending() {
+        int count = 0;
+        while (!dirty.isEmpty()) {
+            List<Long> batch = take(properties.getRefreshBatchSize());
+            try {
+                newTransaction().executeWithoutResult(status -> refresh(batch));
+            } catch (RuntimeException e) {
+                dirty.addAll(batch);
+                failures.increment();
+                throw e;
+            }
+            refreshed.increment(batch.size());
+            count += batch.size();
+        }
+        return count;
+    }
+
+    /**
+     * Finds the rollups of a period type and dimension whose period starts within the given dates.
+     *
+     * @param period the period type.
+     * @param dimension the dimension.
+     * @param from the first event date, aligned to the start of its period.
+     * @param to the last event date (inclusive).
+     * @return the non-empty rollups, ordered by period start and key.
+     */
+    public List<DashboardRollupDTO> findRollups(Period period, Dimension dimension, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+            FIND_SQL,
+            (rs, rowNum) -> {
+                DashboardRollupDTO dto = new DashboardRollupDTO();
+                dto.setPeriod(period);
+                dto.setDimension(dimension);
+                dto.setPeriodStart(rs.getDate("period_start").toLocalDate());
+                dto.setKey(rs.getString("dimension_key"));
+                dto.setBudgetCount(rs.getLong("budget_count"));
+                dto.setGuestCount(rs.getLong("guest_count"));
+                dto.setRevenue(rs.getBigDecimal("revenue"));
+                dto.setCost(rs.getBigDecimal("cost"));
+                dto.setPaymentsReceived(rs.getBigDecimal("payments_received"));
+                return dto;
+            },
+            period.name(),
+            dimension.name(),
+            Date.valueOf(RollupKey.periodStart(period, from)),
+            Date.valueOf(to)
+        );
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = newTransaction;
+        if (template == null) {
+            template = new TransactionTemplate(transactionManager.getObject());
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            newTransaction = template;
+        }
+        return template;
+    }
+
+    private void refresh(List<Long> budgetIds) {
+        Map<String, Object> ids = Map.of("ids", budgetIds);
+        Map<Long, BudgetContribution> current = new HashMap<>();
+        namedJdbcTemplate.query(CURRENT_SQL, ids, rs -> {
+            BudgetContribution contribution = contribution(rs);
+            current.put(contribution.budgetId(), contribution);
+        });
+        Map<Long, BudgetContribution> applied = new HashMap<>();
+        namedJdbcTemplate.query(APPLIED_SQL, ids, rs -> {
+            BudgetContribution contribution = contribution(rs);
+            applied.put(contribution.budgetId(), contribution);
+        });
+
+        Map<RollupKey, RollupMeasures> changes = new HashMap<>();
+        List<BudgetContribution> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (Long budgetId : budgetIds) {
+            BudgetContribution before = applied.get(budgetId);
+            BudgetContribution after = current.get(budgetId);
+            if (Objects.equals(before, after)) {
+                continue;
+            }
+            BudgetContribution.accumulate(changes, before, after);
+            if (after != null) {
+                upserts.add(after);
+            } else {
+                deletes.add(new Object[] { budgetId });
+            }
+        }
+        changes.values().removeIf(RollupMeasures::isZero);
+
+        if (!changes.isEmpty()) {
+            Timestamp now = Timestamp.from(Instant.now());
+            // a fixed key order keeps concurrent refreshes from deadlocking on the rollup rows
+            List<Object[]> rows = changes
+                .entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey(KEY_ORDER))
+                .map(entry -> {
+                    RollupKey key = entry.getKey();
+                    RollupMeasures change = entry.getValue();
+                    return new Object[] {
+                        key.period().name(),
+                        key.dimension().name(),
+                        Date.valueOf(key.periodStart()),
+                        key.key(),
+                        change.budgets,
+                        change.guests,
+                        change.revenue,
+                        change.cost,
+                        change.paymentsReceived,
+                        now,
+                    };
+                })
+                .toList();
+            jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rows);
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                UPSERT_CONTRIBUTION_SQL,
+                upserts
+                    .stream()
+                    .map(c ->
+                        new Object[] {
+                            c.budgetId(),
+                            Date.valueOf(c.eventDate()),
+                            c.status(),
+                            c.eventGender(),
+                            c.clientName(),
+                            c.templateId(),
+                            c.guestCount(),
+                            c.revenue(),
+                            c.cost(),
+                            c.paymentsReceived(),
+                        }
+                    )
+                    .toList()
+            );
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_CONTRIBUTION_SQL, deletes);
+        }
+        LOG.debug("Refreshed dashboard rollups of {} budgets, {} buckets changed", budgetIds.size(), changes.size());
+    }
+
+    private static BudgetContribution contribution(ResultSet rs) throws SQLException {
+        // scale 2 like the columns, so that an unchanged budget compares equal to its recorded contribution
+        return new BudgetContribution(
+            rs.getLong("budget_id"),
+            rs.getDate("event_date").toLocalDate(),
+            rs.getString("status"),
+            rs.getString("event_gender"),
+            rs.getString("client_name"),
+            rs.getString("template_id"),
+            rs.getLong("guest_count"),
+            rs.getBigDecimal("revenue").setScale(2, RoundingMode.HALF_UP),
+            rs.getBigDecimal("cost").setScale(2, RoundingMode.HALF_UP),
+            rs.getBigDecimal("payments_received").setScale(2, RoundingMode.HALF_UP)
+        );
+    }
+
+    private List<Long> take(int limit) {
+        List<Long> batch = new ArrayList<>(Math.min(limit, dirty.size()));
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && batch.size() < limit) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        batch.sort(null);
+        return batch;
+    }
+
+    private void markAll(String idsSql) {
+        int batchSize = properties.getRefreshBatchSize();
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(idsSql, Long.class, afterId, batchSize);
+            dirty.addAll(ids);
+            if (ids.size() < batchSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.magnus.service.analytics;
+
+import com.magnus.service.dto.DashboardRollupDTO.Dimension;
+import com.magnus.service.dto.DashboardRollupDTO.Period;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Primary key of a {@code budget_rollup} row.
+ */
+record RollupKey(Period period, Dimension dimension, LocalDate periodStart, String key) {
+    static LocalDate periodStart(Period period, LocalDate date) {
+        return switch (period) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.magnus.service.analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * Additive measures of a rollup row, or the change to apply to one.
+ */
+final class RollupMeasures {
+
+    long budgets;
+
+    long guests;
+
+    BigDecimal revenue = BigDecimal.ZERO;
+
+    BigDecimal cost = BigDecimal.ZERO;
+
+    BigDecimal paymentsReceived = BigDecimal.ZERO;
+
+    void add(BudgetContribution contribution, int sign) {
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        budgets += sign;
+        guests += (long) sign * contribution.guestCount();
+        revenue = revenue.add(contribution.revenue().multiply(factor));
+        cost = cost.add(contribution.cost().multiply(factor));
+        paymentsReceived = paymentsReceived.add(contribution.paymentsReceived().multiply(factor));
+    }
+
+    boolean isZero() {
+        return budgets == 0 && guests == 0 && revenue.signum() == 0 && cost.signum() == 0 && paymentsReceived.signum() == 0;
+    }
+}
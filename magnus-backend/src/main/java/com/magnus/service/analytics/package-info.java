@@ -0,0 +1,4 @@
+/**
+ * Dashboard analytics: budget measures rolled up per week/month and dimension, maintained incrementally.
+ */
+package com.magnus.service.analytics;
@@ -0,0 +1,160 @@
+package com.magnus.service.audit;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.enumeration.AuditAction;
+import com.magnus.security.SecurityUtils;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate post-commit listener turning changes of the audited entities into {@link AuditEntry}s.
+ * <p>
+ * Changes are captured when Hibernate flushes them and handed to the {@link AuditTrailWriter} only
+ * once the transaction has committed, so rolled-back work is never audited. An update yields one
+ * entry per dirty field ({@code STATUS_CHANGE} for the {@code status} field); associations are
+ * recorded by id and collections are ignored.
+ */
+@Component
+public class AuditEntityListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String STATUS_FIELD = "status";
+
+    private final AuditTrailWriter auditTrailWriter;
+
+    private final boolean enabled;
+
+    private final Set<String> entities;
+
+    private final Set<String> ignoredFields;
+
+    public AuditEntityListener(AuditTrailWriter auditTrailWriter, ApplicationProperties applicationProperties) {
+        this.auditTrailWriter = auditTrailWriter;
+        ApplicationProperties.Audit audit = applicationProperties.getAudit();
+        this.enabled = audit.isEnabled();
+        this.entities = Set.copyOf(audit.getEntities());
+        this.ignoredFields = Set.copyOf(audit.getIgnoredFields());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return enabled && entities.contains(entityType(persister));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            auditTrailWriter.enqueue(List.of(entry(event.getPersister(), event.getId(), AuditAction.CREATE, null, null, null)));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!requiresPostCommitHandling(event.getPersister())) {
+            return;
+        }
+        List<AuditEntry> entries = diff(event);
+        if (!entries.isEmpty()) {
+            auditTrailWriter.enqueue(entries);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            auditTrailWriter.enqueue(List.of(entry(event.getPersister(), event.getId(), AuditAction.DELETE, null, null, null)));
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // nothing was committed, nothing to audit
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // nothing was committed, nothing to audit
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // nothing was committed, nothing to audit
+    }
+
+    List<AuditEntry> diff(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Object[] state = event.getState();
+        Object[] oldState = event.getOldState();
+        int[] dirty = event.getDirtyProperties();
+        List<AuditEntry> entries = new ArrayList<>();
+        if (dirty == null) {
+            entries.add(entry(persister, event.getId(), AuditAction.UPDATE, null, null, null));
+            return entries;
+        }
+        for (int i : dirty) {
+            if (types[i].isCollectionType() || ignoredFields.contains(names[i])) {
+                continue;
+            }
+            String oldValue = oldState != null ? format(event, types[i], oldState[i]) : null;
+            String newValue = format(event, types[i], state[i]);
+            if (oldState != null && Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            AuditAction action = STATUS_FIELD.equals(names[i]) ? AuditAction.STATUS_CHANGE : AuditAction.UPDATE;
+            entries.add(entry(persister, event.getId(), action, names[i], oldValue, newValue));
+        }
+        return entries;
+    }
+
+    private static String format(PostUpdateEvent event, Type type, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (type.isEntityType()) {
+            return String.valueOf(event.getFactory().getPersistenceUnitUtil().getIdentifier(value));
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    private static AuditEntry entry(
+        EntityPersister persister,
+        Object id,
+        AuditAction action,
+        String fieldName,
+        String oldValue,
+        String newValue
+    ) {
+        return new AuditEntry(
+            entityType(persister),
+            String.valueOf(id),
+            action,
+            fieldName,
+            oldValue,
+            newValue,
+            SecurityUtils.getCurrentUserLogin().orElse(null),
+            Instant.now()
+        );
+    }
+
+    private static String entityType(EntityPersister persister) {
+        String entityName = persister.getEntityName();
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,19 @@
+package com.magnus.service.audit;
+
+import com.magnus.domain.enumeration.AuditAction;
+import java.time.Instant;
+
+/**
+ * One pending {@code audit_log} row. Field-level changes carry {@code fieldName}, {@code oldValue}
+ * and {@code newValue}; entity creation and deletion leave them empty.
+ */
+public record AuditEntry(
+    String entityType,
+    String entityId,
+    AuditAction action,
+    String fieldName,
+    String oldValue,
+    String newValue,
+    String userId,
+    Instant timestamp
+) {}
@@ -0,0 +1,101 @@
+package com.magnus.service.audit;
+
+import com.magnus.service.AuditLogQueryService;
+import com.magnus.service.criteria.AuditLogCriteria;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.dto.AuditLogDTO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes audit log entries as CSV, reading them in keyset chunks so an export of any size uses
+ * constant memory and only short read transactions.
+ */
+@Service
+public class AuditLogExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditLogExportService.class);
+
+    public static final String CONTENT_TYPE = "text/csv;charset=UTF-8";
+
+    static final int CHUNK_SIZE = 1000;
+
+    static final String HEADER = "id,timestamp,entityType,entityId,action,fieldName,oldValue,newValue,userId,userRole,ipAddress,sessionId";
+
+    private final AuditLogQueryService auditLogQueryService;
+
+    public AuditLogExportService(AuditLogQueryService auditLogQueryService) {
+        this.auditLogQueryService = auditLogQueryService;
+    }
+
+    /**
+     * Writes the entries matching the criteria, newest first.
+     *
+     * @param criteria the criteria which the exported entries should match.
+     * @param outputStream the stream to write to; it is flushed but not closed.
+     * @return the number of exported entries.
+     * @throws IOException if writing fails.
+     */
+    public long export(AuditLogCriteria criteria, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        long exported = 0;
+        KeysetCursor cursor = null;
+        KeysetSlice<AuditLogDTO> chunk;
+        do {
+            chunk = auditLogQueryService.findByCriteria(criteria, cursor, CHUNK_SIZE);
+            for (AuditLogDTO auditLog : chunk.content()) {
+                writeRow(writer, auditLog);
+            }
+            exported += chunk.content().size();
+            cursor = chunk.nextCursor();
+            writer.flush();
+        } while (chunk.hasNext());
+        LOG.debug("Exported {} audit log entries", exported);
+        return exported;
+    }
+
+    private static void writeRow(Writer writer, AuditLogDTO auditLog) throws IOException {
+        Object[] values = {
+            auditLog.getId(),
+            auditLog.getTimestamp(),
+            auditLog.getEntityType(),
+            auditLog.getEntityId(),
+            auditLog.getAction(),
+            auditLog.getFieldName(),
+            auditLog.getOldValue(),
+            auditLog.getNewValue(),
+            auditLog.getUserId(),
+            auditLog.getUserRole(),
+            auditLog.getIpAddress(),
+            auditLog.getSessionId(),
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
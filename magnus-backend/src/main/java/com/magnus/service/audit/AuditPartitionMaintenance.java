@@ -0,0 +1,112 @@
+package com.magnus.service.audit;
+
+import com.magnus.config.ApplicationProperties;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the monthly range partitions of {@code audit_log} ahead of time and enforces the retention
+ * period by dropping whole partitions, which is instant and leaves no fragmentation behind, instead
+ * of deleting rows. Does nothing when the table is not partitioned (e.g. on a database other than MySQL).
+ */
+@Component
+public class AuditPartitionMaintenance {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditPartitionMaintenance.class);
+
+    static final String PARTITIONS_SQL =
+        "select partition_name, partition_description from information_schema.partitions " +
+        "where table_schema = database() and table_name = 'audit_log' and partition_name is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ApplicationProperties.Audit auditProperties;
+
+    public AuditPartitionMaintenance(JdbcTemplate jdbcTemplate, ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditProperties = applicationProperties.getAudit();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${application.audit.partition-maintenance-cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            Map<String, LocalDate> partitions = partitions();
+            if (partitions.isEmpty()) {
+                LOG.debug("audit_log is not partitioned, skipping partition maintenance");
+                return;
+            }
+            AuditPartitionPlan plan = AuditPartitionPlan.of(
+                partitions,
+                LocalDate.now(ZoneOffset.UTC),
+                auditProperties.getPartitionsAhead(),
+                auditProperties.getRetentionMonths()
+            );
+            apply(plan);
+        } catch (Exception e) {
+            LOG.warn("Audit log partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    void apply(AuditPartitionPlan plan) {
+        if (!plan.add().isEmpty()) {
+            String months = plan
+                .add()
+                .stream()
+                .map(month ->
+                    "PARTITION " + AuditPartitionPlan.partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')"
+                )
+                .collect(Collectors.joining(", "));
+            jdbcTemplate.execute(
+                "ALTER TABLE audit_log REORGANIZE PARTITION " +
+                AuditPartitionPlan.FUTURE_PARTITION +
+                " INTO (" +
+                months +
+                ", PARTITION " +
+                AuditPartitionPlan.FUTURE_PARTITION +
+                " VALUES LESS THAN (MAXVALUE))"
+            );
+            LOG.info("Added audit_log partitions for {}", plan.add());
+        }
+        if (!plan.drop().isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE audit_log DROP PARTITION " + String.join(", ", plan.drop()));
+            LOG.info("Dropped audit_log partitions {} (retention {} months)", plan.drop(), auditProperties.getRetentionMonths());
+        }
+    }
+
+    private Map<String, LocalDate> partitions() {
+        Map<String, LocalDate> partitions = new LinkedHashMap<>();
+        jdbcTemplate.query(PARTITIONS_SQL, rs -> {
+            partitions.put(rs.getString(1), parseBound(rs.getString(2)));
+        });
+        return partitions;
+    }
+
+    /**
+     * Parses a RANGE COLUMNS bound such as {@code '2026-11-01 00:00:00'}; {@code MAXVALUE} yields {@code null}.
+     */
+    static LocalDate parseBound(String description) {
+        if (description == null) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        if (value.isEmpty() || "MAXVALUE".equalsIgnoreCase(value)) {
+            return null;
+        }
+        return LocalDate.parse(value.substring(0, 10));
+    }
+}
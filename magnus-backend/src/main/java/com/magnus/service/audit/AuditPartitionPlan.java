@@ -0,0 +1,65 @@
+package com.magnus.service.audit;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The partition changes that bring the monthly {@code audit_log} partitions up to date.
+ * <p>
+ * Monthly partitions are named {@code pYYYYMM} and hold the rows of that month; {@code p_future}
+ * ({@code MAXVALUE}) catches anything beyond the last month and is split to add months, so new
+ * months must come after the last existing one. Any partition whose upper bound is at or before the
+ * retention cutoff is dropped.
+ *
+ * @param add the months to create, in order.
+ * @param drop the partitions to drop.
+ */
+public record AuditPartitionPlan(List<YearMonth> add, List<String> drop) {
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    /**
+     * @param upperBounds the existing partitions and their exclusive upper bound ({@code null} for {@code MAXVALUE}).
+     * @param today the current date.
+     * @param partitionsAhead how many months after the current one must already exist.
+     * @param retentionMonths how many full months before the current one are kept.
+     */
+    public static AuditPartitionPlan of(Map<String, LocalDate> upperBounds, LocalDate today, int partitionsAhead, int retentionMonths) {
+        YearMonth current = YearMonth.from(today);
+        LocalDate cutoff = current.minusMonths(retentionMonths).atDay(1);
+        LocalDate highest = null;
+        List<String> drop = new ArrayList<>();
+        for (Map.Entry<String, LocalDate> partition : upperBounds.entrySet()) {
+            LocalDate bound = partition.getValue();
+            if (bound == null) {
+                continue;
+            }
+            if (highest == null || bound.isAfter(highest)) {
+                highest = bound;
+            }
+            if (!bound.isAfter(cutoff)) {
+                drop.add(partition.getKey());
+            }
+        }
+        drop.sort(null);
+        List<YearMonth> add = new ArrayList<>();
+        YearMonth next = highest != null ? YearMonth.from(highest) : current;
+        for (YearMonth last = current.plusMonths(partitionsAhead); !next.isAfter(last); next = next.plusMonths(1)) {
+            add.add(next);
+        }
+        return new AuditPartitionPlan(List.copyOf(add), List.copyOf(drop));
+    }
+
+    public boolean isEmpty() {
+        return add.isEmpty() && drop.isEmpty();
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(MONTH_NAME);
+    }
+}
@@ -0,0 +1,239 @@
+package com.magnus.service.audit;
+
+import com.magnus.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Buffers {@link AuditEntry}s in a bounded ring buffer and writes them to {@code audit_log} from a
+ * single background thread, so the cost of auditing is not paid by the request that caused it.
+ * <p>
+ * The writer drains up to {@code batch-size} entries at a time and inserts them with one JDBC batch
+ * in one transaction (rewritten into multi-row inserts by the MySQL driver). When the buffer is
+ * full, the configured {@link ApplicationProperties.Audit.OverflowPolicy} decides which entry is
+ * lost; dropped entries are counted, never silently ignored.
+ * <p>
+ * The transaction manager is resolved on the first write: the writer is reached from the Hibernate
+ * listeners, which are created before the JPA transaction manager exists.
+ */
+@Component
+public class AuditTrailWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditTrailWriter.class);
+
+    public static final String METER_PREFIX = "audit.writer";
+
+    static final String INSERT_SQL =
+        "insert into audit_log (entity_type, entity_id, action, field_name, old_value, new_value, user_id, timestamp) " +
+        "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Audit auditProperties;
+
+    private final BlockingQueue<AuditEntry> buffer;
+
+    private final Counter writtenCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public AuditTrailWriter(
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<PlatformTransactionManager> transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.auditProperties = applicationProperties.getAudit();
+        this.buffer = new ArrayBlockingQueue<>(auditProperties.getBufferCapacity());
+
+        Gauge.builder(METER_PREFIX + ".buffer.size", buffer, BlockingQueue::size)
+            .description("Audit entries waiting to be written")
+            .register(meterRegistry);
+        this.writtenCounter = outcomeCounter(meterRegistry, "written");
+        this.droppedCounter = outcomeCounter(meterRegistry, "dropped");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+        this.batchTimer = Timer.builder(METER_PREFIX + ".batch").description("Time to write one audit batch").register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METER_PREFIX + ".entries")
+            .description("Audit entries handled by the writer, by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "magnus-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops accepting work and writes whatever is still buffered.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    /**
+     * Buffers entries for writing, applying the overflow policy when the buffer is full.
+     *
+     * @param entries the entries.
+     * @return the number of entries dropped.
+     */
+    public int enqueue(List<AuditEntry> entries) {
+        int dropped = 0;
+        for (AuditEntry entry : entries) {
+            if (!offer(entry)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            LOG.warn("Audit buffer full, dropped {} audit entries ({})", dropped, auditProperties.getOverflowPolicy());
+        }
+        return dropped;
+    }
+
+    private boolean offer(AuditEntry entry) {
+        switch (auditProperties.getOverflowPolicy()) {
+            case DROP_NEWEST:
+                return buffer.offer(entry);
+            case DROP_OLDEST:
+                boolean evicted = false;
+                while (!buffer.offer(entry)) {
+                    evicted |= buffer.poll() != null;
+                }
+                return !evicted;
+            case BLOCK:
+            default:
+                try {
+                    return buffer.offer(entry, auditProperties.getBlockTimeoutMs(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+        }
+    }
+
+    private void run() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                drain(auditProperties.getFlushIntervalMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        LOG.debug("Audit writer stopped");
+    }
+
+    /**
+     * Waits up to {@code waitMs} for an entry and writes it together with whatever else is buffered,
+     * up to one batch.
+     *
+     * @return the number of entries written.
+     */
+    int drain(long waitMs) throws InterruptedException {
+        AuditEntry first = buffer.poll(waitMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<AuditEntry> batch = new ArrayList<>(auditProperties.getBatchSize());
+        batch.add(first);
+        buffer.drainTo(batch, auditProperties.getBatchSize() - 1);
+        try {
+            batchTimer.record(() -> transactionTemplate().executeWithoutResult(status -> write(batch)));
+            writtenCounter.increment(batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            LOG.error("Unable to write {} audit entries: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        if (transactionTemplate == null) {
+            transactionTemplate = new TransactionTemplate(transactionManager.getObject());
+        }
+        return transactionTemplate;
+    }
+
+    private void write(List<AuditEntry> batch) {
+        Calendar utc = Calendar.getInstance(UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            ps.setString(1, truncate(entry.entityType(), 50));
+            ps.setString(2, truncate(entry.entityId(), 100));
+            ps.setString(3, entry.action().name());
+            ps.setString(4, truncate(entry.fieldName(), 100));
+            setText(ps, 5, entry.oldValue());
+            setText(ps, 6, entry.newValue());
+            ps.setString(7, truncate(entry.userId(), 50));
+            ps.setTimestamp(8, Timestamp.from(entry.timestamp()), utc);
+        });
+    }
+
+    private static void setText(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.CLOB);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+}
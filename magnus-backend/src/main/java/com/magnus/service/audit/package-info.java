@@ -0,0 +1,4 @@
+/**
+ * Audit trail: entity change capture and the asynchronous audit log writer.
+ */
+package com.magnus.service.audit;
@@ -0,0 +1,60 @@
+package com.magnus.service.budget;
+
+import java.math.BigDecimal;
+
+/**
+ * Accumulated change of one budget's item totals within a transaction. A delta whose item changes
+ * could not be computed (no previous state) asks for a full reconciliation instead.
+ */
+final class BudgetTotalsDelta {
+
+    static final String MENU = "menu";
+
+    static final String ACTIVITY = "activity";
+
+    static final String TRANSPORT = "transport";
+
+    static final String ACCOMMODATION = "accommodation";
+
+    BigDecimal amount = BigDecimal.ZERO;
+
+    BigDecimal cost = BigDecimal.ZERO;
+
+    BigDecimal meals = BigDecimal.ZERO;
+
+    BigDecimal activities = BigDecimal.ZERO;
+
+    BigDecimal transport = BigDecimal.ZERO;
+
+    BigDecimal accommodation = BigDecimal.ZERO;
+
+    boolean reconcile;
+
+    /**
+     * Adds ({@code sign} 1) or removes ({@code sign} -1) the contribution of an item.
+     */
+    void add(String itemType, BigDecimal totalPrice, BigDecimal totalCost, int sign) {
+        BigDecimal price = signed(totalPrice, sign);
+        amount = amount.add(price);
+        cost = cost.add(signed(totalCost, sign));
+        if (itemType == null) {
+            return;
+        }
+        switch (itemType) {
+            case MENU -> meals = meals.add(price);
+            case ACTIVITY -> activities = activities.add(price);
+            case TRANSPORT -> transport = transport.add(price);
+            case ACCOMMODATION -> accommodation = accommodation.add(price);
+            default -> {
+                // only counted in the total
+            }
+        }
+    }
+
+    private static BigDecimal signed(BigDecimal value, int sign) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return sign < 0 ? value.negate() : value;
+    }
+}
@@ -0,0 +1,176 @@
+package com.magnus.service.budget;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.Budget;
+import com.magnus.domain.BudgetItem;
+import com.magnus.domain.Payment;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate listener turning {@link BudgetItem} and {@link Payment} writes into per-budget
+ * {@link BudgetTotalsDelta}s.
+ * <p>
+ * Deltas are accumulated per session and handed to {@link BudgetTotalsService} right before the
+ * transaction completes, on the same connection, so a batch of 100 item changes costs one statement
+ * per touched budget and rolls back with the changes. The second-level cache entry of each touched
+ * budget is evicted once the transaction has committed.
+ */
+@Component
+public class BudgetTotalsListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String BUDGET = "budget";
+
+    private final BudgetTotalsService budgetTotalsService;
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<EventSource, Map<Long, BudgetTotalsDelta>> pending = new ConcurrentHashMap<>();
+
+    public BudgetTotalsListener(BudgetTotalsService budgetTotalsService, ApplicationProperties applicationProperties) {
+        this.budgetTotalsService = budgetTotalsService;
+        this.enabled = applicationProperties.getBudgetTotals().isEnabled();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!enabled) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        if (isItem(persister)) {
+            addItem(event.getSession(), persister, event.getState(), 1);
+        } else if (isPayment(persister)) {
+            touch(event.getSession(), persister, event.getState());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!enabled) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        if (isItem(persister)) {
+            if (event.getOldState() == null) {
+                Long budgetId = budgetId(event.getSession(), persister, event.getState());
+                if (budgetId != null) {
+                    deltas(event.getSession()).computeIfAbsent(budgetId, id -> new BudgetTotalsDelta()).reconcile = true;
+                }
+                return;
+            }
+            addItem(event.getSession(), persister, event.getOldState(), -1);
+            addItem(event.getSession(), persister, event.getState(), 1);
+        } else if (isPayment(persister)) {
+            if (event.getOldState() != null) {
+                touch(event.getSession(), persister, event.getOldState());
+            }
+            touch(event.getSession(), persister, event.getState());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!enabled) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        if (isItem(persister)) {
+            addItem(event.getSession(), persister, event.getDeletedState(), -1);
+        } else if (isPayment(persister)) {
+            touch(event.getSession(), persister, event.getDeletedState());
+        }
+    }
+
+    private void addItem(EventSource session, EntityPersister persister, Object[] state, int sign) {
+        Long budgetId = budgetId(session, persister, state);
+        if (budgetId == null) {
+            return;
+        }
+        deltas(session)
+            .computeIfAbsent(budgetId, id -> new BudgetTotalsDelta())
+            .add(
+                (String) state[persister.getPropertyIndex("itemType")],
+                (BigDecimal) state[persister.getPropertyIndex("totalPrice")],
+                (BigDecimal) state[persister.getPropertyIndex("totalCost")],
+                sign
+            );
+    }
+
+    /**
+     * Registers the budget of a payment so that its payment status is re-derived.
+     */
+    private void touch(EventSource session, EntityPersister persister, Object[] state) {
+        Long budgetId = budgetId(session, persister, state);
+        if (budgetId != null) {
+            deltas(session).computeIfAbsent(budgetId, id -> new BudgetTotalsDelta());
+        }
+    }
+
+    private Map<Long, BudgetTotalsDelta> deltas(EventSource session) {
+        Map<Long, BudgetTotalsDelta> deltas = pending.get(session);
+        if (deltas != null) {
+            return deltas;
+        }
+        Map<Long, BudgetTotalsDelta> created = new HashMap<>();
+        pending.put(session, created);
+        session
+            .getActionQueue()
+            .registerProcess(
+                (BeforeTransactionCompletionProcess) completingSession -> {
+                    Map<Long, BudgetTotalsDelta> committing = pending.remove(session);
+                    if (committing != null && !committing.isEmpty()) {
+                        completingSession.doWork(connection -> budgetTotalsService.apply(connection, committing));
+                    }
+                }
+            );
+        session
+            .getActionQueue()
+            .registerProcess(
+                (AfterTransactionCompletionProcess) (success, completedSession) -> {
+                    pending.remove(session);
+                    if (success) {
+                        created.keySet().forEach(id -> completedSession.getFactory().getCache().evictEntityData(Budget.class, id));
+                    }
+                }
+            );
+        return created;
+    }
+
+    private static Long budgetId(EventSource session, EntityPersister persister, Object[] state) {
+        Object budget = state[persister.getPropertyIndex(BUDGET)];
+        if (budget == null) {
+            return null;
+        }
+        Object id = session.getFactory().getPersistenceUnitUtil().getIdentifier(budget);
+        return id instanceof Long budgetId ? budgetId : null;
+    }
+
+    private static boolean isItem(EntityPersister persister) {
+        return Objects.equals(persister.getEntityName(), BudgetItem.class.getName());
+    }
+
+    private static boolean isPayment(EntityPersister persister) {
+        return Objects.equals(persister.getEntityName(), Payment.class.getName());
+    }
+}
@@ -0,0 +1,314 @@
+package com.magnus.service.budget;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.Budget;
+import com.magnus.service.analytics.BudgetRollupService;
+import com.magnus.service.concurrency.EntityVersionSnapshotStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the denormalized totals of {@link Budget} ({@code totalAmount}, {@code totalCost}, the four
+ * category amounts, {@code profitMargin} as a percentage of the total, and {@code paymentStatus})
+ * in line with its items and confirmed payments.
+ * <p>
+ * Item changes arrive as per-budget deltas from {@link BudgetTotalsListener} and are added in one
+ * atomic {@code UPDATE} per budget, so concurrent item edits never re-sum or lose each other's
+ * changes. The payment status is re-derived from the budget's confirmed payments in the same
+ * statement. Every change bumps the budget {@code version}, so a client update still carrying the
+ * old totals is merged instead of overwriting them; as no Hibernate listener sees these versions,
+ * their snapshots are recorded through {@link EntityVersionSnapshotStore} on the same connection.
+ * Drift (manual edits, failed deltas) is repaired
+ * by {@link #reconcile(Long)}: one statement re-summing a single budget that only writes when a
+ * value differs.
+ * <p>
+ * The service is reached from the Hibernate listeners while the entity manager factory is still
+ * being built, so the factory is only looked up when a repaired budget has to be evicted.
+ */
+@Service
+public class BudgetTotalsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BudgetTotalsService.class);
+
+    public static final String METER_PREFIX = "budget.totals";
+
+    // profit_margin and payment_status are assigned first and only read the previous totals, so the
+    // result does not depend on whether the database evaluates assignments left to right
+    static final String APPLY_DELTA_SQL =
+        "update budget set " +
+        "profit_margin = case when total_amount + ? = 0 then null " +
+        "else round((total_amount + ? - coalesce(total_cost, 0) - ?) * 100 / (total_amount + ?), 2) end, " +
+        "payment_status = (select case when coalesce(sum(p.amount), 0) <= 0 then 'UNPAID' " +
+        "when sum(p.amount) >= budget.total_amount + ? then 'PAID' else 'PARTIALLY_PAID' end " +
+        "from payment p where p.budget_id = budget.id and p.is_confirmed = true), " +
+        "total_amount = total_amount + ?, " +
+        "total_cost = coalesce(total_cost, 0) + ?, " +
+        "meals_amount = coalesce(meals_amount, 0) + ?, " +
+        "activities_amount = coalesce(activities_amount, 0) + ?, " +
+        "transport_amount = coalesce(transport_amount, 0) + ?, " +
+        "accommodation_amount = coalesce(accommodation_amount, 0) + ?, " +
+        "version = version + 1, " +
+        "updated_at = ? " +
+        "where id = ?";
+
+    static final String RECONCILE_SQL =
+        "update budget b join (" +
+        "select t.*, " +
+        "case when t.total_amount = 0 then null else round((t.total_amount - t.total_cost) * 100 / t.total_amount, 2) end as profit_margin, " +
+        "case when p.paid <= 0 then 'UNPAID' when p.paid >= t.total_amount then 'PAID' else 'PARTIALLY_PAID' end as payment_status " +
+        "from (select coalesce(sum(i.total_price), 0) as total_amount, " +
+        "coalesce(sum(i.total_cost), 0) as total_cost, " +
+        "coalesce(sum(case when i.item_type = 'menu' then i.total_price end), 0) as meals_amount, " +
+        "coalesce(sum(case when i.item_type = 'activity' then i.total_price end), 0) as activities_amount, " +
+        "coalesce(sum(case when i.item_type = 'transport' then i.total_price end), 0) as transport_amount, " +
+        "coalesce(sum(case when i.item_type = 'accommodation' then i.total_price end), 0) as accommodation_amount " +
+        "from budget_item i where i.budget_id = ?) t " +
+        "cross join (select coalesce(sum(pay.amount), 0) as paid from payment pay where pay.budget_id = ? and pay.is_confirmed = true) p" +
+        ") e " +
+        "set b.total_amount = e.total_amount, b.total_cost = e.total_cost, b.profit_margin = e.profit_margin, " +
+        "b.meals_amount = e.meals_amount, b.activities_amount = e.activities_amount, " +
+        "b.transport_amount = e.transport_amount, b.accommodation_amount = e.accommodation_amount, " +
+        "b.payment_status = e.payment_status, b.version = b.version + 1, b.updated_at = ? " +
+        "where b.id = ? and not (b.total_amount <=> e.total_amount and b.total_cost <=> e.total_cost " +
+        "and b.profit_margin <=> e.profit_margin and b.meals_amount <=> e.meals_amount " +
+        "and b.activities_amount <=> e.activities_amount and b.transport_amount <=> e.transport_amount " +
+        "and b.accommodation_amount <=> e.accommodation_amount and b.payment_status <=> e.payment_status)";
+
+    // the columns written above, read back to snapshot the new versions
+    private static final String WRITTEN_SQL =
+        "select version, total_amount, total_cost, profit_margin, meals_amount, activities_amount, transport_amount, " +
+        "accommodation_amount, payment_status, updated_at from budget where id = ?";
+
+    private static final String OPEN_BUDGETS_SQL = "select id from budget where is_closed = false and id > ? order by id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    private final BudgetRollupService budgetRollupService;
+
+    private final EntityVersionSnapshotStore snapshotStore;
+
+    private final ApplicationProperties.BudgetTotals properties;
+
+    private final Counter deltasApplied;
+
+    private final Counter driftRepaired;
+
+    private final Counter failures;
+
+    public BudgetTotalsService(
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<EntityManagerFactory> entityManagerFactory,
+        BudgetRollupService budgetRollupService,
+        EntityVersionSnapshotStore snapshotStore,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.budgetRollupService = budgetRollupService;
+        this.snapshotStore = snapshotStore;
+        this.properties = applicationProperties.getBudgetTotals();
+        this.deltasApplied = Counter.builder(METER_PREFIX + ".deltas")
+            .description("Budgets updated from item and payment changes")
+            .register(meterRegistry);
+        this.driftRepaired = Counter.builder(METER_PREFIX + ".drift")
+            .description("Budgets whose totals were repaired by reconciliation")
+            .register(meterRegistry);
+        this.failures = Counter.builder(METER_PREFIX + ".failures")
+            .description("Budget total updates that failed and are left to reconciliation")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Applies the deltas of a committing transaction on its connection.
+     */
+    void apply(Connection connection, Map<Long, BudgetTotalsDelta> deltas) {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (
+            PreparedStatement delta = connection.prepareStatement(APPLY_DELTA_SQL);
+            PreparedStatement reconcile = connection.prepareStatement(RECONCILE_SQL)
+        ) {
+            List<Long> written = new ArrayList<>();
+            List<Long> batched = new ArrayList<>();
+            for (Map.Entry<Long, BudgetTotalsDelta> entry : deltas.entrySet()) {
+                Long budgetId = entry.getKey();
+                BudgetTotalsDelta d = entry.getValue();
+                if (d.reconcile) {
+                    bindReconcile(reconcile, budgetId, now);
+                    if (reconcile.executeUpdate() > 0) {
+                        written.add(budgetId);
+                    }
+                    continue;
+                }
+                delta.setBigDecimal(1, d.amount);
+                delta.setBigDecimal(2, d.amount);
+                delta.setBigDecimal(3, d.cost);
+                delta.setBigDecimal(4, d.amount);
+                delta.setBigDecimal(5, d.amount);
+                delta.setBigDecimal(6, d.amount);
+                delta.setBigDecimal(7, d.cost);
+                delta.setBigDecimal(8, d.meals);
+                delta.setBigDecimal(9, d.activities);
+                delta.setBigDecimal(10, d.transport);
+                delta.setBigDecimal(11, d.accommodation);
+                delta.setTimestamp(12, now);
+                delta.setLong(13, budgetId);
+                delta.addBatch();
+                batched.add(budgetId);
+            }
+            if (!batched.isEmpty()) {
+                int[] counts = delta.executeBatch();
+                for (int i = 0; i < counts.length; i++) {
+                    // SUCCESS_NO_INFO when the driver rewrites the batch
+                    if (counts[i] != 0) {
+                        written.add(batched.get(i));
+                    }
+                }
+            }
+            deltasApplied.increment(deltas.size());
+            recordVersions(connection, written);
+        } catch (SQLException e) {
+            // the item and payment changes still commit, reconciliation repairs the totals
+            failures.increment();
+            LOG.error("Unable to update totals of budgets {} (SQL state {}), left to reconciliation", deltas.keySet(), e.getSQLState(), e);
+        }
+    }
+
+    /**
+     * Re-sums the items and confirmed payments of a budget and rewrites its totals if they drifted.
+     *
+     * @param budgetId the id of the budget.
+     * @return whether the totals had drifted.
+     */
+    public boolean reconcile(Long budgetId) {
+        boolean drifted = Boolean.TRUE.equals(
+            jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(RECONCILE_SQL)) {
+                    bindReconcile(statement, budgetId, Timestamp.from(Instant.now()));
+                    if (statement.executeUpdate() == 0) {
+                        return false;
+                    }
+                }
+                recordVersions(connection, List.of(budgetId));
+                return true;
+            })
+        );
+        if (drifted) {
+            driftRepaired.increment();
+            entityManagerFactory.getObject().getCache().evict(Budget.class, budgetId);
+            // written by SQL, so no listener sees it
+            budgetRollupService.markDirty(budgetId);
+            LOG.debug("Repaired drifted totals of Budget {}", budgetId);
+        }
+        return drifted;
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.budget-totals.reconcile-interval-ms:21600000}",
+        fixedDelayString = "${application.budget-totals.reconcile-interval-ms:21600000}"
+    )
+    public void scheduledReconcile() {
+        if (!properties.isReconcileEnabled()) {
+            return;
+        }
+        try {
+            reconcileOpenBudgets();
+        } catch (Exception e) {
+            LOG.warn("Budget totals reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconciles every budget that is not closed, in id order.
+     *
+     * @return the number of budgets whose totals had drifted.
+     */
+    public int reconcileOpenBudgets() {
+        int batchSize = properties.getReconcileBatchSize();
+        long afterId = 0;
+        int repaired = 0;
+        int checked = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(OPEN_BUDGETS_SQL, Long.class, afterId, batchSize);
+            for (Long id : ids) {
+                if (reconcile(id)) {
+                    repaired++;
+                }
+            }
+            checked += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (repaired > 0) {
+            LOG.info("Repaired totals of {} of {} open budgets", repaired, checked);
+        }
+        return repaired;
+    }
+
+    private void recordVersions(Connection connection, List<Long> budgetIds) {
+        if (budgetIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<String, Object>> versions = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(WRITTEN_SQL)) {
+            for (Long budgetId : budgetIds) {
+                statement.setLong(1, budgetId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        versions.put(budgetId, written(resultSet));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Unable to read the new versions of budgets {}, no snapshots recorded: {}", budgetIds, e.getMessage());
+            return;
+        }
+        snapshotStore.recordSqlVersions(connection, Budget.class.getSimpleName(), versions);
+    }
+
+    // keyed by the Budget property names, as the snapshots are
+    private static Map<String, Object> written(ResultSet resultSet) throws SQLException {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("version", resultSet.getInt("version"));
+        fields.put("totalAmount", resultSet.getBigDecimal("total_amount"));
+        fields.put("totalCost", resultSet.getBigDecimal("total_cost"));
+        fields.put("profitMargin", resultSet.getBigDecimal("profit_margin"));
+        fields.put("mealsAmount", resultSet.getBigDecimal("meals_amount"));
+        fields.put("activitiesAmount", resultSet.getBigDecimal("activities_amount"));
+        fields.put("transportAmount", resultSet.getBigDecimal("transport_amount"));
+        fields.put("accommodationAmount", resultSet.getBigDecimal("accommodation_amount"));
+        fields.put("paymentStatus", resultSet.getString("payment_status"));
+        Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+        fields.put("updatedAt", updatedAt != null ? updatedAt.toInstant() : null);
+        return fields;
+    }
+
+    private static void bindReconcile(PreparedStatement statement, Long budgetId, Timestamp now) throws SQLException {
+        statement.setLong(1, budgetId);
+        statement.setLong(2, budgetId);
+        statement.setTimestamp(3, now);
+        statement.setLong(4, budgetId);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Budget totals: incremental aggregation of item amounts and payments into {@link com.magnus.domain.Budget}.
+ */
+package com.magnus.service.budget;
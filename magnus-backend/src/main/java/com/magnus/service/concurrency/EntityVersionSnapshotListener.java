@@ -0,0 +1,158 @@
+package com.magnus.service.concurrency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.magnus.config.ApplicationProperties;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate listener recording the field values of every version written of the optimistically
+ * locked entities, so that a stale update can later be merged against the version it was based on.
+ * <p>
+ * The snapshots of a transaction are inserted in one JDBC batch on the same connection right before
+ * the transaction completes, so they commit or roll back with the change itself. Values are flattened the way {@link FieldValues}
+ * flattens DTOs: associations by id, collections left out.
+ */
+@Component
+public class EntityVersionSnapshotListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityVersionSnapshotListener.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final Set<String> entities;
+
+    // snapshots captured by each open session, written when its transaction completes
+    private final Map<EventSource, List<Snapshot>> pending = new WeakHashMap<>();
+
+    public EntityVersionSnapshotListener(ObjectMapper objectMapper, ApplicationProperties applicationProperties) {
+        this.objectMapper = objectMapper;
+        this.entities = Set.copyOf(applicationProperties.getConcurrency().getVersionedEntities());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getPersister(), event.getId(), event.getState());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getPersister(), event.getId(), event.getState());
+    }
+
+    private void capture(EventSource session, EntityPersister persister, Object id, Object[] state) {
+        String entityType = entityType(persister);
+        if (!persister.isVersioned() || !entities.contains(entityType) || !(id instanceof Long entityId)) {
+            return;
+        }
+        Object version = state[persister.getVersionProperty()];
+        if (!(version instanceof Integer versionNumber)) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(flatten(session, persister, state));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            LOG.warn("Unable to snapshot {} {} version {}: {}", entityType, entityId, versionNumber, e.getMessage());
+            return;
+        }
+        Snapshot snapshot = new Snapshot(entityType, entityId, versionNumber, json, Timestamp.from(Instant.now()));
+        List<Snapshot> batch;
+        boolean firstOfTransaction;
+        synchronized (pending) {
+            batch = pending.get(session);
+            firstOfTransaction = batch == null;
+            if (firstOfTransaction) {
+                batch = new ArrayList<>();
+                pending.put(session, batch);
+            }
+        }
+        batch.add(snapshot);
+        if (firstOfTransaction) {
+            session
+                .getActionQueue()
+                .registerProcess((BeforeTransactionCompletionProcess) completingSession -> write(completingSession, drain(session)));
+            // a rolled back transaction never runs the process above
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completedSession) -> drain(session));
+        }
+    }
+
+    private List<Snapshot> drain(EventSource session) {
+        synchronized (pending) {
+            return pending.remove(session);
+        }
+    }
+
+    private static void write(SessionImplementor session, List<Snapshot> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(EntityVersionSnapshotStore.INSERT_SQL)) {
+                for (Snapshot snapshot : batch) {
+                    statement.setString(1, snapshot.entityType());
+                    statement.setLong(2, snapshot.entityId());
+                    statement.setInt(3, snapshot.version());
+                    statement.setString(4, snapshot.state());
+                    statement.setTimestamp(5, snapshot.createdAt());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } catch (SQLException e) {
+                // a missing snapshot only turns a later merge into a conflict, never fail the business change
+                LOG.warn("Unable to store {} entity version snapshots: {}", batch.size(), e.getMessage());
+            }
+        });
+    }
+
+    private Map<String, String> flatten(EventSource session, EntityPersister persister, Object[] state) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (types[i].isCollectionType()) {
+                continue;
+            }
+            Object value = state[i];
+            if (value != null && types[i].isEntityType()) {
+                value = session.getFactory().getPersistenceUnitUtil().getIdentifier(value);
+            }
+            values.put(names[i], FieldValues.normalize(objectMapper.valueToTree(value)));
+        }
+        return values;
+    }
+
+    private static String entityType(EntityPersister persister) {
+        String entityName = persister.getEntityName();
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+
+    private record Snapshot(String entityType, long entityId, int version, String state, Timestamp createdAt) {}
+}
@@ -0,0 +1,135 @@
+package com.magnus.service.concurrency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.magnus.config.ApplicationProperties;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and expires the rows written by {@link EntityVersionSnapshotListener}, and records the versions
+ * written by SQL that the listener never sees.
+ */
+@Component
+public class EntityVersionSnapshotStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EntityVersionSnapshotStore.class);
+
+    static final String INSERT_SQL =
+        "insert into entity_version_snapshot (entity_type, entity_id, version, state, created_at) values (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SQL = "select state from entity_version_snapshot where entity_type = ? and entity_id = ? and version = ?";
+
+    private static final String PURGE_SQL = "delete from entity_version_snapshot where created_at < ?";
+
+    private static final TypeReference<Map<String, String>> STATE_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration retention;
+
+    public EntityVersionSnapshotStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = applicationProperties.getConcurrency().getSnapshotRetention();
+    }
+
+    /**
+     * @return the field values of the given version, if it is still retained.
+     */
+    public Optional<Map<String, String>> find(String entityType, Long entityId, Integer version) {
+        List<String> states = jdbcTemplate.queryForList(SELECT_SQL, String.class, entityType, entityId, version);
+        if (states.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(states.get(0), STATE_TYPE));
+        } catch (JsonProcessingException e) {
+            LOG.warn("Unreadable snapshot of {} {} version {}: {}", entityType, entityId, version, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records versions written by SQL on the connection that wrote them: the snapshot of each version
+     * is the one of the previous version with the given fields replaced. A version whose previous
+     * snapshot is no longer retained gets none, so a merge against it falls back to conflicts as for
+     * an expired one. Failures are logged, never thrown.
+     *
+     * @param connection the connection of the writing transaction.
+     * @param entityType the simple name of the entity.
+     * @param versions the written field values by entity id, including the new {@code version}.
+     */
+    public void recordSqlVersions(Connection connection, String entityType, Map<Long, Map<String, Object>> versions) {
+        if (versions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        try (
+            PreparedStatement select = connection.prepareStatement(SELECT_SQL);
+            PreparedStatement insert = connection.prepareStatement(INSERT_SQL)
+        ) {
+            boolean batched = false;
+            for (Map.Entry<Long, Map<String, Object>> entry : versions.entrySet()) {
+                Long entityId = entry.getKey();
+                Map<String, Object> fields = entry.getValue();
+                int version = ((Number) fields.get(FieldValues.VERSION)).intValue();
+                Map<String, String> state = previousState(select, entityType, entityId, version - 1);
+                if (state == null) {
+                    continue;
+                }
+                fields.forEach((field, value) -> state.put(field, FieldValues.normalize(objectMapper.valueToTree(value))));
+                insert.setString(1, entityType);
+                insert.setLong(2, entityId);
+                insert.setInt(3, version);
+                insert.setString(4, objectMapper.writeValueAsString(state));
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                batched = true;
+            }
+            if (batched) {
+                insert.executeBatch();
+            }
+        } catch (SQLException | JsonProcessingException e) {
+            // a missing snapshot only turns a later merge into a conflict, never fail the business change
+            LOG.warn("Unable to store {} snapshots of {} {}: {}", versions.size(), entityType, versions.keySet(), e.getMessage());
+        }
+    }
+
+    private Map<String, String> previousState(PreparedStatement select, String entityType, Long entityId, int version)
+        throws SQLException, JsonProcessingException {
+        select.setString(1, entityType);
+        select.setLong(2, entityId);
+        select.setInt(3, version);
+        try (ResultSet resultSet = select.executeQuery()) {
+            return resultSet.next() ? objectMapper.readValue(resultSet.getString(1), STATE_TYPE) : null;
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.concurrency.snapshot-purge-interval-ms:3600000}",
+        fixedDelayString = "${application.concurrency.snapshot-purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.from(Instant.now().minus(retention)));
+        if (purged > 0) {
+            LOG.debug("Purged {} entity version snapshots older than {}", purged, retention);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.magnus.service.concurrency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flattens an entity or DTO tree into comparable field values: numbers are compared by value
+ * (so {@code 10.50} equals {@code 10.5}), associations by id, and collections are left out.
+ */
+final class FieldValues {
+
+    static final String ID = "id";
+
+    static final String VERSION = "version";
+
+    static final String CONFLICT_STATUS = "conflictStatus";
+
+    /**
+     * Bookkeeping fields that are never merged.
+     */
+    static final Set<String> NOT_MERGED = Set.of(ID, VERSION, CONFLICT_STATUS);
+
+    private FieldValues() {}
+
+    /**
+     * @param tree the JSON object.
+     * @param skipNulls whether absent/{@code null} fields are left out (PATCH semantics).
+     * @return the comparable value of each field.
+     */
+    static Map<String, String> of(JsonNode tree, boolean skipNulls) {
+        Map<String, String> values = new HashMap<>();
+        tree
+            .fields()
+            .forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (value.isArray() || (skipNulls && value.isNull())) {
+                    return;
+                }
+                values.put(field.getKey(), normalize(value));
+            });
+        return values;
+    }
+
+    static String normalize(JsonNode value) {
+        if (value == null || value.isNull() || value.isMissingNode()) {
+            return null;
+        }
+        if (value.isObject()) {
+            return value.has(ID) ? normalize(value.get(ID)) : value.toString();
+        }
+        if (value.isNumber()) {
+            return value.decimalValue().stripTrailingZeros().toPlainString();
+        }
+        return value.asText();
+    }
+}
@@ -0,0 +1,143 @@
+package com.magnus.service.concurrency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.magnus.domain.AppUser;
+import com.magnus.domain.ConflictResolution;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.repository.AppUserRepository;
+import com.magnus.repository.ConflictResolutionRepository;
+import com.magnus.security.SecurityUtils;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reconciles an update carrying a stale {@code version} with the committed state instead of
+ * rejecting it.
+ * <p>
+ * The committed state is only materialized when the versions differ. The update is then three-way
+ * merged ({@link ThreeWayMerge}) against the snapshot of the version the client read: fields only
+ * the client changed are applied, fields only someone else changed are kept, and fields both changed
+ * keep the committed value and are recorded as an unresolved {@link ConflictResolution}
+ * ({@value #KEEP_REMOTE}). The returned update carries the committed version, so a writer committing
+ * between this check and the flush still fails the {@code @Version} check.
+ */
+@Service
+public class OptimisticMergeService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OptimisticMergeService.class);
+
+    static final String KEEP_REMOTE = "KEEP_REMOTE";
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityVersionSnapshotStore snapshotStore;
+
+    private final ConflictResolutionRepository conflictResolutionRepository;
+
+    private final AppUserRepository appUserRepository;
+
+    public OptimisticMergeService(
+        ObjectMapper objectMapper,
+        EntityVersionSnapshotStore snapshotStore,
+        ConflictResolutionRepository conflictResolutionRepository,
+        AppUserRepository appUserRepository
+    ) {
+        this.objectMapper = objectMapper;
+        this.snapshotStore = snapshotStore;
+        this.conflictResolutionRepository = conflictResolutionRepository;
+        this.appUserRepository = appUserRepository;
+    }
+
+    /**
+     * Must be called within the transaction applying the update.
+     *
+     * @param entityClass the updated entity.
+     * @param local the update sent by the client.
+     * @param localVersion the version the client read, {@code null} to overwrite unconditionally.
+     * @param currentVersion the committed version.
+     * @param current the committed state as a DTO, only invoked for a stale update.
+     * @param partial whether {@code local} is a partial update ({@code null} fields untouched).
+     * @return the update to apply, carrying {@code currentVersion}.
+     */
+    @SuppressWarnings("unchecked")
+    public <D> D reconcile(Class<?> entityClass, D local, Integer localVersion, Integer currentVersion, Supplier<D> current, boolean partial) {
+        if (Objects.equals(localVersion, currentVersion) || (localVersion == null && partial)) {
+            return local;
+        }
+        ObjectNode localTree = objectMapper.valueToTree(local);
+        if (localVersion == null) {
+            localTree.put(FieldValues.VERSION, currentVersion);
+            return convert(localTree, (Class<D>) local.getClass());
+        }
+        String entityType = entityClass.getSimpleName();
+        ObjectNode remoteTree = objectMapper.valueToTree(current.get());
+        Long id = remoteTree.get(FieldValues.ID).asLong();
+        Map<String, String> base = snapshotStore.find(entityType, id, localVersion).orElse(null);
+        ThreeWayMerge.Result result = ThreeWayMerge.merge(base, FieldValues.of(localTree, partial), FieldValues.of(remoteTree, false));
+
+        ObjectNode merged = partial ? objectMapper.createObjectNode() : remoteTree.deepCopy();
+        merged.set(FieldValues.ID, remoteTree.get(FieldValues.ID));
+        merged.put(FieldValues.VERSION, currentVersion);
+        result.fromLocal().forEach(field -> merged.set(field, localTree.get(field)));
+        if (!result.conflicts().isEmpty()) {
+            if (remoteTree.has(FieldValues.CONFLICT_STATUS)) {
+                merged.put(FieldValues.CONFLICT_STATUS, ConflictStatus.DETECTED.name());
+            }
+            record(entityType, id, result.conflicts());
+        }
+        LOG.debug(
+            "Merged stale update of {} {} (version {} onto {}{}): {} fields applied, {} conflicts",
+            entityType,
+            id,
+            localVersion,
+            currentVersion,
+            base == null ? ", base version expired" : "",
+            result.fromLocal().size(),
+            result.conflicts().size()
+        );
+        return convert(merged, (Class<D>) local.getClass());
+    }
+
+    private void record(String entityType, Long id, List<ThreeWayMerge.Conflict> conflicts) {
+        Instant now = Instant.now();
+        AppUser user = SecurityUtils.getCurrentUserLogin()
+            .flatMap(appUserRepository::findAudienceByLogin)
+            .map(row -> appUserRepository.getReferenceById(row.getId()))
+            .orElse(null);
+        conflictResolutionRepository.saveAll(
+            conflicts
+                .stream()
+                .map(conflict ->
+                    new ConflictResolution()
+                        .entityType(entityType)
+                        .entityId(String.valueOf(id))
+                        .fieldName(conflict.field())
+                        .localValue(conflict.local())
+                        .remoteValue(conflict.remote())
+                        .resolvedValue(conflict.remote())
+                        .resolutionStrategy(KEEP_REMOTE)
+                        .isResolved(false)
+                        .conflictDetectedAt(now)
+                        .createdAt(now)
+                        .conflictUser(user)
+                )
+                .toList()
+        );
+    }
+
+    private <D> D convert(ObjectNode tree, Class<D> type) {
+        try {
+            return objectMapper.treeToValue(tree, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to rebuild " + type.getSimpleName() + " after merge", e);
+        }
+    }
+}
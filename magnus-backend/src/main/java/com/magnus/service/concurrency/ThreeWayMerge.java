@@ -0,0 +1,67 @@
+package com.magnus.service.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Field-level three-way merge of a stale update.
+ * <p>
+ * {@code base} is the version the client started from, {@code local} the client's update and
+ * {@code remote} the currently committed version. For every field of the update: if the client
+ * did not change it, the committed value is kept; if only the client changed it, the client's
+ * value is taken; if both changed it to different values, it is a conflict. Without a base every
+ * difference is a conflict.
+ */
+public final class ThreeWayMerge {
+
+    /**
+     * A field changed concurrently to different values.
+     */
+    public record Conflict(String field, String base, String local, String remote) {}
+
+    /**
+     * @param fromLocal the fields whose value is taken from the local update.
+     * @param conflicts the conflicting fields, left at their committed value.
+     */
+    public record Result(List<String> fromLocal, List<Conflict> conflicts) {}
+
+    private ThreeWayMerge() {}
+
+    /**
+     * @param base the field values of the version the update was based on, or {@code null} if unknown.
+     * @param local the field values of the update; only these fields are merged.
+     * @param remote the field values of the committed version.
+     * @return the merge outcome, fields in name order.
+     */
+    public static Result merge(Map<String, String> base, Map<String, String> local, Map<String, String> remote) {
+        List<String> fromLocal = new ArrayList<>();
+        List<Conflict> conflicts = new ArrayList<>();
+        for (String field : new TreeSet<>(local.keySet())) {
+            if (FieldValues.NOT_MERGED.contains(field)) {
+                continue;
+            }
+            String localValue = local.get(field);
+            String remoteValue = remote.get(field);
+            if (Objects.equals(localValue, remoteValue)) {
+                continue;
+            }
+            if (base != null) {
+                String baseValue = base.get(field);
+                if (Objects.equals(remoteValue, baseValue)) {
+                    fromLocal.add(field);
+                    continue;
+                }
+                if (Objects.equals(localValue, baseValue)) {
+                    continue;
+                }
+                conflicts.add(new Conflict(field, baseValue, localValue, remoteValue));
+            } else {
+                conflicts.add(new Conflict(field, null, localValue, remoteValue));
+            }
+        }
+        return new Result(fromLocal, conflicts);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Optimistic concurrency: version snapshots and the three-way merge of stale updates.
+ */
+package com.magnus.service.concurrency;
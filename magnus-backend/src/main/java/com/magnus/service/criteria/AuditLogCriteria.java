@@ -0,0 +1,311 @@
+package com.magnus.service.criteria;
+
+import com.magnus.domain.enumeration.AuditAction;
+import com.magnus.domain.enumeration.UserRole;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.magnus.domain.AuditLog} entity. This class is used
+ * in {@link com.magnus.web.rest.AuditLogResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /audit-logs?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class AuditLogCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering AuditAction
+     */
+    public static class AuditActionFilter extends Filter<AuditAction> {
+
+        public AuditActionFilter() {}
+
+        public AuditActionFilter(AuditActionFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public AuditActionFilter copy() {
+            return new AuditActionFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering UserRole
+     */
+    public static class UserRoleFilter extends Filter<UserRole> {
+
+        public UserRoleFilter() {}
+
+        public UserRoleFilter(UserRoleFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public UserRoleFilter copy() {
+            return new UserRoleFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter entityType;
+
+    private StringFilter entityId;
+
+    private AuditActionFilter action;
+
+    private StringFilter userId;
+
+    private UserRoleFilter userRole;
+
+    private InstantFilter timestamp;
+
+    private LongFilter appUserId;
+
+    private Boolean distinct;
+
+    public AuditLogCriteria() {}
+
+    public AuditLogCriteria(AuditLogCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.entityType = other.optionalEntityType().map(StringFilter::copy).orElse(null);
+        this.entityId = other.optionalEntityId().map(StringFilter::copy).orElse(null);
+        this.action = other.optionalAction().map(AuditActionFilter::copy).orElse(null);
+        this.userId = other.optionalUserId().map(StringFilter::copy).orElse(null);
+        this.userRole = other.optionalUserRole().map(UserRoleFilter::copy).orElse(null);
+        this.timestamp = other.optionalTimestamp().map(InstantFilter::copy).orElse(null);
+        this.appUserId = other.optionalAppUserId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public AuditLogCriteria copy() {
+        return new AuditLogCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getEntityType() {
+        return entityType;
+    }
+
+    public Optional<StringFilter> optionalEntityType() {
+        return Optional.ofNullable(entityType);
+    }
+
+    public StringFilter entityType() {
+        if (entityType == null) {
+            setEntityType(new StringFilter());
+        }
+        return entityType;
+    }
+
+    public void setEntityType(StringFilter entityType) {
+        this.entityType = entityType;
+    }
+
+    public StringFilter getEntityId() {
+        return entityId;
+    }
+
+    public Optional<StringFilter> optionalEntityId() {
+        return Optional.ofNullable(entityId);
+    }
+
+    public StringFilter entityId() {
+        if (entityId == null) {
+            setEntityId(new StringFilter());
+        }
+        return entityId;
+    }
+
+    public void setEntityId(StringFilter entityId) {
+        this.entityId = entityId;
+    }
+
+    public AuditActionFilter getAction() {
+        return action;
+    }
+
+    public Optional<AuditActionFilter> optionalAction() {
+        return Optional.ofNullable(action);
+    }
+
+    public AuditActionFilter action() {
+        if (action == null) {
+            setAction(new AuditActionFilter());
+        }
+        return action;
+    }
+
+    public void setAction(AuditActionFilter action) {
+        this.action = action;
+    }
+
+    public StringFilter getUserId() {
+        return userId;
+    }
+
+    public Optional<StringFilter> optionalUserId() {
+        return Optional.ofNullable(userId);
+    }
+
+    public StringFilter userId() {
+        if (userId == null) {
+            setUserId(new StringFilter());
+        }
+        return userId;
+    }
+
+    public void setUserId(StringFilter userId) {
+        this.userId = userId;
+    }
+
+    public UserRoleFilter getUserRole() {
+        return userRole;
+    }
+
+    public Optional<UserRoleFilter> optionalUserRole() {
+        return Optional.ofNullable(userRole);
+    }
+
+    public UserRoleFilter userRole() {
+        if (userRole == null) {
+            setUserRole(new UserRoleFilter());
+        }
+        return userRole;
+    }
+
+    public void setUserRole(UserRoleFilter userRole) {
+        this.userRole = userRole;
+    }
+
+    public InstantFilter getTimestamp() {
+        return timestamp;
+    }
+
+    public Optional<InstantFilter> optionalTimestamp() {
+        return Optional.ofNullable(timestamp);
+    }
+
+    public InstantFilter timestamp() {
+        if (timestamp == null) {
+            setTimestamp(new InstantFilter());
+        }
+        return timestamp;
+    }
+
+    public void setTimestamp(InstantFilter timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public LongFilter getAppUserId() {
+        return appUserId;
+    }
+
+    public Optional<LongFilter> optionalAppUserId() {
+        return Optional.ofNullable(appUserId);
+    }
+
+    public LongFilter appUserId() {
+        if (appUserId == null) {
+            setAppUserId(new LongFilter());
+        }
+        return appUserId;
+    }
+
+    public void setAppUserId(LongFilter appUserId) {
+        this.appUserId = appUserId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AuditLogCriteria that = (AuditLogCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(entityType, that.entityType) &&
+            Objects.equals(entityId, that.entityId) &&
+            Objects.equals(action, that.action) &&
+            Objects.equals(userId, that.userId) &&
+            Objects.equals(userRole, that.userRole) &&
+            Objects.equals(timestamp, that.timestamp) &&
+            Objects.equals(appUserId, that.appUserId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, entityType, entityId, action, userId, userRole, timestamp, appUserId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AuditLogCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalEntityType().map(f -> "entityType=" + f + ", ").orElse("") +
+            optionalEntityId().map(f -> "entityId=" + f + ", ").orElse("") +
+            optionalAction().map(f -> "action=" + f + ", ").orElse("") +
+            optionalUserId().map(f -> "userId=" + f + ", ").orElse("") +
+            optionalUserRole().map(f -> "userRole=" + f + ", ").orElse("") +
+            optionalTimestamp().map(f -> "timestamp=" + f + ", ").orElse("") +
+            optionalAppUserId().map(f -> "appUserId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
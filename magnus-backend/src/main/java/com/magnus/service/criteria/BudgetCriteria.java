@@ -0,0 +1,458 @@
+package com.magnus.service.criteria;
+
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.PaymentStatus;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.magnus.domain.Budget} entity. This class is used
+ * in {@link com.magnus.web.rest.BudgetResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /budgets?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BudgetCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering BudgetStatus
+     */
+    public static class BudgetStatusFilter extends Filter<BudgetStatus> {
+
+        public BudgetStatusFilter() {}
+
+        public BudgetStatusFilter(BudgetStatusFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public BudgetStatusFilter copy() {
+            return new BudgetStatusFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering PaymentStatus
+     */
+    public static class PaymentStatusFilter extends Filter<PaymentStatus> {
+
+        public PaymentStatusFilter() {}
+
+        public PaymentStatusFilter(PaymentStatusFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public PaymentStatusFilter copy() {
+            return new PaymentStatusFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter clientName;
+
+    private LocalDateFilter eventDate;
+
+    private IntegerFilter guestCount;
+
+    private BigDecimalFilter totalAmount;
+
+    private BudgetStatusFilter status;
+
+    private PaymentStatusFilter paymentStatus;
+
+    private BooleanFilter isClosed;
+
+    private InstantFilter createdAt;
+
+    private LongFilter createdById;
+
+    private LongFilter assignedToId;
+
+    private LongFilter clientId;
+
+    private LongFilter weeklyPlanId;
+
+    private Boolean distinct;
+
+    public BudgetCriteria() {}
+
+    public BudgetCriteria(BudgetCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.name = other.optionalName().map(StringFilter::copy).orElse(null);
+        this.clientName = other.optionalClientName().map(StringFilter::copy).orElse(null);
+        this.eventDate = other.optionalEventDate().map(LocalDateFilter::copy).orElse(null);
+        this.guestCount = other.optionalGuestCount().map(IntegerFilter::copy).orElse(null);
+        this.totalAmount = other.optionalTotalAmount().map(BigDecimalFilter::copy).orElse(null);
+        this.status = other.optionalStatus().map(BudgetStatusFilter::copy).orElse(null);
+        this.paymentStatus = other.optionalPaymentStatus().map(PaymentStatusFilter::copy).orElse(null);
+        this.isClosed = other.optionalIsClosed().map(BooleanFilter::copy).orElse(null);
+        this.createdAt = other.optionalCreatedAt().map(InstantFilter::copy).orElse(null);
+        this.createdById = other.optionalCreatedById().map(LongFilter::copy).orElse(null);
+        this.assignedToId = other.optionalAssignedToId().map(LongFilter::copy).orElse(null);
+        this.clientId = other.optionalClientId().map(LongFilter::copy).orElse(null);
+        this.weeklyPlanId = other.optionalWeeklyPlanId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public BudgetCriteria copy() {
+        return new BudgetCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public Optional<StringFilter> optionalName() {
+        return Optional.ofNullable(name);
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            setName(new StringFilter());
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getClientName() {
+        return clientName;
+    }
+
+    public Optional<StringFilter> optionalClientName() {
+        return Optional.ofNullable(clientName);
+    }
+
+    public StringFilter clientName() {
+        if (clientName == null) {
+            setClientName(new StringFilter());
+        }
+        return clientName;
+    }
+
+    public void setClientName(StringFilter clientName) {
+        this.clientName = clientName;
+    }
+
+    public LocalDateFilter getEventDate() {
+        return eventDate;
+    }
+
+    public Optional<LocalDateFilter> optionalEventDate() {
+        return Optional.ofNullable(eventDate);
+    }
+
+    public LocalDateFilter eventDate() {
+        if (eventDate == null) {
+            setEventDate(new LocalDateFilter());
+        }
+        return eventDate;
+    }
+
+    public void setEventDate(LocalDateFilter eventDate) {
+        this.eventDate = eventDate;
+    }
+
+    public IntegerFilter getGuestCount() {
+        return guestCount;
+    }
+
+    public Optional<IntegerFilter> optionalGuestCount() {
+        return Optional.ofNullable(guestCount);
+    }
+
+    public IntegerFilter guestCount() {
+        if (guestCount == null) {
+            setGuestCount(new IntegerFilter());
+        }
+        return guestCount;
+    }
+
+    public void setGuestCount(IntegerFilter guestCount) {
+        this.guestCount = guestCount;
+    }
+
+    public BigDecimalFilter getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Optional<BigDecimalFilter> optionalTotalAmount() {
+        return Optional.ofNullable(totalAmount);
+    }
+
+    public BigDecimalFilter totalAmount() {
+        if (totalAmount == null) {
+            setTotalAmount(new BigDecimalFilter());
+        }
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimalFilter totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BudgetStatusFilter getStatus() {
+        return status;
+    }
+
+    public Optional<BudgetStatusFilter> optionalStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public BudgetStatusFilter status() {
+        if (status == null) {
+            setStatus(new BudgetStatusFilter());
+        }
+        return status;
+    }
+
+    public void setStatus(BudgetStatusFilter status) {
+        this.status = status;
+    }
+
+    public PaymentStatusFilter getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public Optional<PaymentStatusFilter> optionalPaymentStatus() {
+        return Optional.ofNullable(paymentStatus);
+    }
+
+    public PaymentStatusFilter paymentStatus() {
+        if (paymentStatus == null) {
+            setPaymentStatus(new PaymentStatusFilter());
+        }
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(PaymentStatusFilter paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public BooleanFilter getIsClosed() {
+        return isClosed;
+    }
+
+    public Optional<BooleanFilter> optionalIsClosed() {
+        return Optional.ofNullable(isClosed);
+    }
+
+    public BooleanFilter isClosed() {
+        if (isClosed == null) {
+            setIsClosed(new BooleanFilter());
+        }
+        return isClosed;
+    }
+
+    public void setIsClosed(BooleanFilter isClosed) {
+        this.isClosed = isClosed;
+    }
+
+    public InstantFilter getCreatedAt() {
+        return createdAt;
+    }
+
+    public Optional<InstantFilter> optionalCreatedAt() {
+        return Optional.ofNullable(createdAt);
+    }
+
+    public InstantFilter createdAt() {
+        if (createdAt == null) {
+            setCreatedAt(new InstantFilter());
+        }
+        return createdAt;
+    }
+
+    public void setCreatedAt(InstantFilter createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LongFilter getCreatedById() {
+        return createdById;
+    }
+
+    public Optional<LongFilter> optionalCreatedById() {
+        return Optional.ofNullable(createdById);
+    }
+
+    public LongFilter createdById() {
+        if (createdById == null) {
+            setCreatedById(new LongFilter());
+        }
+        return createdById;
+    }
+
+    public void setCreatedById(LongFilter createdById) {
+        this.createdById = createdById;
+    }
+
+    public LongFilter getAssignedToId() {
+        return assignedToId;
+    }
+
+    public Optional<LongFilter> optionalAssignedToId() {
+        return Optional.ofNullable(assignedToId);
+    }
+
+    public LongFilter assignedToId() {
+        if (assignedToId == null) {
+            setAssignedToId(new LongFilter());
+        }
+        return assignedToId;
+    }
+
+    public void setAssignedToId(LongFilter assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public LongFilter getClientId() {
+        return clientId;
+    }
+
+    public Optional<LongFilter> optionalClientId() {
+        return Optional.ofNullable(clientId);
+    }
+
+    public LongFilter clientId() {
+        if (clientId == null) {
+            setClientId(new LongFilter());
+        }
+        return clientId;
+    }
+
+    public void setClientId(LongFilter clientId) {
+        this.clientId = clientId;
+    }
+
+    public LongFilter getWeeklyPlanId() {
+        return weeklyPlanId;
+    }
+
+    public Optional<LongFilter> optionalWeeklyPlanId() {
+        return Optional.ofNullable(weeklyPlanId);
+    }
+
+    public LongFilter weeklyPlanId() {
+        if (weeklyPlanId == null) {
+            setWeeklyPlanId(new LongFilter());
+        }
+        return weeklyPlanId;
+    }
+
+    public void setWeeklyPlanId(LongFilter weeklyPlanId) {
+        this.weeklyPlanId = weeklyPlanId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BudgetCriteria that = (BudgetCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(clientName, that.clientName) &&
+            Objects.equals(eventDate, that.eventDate) &&
+            Objects.equals(guestCount, that.guestCount) &&
+            Objects.equals(totalAmount, that.totalAmount) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(paymentStatus, that.paymentStatus) &&
+            Objects.equals(isClosed, that.isClosed) &&
+            Objects.equals(createdAt, that.createdAt) &&
+            Objects.equals(createdById, that.createdById) &&
+            Objects.equals(assignedToId, that.assignedToId) &&
+            Objects.equals(clientId, that.clientId) &&
+            Objects.equals(weeklyPlanId, that.weeklyPlanId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id, name, clientName, eventDate, guestCount, totalAmount, status, paymentStatus, isClosed, createdAt, createdById, assignedToId,
+            clientId, weeklyPlanId, distinct
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BudgetCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalName().map(f -> "name=" + f + ", ").orElse("") +
+            optionalClientName().map(f -> "clientName=" + f + ", ").orElse("") +
+            optionalEventDate().map(f -> "eventDate=" + f + ", ").orElse("") +
+            optionalGuestCount().map(f -> "guestCount=" + f + ", ").orElse("") +
+            optionalTotalAmount().map(f -> "totalAmount=" + f + ", ").orElse("") +
+            optionalStatus().map(f -> "status=" + f + ", ").orElse("") +
+            optionalPaymentStatus().map(f -> "paymentStatus=" + f + ", ").orElse("") +
+            optionalIsClosed().map(f -> "isClosed=" + f + ", ").orElse("") +
+            optionalCreatedAt().map(f -> "createdAt=" + f + ", ").orElse("") +
+            optionalCreatedById().map(f -> "createdById=" + f + ", ").orElse("") +
+            optionalAssignedToId().map(f -> "assignedToId=" + f + ", ").orElse("") +
+            optionalClientId().map(f -> "clientId=" + f + ", ").orElse("") +
+            optionalWeeklyPlanId().map(f -> "weeklyPlanId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,46 @@
+package com.magnus.service.criteria;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a list ordered by {@code (time desc, id desc)}: the time and id of the last row
+ * returned. Clients receive it as an opaque URL-safe token and send it back to get the next rows.
+ *
+ * @param time the time of the last row.
+ * @param id the id of the last row, breaking ties between rows with the same time.
+ */
+public record KeysetCursor(Instant time, Long id) implements Serializable {
+    public KeysetCursor {
+        Objects.requireNonNull(time, "time");
+        Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Decodes a token produced by {@link #toString()}.
+     *
+     * @param token the token.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the token is not a valid cursor.
+     */
+    public static KeysetCursor parse(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(Instant.parse(decoded.substring(0, separator)), Long.valueOf(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((time + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
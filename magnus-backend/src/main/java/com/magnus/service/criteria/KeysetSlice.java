@@ -0,0 +1,20 @@
+package com.magnus.service.criteria;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * @param content the rows of the page.
+ * @param nextCursor the cursor of the next page, or {@code null} on the last page.
+ */
+public record KeysetSlice<T>(List<T> content, KeysetCursor nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <U> KeysetSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new KeysetSlice<>(content.stream().<U>map(converter).toList(), nextCursor);
+    }
+}
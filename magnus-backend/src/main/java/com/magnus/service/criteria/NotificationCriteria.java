@@ -0,0 +1,476 @@
+package com.magnus.service.criteria;
+
+import com.magnus.domain.enumeration.NotificationType;
+import com.magnus.domain.enumeration.TaskPriority;
+import com.magnus.domain.enumeration.UserRole;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.magnus.domain.Notification} entity. This class is used
+ * in {@link com.magnus.web.rest.NotificationResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /notifications?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class NotificationCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering NotificationType
+     */
+    public static class NotificationTypeFilter extends Filter<NotificationType> {
+
+        public NotificationTypeFilter() {}
+
+        public NotificationTypeFilter(NotificationTypeFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public NotificationTypeFilter copy() {
+            return new NotificationTypeFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering UserRole
+     */
+    public static class UserRoleFilter extends Filter<UserRole> {
+
+        public UserRoleFilter() {}
+
+        public UserRoleFilter(UserRoleFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public UserRoleFilter copy() {
+            return new UserRoleFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering TaskPriority
+     */
+    public static class TaskPriorityFilter extends Filter<TaskPriority> {
+
+        public TaskPriorityFilter() {}
+
+        public TaskPriorityFilter(TaskPriorityFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TaskPriorityFilter copy() {
+            return new TaskPriorityFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter title;
+
+    private NotificationTypeFilter type;
+
+    private UserRoleFilter targetRole;
+
+    private StringFilter relatedEntityType;
+
+    private StringFilter relatedEntityId;
+
+    private BooleanFilter isRead;
+
+    private BooleanFilter isGlobal;
+
+    private BooleanFilter actionRequired;
+
+    private TaskPriorityFilter priority;
+
+    private InstantFilter expiresAt;
+
+    private InstantFilter createdAt;
+
+    private LongFilter createdById;
+
+    private LongFilter targetUserId;
+
+    private Boolean distinct;
+
+    public NotificationCriteria() {}
+
+    public NotificationCriteria(NotificationCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.title = other.optionalTitle().map(StringFilter::copy).orElse(null);
+        this.type = other.optionalType().map(NotificationTypeFilter::copy).orElse(null);
+        this.targetRole = other.optionalTargetRole().map(UserRoleFilter::copy).orElse(null);
+        this.relatedEntityType = other.optionalRelatedEntityType().map(StringFilter::copy).orElse(null);
+        this.relatedEntityId = other.optionalRelatedEntityId().map(StringFilter::copy).orElse(null);
+        this.isRead = other.optionalIsRead().map(BooleanFilter::copy).orElse(null);
+        this.isGlobal = other.optionalIsGlobal().map(BooleanFilter::copy).orElse(null);
+        this.actionRequired = other.optionalActionRequired().map(BooleanFilter::copy).orElse(null);
+        this.priority = other.optionalPriority().map(TaskPriorityFilter::copy).orElse(null);
+        this.expiresAt = other.optionalExpiresAt().map(InstantFilter::copy).orElse(null);
+        this.createdAt = other.optionalCreatedAt().map(InstantFilter::copy).orElse(null);
+        this.createdById = other.optionalCreatedById().map(LongFilter::copy).orElse(null);
+        this.targetUserId = other.optionalTargetUserId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public NotificationCriteria copy() {
+        return new NotificationCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getTitle() {
+        return title;
+    }
+
+    public Optional<StringFilter> optionalTitle() {
+        return Optional.ofNullable(title);
+    }
+
+    public StringFilter title() {
+        if (title == null) {
+            setTitle(new StringFilter());
+        }
+        return title;
+    }
+
+    public void setTitle(StringFilter title) {
+        this.title = title;
+    }
+
+    public NotificationTypeFilter getType() {
+        return type;
+    }
+
+    public Optional<NotificationTypeFilter> optionalType() {
+        return Optional.ofNullable(type);
+    }
+
+    public NotificationTypeFilter type() {
+        if (type == null) {
+            setType(new NotificationTypeFilter());
+        }
+        return type;
+    }
+
+    public void setType(NotificationTypeFilter type) {
+        this.type = type;
+    }
+
+    public UserRoleFilter getTargetRole() {
+        return targetRole;
+    }
+
+    public Optional<UserRoleFilter> optionalTargetRole() {
+        return Optional.ofNullable(targetRole);
+    }
+
+    public UserRoleFilter targetRole() {
+        if (targetRole == null) {
+            setTargetRole(new UserRoleFilter());
+        }
+        return targetRole;
+    }
+
+    public void setTargetRole(UserRoleFilter targetRole) {
+        this.targetRole = targetRole;
+    }
+
+    public StringFilter getRelatedEntityType() {
+        return relatedEntityType;
+    }
+
+    public Optional<StringFilter> optionalRelatedEntityType() {
+        return Optional.ofNullable(relatedEntityType);
+    }
+
+    public StringFilter relatedEntityType() {
+        if (relatedEntityType == null) {
+            setRelatedEntityType(new StringFilter());
+        }
+        return relatedEntityType;
+    }
+
+    public void setRelatedEntityType(StringFilter relatedEntityType) {
+        this.relatedEntityType = relatedEntityType;
+    }
+
+    public StringFilter getRelatedEntityId() {
+        return relatedEntityId;
+    }
+
+    public Optional<StringFilter> optionalRelatedEntityId() {
+        return Optional.ofNullable(relatedEntityId);
+    }
+
+    public StringFilter relatedEntityId() {
+        if (relatedEntityId == null) {
+            setRelatedEntityId(new StringFilter());
+        }
+        return relatedEntityId;
+    }
+
+    public void setRelatedEntityId(StringFilter relatedEntityId) {
+        this.relatedEntityId = relatedEntityId;
+    }
+
+    public BooleanFilter getIsRead() {
+        return isRead;
+    }
+
+    public Optional<BooleanFilter> optionalIsRead() {
+        return Optional.ofNullable(isRead);
+    }
+
+    public BooleanFilter isRead() {
+        if (isRead == null) {
+            setIsRead(new BooleanFilter());
+        }
+        return isRead;
+    }
+
+    public void setIsRead(BooleanFilter isRead) {
+        this.isRead = isRead;
+    }
+
+    public BooleanFilter getIsGlobal() {
+        return isGlobal;
+    }
+
+    public Optional<BooleanFilter> optionalIsGlobal() {
+        return Optional.ofNullable(isGlobal);
+    }
+
+    public BooleanFilter isGlobal() {
+        if (isGlobal == null) {
+            setIsGlobal(new BooleanFilter());
+        }
+        return isGlobal;
+    }
+
+    public void setIsGlobal(BooleanFilter isGlobal) {
+        this.isGlobal = isGlobal;
+    }
+
+    public BooleanFilter getActionRequired() {
+        return actionRequired;
+    }
+
+    public Optional<BooleanFilter> optionalActionRequired() {
+        return Optional.ofNullable(actionRequired);
+    }
+
+    public BooleanFilter actionRequired() {
+        if (actionRequired == null) {
+            setActionRequired(new BooleanFilter());
+        }
+        return actionRequired;
+    }
+
+    public void setActionRequired(BooleanFilter actionRequired) {
+        this.actionRequired = actionRequired;
+    }
+
+    public TaskPriorityFilter getPriority() {
+        return priority;
+    }
+
+    public Optional<TaskPriorityFilter> optionalPriority() {
+        return Optional.ofNullable(priority);
+    }
+
+    public TaskPriorityFilter priority() {
+        if (priority == null) {
+            setPriority(new TaskPriorityFilter());
+        }
+        return priority;
+    }
+
+    public void setPriority(TaskPriorityFilter priority) {
+        this.priority = priority;
+    }
+
+    public InstantFilter getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Optional<InstantFilter> optionalExpiresAt() {
+        return Optional.ofNullable(expiresAt);
+    }
+
+    public InstantFilter expiresAt() {
+        if (expiresAt == null) {
+            setExpiresAt(new InstantFilter());
+        }
+        return expiresAt;
+    }
+
+    public void setExpiresAt(InstantFilter expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public InstantFilter getCreatedAt() {
+        return createdAt;
+    }
+
+    public Optional<InstantFilter> optionalCreatedAt() {
+        return Optional.ofNullable(createdAt);
+    }
+
+    public InstantFilter createdAt() {
+        if (createdAt == null) {
+            setCreatedAt(new InstantFilter());
+        }
+        return createdAt;
+    }
+
+    public void setCreatedAt(InstantFilter createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LongFilter getCreatedById() {
+        return createdById;
+    }
+
+    public Optional<LongFilter> optionalCreatedById() {
+        return Optional.ofNullable(createdById);
+    }
+
+    public LongFilter createdById() {
+        if (createdById == null) {
+            setCreatedById(new LongFilter());
+        }
+        return createdById;
+    }
+
+    public void setCreatedById(LongFilter createdById) {
+        this.createdById = createdById;
+    }
+
+    public LongFilter getTargetUserId() {
+        return targetUserId;
+    }
+
+    public Optional<LongFilter> optionalTargetUserId() {
+        return Optional.ofNullable(targetUserId);
+    }
+
+    public LongFilter targetUserId() {
+        if (targetUserId == null) {
+            setTargetUserId(new LongFilter());
+        }
+        return targetUserId;
+    }
+
+    public void setTargetUserId(LongFilter targetUserId) {
+        this.targetUserId = targetUserId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final NotificationCriteria that = (NotificationCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(title, that.title) &&
+            Objects.equals(type, that.type) &&
+            Objects.equals(targetRole, that.targetRole) &&
+            Objects.equals(relatedEntityType, that.relatedEntityType) &&
+            Objects.equals(relatedEntityId, that.relatedEntityId) &&
+            Objects.equals(isRead, that.isRead) &&
+            Objects.equals(isGlobal, that.isGlobal) &&
+            Objects.equals(actionRequired, that.actionRequired) &&
+            Objects.equals(priority, that.priority) &&
+            Objects.equals(expiresAt, that.expiresAt) &&
+            Objects.equals(createdAt, that.createdAt) &&
+            Objects.equals(createdById, that.createdById) &&
+            Objects.equals(targetUserId, that.targetUserId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id, title, type, targetRole, relatedEntityType, relatedEntityId, isRead, isGlobal, actionRequired, priority, expiresAt,
+            createdAt, createdById, targetUserId, distinct
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "NotificationCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalTitle().map(f -> "title=" + f + ", ").orElse("") +
+            optionalType().map(f -> "type=" + f + ", ").orElse("") +
+            optionalTargetRole().map(f -> "targetRole=" + f + ", ").orElse("") +
+            optionalRelatedEntityType().map(f -> "relatedEntityType=" + f + ", ").orElse("") +
+            optionalRelatedEntityId().map(f -> "relatedEntityId=" + f + ", ").orElse("") +
+            optionalIsRead().map(f -> "isRead=" + f + ", ").orElse("") +
+            optionalIsGlobal().map(f -> "isGlobal=" + f + ", ").orElse("") +
+            optionalActionRequired().map(f -> "actionRequired=" + f + ", ").orElse("") +
+            optionalPriority().map(f -> "priority=" + f + ", ").orElse("") +
+            optionalExpiresAt().map(f -> "expiresAt=" + f + ", ").orElse("") +
+            optionalCreatedAt().map(f -> "createdAt=" + f + ", ").orElse("") +
+            optionalCreatedById().map(f -> "createdById=" + f + ", ").orElse("") +
+            optionalTargetUserId().map(f -> "targetUserId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
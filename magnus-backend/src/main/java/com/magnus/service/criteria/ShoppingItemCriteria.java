@@ -0,0 +1,434 @@
+package com.magnus.service.criteria;
+
+import com.magnus.domain.enumeration.ProductCategory;
+import com.magnus.domain.enumeration.ProductUnit;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.magnus.domain.ShoppingItem} entity. This class is used
+ * in {@link com.magnus.web.rest.ShoppingItemResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /shopping-items?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ShoppingItemCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering ProductUnit
+     */
+    public static class ProductUnitFilter extends Filter<ProductUnit> {
+
+        public ProductUnitFilter() {}
+
+        public ProductUnitFilter(ProductUnitFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public ProductUnitFilter copy() {
+            return new ProductUnitFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering ProductCategory
+     */
+    public static class ProductCategoryFilter extends Filter<ProductCategory> {
+
+        public ProductCategoryFilter() {}
+
+        public ProductCategoryFilter(ProductCategoryFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public ProductCategoryFilter copy() {
+            return new ProductCategoryFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter productName;
+
+    private ProductUnitFilter unit;
+
+    private ProductCategoryFilter category;
+
+    private BooleanFilter isPurchased;
+
+    private BooleanFilter isConsolidated;
+
+    private LocalDateFilter weekStart;
+
+    private LocalDateFilter weekEnd;
+
+    private LocalDateFilter deliveryDate;
+
+    private InstantFilter createdAt;
+
+    private LongFilter purchasedById;
+
+    private LongFilter weeklyPlanId;
+
+    private LongFilter budgetId;
+
+    private Boolean distinct;
+
+    public ShoppingItemCriteria() {}
+
+    public ShoppingItemCriteria(ShoppingItemCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.productName = other.optionalProductName().map(StringFilter::copy).orElse(null);
+        this.unit = other.optionalUnit().map(ProductUnitFilter::copy).orElse(null);
+        this.category = other.optionalCategory().map(ProductCategoryFilter::copy).orElse(null);
+        this.isPurchased = other.optionalIsPurchased().map(BooleanFilter::copy).orElse(null);
+        this.isConsolidated = other.optionalIsConsolidated().map(BooleanFilter::copy).orElse(null);
+        this.weekStart = other.optionalWeekStart().map(LocalDateFilter::copy).orElse(null);
+        this.weekEnd = other.optionalWeekEnd().map(LocalDateFilter::copy).orElse(null);
+        this.deliveryDate = other.optionalDeliveryDate().map(LocalDateFilter::copy).orElse(null);
+        this.createdAt = other.optionalCreatedAt().map(InstantFilter::copy).orElse(null);
+        this.purchasedById = other.optionalPurchasedById().map(LongFilter::copy).orElse(null);
+        this.weeklyPlanId = other.optionalWeeklyPlanId().map(LongFilter::copy).orElse(null);
+        this.budgetId = other.optionalBudgetId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ShoppingItemCriteria copy() {
+        return new ShoppingItemCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getProductName() {
+        return productName;
+    }
+
+    public Optional<StringFilter> optionalProductName() {
+        return Optional.ofNullable(productName);
+    }
+
+    public StringFilter productName() {
+        if (productName == null) {
+            setProductName(new StringFilter());
+        }
+        return productName;
+    }
+
+    public void setProductName(StringFilter productName) {
+        this.productName = productName;
+    }
+
+    public ProductUnitFilter getUnit() {
+        return unit;
+    }
+
+    public Optional<ProductUnitFilter> optionalUnit() {
+        return Optional.ofNullable(unit);
+    }
+
+    public ProductUnitFilter unit() {
+        if (unit == null) {
+            setUnit(new ProductUnitFilter());
+        }
+        return unit;
+    }
+
+    public void setUnit(ProductUnitFilter unit) {
+        this.unit = unit;
+    }
+
+    public ProductCategoryFilter getCategory() {
+        return category;
+    }
+
+    public Optional<ProductCategoryFilter> optionalCategory() {
+        return Optional.ofNullable(category);
+    }
+
+    public ProductCategoryFilter category() {
+        if (category == null) {
+            setCategory(new ProductCategoryFilter());
+        }
+        return category;
+    }
+
+    public void setCategory(ProductCategoryFilter category) {
+        this.category = category;
+    }
+
+    public BooleanFilter getIsPurchased() {
+        return isPurchased;
+    }
+
+    public Optional<BooleanFilter> optionalIsPurchased() {
+        return Optional.ofNullable(isPurchased);
+    }
+
+    public BooleanFilter isPurchased() {
+        if (isPurchased == null) {
+            setIsPurchased(new BooleanFilter());
+        }
+        return isPurchased;
+    }
+
+    public void setIsPurchased(BooleanFilter isPurchased) {
+        this.isPurchased = isPurchased;
+    }
+
+    public BooleanFilter getIsConsolidated() {
+        return isConsolidated;
+    }
+
+    public Optional<BooleanFilter> optionalIsConsolidated() {
+        return Optional.ofNullable(isConsolidated);
+    }
+
+    public BooleanFilter isConsolidated() {
+        if (isConsolidated == null) {
+            setIsConsolidated(new BooleanFilter());
+        }
+        return isConsolidated;
+    }
+
+    public void setIsConsolidated(BooleanFilter isConsolidated) {
+        this.isConsolidated = isConsolidated;
+    }
+
+    public LocalDateFilter getWeekStart() {
+        return weekStart;
+    }
+
+    public Optional<LocalDateFilter> optionalWeekStart() {
+        return Optional.ofNullable(weekStart);
+    }
+
+    public LocalDateFilter weekStart() {
+        if (weekStart == null) {
+            setWeekStart(new LocalDateFilter());
+        }
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDateFilter weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public LocalDateFilter getWeekEnd() {
+        return weekEnd;
+    }
+
+    public Optional<LocalDateFilter> optionalWeekEnd() {
+        return Optional.ofNullable(weekEnd);
+    }
+
+    public LocalDateFilter weekEnd() {
+        if (weekEnd == null) {
+            setWeekEnd(new LocalDateFilter());
+        }
+        return weekEnd;
+    }
+
+    public void setWeekEnd(LocalDateFilter weekEnd) {
+        this.weekEnd = weekEnd;
+    }
+
+    public LocalDateFilter getDeliveryDate() {
+        return deliveryDate;
+    }
+
+    public Optional<LocalDateFilter> optionalDeliveryDate() {
+        return Optional.ofNullable(deliveryDate);
+    }
+
+    public LocalDateFilter deliveryDate() {
+        if (deliveryDate == null) {
+            setDeliveryDate(new LocalDateFilter());
+        }
+        return deliveryDate;
+    }
+
+    public void setDeliveryDate(LocalDateFilter deliveryDate) {
+        this.deliveryDate = deliveryDate;
+    }
+
+    public InstantFilter getCreatedAt() {
+        return createdAt;
+    }
+
+    public Optional<InstantFilter> optionalCreatedAt() {
+        return Optional.ofNullable(createdAt);
+    }
+
+    public InstantFilter createdAt() {
+        if (createdAt == null) {
+            setCreatedAt(new InstantFilter());
+        }
+        return createdAt;
+    }
+
+    public void setCreatedAt(InstantFilter createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LongFilter getPurchasedById() {
+        return purchasedById;
+    }
+
+    public Optional<LongFilter> optionalPurchasedById() {
+        return Optional.ofNullable(purchasedById);
+    }
+
+    public LongFilter purchasedById() {
+        if (purchasedById == null) {
+            setPurchasedById(new LongFilter());
+        }
+        return purchasedById;
+    }
+
+    public void setPurchasedById(LongFilter purchasedById) {
+        this.purchasedById = purchasedById;
+    }
+
+    public LongFilter getWeeklyPlanId() {
+        return weeklyPlanId;
+    }
+
+    public Optional<LongFilter> optionalWeeklyPlanId() {
+        return Optional.ofNullable(weeklyPlanId);
+    }
+
+    public LongFilter weeklyPlanId() {
+        if (weeklyPlanId == null) {
+            setWeeklyPlanId(new LongFilter());
+        }
+        return weeklyPlanId;
+    }
+
+    public void setWeeklyPlanId(LongFilter weeklyPlanId) {
+        this.weeklyPlanId = weeklyPlanId;
+    }
+
+    public LongFilter getBudgetId() {
+        return budgetId;
+    }
+
+    public Optional<LongFilter> optionalBudgetId() {
+        return Optional.ofNullable(budgetId);
+    }
+
+    public LongFilter budgetId() {
+        if (budgetId == null) {
+            setBudgetId(new LongFilter());
+        }
+        return budgetId;
+    }
+
+    public void setBudgetId(LongFilter budgetId) {
+        this.budgetId = budgetId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ShoppingItemCriteria that = (ShoppingItemCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(productName, that.productName) &&
+            Objects.equals(unit, that.unit) &&
+            Objects.equals(category, that.category) &&
+            Objects.equals(isPurchased, that.isPurchased) &&
+            Objects.equals(isConsolidated, that.isConsolidated) &&
+            Objects.equals(weekStart, that.weekStart) &&
+            Objects.equals(weekEnd, that.weekEnd) &&
+            Objects.equals(deliveryDate, that.deliveryDate) &&
+            Objects.equals(createdAt, that.createdAt) &&
+            Objects.equals(purchasedById, that.purchasedById) &&
+            Objects.equals(weeklyPlanId, that.weeklyPlanId) &&
+            Objects.equals(budgetId, that.budgetId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id, productName, unit, category, isPurchased, isConsolidated, weekStart, weekEnd, deliveryDate, createdAt, purchasedById,
+            weeklyPlanId, budgetId, distinct
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ShoppingItemCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalProductName().map(f -> "productName=" + f + ", ").orElse("") +
+            optionalUnit().map(f -> "unit=" + f + ", ").orElse("") +
+            optionalCategory().map(f -> "category=" + f + ", ").orElse("") +
+            optionalIsPurchased().map(f -> "isPurchased=" + f + ", ").orElse("") +
+            optionalIsConsolidated().map(f -> "isConsolidated=" + f + ", ").orElse("") +
+            optionalWeekStart().map(f -> "weekStart=" + f + ", ").orElse("") +
+            optionalWeekEnd().map(f -> "weekEnd=" + f + ", ").orElse("") +
+            optionalDeliveryDate().map(f -> "deliveryDate=" + f + ", ").orElse("") +
+            optionalCreatedAt().map(f -> "createdAt=" + f + ", ").orElse("") +
+            optionalPurchasedById().map(f -> "purchasedById=" + f + ", ").orElse("") +
+            optionalWeeklyPlanId().map(f -> "weeklyPlanId=" + f + ", ").orElse("") +
+            optionalBudgetId().map(f -> "budgetId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
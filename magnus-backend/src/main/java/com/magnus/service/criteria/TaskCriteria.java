@@ -0,0 +1,494 @@
+package com.magnus.service.criteria;
+
+import com.magnus.domain.enumeration.TaskPriority;
+import com.magnus.domain.enumeration.TaskStatus;
+import com.magnus.domain.enumeration.TaskType;
+import com.magnus.domain.enumeration.UserRole;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link com.magnus.domain.Task} entity. This class is used
+ * in {@link com.magnus.web.rest.TaskResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /tasks?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TaskCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering TaskType
+     */
+    public static class TaskTypeFilter extends Filter<TaskType> {
+
+        public TaskTypeFilter() {}
+
+        public TaskTypeFilter(TaskTypeFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TaskTypeFilter copy() {
+            return new TaskTypeFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering TaskPriority
+     */
+    public static class TaskPriorityFilter extends Filter<TaskPriority> {
+
+        public TaskPriorityFilter() {}
+
+        public TaskPriorityFilter(TaskPriorityFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TaskPriorityFilter copy() {
+            return new TaskPriorityFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering TaskStatus
+     */
+    public static class TaskStatusFilter extends Filter<TaskStatus> {
+
+        public TaskStatusFilter() {}
+
+        public TaskStatusFilter(TaskStatusFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public TaskStatusFilter copy() {
+            return new TaskStatusFilter(this);
+        }
+    }
+
+    /**
+     * Class for filtering UserRole
+     */
+    public static class UserRoleFilter extends Filter<UserRole> {
+
+        public UserRoleFilter() {}
+
+        public UserRoleFilter(UserRoleFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public UserRoleFilter copy() {
+            return new UserRoleFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter title;
+
+    private TaskTypeFilter type;
+
+    private TaskPriorityFilter priority;
+
+    private TaskStatusFilter status;
+
+    private UserRoleFilter assignedToRole;
+
+    private LocalDateFilter dueDate;
+
+    private InstantFilter createdAt;
+
+    private InstantFilter completedAt;
+
+    private LongFilter createdById;
+
+    private LongFilter assignedToId;
+
+    private LongFilter weeklyPlanId;
+
+    private LongFilter relatedBudgetId;
+
+    private LongFilter cookingScheduleId;
+
+    private Boolean distinct;
+
+    public TaskCriteria() {}
+
+    public TaskCriteria(TaskCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.title = other.optionalTitle().map(StringFilter::copy).orElse(null);
+        this.type = other.optionalType().map(TaskTypeFilter::copy).orElse(null);
+        this.priority = other.optionalPriority().map(TaskPriorityFilter::copy).orElse(null);
+        this.status = other.optionalStatus().map(TaskStatusFilter::copy).orElse(null);
+        this.assignedToRole = other.optionalAssignedToRole().map(UserRoleFilter::copy).orElse(null);
+        this.dueDate = other.optionalDueDate().map(LocalDateFilter::copy).orElse(null);
+        this.createdAt = other.optionalCreatedAt().map(InstantFilter::copy).orElse(null);
+        this.completedAt = other.optionalCompletedAt().map(InstantFilter::copy).orElse(null);
+        this.createdById = other.optionalCreatedById().map(LongFilter::copy).orElse(null);
+        this.assignedToId = other.optionalAssignedToId().map(LongFilter::copy).orElse(null);
+        this.weeklyPlanId = other.optionalWeeklyPlanId().map(LongFilter::copy).orElse(null);
+        this.relatedBudgetId = other.optionalRelatedBudgetId().map(LongFilter::copy).orElse(null);
+        this.cookingScheduleId = other.optionalCookingScheduleId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public TaskCriteria copy() {
+        return new TaskCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getTitle() {
+        return title;
+    }
+
+    public Optional<StringFilter> optionalTitle() {
+        return Optional.ofNullable(title);
+    }
+
+    public StringFilter title() {
+        if (title == null) {
+            setTitle(new StringFilter());
+        }
+        return title;
+    }
+
+    public void setTitle(StringFilter title) {
+        this.title = title;
+    }
+
+    public TaskTypeFilter getType() {
+        return type;
+    }
+
+    public Optional<TaskTypeFilter> optionalType() {
+        return Optional.ofNullable(type);
+    }
+
+    public TaskTypeFilter type() {
+        if (type == null) {
+            setType(new TaskTypeFilter());
+        }
+        return type;
+    }
+
+    public void setType(TaskTypeFilter type) {
+        this.type = type;
+    }
+
+    public TaskPriorityFilter getPriority() {
+        return priority;
+    }
+
+    public Optional<TaskPriorityFilter> optionalPriority() {
+        return Optional.ofNullable(priority);
+    }
+
+    public TaskPriorityFilter priority() {
+        if (priority == null) {
+            setPriority(new TaskPriorityFilter());
+        }
+        return priority;
+    }
+
+    public void setPriority(TaskPriorityFilter priority) {
+        this.priority = priority;
+    }
+
+    public TaskStatusFilter getStatus() {
+        return status;
+    }
+
+    public Optional<TaskStatusFilter> optionalStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public TaskStatusFilter status() {
+        if (status == null) {
+            setStatus(new TaskStatusFilter());
+        }
+        return status;
+    }
+
+    public void setStatus(TaskStatusFilter status) {
+        this.status = status;
+    }
+
+    public UserRoleFilter getAssignedToRole() {
+        return assignedToRole;
+    }
+
+    public Optional<UserRoleFilter> optionalAssignedToRole() {
+        return Optional.ofNullable(assignedToRole);
+    }
+
+    public UserRoleFilter assignedToRole() {
+        if (assignedToRole == null) {
+            setAssignedToRole(new UserRoleFilter());
+        }
+        return assignedToRole;
+    }
+
+    public void setAssignedToRole(UserRoleFilter assignedToRole) {
+        this.assignedToRole = assignedToRole;
+    }
+
+    public LocalDateFilter getDueDate() {
+        return dueDate;
+    }
+
+    public Optional<LocalDateFilter> optionalDueDate() {
+        return Optional.ofNullable(dueDate);
+    }
+
+    public LocalDateFilter dueDate() {
+        if (dueDate == null) {
+            setDueDate(new LocalDateFilter());
+        }
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateFilter dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public InstantFilter getCreatedAt() {
+        return createdAt;
+    }
+
+    public Optional<InstantFilter> optionalCreatedAt() {
+        return Optional.ofNullable(createdAt);
+    }
+
+    public InstantFilter createdAt() {
+        if (createdAt == null) {
+            setCreatedAt(new InstantFilter());
+        }
+        return createdAt;
+    }
+
+    public void setCreatedAt(InstantFilter createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public InstantFilter getCompletedAt() {
+        return completedAt;
+    }
+
+    public Optional<InstantFilter> optionalCompletedAt() {
+        return Optional.ofNullable(completedAt);
+    }
+
+    public InstantFilter completedAt() {
+        if (completedAt == null) {
+            setCompletedAt(new InstantFilter());
+        }
+        return completedAt;
+    }
+
+    public void setCompletedAt(InstantFilter completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public LongFilter getCreatedById() {
+        return createdById;
+    }
+
+    public Optional<LongFilter> optionalCreatedById() {
+        return Optional.ofNullable(createdById);
+    }
+
+    public LongFilter createdById() {
+        if (createdById == null) {
+            setCreatedById(new LongFilter());
+        }
+        return createdById;
+    }
+
+    public void setCreatedById(LongFilter createdById) {
+        this.createdById = createdById;
+    }
+
+    public LongFilter getAssignedToId() {
+        return assignedToId;
+    }
+
+    public Optional<LongFilter> optionalAssignedToId() {
+        return Optional.ofNullable(assignedToId);
+    }
+
+    public LongFilter assignedToId() {
+        if (assignedToId == null) {
+            setAssignedToId(new LongFilter());
+        }
+        return assignedToId;
+    }
+
+    public void setAssignedToId(LongFilter assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public LongFilter getWeeklyPlanId() {
+        return weeklyPlanId;
+    }
+
+    public Optional<LongFilter> optionalWeeklyPlanId() {
+        return Optional.ofNullable(weeklyPlanId);
+    }
+
+    public LongFilter weeklyPlanId() {
+        if (weeklyPlanId == null) {
+            setWeeklyPlanId(new LongFilter());
+        }
+        return weeklyPlanId;
+    }
+
+    public void setWeeklyPlanId(LongFilter weeklyPlanId) {
+        this.weeklyPlanId = weeklyPlanId;
+    }
+
+    public LongFilter getRelatedBudgetId() {
+        return relatedBudgetId;
+    }
+
+    public Optional<LongFilter> optionalRelatedBudgetId() {
+        return Optional.ofNullable(relatedBudgetId);
+    }
+
+    public LongFilter relatedBudgetId() {
+        if (relatedBudgetId == null) {
+            setRelatedBudgetId(new LongFilter());
+        }
+        return relatedBudgetId;
+    }
+
+    public void setRelatedBudgetId(LongFilter relatedBudgetId) {
+        this.relatedBudgetId = relatedBudgetId;
+    }
+
+    public LongFilter getCookingScheduleId() {
+        return cookingScheduleId;
+    }
+
+    public Optional<LongFilter> optionalCookingScheduleId() {
+        return Optional.ofNullable(cookingScheduleId);
+    }
+
+    public LongFilter cookingScheduleId() {
+        if (cookingScheduleId == null) {
+            setCookingScheduleId(new LongFilter());
+        }
+        return cookingScheduleId;
+    }
+
+    public void setCookingScheduleId(LongFilter cookingScheduleId) {
+        this.cookingScheduleId = cookingScheduleId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TaskCriteria that = (TaskCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(title, that.title) &&
+            Objects.equals(type, that.type) &&
+            Objects.equals(priority, that.priority) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(assignedToRole, that.assignedToRole) &&
+            Objects.equals(dueDate, that.dueDate) &&
+            Objects.equals(createdAt, that.createdAt) &&
+            Objects.equals(completedAt, that.completedAt) &&
+            Objects.equals(createdById, that.createdById) &&
+            Objects.equals(assignedToId, that.assignedToId) &&
+            Objects.equals(weeklyPlanId, that.weeklyPlanId) &&
+            Objects.equals(relatedBudgetId, that.relatedBudgetId) &&
+            Objects.equals(cookingScheduleId, that.cookingScheduleId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            id, title, type, priority, status, assignedToRole, dueDate, createdAt, completedAt, createdById, assignedToId, weeklyPlanId,
+            relatedBudgetId, cookingScheduleId, distinct
+        );
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TaskCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalTitle().map(f -> "title=" + f + ", ").orElse("") +
+            optionalType().map(f -> "type=" + f + ", ").orElse("") +
+            optionalPriority().map(f -> "priority=" + f + ", ").orElse("") +
+            optionalStatus().map(f -> "status=" + f + ", ").orElse("") +
+            optionalAssignedToRole().map(f -> "assignedToRole=" + f + ", ").orElse("") +
+            optionalDueDate().map(f -> "dueDate=" + f + ", ").orElse("") +
+            optionalCreatedAt().map(f -> "createdAt=" + f + ", ").orElse("") +
+            optionalCompletedAt().map(f -> "completedAt=" + f + ", ").orElse("") +
+            optionalCreatedById().map(f -> "createdById=" + f + ", ").orElse("") +
+            optionalAssignedToId().map(f -> "assignedToId=" + f + ", ").orElse("") +
+            optionalWeeklyPlanId().map(f -> "weeklyPlanId=" + f + ", ").orElse("") +
+            optionalRelatedBudgetId().map(f -> "relatedBudgetId=" + f + ", ").orElse("") +
+            optionalCookingScheduleId().map(f -> "cookingScheduleId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,67 @@
+package com.magnus.service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of creates, updates and deletes of one entity type, applied in a single transaction.
+ * Items are validated like their single-item counterparts; an invalid item rejects the whole batch.
+ *
+ * @param <D> the DTO type.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BulkRequestDTO<D> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_ITEMS = 500;
+
+    @Valid
+    @Size(max = MAX_ITEMS)
+    private List<@NotNull D> create = new ArrayList<>();
+
+    @Valid
+    @Size(max = MAX_ITEMS)
+    private List<@NotNull D> update = new ArrayList<>();
+
+    @Size(max = MAX_ITEMS)
+    private List<@NotNull Long> delete = new ArrayList<>();
+
+    public List<D> getCreate() {
+        return create;
+    }
+
+    public void setCreate(List<D> create) {
+        this.create = create != null ? create : new ArrayList<>();
+    }
+
+    public List<D> getUpdate() {
+        return update;
+    }
+
+    public void setUpdate(List<D> update) {
+        this.update = update != null ? update : new ArrayList<>();
+    }
+
+    public List<Long> getDelete() {
+        return delete;
+    }
+
+    public void setDelete(List<Long> delete) {
+        this.delete = delete != null ? delete : new ArrayList<>();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkRequestDTO{" +
+            "create=" + create.size() +
+            ", update=" + update.size() +
+            ", delete=" + delete.size() +
+            "}";
+    }
+}
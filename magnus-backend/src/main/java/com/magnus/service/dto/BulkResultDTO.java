@@ -0,0 +1,142 @@
+package com.magnus.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-item outcome of a {@link BulkRequestDTO}, in request order (creates, then updates, then deletes).
+ *
+ * @param <D> the DTO type.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BulkResultDTO<D> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE,
+    }
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND,
+        REJECTED,
+    }
+
+    private List<Item<D>> items = new ArrayList<>();
+
+    public List<Item<D>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item<D>> items) {
+        this.items = items;
+    }
+
+    public long count(Status status) {
+        return items.stream().filter(item -> item.getStatus() == status).count();
+    }
+
+    /**
+     * Outcome of one item.
+     *
+     * @param <D> the DTO type.
+     */
+    public static class Item<D> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Operation operation;
+
+        private int index;
+
+        private Long id;
+
+        private Status status;
+
+        private String message;
+
+        private D entity;
+
+        public Item() {}
+
+        public Item(Operation operation, int index, Long id, Status status, String message, D entity) {
+            this.operation = operation;
+            this.index = index;
+            this.id = id;
+            this.status = status;
+            this.message = message;
+            this.entity = entity;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public void setOperation(Operation operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * @return the position of the item within its operation list of the request.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        /**
+         * @return the persisted state after the batch was flushed, {@code null} for deletes and failures.
+         */
+        public D getEntity() {
+            return entity;
+        }
+
+        public void setEntity(D entity) {
+            this.entity = entity;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "Item{" +
+                "operation=" + operation +
+                ", index=" + index +
+                ", id=" + id +
+                ", status=" + status +
+                "}";
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.magnus.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Budget measures summed over one period of event dates and one value of a dimension
+ * (for example: March 2026, status {@code CONFIRMED}).
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class DashboardRollupDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Bucketing of the budget event date.
+     */
+    public enum Period {
+        /** ISO weeks, starting on Monday. */
+        WEEK,
+        /** Calendar months. */
+        MONTH,
+    }
+
+    /**
+     * What the budgets of a period are grouped by.
+     */
+    public enum Dimension {
+        /** All budgets of the period, with an empty key. */
+        ALL,
+        /** {@link com.magnus.domain.enumeration.BudgetStatus}. */
+        STATUS,
+        /** {@link com.magnus.domain.enumeration.EventGender}. */
+        GENDER,
+        /** The client name of the budget. */
+        CLIENT,
+        /** The template the budget was created from, empty if none. */
+        TEMPLATE,
+    }
+
+    private Period period;
+
+    private Dimension dimension;
+
+    private LocalDate periodStart;
+
+    private String key;
+
+    private long budgetCount;
+
+    private long guestCount;
+
+    private BigDecimal revenue;
+
+    private BigDecimal cost;
+
+    private BigDecimal paymentsReceived;
+
+    public Period getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Period period) {
+        this.period = period;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Dimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getBudgetCount() {
+        return budgetCount;
+    }
+
+    public void setBudgetCount(long budgetCount) {
+        this.budgetCount = budgetCount;
+    }
+
+    public long getGuestCount() {
+        return guestCount;
+    }
+
+    public void setGuestCount(long guestCount) {
+        this.guestCount = guestCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getCost() {
+        return cost;
+    }
+
+    public void setCost(BigDecimal cost) {
+        this.cost = cost;
+    }
+
+    public BigDecimal getPaymentsReceived() {
+        return paymentsReceived;
+    }
+
+    public void setPaymentsReceived(BigDecimal paymentsReceived) {
+        this.paymentsReceived = paymentsReceived;
+    }
+
+    public BigDecimal getMargin() {
+        return revenue == null || cost == null ? null : revenue.subtract(cost);
+    }
+
+    /**
+     * @return the margin as a percentage of the revenue, {@code null} without revenue.
+     */
+    public BigDecimal getMarginPercent() {
+        if (revenue == null || cost == null || revenue.signum() == 0) {
+            return null;
+        }
+        return getMargin().multiply(BigDecimal.valueOf(100)).divide(revenue, 2, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal getOutstanding() {
+        return revenue == null || paymentsReceived == null ? null : revenue.subtract(paymentsReceived);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "DashboardRollupDTO{" +
+            "period=" + getPeriod() +
+            ", dimension=" + getDimension() +
+            ", periodStart='" + getPeriodStart() + "'" +
+            ", key='" + getKey() + "'" +
+            ", budgetCount=" + getBudgetCount() +
+            ", guestCount=" + getGuestCount() +
+            ", revenue=" + getRevenue() +
+            ", cost=" + getCost() +
+            ", paymentsReceived=" + getPaymentsReceived() +
+            "}";
+    }
+}
@@ -0,0 +1,218 @@
+package com.magnus.service.dto;
+
+import com.magnus.domain.enumeration.TaskStatus;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Critical-path schedule computed over the task dependency graph of a budget or weekly plan.
+ * All times are derived from {@code estimatedDuration} (minutes) starting at {@link #getScheduledAt()}.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TaskScheduleDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant scheduledAt;
+
+    private Instant projectFinish;
+
+    private long totalDurationMinutes;
+
+    private List<Long> criticalPath = new ArrayList<>();
+
+    private List<Long> cyclicTaskIds = new ArrayList<>();
+
+    private List<ScheduledTask> tasks = new ArrayList<>();
+
+    public Instant getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public void setScheduledAt(Instant scheduledAt) {
+        this.scheduledAt = scheduledAt;
+    }
+
+    public Instant getProjectFinish() {
+        return projectFinish;
+    }
+
+    public void setProjectFinish(Instant projectFinish) {
+        this.projectFinish = projectFinish;
+    }
+
+    public long getTotalDurationMinutes() {
+        return totalDurationMinutes;
+    }
+
+    public void setTotalDurationMinutes(long totalDurationMinutes) {
+        this.totalDurationMinutes = totalDurationMinutes;
+    }
+
+    public List<Long> getCriticalPath() {
+        return criticalPath;
+    }
+
+    public void setCriticalPath(List<Long> criticalPath) {
+        this.criticalPath = criticalPath;
+    }
+
+    public List<Long> getCyclicTaskIds() {
+        return cyclicTaskIds;
+    }
+
+    public void setCyclicTaskIds(List<Long> cyclicTaskIds) {
+        this.cyclicTaskIds = cyclicTaskIds;
+    }
+
+    public boolean isHasCycle() {
+        return !cyclicTaskIds.isEmpty();
+    }
+
+    public List<ScheduledTask> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<ScheduledTask> tasks) {
+        this.tasks = tasks;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TaskScheduleDTO{" +
+            "scheduledAt='" + getScheduledAt() + "'" +
+            ", projectFinish='" + getProjectFinish() + "'" +
+            ", totalDurationMinutes=" + getTotalDurationMinutes() +
+            ", criticalPath=" + getCriticalPath() +
+            ", cyclicTaskIds=" + getCyclicTaskIds() +
+            ", tasks=" + getTasks().size() +
+            "}";
+    }
+
+    /**
+     * Schedule of a single task, listed in topological order.
+     */
+    public static class ScheduledTask implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long taskId;
+
+        private String title;
+
+        private TaskStatus status;
+
+        private long durationMinutes;
+
+        private Instant earliestStart;
+
+        private Instant earliestFinish;
+
+        private Instant latestStart;
+
+        private Instant latestFinish;
+
+        private long slackMinutes;
+
+        private boolean critical;
+
+        public Long getTaskId() {
+            return taskId;
+        }
+
+        public void setTaskId(Long taskId) {
+            this.taskId = taskId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(TaskStatus status) {
+            this.status = status;
+        }
+
+        public long getDurationMinutes() {
+            return durationMinutes;
+        }
+
+        public void setDurationMinutes(long durationMinutes) {
+            this.durationMinutes = durationMinutes;
+        }
+
+        public Instant getEarliestStart() {
+            return earliestStart;
+        }
+
+        public void setEarliestStart(Instant earliestStart) {
+            this.earliestStart = earliestStart;
+        }
+
+        public Instant getEarliestFinish() {
+            return earliestFinish;
+        }
+
+        public void setEarliestFinish(Instant earliestFinish) {
+            this.earliestFinish = earliestFinish;
+        }
+
+        public Instant getLatestStart() {
+            return latestStart;
+        }
+
+        public void setLatestStart(Instant latestStart) {
+            this.latestStart = latestStart;
+        }
+
+        public Instant getLatestFinish() {
+            return latestFinish;
+        }
+
+        public void setLatestFinish(Instant latestFinish) {
+            this.latestFinish = latestFinish;
+        }
+
+        public long getSlackMinutes() {
+            return slackMinutes;
+        }
+
+        public void setSlackMinutes(long slackMinutes) {
+            this.slackMinutes = slackMinutes;
+        }
+
+        public boolean isCritical() {
+            return critical;
+        }
+
+        public void setCritical(boolean critical) {
+            this.critical = critical;
+        }
+
+        public boolean isLate() {
+            return slackMinutes < 0;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "ScheduledTask{" +
+                "taskId=" + getTaskId() +
+                ", status='" + getStatus() + "'" +
+                ", earliestStart='" + getEarliestStart() + "'" +
+                ", slackMinutes=" + getSlackMinutes() +
+                ", critical=" + isCritical() +
+                "}";
+        }
+    }
+}
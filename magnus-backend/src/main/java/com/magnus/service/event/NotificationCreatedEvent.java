@@ -0,0 +1,37 @@
+package com.magnus.service.event;
+
+import com.magnus.service.dto.NotificationDTO;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a {@link com.magnus.domain.Notification} is created, so it can be pushed
+ * to its recipients once the transaction commits.
+ */
+public class NotificationCreatedEvent extends ApplicationEvent {
+
+    private final NotificationDTO notification;
+
+    private final String targetUserLogin;
+
+    public NotificationCreatedEvent(Object source, NotificationDTO notification, String targetUserLogin) {
+        super(source);
+        this.notification = notification;
+        this.targetUserLogin = targetUserLogin;
+    }
+
+    public NotificationDTO getNotification() {
+        return notification;
+    }
+
+    /**
+     * @return the login of the target user of the notification, or {@code null} if it targets a role.
+     */
+    public String getTargetUserLogin() {
+        return targetUserLogin;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationCreatedEvent{notificationId=" + notification.getId() + ", targetUserLogin='" + targetUserLogin + "'}";
+    }
+}
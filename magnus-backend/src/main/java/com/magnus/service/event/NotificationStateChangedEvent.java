@@ -0,0 +1,53 @@
+package com.magnus.service.event;
+
+import com.magnus.domain.Notification;
+import com.magnus.domain.enumeration.UserRole;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a {@link Notification} is created, changed, read, expired or deleted, carrying
+ * its audience and read state before and after the change.
+ */
+public class NotificationStateChangedEvent extends ApplicationEvent {
+
+    /**
+     * Audience and read state of a notification.
+     */
+    public record State(Long targetUserId, UserRole targetRole, boolean global, boolean unread) {
+        public static State of(Notification notification) {
+            return new State(
+                notification.getTargetUser() != null ? notification.getTargetUser().getId() : null,
+                notification.getTargetRole(),
+                Boolean.TRUE.equals(notification.getIsGlobal()),
+                !Boolean.TRUE.equals(notification.getIsRead())
+            );
+        }
+    }
+
+    private final State before;
+
+    private final State after;
+
+    /**
+     * @param before the state before the change, {@code null} for a new notification.
+     * @param after the state after the change, {@code null} for a removed notification.
+     */
+    public NotificationStateChangedEvent(Object source, State before, State after) {
+        super(source);
+        this.before = before;
+        this.after = after;
+    }
+
+    public State getBefore() {
+        return before;
+    }
+
+    public State getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationStateChangedEvent{before=" + before + ", after=" + after + '}';
+    }
+}
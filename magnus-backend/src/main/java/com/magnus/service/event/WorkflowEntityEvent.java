@@ -0,0 +1,69 @@
+package com.magnus.service.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a workflow-relevant entity is created or updated.
+ * Evaluated by the workflow rule engine against the active {@link com.magnus.domain.WorkflowTrigger} rules.
+ */
+public class WorkflowEntityEvent extends ApplicationEvent {
+
+    public static final String ACTION_CREATED = "CREATED";
+    public static final String ACTION_UPDATED = "UPDATED";
+
+    private final String entityType;
+    private final Long entityId;
+    private final String action;
+    private final Object entity;
+    private final String status;
+    private final String previousStatus;
+
+    public WorkflowEntityEvent(Object source, String entityType, Long entityId, String action, Object entity, Enum<?> status, Enum<?> previousStatus) {
+        super(source);
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.action = action;
+        this.entity = entity;
+        this.status = status != null ? status.name() : null;
+        this.previousStatus = previousStatus != null ? previousStatus.name() : null;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public boolean isStatusChanged() {
+        return status != null && !status.equals(previousStatus);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowEntityEvent{" +
+                "entityType='" + entityType + '\'' +
+                ", entityId=" + entityId +
+                ", action='" + action + '\'' +
+                ", status='" + status + '\'' +
+                ", previousStatus='" + previousStatus + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.magnus.service.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a {@link com.magnus.domain.WorkflowTrigger} is created, updated or deleted,
+ * so the compiled rule index can be rebuilt once the change is committed.
+ */
+public class WorkflowTriggersChangedEvent extends ApplicationEvent {
+
+    private final Long triggerId;
+
+    public WorkflowTriggersChangedEvent(Object source, Long triggerId) {
+        super(source);
+        this.triggerId = triggerId;
+    }
+
+    public Long getTriggerId() {
+        return triggerId;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkflowTriggersChangedEvent{triggerId=" + triggerId + '}';
+    }
+}
@@ -39,29 +39,6 @@ public class AuditLogServiceImpl implements AuditLogService {
         return auditLogMapper.toDto(auditLog);
     }
 
-    @Override
-    public AuditLogDTO update(AuditLogDTO auditLogDTO) {
-        LOG.debug("Request to update AuditLog : {}", auditLogDTO);
-        AuditLog auditLog = auditLogMapper.toEntity(auditLogDTO);
-        auditLog = auditLogRepository.save(auditLog);
-        return auditLogMapper.toDto(auditLog);
-    }
-
-    @Override
-    public Optional<AuditLogDTO> partialUpdate(AuditLogDTO auditLogDTO) {
-        LOG.debug("Request to partially update AuditLog : {}", auditLogDTO);
-
-        return auditLogRepository
-            .findById(auditLogDTO.getId())
-            .map(existingAuditLog -> {
-                auditLogMapper.partialUpdate(existingAuditLog, auditLogDTO);
-
-                return existingAuditLog;
-            })
-            .map(auditLogRepository::save)
-            .map(auditLogMapper::toDto);
-    }
-
     @Override
     @Transactional(readOnly = true)
     public Page<AuditLogDTO> findAll(Pageable pageable) {
@@ -75,10 +52,4 @@ public class AuditLogServiceImpl implements AuditLogService {
         LOG.debug("Request to get AuditLog : {}", id);
         return auditLogRepository.findById(id).map(auditLogMapper::toDto);
     }
-
-    @Override
-    public void delete(Long id) {
-        LOG.debug("Request to delete AuditLog : {}", id);
-        auditLogRepository.deleteById(id);
-    }
 }
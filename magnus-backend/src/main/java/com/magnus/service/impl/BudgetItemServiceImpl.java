@@ -3,6 +3,9 @@ package com.magnus.service.impl;
 import com.magnus.domain.BudgetItem;
 import com.magnus.repository.BudgetItemRepository;
 import com.magnus.service.BudgetItemService;
+import com.magnus.service.concurrency.OptimisticMergeService;
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.BudgetItemDTO;
 import com.magnus.service.mapper.BudgetItemMapper;
 import java.util.LinkedList;
@@ -27,9 +30,16 @@ public class BudgetItemServiceImpl implements BudgetItemService {
 
     private final BudgetItemMapper budgetItemMapper;
 
-    public BudgetItemServiceImpl(BudgetItemRepository budgetItemRepository, BudgetItemMapper budgetItemMapper) {
+    private final OptimisticMergeService optimisticMergeService;
+
+    public BudgetItemServiceImpl(
+        BudgetItemRepository budgetItemRepository,
+        BudgetItemMapper budgetItemMapper,
+        OptimisticMergeService optimisticMergeService
+    ) {
         this.budgetItemRepository = budgetItemRepository;
         this.budgetItemMapper = budgetItemMapper;
+        this.optimisticMergeService = optimisticMergeService;
     }
 
     @Override
@@ -43,8 +53,21 @@ public class BudgetItemServiceImpl implements BudgetItemService {
     @Override
     public BudgetItemDTO update(BudgetItemDTO budgetItemDTO) {
         LOG.debug("Request to update BudgetItem : {}", budgetItemDTO);
-        BudgetItem budgetItem = budgetItemMapper.toEntity(budgetItemDTO);
-        budgetItem = budgetItemRepository.save(budgetItem);
+        BudgetItemDTO mergedBudgetItemDTO = budgetItemRepository
+            .findVersionById(budgetItemDTO.getId())
+            .map(currentVersion ->
+                optimisticMergeService.reconcile(
+                    BudgetItem.class,
+                    budgetItemDTO,
+                    budgetItemDTO.getVersion(),
+                    currentVersion,
+                    () -> budgetItemRepository.findById(budgetItemDTO.getId()).map(budgetItemMapper::toDto).orElseThrow(),
+                    false
+                )
+            )
+            .orElse(budgetItemDTO);
+        BudgetItem budgetItem = budgetItemMapper.toEntity(mergedBudgetItemDTO);
+        budgetItem = budgetItemRepository.saveAndFlush(budgetItem);
         return budgetItemMapper.toDto(budgetItem);
     }
 
@@ -55,14 +78,43 @@ public class BudgetItemServiceImpl implements BudgetItemService {
         return budgetItemRepository
             .findById(budgetItemDTO.getId())
             .map(existingBudgetItem -> {
-                budgetItemMapper.partialUpdate(existingBudgetItem, budgetItemDTO);
+                BudgetItemDTO patch = optimisticMergeService.reconcile(
+                    BudgetItem.class,
+                    budgetItemDTO,
+                    budgetItemDTO.getVersion(),
+                    existingBudgetItem.getVersion(),
+                    () -> budgetItemMapper.toDto(existingBudgetItem),
+                    true
+                );
+                budgetItemMapper.partialUpdate(existingBudgetItem, patch);
 
                 return existingBudgetItem;
             })
-            .map(budgetItemRepository::save)
+            .map(budgetItemRepository::saveAndFlush)
             .map(budgetItemMapper::toDto);
     }
 
+    @Override
+    public BulkResultDTO<BudgetItemDTO> bulk(BulkRequestDTO<BudgetItemDTO> request) {
+        LOG.debug("Request to apply bulk BudgetItem changes : {}", request);
+        return BulkWriteSupport.apply(
+            request,
+            budgetItemRepository,
+            budgetItemMapper,
+            BudgetItemDTO::getId,
+            BudgetItem::getId,
+            (update, existing) ->
+                optimisticMergeService.reconcile(
+                    BudgetItem.class,
+                    update,
+                    update.getVersion(),
+                    existing.getVersion(),
+                    () -> budgetItemMapper.toDto(existing),
+                    false
+                )
+        );
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BudgetItemDTO> findAll() {
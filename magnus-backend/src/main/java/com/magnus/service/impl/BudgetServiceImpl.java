@@ -4,8 +4,11 @@ import com.magnus.domain.Budget;
 import com.magnus.domain.enumeration.BudgetStatus;
 import com.magnus.repository.BudgetRepository;
 import com.magnus.service.BudgetService;
+import com.magnus.service.WorkflowJobService;
+import com.magnus.service.concurrency.OptimisticMergeService;
 import com.magnus.service.dto.BudgetDTO;
 import com.magnus.service.event.BudgetStatusChangeEvent;
+import com.magnus.service.event.WorkflowEntityEvent;
 import com.magnus.service.mapper.BudgetMapper;
 import com.magnus.security.SecurityUtils;
 import java.time.Instant;
@@ -33,10 +36,22 @@ public class BudgetServiceImpl implements BudgetService {
 
     private final ApplicationEventPublisher eventPublisher;
 
-    public BudgetServiceImpl(BudgetRepository budgetRepository, BudgetMapper budgetMapper, ApplicationEventPublisher eventPublisher) {
+    private final WorkflowJobService workflowJobService;
+
+    private final OptimisticMergeService optimisticMergeService;
+
+    public BudgetServiceImpl(
+        BudgetRepository budgetRepository,
+        BudgetMapper budgetMapper,
+        ApplicationEventPublisher eventPublisher,
+        WorkflowJobService workflowJobService,
+        OptimisticMergeService optimisticMergeService
+    ) {
         this.budgetRepository = budgetRepository;
         this.budgetMapper = budgetMapper;
         this.eventPublisher = eventPublisher;
+        this.workflowJobService = workflowJobService;
+        this.optimisticMergeService = optimisticMergeService;
     }
 
     @Override
@@ -44,7 +59,9 @@ public class BudgetServiceImpl implements BudgetService {
         LOG.debug("Request to save Budget : {}", budgetDTO);
         Budget budget = budgetMapper.toEntity(budgetDTO);
         budget = budgetRepository.save(budget);
-        return budgetMapper.toDto(budget);
+        BudgetDTO savedBudgetDTO = budgetMapper.toDto(budget);
+        publishEntityEvent(savedBudgetDTO, WorkflowEntityEvent.ACTION_CREATED, null);
+        return savedBudgetDTO;
     }
 
     @Override
@@ -54,23 +71,42 @@ public class BudgetServiceImpl implements BudgetService {
         // Get the existing budget to check for status changes
         Optional<Budget> existingBudgetOpt = budgetRepository.findById(budgetDTO.getId());
         BudgetStatus oldStatus = existingBudgetOpt.map(Budget::getStatus).orElse(null);
+        BudgetDTO mergedBudgetDTO = existingBudgetOpt
+            .map(existingBudget ->
+                optimisticMergeService.reconcile(
+                    Budget.class,
+                    budgetDTO,
+                    budgetDTO.getVersion(),
+                    existingBudget.getVersion(),
+                    () -> budgetMapper.toDto(existingBudget),
+                    false
+                )
+            )
+            .orElse(budgetDTO);
         
-        Budget budget = budgetMapper.toEntity(budgetDTO);
+        Budget budget = budgetMapper.toEntity(mergedBudgetDTO);
         
         // Set workflow triggered flag and timestamp if status changes to RESERVA
-        if (budget.getStatus() == BudgetStatus.RESERVA && oldStatus != BudgetStatus.RESERVA) {
+        boolean workflowTrigger = budget.getStatus() == BudgetStatus.RESERVA && oldStatus != BudgetStatus.RESERVA;
+        if (workflowTrigger) {
             budget.setWorkflowTriggered(true);
             budget.setLastWorkflowExecution(Instant.now());
             budget.setReservedAt(Instant.now());
         }
         
-        budget = budgetRepository.save(budget);
+        budget = budgetRepository.saveAndFlush(budget);
+
+        // Outbox: the workflow job commits (or rolls back) together with the status change
+        if (workflowTrigger) {
+            workflowJobService.enqueueBudgetWorkflow(budget.getId());
+        }
         BudgetDTO savedBudgetDTO = budgetMapper.toDto(budget);
         
         // Publish status change event if status has changed
         if (oldStatus != null && !oldStatus.equals(budget.getStatus())) {
             publishStatusChangeEvent(savedBudgetDTO, oldStatus, budget.getStatus());
         }
+        publishEntityEvent(savedBudgetDTO, WorkflowEntityEvent.ACTION_UPDATED, oldStatus);
         
         return savedBudgetDTO;
     }
@@ -86,18 +122,28 @@ public class BudgetServiceImpl implements BudgetService {
             .findById(budgetDTO.getId())
             .map(existingBudget -> {
                 oldStatus[0] = existingBudget.getStatus();
-                budgetMapper.partialUpdate(existingBudget, budgetDTO);
+                BudgetDTO patch = optimisticMergeService.reconcile(
+                    Budget.class,
+                    budgetDTO,
+                    budgetDTO.getVersion(),
+                    existingBudget.getVersion(),
+                    () -> budgetMapper.toDto(existingBudget),
+                    true
+                );
+                budgetMapper.partialUpdate(existingBudget, patch);
 
                 // Set workflow triggered flag and timestamp if status changes to RESERVA
                 if (existingBudget.getStatus() == BudgetStatus.RESERVA && oldStatus[0] != BudgetStatus.RESERVA) {
                     existingBudget.setWorkflowTriggered(true);
                     existingBudget.setLastWorkflowExecution(Instant.now());
                     existingBudget.setReservedAt(Instant.now());
+                    // Outbox: the workflow job commits (or rolls back) together with the status change
+                    workflowJobService.enqueueBudgetWorkflow(existingBudget.getId());
                 }
 
                 return existingBudget;
             })
-            .map(budgetRepository::save)
+            .map(budgetRepository::saveAndFlush)
             .map(savedBudget -> {
                 BudgetDTO savedBudgetDTO = budgetMapper.toDto(savedBudget);
                 
@@ -105,6 +151,7 @@ public class BudgetServiceImpl implements BudgetService {
                 if (oldStatus[0] != null && !oldStatus[0].equals(savedBudget.getStatus())) {
                     publishStatusChangeEvent(savedBudgetDTO, oldStatus[0], savedBudget.getStatus());
                 }
+                publishEntityEvent(savedBudgetDTO, WorkflowEntityEvent.ACTION_UPDATED, oldStatus[0]);
                 
                 return savedBudgetDTO;
             });
@@ -150,6 +197,13 @@ public class BudgetServiceImpl implements BudgetService {
         eventPublisher.publishEvent(event);
     }
 
+    /**
+     * Publishes a generic entity event for the workflow rule engine.
+     */
+    private void publishEntityEvent(BudgetDTO budget, String action, BudgetStatus oldStatus) {
+        eventPublisher.publishEvent(new WorkflowEntityEvent(this, "Budget", budget.getId(), action, budget, budget.getStatus(), oldStatus));
+    }
+
     /**
      * Updates budget status and triggers workflow if appropriate.
      * This method can be called directly for status changes that need workflow automation.
@@ -0,0 +1,125 @@
+package com.magnus.service.impl;
+
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
+import com.magnus.service.dto.BulkResultDTO.Operation;
+import com.magnus.service.dto.BulkResultDTO.Status;
+import com.magnus.service.mapper.EntityMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Applies a {@link BulkRequestDTO} through the entity's repository within the caller's transaction.
+ * <p>
+ * The targets of all updates and deletes are loaded with one {@code findAllById}, every change is
+ * queued in the persistence context and the batch is flushed once, so creates, updates and deletes
+ * reach the database as JDBC batches ({@code hibernate.jdbc.batch_size}). Creates are only batched
+ * for entities whose ids are assigned before the insert ({@link com.magnus.domain.id.BlockId});
+ * with IDENTITY ids each persist issues its own INSERT immediately. Results are read after the flush
+ * so they carry the generated ids and incremented versions.
+ */
+final class BulkWriteSupport {
+
+    private BulkWriteSupport() {}
+
+    /**
+     * @param reconcile turns an update and the current entity into the update to apply.
+     */
+    static <E, D> BulkResultDTO<D> apply(
+        BulkRequestDTO<D> request,
+        JpaRepository<E, Long> repository,
+        EntityMapper<D, E> mapper,
+        Function<D, Long> dtoId,
+        Function<E, Long> entityId,
+        BiFunction<D, E, D> reconcile
+    ) {
+        return apply(request, repository, mapper, dtoId, entityId, reconcile, written -> {});
+    }
+
+    /**
+     * @param reconcile turns an update and the current entity into the update to apply.
+     * @param afterWrite receives the created and updated entities once they are flushed.
+     */
+    static <E, D> BulkResultDTO<D> apply(
+        BulkRequestDTO<D> request,
+        JpaRepository<E, Long> repository,
+        EntityMapper<D, E> mapper,
+        Function<D, Long> dtoId,
+        Function<E, Long> entityId,
+        BiFunction<D, E, D> reconcile,
+        Consumer<List<E>> afterWrite
+    ) {
+        Set<Long> targetIds = new HashSet<>(request.getDelete());
+        request.getUpdate().stream().map(dtoId).filter(Objects::nonNull).forEach(targetIds::add);
+        Map<Long, E> targets = new HashMap<>();
+        if (!targetIds.isEmpty()) {
+            repository.findAllById(targetIds).forEach(entity -> targets.put(entityId.apply(entity), entity));
+        }
+
+        List<BulkResultDTO.Item<D>> items = new ArrayList<>();
+        Map<BulkResultDTO.Item<D>, E> written = new IdentityHashMap<>();
+
+        List<D> creates = request.getCreate();
+        for (int index = 0; index < creates.size(); index++) {
+            D dto = creates.get(index);
+            if (dtoId.apply(dto) != null) {
+                items.add(new BulkResultDTO.Item<>(Operation.CREATE, index, dtoId.apply(dto), Status.REJECTED, "idexists", null));
+                continue;
+            }
+            BulkResultDTO.Item<D> item = new BulkResultDTO.Item<>(Operation.CREATE, index, null, Status.CREATED, null, null);
+            written.put(item, repository.save(mapper.toEntity(dto)));
+            items.add(item);
+        }
+
+        List<D> updates = request.getUpdate();
+        for (int index = 0; index < updates.size(); index++) {
+            D dto = updates.get(index);
+            Long id = dtoId.apply(dto);
+            E existing = id != null ? targets.get(id) : null;
+            if (id == null) {
+                items.add(new BulkResultDTO.Item<>(Operation.UPDATE, index, null, Status.REJECTED, "idnull", null));
+                continue;
+            }
+            if (existing == null) {
+                items.add(new BulkResultDTO.Item<>(Operation.UPDATE, index, id, Status.NOT_FOUND, "idnotfound", null));
+                continue;
+            }
+            BulkResultDTO.Item<D> item = new BulkResultDTO.Item<>(Operation.UPDATE, index, id, Status.UPDATED, null, null);
+            written.put(item, repository.save(mapper.toEntity(reconcile.apply(dto, existing))));
+            items.add(item);
+        }
+
+        List<Long> deletes = request.getDelete();
+        for (int index = 0; index < deletes.size(); index++) {
+            Long id = deletes.get(index);
+            E existing = targets.remove(id);
+            if (existing == null) {
+                items.add(new BulkResultDTO.Item<>(Operation.DELETE, index, id, Status.NOT_FOUND, "idnotfound", null));
+                continue;
+            }
+            repository.delete(existing);
+            items.add(new BulkResultDTO.Item<>(Operation.DELETE, index, id, Status.DELETED, null, null));
+        }
+
+        repository.flush();
+        afterWrite.accept(new ArrayList<>(written.values()));
+
+        written.forEach((item, entity) -> {
+            item.setId(entityId.apply(entity));
+            item.setEntity(mapper.toDto(entity));
+        });
+        BulkResultDTO<D> result = new BulkResultDTO<>();
+        result.setItems(items);
+        return result;
+    }
+}
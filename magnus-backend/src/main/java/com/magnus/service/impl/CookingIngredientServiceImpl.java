@@ -3,6 +3,8 @@ package com.magnus.service.impl;
 import com.magnus.domain.CookingIngredient;
 import com.magnus.repository.CookingIngredientRepository;
 import com.magnus.service.CookingIngredientService;
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.CookingIngredientDTO;
 import com.magnus.service.mapper.CookingIngredientMapper;
 import java.util.LinkedList;
@@ -66,6 +68,19 @@ public class CookingIngredientServiceImpl implements CookingIngredientService {
             .map(cookingIngredientMapper::toDto);
     }
 
+    @Override
+    public BulkResultDTO<CookingIngredientDTO> bulk(BulkRequestDTO<CookingIngredientDTO> request) {
+        LOG.debug("Request to apply bulk CookingIngredient changes : {}", request);
+        return BulkWriteSupport.apply(
+            request,
+            cookingIngredientRepository,
+            cookingIngredientMapper,
+            CookingIngredientDTO::getId,
+            CookingIngredient::getId,
+            (update, existing) -> update
+        );
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CookingIngredientDTO> findAll() {
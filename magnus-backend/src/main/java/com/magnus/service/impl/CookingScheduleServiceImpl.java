@@ -3,6 +3,7 @@ package com.magnus.service.impl;
 import com.magnus.domain.CookingSchedule;
 import com.magnus.repository.CookingScheduleRepository;
 import com.magnus.service.CookingScheduleService;
+import com.magnus.service.concurrency.OptimisticMergeService;
 import com.magnus.service.dto.CookingScheduleDTO;
 import com.magnus.service.mapper.CookingScheduleMapper;
 import java.util.Optional;
@@ -26,9 +27,16 @@ public class CookingScheduleServiceImpl implements CookingScheduleService {
 
     private final CookingScheduleMapper cookingScheduleMapper;
 
-    public CookingScheduleServiceImpl(CookingScheduleRepository cookingScheduleRepository, CookingScheduleMapper cookingScheduleMapper) {
+    private final OptimisticMergeService optimisticMergeService;
+
+    public CookingScheduleServiceImpl(
+        CookingScheduleRepository cookingScheduleRepository,
+        CookingScheduleMapper cookingScheduleMapper,
+        OptimisticMergeService optimisticMergeService
+    ) {
         this.cookingScheduleRepository = cookingScheduleRepository;
         this.cookingScheduleMapper = cookingScheduleMapper;
+        this.optimisticMergeService = optimisticMergeService;
     }
 
     @Override
@@ -42,8 +50,21 @@ public class CookingScheduleServiceImpl implements CookingScheduleService {
     @Override
     public CookingScheduleDTO update(CookingScheduleDTO cookingScheduleDTO) {
         LOG.debug("Request to update CookingSchedule : {}", cookingScheduleDTO);
-        CookingSchedule cookingSchedule = cookingScheduleMapper.toEntity(cookingScheduleDTO);
-        cookingSchedule = cookingScheduleRepository.save(cookingSchedule);
+        CookingScheduleDTO mergedCookingScheduleDTO = cookingScheduleRepository
+            .findVersionById(cookingScheduleDTO.getId())
+            .map(currentVersion ->
+                optimisticMergeService.reconcile(
+                    CookingSchedule.class,
+                    cookingScheduleDTO,
+                    cookingScheduleDTO.getVersion(),
+                    currentVersion,
+                    () -> cookingScheduleRepository.findById(cookingScheduleDTO.getId()).map(cookingScheduleMapper::toDto).orElseThrow(),
+                    false
+                )
+            )
+            .orElse(cookingScheduleDTO);
+        CookingSchedule cookingSchedule = cookingScheduleMapper.toEntity(mergedCookingScheduleDTO);
+        cookingSchedule = cookingScheduleRepository.saveAndFlush(cookingSchedule);
         return cookingScheduleMapper.toDto(cookingSchedule);
     }
 
@@ -54,11 +75,19 @@ public class CookingScheduleServiceImpl implements CookingScheduleService {
         return cookingScheduleRepository
             .findById(cookingScheduleDTO.getId())
             .map(existingCookingSchedule -> {
-                cookingScheduleMapper.partialUpdate(existingCookingSchedule, cookingScheduleDTO);
+                CookingScheduleDTO patch = optimisticMergeService.reconcile(
+                    CookingSchedule.class,
+                    cookingScheduleDTO,
+                    cookingScheduleDTO.getVersion(),
+                    existingCookingSchedule.getVersion(),
+                    () -> cookingScheduleMapper.toDto(existingCookingSchedule),
+                    true
+                );
+                cookingScheduleMapper.partialUpdate(existingCookingSchedule, patch);
 
                 return existingCookingSchedule;
             })
-            .map(cookingScheduleRepository::save)
+            .map(cookingScheduleRepository::saveAndFlush)
             .map(cookingScheduleMapper::toDto);
     }
 
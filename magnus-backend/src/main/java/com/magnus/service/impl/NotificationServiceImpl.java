@@ -4,9 +4,13 @@ import com.magnus.domain.Notification;
 import com.magnus.domain.enumeration.NotificationType;
 import com.magnus.domain.enumeration.TaskPriority;
 import com.magnus.domain.enumeration.UserRole;
+import com.magnus.repository.AppUserRepository;
 import com.magnus.repository.NotificationRepository;
 import com.magnus.service.NotificationService;
+import com.magnus.service.criteria.KeysetCursor;
 import com.magnus.service.dto.NotificationDTO;
+import com.magnus.service.event.NotificationCreatedEvent;
+import com.magnus.service.event.NotificationStateChangedEvent;
 import com.magnus.service.mapper.NotificationMapper;
 import java.time.Instant;
 import java.util.List;
@@ -14,7 +18,9 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,24 +38,50 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationMapper notificationMapper;
 
-    public NotificationServiceImpl(NotificationRepository notificationRepository, NotificationMapper notificationMapper) {
+    private final AppUserRepository appUserRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NotificationServiceImpl(
+        NotificationRepository notificationRepository,
+        NotificationMapper notificationMapper,
+        AppUserRepository appUserRepository,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.notificationRepository = notificationRepository;
         this.notificationMapper = notificationMapper;
+        this.appUserRepository = appUserRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public NotificationDTO save(NotificationDTO notificationDTO) {
         LOG.debug("Request to save Notification : {}", notificationDTO);
+        boolean created = notificationDTO.getId() == null;
         Notification notification = notificationMapper.toEntity(notificationDTO);
         notification = notificationRepository.save(notification);
-        return notificationMapper.toDto(notification);
+        NotificationDTO result = notificationMapper.toDto(notification);
+        if (created) {
+            // the DTO only carries the id of the target user
+            String targetUserLogin = result.getTargetUser() != null
+                ? appUserRepository.findLoginById(result.getTargetUser().getId()).orElse(null)
+                : null;
+            eventPublisher.publishEvent(new NotificationCreatedEvent(this, result, targetUserLogin));
+            eventPublisher.publishEvent(new NotificationStateChangedEvent(this, null, NotificationStateChangedEvent.State.of(notification)));
+        }
+        return result;
     }
 
     @Override
     public NotificationDTO update(NotificationDTO notificationDTO) {
         LOG.debug("Request to update Notification : {}", notificationDTO);
+        NotificationStateChangedEvent.State before = notificationRepository
+            .findById(notificationDTO.getId())
+            .map(NotificationStateChangedEvent.State::of)
+            .orElse(null);
         Notification notification = notificationMapper.toEntity(notificationDTO);
         notification = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationStateChangedEvent(this, before, NotificationStateChangedEvent.State.of(notification)));
         return notificationMapper.toDto(notification);
     }
 
@@ -60,11 +92,12 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository
             .findById(notificationDTO.getId())
             .map(existingNotification -> {
+                NotificationStateChangedEvent.State before = NotificationStateChangedEvent.State.of(existingNotification);
                 notificationMapper.partialUpdate(existingNotification, notificationDTO);
-
-                return existingNotification;
+                Notification saved = notificationRepository.save(existingNotification);
+                eventPublisher.publishEvent(new NotificationStateChangedEvent(this, before, NotificationStateChangedEvent.State.of(saved)));
+                return saved;
             })
-            .map(notificationRepository::save)
             .map(notificationMapper::toDto);
     }
 
@@ -95,6 +128,25 @@ public class NotificationServiceImpl implements NotificationService {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotificationDTO> findUnreadVisibleAfter(String login, KeysetCursor cursor, int limit) {
+        LOG.debug("Request to get unread Notifications of user {} after {}", login, cursor);
+        UserRole role = appUserRepository.findRoleByLogin(login).orElse(null);
+        return notificationRepository
+            .findUnreadVisibleAfter(
+                login,
+                role,
+                Instant.now(),
+                cursor != null ? cursor.time() : Instant.EPOCH,
+                cursor != null ? cursor.id() : 0L,
+                PageRequest.of(0, limit)
+            )
+            .stream()
+            .map(notificationMapper::toDto)
+            .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<NotificationDTO> findOne(Long id) {
@@ -105,7 +157,13 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public void delete(Long id) {
         LOG.debug("Request to delete Notification : {}", id);
-        notificationRepository.deleteById(id);
+        notificationRepository
+            .findById(id)
+            .ifPresent(notification -> {
+                NotificationStateChangedEvent.State before = NotificationStateChangedEvent.State.of(notification);
+                notificationRepository.delete(notification);
+                eventPublisher.publishEvent(new NotificationStateChangedEvent(this, before, null));
+            });
     }
 
     @Override
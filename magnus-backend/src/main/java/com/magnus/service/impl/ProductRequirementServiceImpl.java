@@ -3,6 +3,7 @@ package com.magnus.service.impl;
 import com.magnus.domain.ProductRequirement;
 import com.magnus.repository.ProductRequirementRepository;
 import com.magnus.service.ProductRequirementService;
+import com.magnus.service.concurrency.OptimisticMergeService;
 import com.magnus.service.dto.ProductRequirementDTO;
 import com.magnus.service.mapper.ProductRequirementMapper;
 import java.util.LinkedList;
@@ -27,12 +28,16 @@ public class ProductRequirementServiceImpl implements ProductRequirementService
 
     private final ProductRequirementMapper productRequirementMapper;
 
+    private final OptimisticMergeService optimisticMergeService;
+
     public ProductRequirementServiceImpl(
         ProductRequirementRepository productRequirementRepository,
-        ProductRequirementMapper productRequirementMapper
+        ProductRequirementMapper productRequirementMapper,
+        OptimisticMergeService optimisticMergeService
     ) {
         this.productRequirementRepository = productRequirementRepository;
         this.productRequirementMapper = productRequirementMapper;
+        this.optimisticMergeService = optimisticMergeService;
     }
 
     @Override
@@ -46,8 +51,21 @@ public class ProductRequirementServiceImpl implements ProductRequirementService
     @Override
     public ProductRequirementDTO update(ProductRequirementDTO productRequirementDTO) {
         LOG.debug("Request to update ProductRequirement : {}", productRequirementDTO);
-        ProductRequirement productRequirement = productRequirementMapper.toEntity(productRequirementDTO);
-        productRequirement = productRequirementRepository.save(productRequirement);
+        ProductRequirementDTO mergedProductRequirementDTO = productRequirementRepository
+            .findVersionById(productRequirementDTO.getId())
+            .map(currentVersion ->
+                optimisticMergeService.reconcile(
+                    ProductRequirement.class,
+                    productRequirementDTO,
+                    productRequirementDTO.getVersion(),
+                    currentVersion,
+                    () -> productRequirementRepository.findById(productRequirementDTO.getId()).map(productRequirementMapper::toDto).orElseThrow(),
+                    false
+                )
+            )
+            .orElse(productRequirementDTO);
+        ProductRequirement productRequirement = productRequirementMapper.toEntity(mergedProductRequirementDTO);
+        productRequirement = productRequirementRepository.saveAndFlush(productRequirement);
         return productRequirementMapper.toDto(productRequirement);
     }
 
@@ -58,11 +76,19 @@ public class ProductRequirementServiceImpl implements ProductRequirementService
         return productRequirementRepository
             .findById(productRequirementDTO.getId())
             .map(existingProductRequirement -> {
-                productRequirementMapper.partialUpdate(existingProductRequirement, productRequirementDTO);
+                ProductRequirementDTO patch = optimisticMergeService.reconcile(
+                    ProductRequirement.class,
+                    productRequirementDTO,
+                    productRequirementDTO.getVersion(),
+                    existingProductRequirement.getVersion(),
+                    () -> productRequirementMapper.toDto(existingProductRequirement),
+                    true
+                );
+                productRequirementMapper.partialUpdate(existingProductRequirement, patch);
 
                 return existingProductRequirement;
             })
-            .map(productRequirementRepository::save)
+            .map(productRequirementRepository::saveAndFlush)
             .map(productRequirementMapper::toDto);
     }
 
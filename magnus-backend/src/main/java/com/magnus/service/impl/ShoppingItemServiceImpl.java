@@ -3,8 +3,13 @@ package com.magnus.service.impl;
 import com.magnus.domain.ShoppingItem;
 import com.magnus.repository.ShoppingItemRepository;
 import com.magnus.service.ShoppingItemService;
+import com.magnus.service.concurrency.OptimisticMergeService;
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.ShoppingItemDTO;
 import com.magnus.service.mapper.ShoppingItemMapper;
+import com.magnus.service.shopping.ShoppingItemBudgetLinks;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,9 +31,20 @@ public class ShoppingItemServiceImpl implements ShoppingItemService {
 
     private final ShoppingItemMapper shoppingItemMapper;
 
-    public ShoppingItemServiceImpl(ShoppingItemRepository shoppingItemRepository, ShoppingItemMapper shoppingItemMapper) {
+    private final OptimisticMergeService optimisticMergeService;
+
+    private final ShoppingItemBudgetLinks shoppingItemBudgetLinks;
+
+    public ShoppingItemServiceImpl(
+        ShoppingItemRepository shoppingItemRepository,
+        ShoppingItemMapper shoppingItemMapper,
+        OptimisticMergeService optimisticMergeService,
+        ShoppingItemBudgetLinks shoppingItemBudgetLinks
+    ) {
         this.shoppingItemRepository = shoppingItemRepository;
         this.shoppingItemMapper = shoppingItemMapper;
+        this.optimisticMergeService = optimisticMergeService;
+        this.shoppingItemBudgetLinks = shoppingItemBudgetLinks;
     }
 
     @Override
@@ -36,14 +52,29 @@ public class ShoppingItemServiceImpl implements ShoppingItemService {
         LOG.debug("Request to save ShoppingItem : {}", shoppingItemDTO);
         ShoppingItem shoppingItem = shoppingItemMapper.toEntity(shoppingItemDTO);
         shoppingItem = shoppingItemRepository.save(shoppingItem);
+        shoppingItemBudgetLinks.sync(List.of(shoppingItem));
         return shoppingItemMapper.toDto(shoppingItem);
     }
 
     @Override
     public ShoppingItemDTO update(ShoppingItemDTO shoppingItemDTO) {
         LOG.debug("Request to update ShoppingItem : {}", shoppingItemDTO);
-        ShoppingItem shoppingItem = shoppingItemMapper.toEntity(shoppingItemDTO);
-        shoppingItem = shoppingItemRepository.save(shoppingItem);
+        ShoppingItemDTO mergedShoppingItemDTO = shoppingItemRepository
+            .findVersionById(shoppingItemDTO.getId())
+            .map(currentVersion ->
+                optimisticMergeService.reconcile(
+                    ShoppingItem.class,
+                    shoppingItemDTO,
+                    shoppingItemDTO.getVersion(),
+                    currentVersion,
+                    () -> shoppingItemRepository.findById(shoppingItemDTO.getId()).map(shoppingItemMapper::toDto).orElseThrow(),
+                    false
+                )
+            )
+            .orElse(shoppingItemDTO);
+        ShoppingItem shoppingItem = shoppingItemMapper.toEntity(mergedShoppingItemDTO);
+        shoppingItem = shoppingItemRepository.saveAndFlush(shoppingItem);
+        shoppingItemBudgetLinks.sync(List.of(shoppingItem));
         return shoppingItemMapper.toDto(shoppingItem);
     }
 
@@ -54,14 +85,48 @@ public class ShoppingItemServiceImpl implements ShoppingItemService {
         return shoppingItemRepository
             .findById(shoppingItemDTO.getId())
             .map(existingShoppingItem -> {
-                shoppingItemMapper.partialUpdate(existingShoppingItem, shoppingItemDTO);
+                ShoppingItemDTO patch = optimisticMergeService.reconcile(
+                    ShoppingItem.class,
+                    shoppingItemDTO,
+                    shoppingItemDTO.getVersion(),
+                    existingShoppingItem.getVersion(),
+                    () -> shoppingItemMapper.toDto(existingShoppingItem),
+                    true
+                );
+                shoppingItemMapper.partialUpdate(existingShoppingItem, patch);
 
                 return existingShoppingItem;
             })
-            .map(shoppingItemRepository::save)
+            .map(shoppingItemRepository::saveAndFlush)
+            .map(saved -> {
+                shoppingItemBudgetLinks.sync(List.of(saved));
+                return saved;
+            })
             .map(shoppingItemMapper::toDto);
     }
 
+    @Override
+    public BulkResultDTO<ShoppingItemDTO> bulk(BulkRequestDTO<ShoppingItemDTO> request) {
+        LOG.debug("Request to apply bulk ShoppingItem changes : {}", request);
+        return BulkWriteSupport.apply(
+            request,
+            shoppingItemRepository,
+            shoppingItemMapper,
+            ShoppingItemDTO::getId,
+            ShoppingItem::getId,
+            (update, existing) ->
+                optimisticMergeService.reconcile(
+                    ShoppingItem.class,
+                    update,
+                    update.getVersion(),
+                    existing.getVersion(),
+                    () -> shoppingItemMapper.toDto(existing),
+                    false
+                ),
+            shoppingItemBudgetLinks::sync
+        );
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<ShoppingItemDTO> findAll(Pageable pageable) {
@@ -69,6 +134,13 @@ public class ShoppingItemServiceImpl implements ShoppingItemService {
         return shoppingItemRepository.findAll(pageable).map(shoppingItemMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShoppingItemDTO> findAllByBudgetId(Long budgetId) {
+        LOG.debug("Request to get all ShoppingItems of Budget : {}", budgetId);
+        return shoppingItemMapper.toDto(shoppingItemRepository.findByBudgetId(budgetId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<ShoppingItemDTO> findOne(Long id) {
@@ -41,6 +41,13 @@ public class TaskDependencyServiceImpl implements TaskDependencyService {
         return taskDependencyMapper.toDto(taskDependency);
     }
 
+    @Override
+    public List<TaskDependencyDTO> saveAll(List<TaskDependencyDTO> taskDependencyDTOs) {
+        LOG.debug("Request to save {} TaskDependencies", taskDependencyDTOs.size());
+        List<TaskDependency> taskDependencies = taskDependencyRepository.saveAll(taskDependencyMapper.toEntity(taskDependencyDTOs));
+        return taskDependencyMapper.toDto(taskDependencies);
+    }
+
     @Override
     public TaskDependencyDTO update(TaskDependencyDTO taskDependencyDTO) {
         LOG.debug("Request to update TaskDependency : {}", taskDependencyDTO);
@@ -1,17 +1,19 @@
 package com.magnus.service.impl;
 
 import com.magnus.domain.Task;
+import com.magnus.domain.enumeration.TaskStatus;
 import com.magnus.repository.TaskRepository;
 import com.magnus.service.TaskService;
+import com.magnus.service.concurrency.OptimisticMergeService;
 import com.magnus.service.dto.TaskDTO;
+import com.magnus.service.event.WorkflowEntityEvent;
 import com.magnus.service.mapper.TaskMapper;
-import java.util.LinkedList;
+import com.magnus.service.workflow.TaskScheduleService;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,9 +32,24 @@ public class TaskServiceImpl implements TaskService {
 
     private final TaskMapper taskMapper;
 
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TaskScheduleService taskScheduleService;
+
+    private final OptimisticMergeService optimisticMergeService;
+
+    public TaskServiceImpl(
+        TaskRepository taskRepository,
+        TaskMapper taskMapper,
+        ApplicationEventPublisher eventPublisher,
+        TaskScheduleService taskScheduleService,
+        OptimisticMergeService optimisticMergeService
+    ) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.taskScheduleService = taskScheduleService;
+        this.optimisticMergeService = optimisticMergeService;
     }
 
     @Override
@@ -40,15 +57,41 @@ public class TaskServiceImpl implements TaskService {
         LOG.debug("Request to save Task : {}", taskDTO);
         Task task = taskMapper.toEntity(taskDTO);
         task = taskRepository.save(task);
-        return taskMapper.toDto(task);
+        TaskDTO savedTaskDTO = taskMapper.toDto(task);
+        publishEntityEvent(savedTaskDTO, WorkflowEntityEvent.ACTION_CREATED, null);
+        return savedTaskDTO;
+    }
+
+    @Override
+    public List<TaskDTO> saveAll(List<TaskDTO> taskDTOs) {
+        LOG.debug("Request to save {} Tasks", taskDTOs.size());
+        List<Task> tasks = taskRepository.saveAll(taskMapper.toEntity(taskDTOs));
+        return taskMapper.toDto(tasks);
     }
 
     @Override
     public TaskDTO update(TaskDTO taskDTO) {
         LOG.debug("Request to update Task : {}", taskDTO);
-        Task task = taskMapper.toEntity(taskDTO);
-        task = taskRepository.save(task);
-        return taskMapper.toDto(task);
+        Optional<Task> existingTaskOpt = taskRepository.findById(taskDTO.getId());
+        TaskStatus oldStatus = existingTaskOpt.map(Task::getStatus).orElse(null);
+        TaskDTO mergedTaskDTO = existingTaskOpt
+            .map(existingTask ->
+                optimisticMergeService.reconcile(
+                    Task.class,
+                    taskDTO,
+                    taskDTO.getVersion(),
+                    existingTask.getVersion(),
+                    () -> taskMapper.toDto(existingTask),
+                    false
+                )
+            )
+            .orElse(taskDTO);
+        Task task = taskMapper.toEntity(mergedTaskDTO);
+        task = taskRepository.saveAndFlush(task);
+        TaskDTO savedTaskDTO = taskMapper.toDto(task);
+        publishEntityEvent(savedTaskDTO, WorkflowEntityEvent.ACTION_UPDATED, oldStatus);
+        unblockDependentsIfDone(savedTaskDTO, oldStatus);
+        return savedTaskDTO;
     }
 
     @Override
@@ -58,12 +101,22 @@ public class TaskServiceImpl implements TaskService {
         return taskRepository
             .findById(taskDTO.getId())
             .map(existingTask -> {
-                taskMapper.partialUpdate(existingTask, taskDTO);
+                TaskStatus oldStatus = existingTask.getStatus();
+                TaskDTO patch = optimisticMergeService.reconcile(
+                    Task.class,
+                    taskDTO,
+                    taskDTO.getVersion(),
+                    existingTask.getVersion(),
+                    () -> taskMapper.toDto(existingTask),
+                    true
+                );
+                taskMapper.partialUpdate(existingTask, patch);
 
-                return existingTask;
-            })
-            .map(taskRepository::save)
-            .map(taskMapper::toDto);
+                TaskDTO savedTaskDTO = taskMapper.toDto(taskRepository.saveAndFlush(existingTask));
+                publishEntityEvent(savedTaskDTO, WorkflowEntityEvent.ACTION_UPDATED, oldStatus);
+                unblockDependentsIfDone(savedTaskDTO, oldStatus);
+                return savedTaskDTO;
+            });
     }
 
     @Override
@@ -75,15 +128,14 @@ public class TaskServiceImpl implements TaskService {
 
     /**
      *  Get all the tasks where CookingSchedule is {@code null}.
+     *  @param pageable the pagination information.
      *  @return the list of entities.
      */
+    @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> findAllWhereCookingScheduleIsNull() {
-        LOG.debug("Request to get all tasks where CookingSchedule is null");
-        return StreamSupport.stream(taskRepository.findAll().spliterator(), false)
-            .filter(task -> task.getCookingSchedule() == null)
-            .map(taskMapper::toDto)
-            .collect(Collectors.toCollection(LinkedList::new));
+    public Page<TaskDTO> findAllWhereCookingScheduleIsNull(Pageable pageable) {
+        LOG.debug("Request to get a page of tasks where CookingSchedule is null");
+        return taskRepository.findAllWhereCookingScheduleIsNull(pageable).map(taskMapper::toDto);
     }
 
     @Override
@@ -98,4 +150,23 @@ public class TaskServiceImpl implements TaskService {
         LOG.debug("Request to delete Task : {}", id);
         taskRepository.deleteById(id);
     }
+
+    /**
+     * When a task becomes DONE, releases the dependents that were only waiting on it.
+     */
+    private void unblockDependentsIfDone(TaskDTO task, TaskStatus oldStatus) {
+        if (task.getStatus() != TaskStatus.DONE || oldStatus == TaskStatus.DONE) {
+            return;
+        }
+        for (Task unblocked : taskScheduleService.unblockDependents(task.getId())) {
+            publishEntityEvent(taskMapper.toDto(unblocked), WorkflowEntityEvent.ACTION_UPDATED, TaskStatus.BLOCKED);
+        }
+    }
+
+    /**
+     * Publishes a generic entity event for the workflow rule engine.
+     */
+    private void publishEntityEvent(TaskDTO task, String action, TaskStatus oldStatus) {
+        eventPublisher.publishEvent(new WorkflowEntityEvent(this, "Task", task.getId(), action, task, task.getStatus(), oldStatus));
+    }
 }
@@ -4,10 +4,12 @@ import com.magnus.domain.WorkflowTrigger;
 import com.magnus.repository.WorkflowTriggerRepository;
 import com.magnus.service.WorkflowTriggerService;
 import com.magnus.service.dto.WorkflowTriggerDTO;
+import com.magnus.service.event.WorkflowTriggersChangedEvent;
 import com.magnus.service.mapper.WorkflowTriggerMapper;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,9 +28,16 @@ public class WorkflowTriggerServiceImpl implements WorkflowTriggerService {
 
     private final WorkflowTriggerMapper workflowTriggerMapper;
 
-    public WorkflowTriggerServiceImpl(WorkflowTriggerRepository workflowTriggerRepository, WorkflowTriggerMapper workflowTriggerMapper) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public WorkflowTriggerServiceImpl(
+        WorkflowTriggerRepository workflowTriggerRepository,
+        WorkflowTriggerMapper workflowTriggerMapper,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.workflowTriggerRepository = workflowTriggerRepository;
         this.workflowTriggerMapper = workflowTriggerMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -36,6 +45,7 @@ public class WorkflowTriggerServiceImpl implements WorkflowTriggerService {
         LOG.debug("Request to save WorkflowTrigger : {}", workflowTriggerDTO);
         WorkflowTrigger workflowTrigger = workflowTriggerMapper.toEntity(workflowTriggerDTO);
         workflowTrigger = workflowTriggerRepository.save(workflowTrigger);
+        eventPublisher.publishEvent(new WorkflowTriggersChangedEvent(this, workflowTrigger.getId()));
         return workflowTriggerMapper.toDto(workflowTrigger);
     }
 
@@ -44,6 +54,7 @@ public class WorkflowTriggerServiceImpl implements WorkflowTriggerService {
         LOG.debug("Request to update WorkflowTrigger : {}", workflowTriggerDTO);
         WorkflowTrigger workflowTrigger = workflowTriggerMapper.toEntity(workflowTriggerDTO);
         workflowTrigger = workflowTriggerRepository.save(workflowTrigger);
+        eventPublisher.publishEvent(new WorkflowTriggersChangedEvent(this, workflowTrigger.getId()));
         return workflowTriggerMapper.toDto(workflowTrigger);
     }
 
@@ -59,7 +70,10 @@ public class WorkflowTriggerServiceImpl implements WorkflowTriggerService {
                 return existingWorkflowTrigger;
             })
             .map(workflowTriggerRepository::save)
-            .map(workflowTriggerMapper::toDto);
+            .map(savedWorkflowTrigger -> {
+                eventPublisher.publishEvent(new WorkflowTriggersChangedEvent(this, savedWorkflowTrigger.getId()));
+                return workflowTriggerMapper.toDto(savedWorkflowTrigger);
+            });
     }
 
     @Override
@@ -80,5 +94,6 @@ public class WorkflowTriggerServiceImpl implements WorkflowTriggerService {
     public void delete(Long id) {
         LOG.debug("Request to delete WorkflowTrigger : {}", id);
         workflowTriggerRepository.deleteById(id);
+        eventPublisher.publishEvent(new WorkflowTriggersChangedEvent(this, id));
     }
 }
@@ -0,0 +1,146 @@
+package com.magnus.service.notification;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.repository.NotificationRepository;
+import com.magnus.service.event.NotificationStateChangedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Removes expired notifications and notifications read longer than the configured retention ago.
+ * <p>
+ * Candidates are walked in id order, one bounded batch per transaction, so every statement only
+ * touches a short id range and locks are held briefly. The rows of a batch that are still sweepable are
+ * locked, so a notification changed in the meantime is left alone, then copied to
+ * {@code notification_archive} (unless archiving is disabled) and deleted. Removed unread
+ * notifications are reported to the unread counters through {@link NotificationStateChangedEvent}.
+ */
+@Component
+public class NotificationSweeper {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationSweeper.class);
+
+    public static final String METER_PREFIX = "notifications.sweeper";
+
+    private final NotificationRepository notificationRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Notifications.Sweeper sweeperProperties;
+
+    private final DistributionSummary purgedRows;
+
+    private final Timer sweepDuration;
+
+    public NotificationSweeper(
+        NotificationRepository notificationRepository,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sweeperProperties = applicationProperties.getNotifications().getSweeper();
+        this.purgedRows = DistributionSummary.builder(METER_PREFIX + ".purged")
+            .description("Notifications removed per sweep")
+            .baseUnit("rows")
+            .register(meterRegistry);
+        this.sweepDuration = Timer.builder(METER_PREFIX + ".duration").description("Duration of a notification sweep").register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.notifications.sweeper.interval-ms:300000}",
+        fixedDelayString = "${application.notifications.sweeper.interval-ms:300000}"
+    )
+    public void scheduledSweep() {
+        if (!sweeperProperties.isEnabled()) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            LOG.warn("Notification sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs one sweep of at most {@code max-batches-per-run} batches.
+     *
+     * @return the number of notifications removed.
+     */
+    public int sweep() {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        Instant readBefore = now.minus(sweeperProperties.getReadRetention());
+        int batchSize = sweeperProperties.getBatchSize();
+        long afterId = 0;
+        int purged = 0;
+        try {
+            for (int batch = 0; batch < sweeperProperties.getMaxBatchesPerRun(); batch++) {
+                List<NotificationRepository.SweepRow> rows = notificationRepository.findSweepable(
+                    afterId,
+                    now,
+                    readBefore,
+                    PageRequest.of(0, batchSize)
+                );
+                if (rows.isEmpty()) {
+                    break;
+                }
+                Integer removed = transactionTemplate.execute(status -> sweepBatch(rows, now, readBefore));
+                purged += removed != null ? removed : 0;
+                afterId = rows.get(rows.size() - 1).getId();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            purgedRows.record(purged);
+            sweepDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (purged > 0) {
+            LOG.info("Swept {} notifications (archived: {})", purged, sweeperProperties.isArchive());
+        }
+        return purged;
+    }
+
+    private int sweepBatch(List<NotificationRepository.SweepRow> rows, Instant now, Instant readBefore) {
+        List<Long> candidates = rows.stream().map(NotificationRepository.SweepRow::getId).toList();
+        List<NotificationRepository.SweepRow> locked = notificationRepository.lockSweepable(candidates, now, readBefore);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = locked.stream().map(NotificationRepository.SweepRow::getId).toList();
+        if (sweeperProperties.isArchive()) {
+            notificationRepository.archiveSweepable(ids, now, readBefore);
+        }
+        int removed = notificationRepository.deleteSweepable(ids, now, readBefore);
+        for (NotificationRepository.SweepRow row : locked) {
+            if (!Boolean.TRUE.equals(row.getIsRead())) {
+                NotificationStateChangedEvent.State before = new NotificationStateChangedEvent.State(
+                    row.getTargetUserId(),
+                    row.getTargetRole(),
+                    Boolean.TRUE.equals(row.getIsGlobal()),
+                    true
+                );
+                eventPublisher.publishEvent(new NotificationStateChangedEvent(this, before, null));
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,141 @@
+package com.magnus.service.notification;
+
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.repository.AppUserRepository;
+import com.magnus.repository.NotificationRepository;
+import com.magnus.service.event.NotificationStateChangedEvent;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Unread notification counts kept in memory, so the header badge never queries the notification table.
+ * <p>
+ * Each notification is counted in exactly one bucket: its target user if it has one, otherwise the
+ * global bucket if it is global, otherwise its target role. The unread count of a user is the sum of
+ * their own bucket, their role's bucket and the global bucket. Counters are rebuilt from one
+ * aggregate query at startup and periodically (which also bounds drift between nodes), and are
+ * adjusted after commit by {@link NotificationStateChangedEvent}s.
+ */
+@Service
+public class UnreadNotificationCounters {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UnreadNotificationCounters.class);
+
+    private static final Audience UNKNOWN = new Audience(null, null);
+
+    private final NotificationRepository notificationRepository;
+
+    private final AppUserRepository appUserRepository;
+
+    private final ConcurrentMap<String, Audience> audiences = new ConcurrentHashMap<>();
+
+    private volatile Counts counts = new Counts();
+
+    public UnreadNotificationCounters(NotificationRepository notificationRepository, AppUserRepository appUserRepository) {
+        this.notificationRepository = notificationRepository;
+        this.appUserRepository = appUserRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Replaces the counters with fresh counts from the database.
+     */
+    @Scheduled(
+        initialDelayString = "${application.notifications.counters-resync-interval-ms:600000}",
+        fixedDelayString = "${application.notifications.counters-resync-interval-ms:600000}"
+    )
+    public void rebuild() {
+        Counts rebuilt = new Counts();
+        List<NotificationRepository.UnreadCountRow> rows = notificationRepository.countUnreadByAudience();
+        for (NotificationRepository.UnreadCountRow row : rows) {
+            rebuilt.add(row.getTargetUserId(), row.getTargetRole(), Boolean.TRUE.equals(row.getIsGlobal()), row.getUnread());
+        }
+        counts = rebuilt;
+        audiences.clear();
+        LOG.debug("Rebuilt unread notification counters from {} audience rows", rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStateChanged(NotificationStateChangedEvent event) {
+        Counts current = counts;
+        NotificationStateChangedEvent.State before = event.getBefore();
+        NotificationStateChangedEvent.State after = event.getAfter();
+        if (before != null && before.unread()) {
+            current.add(before.targetUserId(), before.targetRole(), before.global(), -1);
+        }
+        if (after != null && after.unread()) {
+            current.add(after.targetUserId(), after.targetRole(), after.global(), 1);
+        }
+    }
+
+    /**
+     * @param login the login of the user.
+     * @return the number of unread notifications visible to the user.
+     */
+    public long unreadCount(String login) {
+        Audience audience = audiences.get(login);
+        if (audience == null) {
+            audience = appUserRepository
+                .findAudienceByLogin(login)
+                .map(row -> new Audience(row.getId(), row.getRole()))
+                .orElse(UNKNOWN);
+            audiences.put(login, audience);
+        }
+        return counts.count(audience.userId(), audience.role());
+    }
+
+    private record Audience(Long userId, UserRole role) {}
+
+    static final class Counts {
+
+        private final ConcurrentMap<Long, AtomicLong> byUser = new ConcurrentHashMap<>();
+
+        private final Map<UserRole, AtomicLong> byRole = new EnumMap<>(UserRole.class);
+
+        private final AtomicLong global = new AtomicLong();
+
+        Counts() {
+            // filled once, afterwards only the counters change
+            for (UserRole role : UserRole.values()) {
+                byRole.put(role, new AtomicLong());
+            }
+        }
+
+        void add(Long targetUserId, UserRole targetRole, boolean isGlobal, long delta) {
+            if (targetUserId != null) {
+                byUser.computeIfAbsent(targetUserId, id -> new AtomicLong()).addAndGet(delta);
+            } else if (isGlobal) {
+                global.addAndGet(delta);
+            } else if (targetRole != null) {
+                byRole.get(targetRole).addAndGet(delta);
+            }
+        }
+
+        long count(Long userId, UserRole role) {
+            long count = global.get();
+            if (userId != null) {
+                AtomicLong user = byUser.get(userId);
+                count += user != null ? user.get() : 0;
+            }
+            if (role != null) {
+                count += byRole.get(role).get();
+            }
+            return Math.max(0, count);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Notification delivery support: in-memory unread counters and the expiry sweeper.
+ */
+package com.magnus.service.notification;
@@ -0,0 +1,51 @@
+package com.magnus.service.shopping;
+
+import com.magnus.domain.enumeration.ProductUnit;
+
+/**
+ * Normalisation of {@link ProductUnit} quantities. Mass and volume are expressed in
+ * {@code KG} and {@code LITERS}; countable units are kept as they are and never mixed.
+ */
+public final class ProductUnits {
+
+    private ProductUnits() {}
+
+    /**
+     * @return the unit quantities of {@code unit} are aggregated in.
+     */
+    public static ProductUnit base(ProductUnit unit) {
+        return switch (unit) {
+            case G -> ProductUnit.KG;
+            case ML -> ProductUnit.LITERS;
+            default -> unit;
+        };
+    }
+
+    /**
+     * @return {@code quantity} expressed in {@link #base(ProductUnit)}.
+     */
+    public static double toBase(double quantity, ProductUnit unit) {
+        return quantity * factor(unit);
+    }
+
+    /**
+     * @return whether quantities of the two units can be converted into each other.
+     */
+    public static boolean compatible(ProductUnit a, ProductUnit b) {
+        return base(a) == base(b);
+    }
+
+    /**
+     * Converts a quantity between two {@link #compatible(ProductUnit, ProductUnit) compatible} units.
+     */
+    public static double convert(double quantity, ProductUnit from, ProductUnit to) {
+        if (!compatible(from, to)) {
+            throw new IllegalArgumentException("Cannot convert " + from + " to " + to);
+        }
+        return toBase(quantity, from) / factor(to);
+    }
+
+    private static double factor(ProductUnit unit) {
+        return unit == ProductUnit.G || unit == ProductUnit.ML ? 0.001d : 1d;
+    }
+}
@@ -0,0 +1,336 @@
+package com.magnus.service.shopping;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import com.magnus.domain.Product;
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.ShoppingItemBudget;
+import com.magnus.domain.WeeklyPlan;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.repository.BudgetRepository;
+import com.magnus.repository.CookingIngredientRepository;
+import com.magnus.repository.ProductQuantityRow;
+import com.magnus.repository.ProductRepository;
+import com.magnus.repository.ProductRequirementRepository;
+import com.magnus.repository.ShoppingItemBudgetRepository;
+import com.magnus.repository.ShoppingItemRepository;
+import com.magnus.repository.WeeklyPlanRepository;
+import com.magnus.service.dto.ShoppingItemDTO;
+import com.magnus.service.event.WorkflowEntityEvent;
+import com.magnus.service.mapper.ShoppingItemMapper;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Builds the consolidated weekly shopping list of a {@link WeeklyPlan}.
+ * <p>
+ * Every {@link com.magnus.domain.CookingIngredient} and {@link com.magnus.domain.ProductRequirement} of the
+ * plan's active budgets is streamed through a {@link ShoppingListAggregator}, and the resulting lines are
+ * upserted into the plan's consolidated {@link ShoppingItem} rows in one pass, with the quantity
+ * each budget contributes recorded in {@link ShoppingItemBudget}. When a single budget changes, only the
+ * product lines that budget touches are recomputed.
+ */
+@Service
+@Transactional
+public class ShoppingConsolidationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShoppingConsolidationService.class);
+
+    static final Set<BudgetStatus> EXCLUDED_BUDGET_STATUSES = EnumSet.of(BudgetStatus.REJECTED, BudgetStatus.CANCELED);
+
+    private static final String SEPARATOR = ",";
+
+    private final WeeklyPlanRepository weeklyPlanRepository;
+
+    private final BudgetRepository budgetRepository;
+
+    private final ProductRepository productRepository;
+
+    private final ProductRequirementRepository productRequirementRepository;
+
+    private final CookingIngredientRepository cookingIngredientRepository;
+
+    private final ShoppingItemRepository shoppingItemRepository;
+
+    private final ShoppingItemBudgetRepository shoppingItemBudgetRepository;
+
+    private final ShoppingItemMapper shoppingItemMapper;
+
+    public ShoppingConsolidationService(
+        WeeklyPlanRepository weeklyPlanRepository,
+        BudgetRepository budgetRepository,
+        ProductRepository productRepository,
+        ProductRequirementRepository productRequirementRepository,
+        CookingIngredientRepository cookingIngredientRepository,
+        ShoppingItemRepository shoppingItemRepository,
+        ShoppingItemBudgetRepository shoppingItemBudgetRepository,
+        ShoppingItemMapper shoppingItemMapper
+    ) {
+        this.weeklyPlanRepository = weeklyPlanRepository;
+        this.budgetRepository = budgetRepository;
+        this.productRepository = productRepository;
+        this.productRequirementRepository = productRequirementRepository;
+        this.cookingIngredientRepository = cookingIngredientRepository;
+        this.shoppingItemRepository = shoppingItemRepository;
+        this.shoppingItemBudgetRepository = shoppingItemBudgetRepository;
+        this.shoppingItemMapper = shoppingItemMapper;
+    }
+
+    /**
+     * Recomputes the whole consolidated shopping list of a weekly plan.
+     *
+     * @param weeklyPlanId the id of the weekly plan.
+     * @return the consolidated items, or empty if the weekly plan does not exist.
+     */
+    public Optional<List<ShoppingItemDTO>> consolidateWeeklyPlan(Long weeklyPlanId) {
+        LOG.debug("Request to consolidate shopping list of WeeklyPlan : {}", weeklyPlanId);
+        return weeklyPlanRepository
+            .findById(weeklyPlanId)
+            .map(plan -> {
+                ShoppingListAggregator aggregator = aggregate(
+                    cookingIngredientRepository.streamQuantitiesByWeeklyPlanId(weeklyPlanId, EXCLUDED_BUDGET_STATUSES),
+                    productRequirementRepository.streamQuantitiesByWeeklyPlanId(weeklyPlanId, EXCLUDED_BUDGET_STATUSES)
+                );
+                List<ShoppingItem> existing = shoppingItemRepository.findAllByWeeklyPlanIdAndIsConsolidatedTrue(weeklyPlanId);
+                return upsert(plan, aggregator, loadProducts(aggregator.productIds()), existing);
+            });
+    }
+
+    /**
+     * Recomputes only the shopping lines of the products used by a budget, in the budget's weekly plan.
+     *
+     * @param budgetId the id of the budget that changed.
+     * @return the recomputed items, or empty if the budget is not part of a weekly plan.
+     */
+    public Optional<List<ShoppingItemDTO>> reconsolidateBudget(Long budgetId) {
+        LOG.debug("Request to reconsolidate shopping list for Budget : {}", budgetId);
+        return budgetRepository
+            .findWeeklyPlanIdById(budgetId)
+            .flatMap(weeklyPlanRepository::findById)
+            .map(plan -> {
+                List<ShoppingItem> existing = shoppingItemRepository.findAllByWeeklyPlanIdAndIsConsolidatedTrue(plan.getId());
+                Set<Long> productIds = new HashSet<>(productRequirementRepository.findProductIdsByBudgetId(budgetId));
+                productIds.addAll(cookingIngredientRepository.findProductIdsByBudgetId(budgetId));
+                Set<Long> planItemIds = existing.stream().map(ShoppingItem::getId).collect(Collectors.toSet());
+                List<String> previouslyContributed = shoppingItemBudgetRepository
+                    .findByBudgetId(budgetId)
+                    .stream()
+                    .map(ShoppingItemBudget::getShoppingItem)
+                    .filter(item -> planItemIds.contains(item.getId()))
+                    .map(ShoppingItem::getProductName)
+                    .toList();
+                if (!previouslyContributed.isEmpty()) {
+                    productIds.addAll(productRepository.findIdsByNameIn(previouslyContributed));
+                }
+                if (productIds.isEmpty()) {
+                    return List.<ShoppingItemDTO>of();
+                }
+                ShoppingListAggregator aggregator = aggregate(
+                    cookingIngredientRepository.streamQuantitiesByWeeklyPlanIdAndProductIdIn(plan.getId(), EXCLUDED_BUDGET_STATUSES, productIds),
+                    productRequirementRepository.streamQuantitiesByWeeklyPlanIdAndProductIdIn(plan.getId(), EXCLUDED_BUDGET_STATUSES, productIds)
+                );
+                Map<Long, Product> products = loadProducts(productIds);
+                Set<String> affectedNames = products.values().stream().map(Product::getName).collect(Collectors.toSet());
+                List<ShoppingItem> affected = existing.stream().filter(item -> affectedNames.contains(item.getProductName())).toList();
+                return upsert(plan, aggregator, products, affected);
+            });
+    }
+
+    /**
+     * Keeps consolidated weekly plans current when a budget enters or leaves an excluded status.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEntityEvent(WorkflowEntityEvent event) {
+        if (!"Budget".equals(event.getEntityType()) || !event.isStatusChanged() || event.getEntityId() == null) {
+            return;
+        }
+        boolean consolidated = budgetRepository
+            .findWeeklyPlanIdById(event.getEntityId())
+            .flatMap(weeklyPlanRepository::findById)
+            .map(WeeklyPlan::getIsConsolidated)
+            .orElse(false);
+        if (consolidated) {
+            reconsolidateBudget(event.getEntityId());
+        }
+    }
+
+    private static ShoppingListAggregator aggregate(Stream<ProductQuantityRow> ingredients, Stream<ProductQuantityRow> requirements) {
+        ShoppingListAggregator aggregator = new ShoppingListAggregator();
+        try (ingredients) {
+            ingredients.forEach(aggregator::addIngredient);
+        }
+        try (requirements) {
+            requirements.forEach(aggregator::addRequirement);
+        }
+        return aggregator;
+    }
+
+    private Map<Long, Product> loadProducts(LongHashSet productIds) {
+        List<Long> ids = new ArrayList<>(productIds.size());
+        for (LongCursor cursor : productIds) {
+            ids.add(cursor.value);
+        }
+        return loadProducts(ids);
+    }
+
+    private Map<Long, Product> loadProducts(Iterable<Long> productIds) {
+        return productRepository.findAllById(productIds).stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private List<ShoppingItemDTO> upsert(WeeklyPlan plan, ShoppingListAggregator aggregator, Map<Long, Product> products, List<ShoppingItem> existing) {
+        Instant now = Instant.now();
+        Map<String, ShoppingItem> existingByKey = new HashMap<>();
+        for (ShoppingItem item : existing) {
+            existingByKey.putIfAbsent(key(item.getProductName(), item.getUnit()), item);
+        }
+        List<ShoppingListAggregator.Line> lines = aggregator.lines();
+        Map<Long, String> clientNames = loadClientNames(lines);
+
+        List<ShoppingItem> toSave = new ArrayList<>(lines.size());
+        for (ShoppingListAggregator.Line line : lines) {
+            Product product = products.get(line.getProductId());
+            if (product == null) {
+                continue;
+            }
+            ShoppingItem item = existingByKey.remove(key(product.getName(), line.getUnit()));
+            if (item == null) {
+                item = new ShoppingItem()
+                    .productName(product.getName())
+                    .unit(line.getUnit())
+                    .isPurchased(false)
+                    .isConsolidated(true)
+                    .conflictStatus(ConflictStatus.NONE)
+                    .version(1)
+                    .createdAt(now)
+                    .weeklyPlan(plan);
+            }
+            long[] budgetIds = line.getBudgetIds();
+            item
+                .category(product.getCategory())
+                .totalQuantity(round(line.getQuantity()))
+                .budgetIds(Arrays.stream(budgetIds).mapToObj(String::valueOf).collect(Collectors.joining(SEPARATOR)))
+                .clientNames(
+                    Arrays.stream(budgetIds).mapToObj(clientNames::get).filter(Objects::nonNull).distinct().collect(Collectors.joining(SEPARATOR))
+                )
+                .weekStart(plan.getWeekStart())
+                .weekEnd(plan.getWeekEnd())
+                .supplier(product.getSupplier())
+                .supplierContact(product.getSupplierContact())
+                .estimatedCost(estimateCost(product, line))
+                .consolidatedAt(now)
+                .updatedAt(now);
+            toSave.add(item);
+        }
+
+        // Lines nobody needs anymore: drop them unless something was already bought
+        List<ShoppingItem> stale = existingByKey.values().stream().filter(Predicate.not(ShoppingItem::getIsPurchased)).toList();
+        if (!stale.isEmpty()) {
+            shoppingItemRepository.deleteAllInBatch(stale);
+        }
+        List<ShoppingItem> saved = shoppingItemRepository.saveAll(toSave);
+        syncBudgetContributions(saved, lines, products);
+
+        plan.setIsConsolidated(true);
+        plan.setConsolidatedAt(now);
+        plan.setUpdatedAt(now);
+        LOG.debug("Consolidated {} shopping items ({} removed) for WeeklyPlan : {}", saved.size(), stale.size(), plan.getId());
+        return shoppingItemMapper.toDto(saved);
+    }
+
+    /**
+     * Brings the shopping_item_budget rows of the saved items in line with the per-budget quantities.
+     * {@code saved} is in the same order as the lines that have a known product.
+     */
+    private void syncBudgetContributions(List<ShoppingItem> saved, List<ShoppingListAggregator.Line> lines, Map<Long, Product> products) {
+        if (saved.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<Long, ShoppingItemBudget>> current = new HashMap<>();
+        for (ShoppingItemBudget contribution : shoppingItemBudgetRepository.findByShoppingItemIdIn(
+            saved.stream().map(ShoppingItem::getId).toList()
+        )) {
+            current
+                .computeIfAbsent(contribution.getShoppingItem().getId(), id -> new HashMap<>())
+                .put(contribution.getBudget().getId(), contribution);
+        }
+        List<ShoppingItemBudget> toSave = new ArrayList<>();
+        List<ShoppingItemBudget> toDelete = new ArrayList<>();
+        int index = 0;
+        for (ShoppingListAggregator.Line line : lines) {
+            if (!products.containsKey(line.getProductId())) {
+                continue;
+            }
+            ShoppingItem item = saved.get(index++);
+            Map<Long, ShoppingItemBudget> byBudget = current.getOrDefault(item.getId(), new HashMap<>());
+            for (long budgetId : line.getBudgetIds()) {
+                ShoppingItemBudget contribution = byBudget.remove(budgetId);
+                if (contribution == null) {
+                    contribution = new ShoppingItemBudget().shoppingItem(item).budget(budgetRepository.getReferenceById(budgetId));
+                }
+                contribution.setQuantity(round(line.getBudgetQuantity(budgetId)));
+                toSave.add(contribution);
+            }
+            toDelete.addAll(byBudget.values());
+        }
+        if (!toDelete.isEmpty()) {
+            shoppingItemBudgetRepository.deleteAllInBatch(toDelete);
+        }
+        shoppingItemBudgetRepository.saveAll(toSave);
+    }
+
+    private Map<Long, String> loadClientNames(List<ShoppingListAggregator.Line> lines) {
+        Set<Long> budgetIds = new HashSet<>();
+        for (ShoppingListAggregator.Line line : lines) {
+            for (long budgetId : line.getBudgetIds()) {
+                budgetIds.add(budgetId);
+            }
+        }
+        if (budgetIds.isEmpty()) {
+            return Map.of();
+        }
+        return budgetRepository
+            .findClientNamesByIdIn(budgetIds)
+            .stream()
+            .filter(row -> row.getClientName() != null)
+            .collect(Collectors.toMap(BudgetRepository.ClientNameRow::getId, BudgetRepository.ClientNameRow::getClientName));
+    }
+
+    private static BigDecimal estimateCost(Product product, ShoppingListAggregator.Line line) {
+        if (product.getPricePerUnit() == null || product.getUnit() == null || !ProductUnits.compatible(line.getUnit(), product.getUnit())) {
+            return null;
+        }
+        double quantity = ProductUnits.convert(line.getQuantity(), line.getUnit(), product.getUnit());
+        return product.getPricePerUnit().multiply(BigDecimal.valueOf(quantity)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static double round(double quantity) {
+        return Math.round(quantity * 1000d) / 1000d;
+    }
+
+    private static String key(String productName, Object unit) {
+        return productName + '|' + unit;
+    }
+}
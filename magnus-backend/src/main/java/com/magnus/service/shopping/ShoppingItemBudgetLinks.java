@@ -0,0 +1,112 @@
+package com.magnus.service.shopping;
+
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.ShoppingItemBudget;
+import com.magnus.repository.BudgetRepository;
+import com.magnus.repository.ShoppingItemBudgetRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the {@link ShoppingItemBudget} rows of shopping items written through the API in line with their
+ * comma-joined {@code budget_ids} column, which is what the budget-scoped shopping item queries read.
+ * <p>
+ * The column carries no per-budget quantities: the current ones are kept while the item lists the same budgets
+ * and they still add up to its total quantity, otherwise the total is split evenly between the listed budgets,
+ * as the backfill of the table did. Ids of budgets that do not exist are left out.
+ */
+@Component
+public class ShoppingItemBudgetLinks {
+
+    private static final String SEPARATOR = ",";
+
+    // quantities are rounded to three decimals, each one and the total separately
+    private static final double ROUNDING_TOLERANCE = 0.001;
+
+    private final BudgetRepository budgetRepository;
+
+    private final ShoppingItemBudgetRepository shoppingItemBudgetRepository;
+
+    public ShoppingItemBudgetLinks(BudgetRepository budgetRepository, ShoppingItemBudgetRepository shoppingItemBudgetRepository) {
+        this.budgetRepository = budgetRepository;
+        this.shoppingItemBudgetRepository = shoppingItemBudgetRepository;
+    }
+
+    /**
+     * @param items saved shopping items.
+     */
+    public void sync(Collection<ShoppingItem> items) {
+        List<ShoppingItem> saved = items.stream().filter(item -> item.getId() != null).toList();
+        if (saved.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<Long>> listed = new HashMap<>();
+        Set<Long> allBudgetIds = new HashSet<>();
+        for (ShoppingItem item : saved) {
+            Set<Long> budgetIds = parse(item.getBudgetIds());
+            listed.put(item.getId(), budgetIds);
+            allBudgetIds.addAll(budgetIds);
+        }
+        Set<Long> existingBudgetIds = allBudgetIds.isEmpty() ? Set.of() : new HashSet<>(budgetRepository.findIdsByIdIn(allBudgetIds));
+
+        Map<Long, Map<Long, ShoppingItemBudget>> current = new HashMap<>();
+        for (ShoppingItemBudget contribution : shoppingItemBudgetRepository.findByShoppingItemIdIn(listed.keySet())) {
+            current
+                .computeIfAbsent(contribution.getShoppingItem().getId(), id -> new HashMap<>())
+                .put(contribution.getBudget().getId(), contribution);
+        }
+
+        List<ShoppingItemBudget> toSave = new ArrayList<>();
+        List<ShoppingItemBudget> toDelete = new ArrayList<>();
+        for (ShoppingItem item : saved) {
+            Set<Long> budgetIds = listed.get(item.getId());
+            budgetIds.retainAll(existingBudgetIds);
+            Map<Long, ShoppingItemBudget> byBudget = current.getOrDefault(item.getId(), new HashMap<>());
+            double total = Objects.requireNonNullElse(item.getTotalQuantity(), 0d);
+            double tolerance = ROUNDING_TOLERANCE * (budgetIds.size() + 1);
+            if (byBudget.keySet().equals(budgetIds) && Math.abs(sum(byBudget.values()) - total) <= tolerance) {
+                continue;
+            }
+            double share = budgetIds.isEmpty() ? 0 : Math.round(total / budgetIds.size() * 1000d) / 1000d;
+            for (Long budgetId : budgetIds) {
+                ShoppingItemBudget contribution = byBudget.remove(budgetId);
+                if (contribution == null) {
+                    contribution = new ShoppingItemBudget().shoppingItem(item).budget(budgetRepository.getReferenceById(budgetId));
+                }
+                contribution.setQuantity(share);
+                toSave.add(contribution);
+            }
+            toDelete.addAll(byBudget.values());
+        }
+        if (!toDelete.isEmpty()) {
+            shoppingItemBudgetRepository.deleteAllInBatch(toDelete);
+        }
+        shoppingItemBudgetRepository.saveAll(toSave);
+    }
+
+    static Set<Long> parse(String budgetIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (budgetIds == null) {
+            return ids;
+        }
+        for (String part : budgetIds.split(SEPARATOR)) {
+            String id = part.trim();
+            if (!id.isEmpty() && id.length() <= 18 && id.chars().allMatch(Character::isDigit)) {
+                ids.add(Long.valueOf(id));
+            }
+        }
+        return ids;
+    }
+
+    private static double sum(Collection<ShoppingItemBudget> contributions) {
+        return contributions.stream().mapToDouble(ShoppingItemBudget::getQuantity).sum();
+    }
+}
@@ -0,0 +1,149 @@
+package com.magnus.service.shopping;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import com.carrotsearch.hppc.cursors.ObjectCursor;
+import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.repository.ProductQuantityRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Aggregates product quantities into one shopping line per product and normalised unit.
+ * <p>
+ * Cooking ingredients override the quantity of the product requirement they refine, so they must be
+ * added before requirements. Keys and budget id sets are primitive (HPPC) to keep a weekly plan with
+ * tens of thousands of rows cheap to aggregate.
+ */
+public final class ShoppingListAggregator {
+
+    private static final int UNIT_BITS = 4;
+
+    private final LongObjectHashMap<Line> lines = new LongObjectHashMap<>();
+
+    private final LongHashSet refinedRequirementIds = new LongHashSet();
+
+    private boolean requirementsStarted;
+
+    /**
+     * Adds a cooking ingredient quantity; its requirement will be ignored by {@link #addRequirement}.
+     */
+    public void addIngredient(ProductQuantityRow row) {
+        if (requirementsStarted) {
+            throw new IllegalStateException("Ingredients must be added before requirements");
+        }
+        if (row.getRequirementId() != null) {
+            refinedRequirementIds.add(row.getRequirementId());
+        }
+        add(row);
+    }
+
+    /**
+     * Adds a product requirement quantity unless a cooking ingredient already refined it.
+     */
+    public void addRequirement(ProductQuantityRow row) {
+        requirementsStarted = true;
+        if (row.getRequirementId() == null || !refinedRequirementIds.contains(row.getRequirementId())) {
+            add(row);
+        }
+    }
+
+    private void add(ProductQuantityRow row) {
+        if (row.getProductId() == null || row.getUnit() == null || row.getQuantity() == null || row.getQuantity() <= 0) {
+            return;
+        }
+        ProductUnit base = ProductUnits.base(row.getUnit());
+        long key = (row.getProductId() << UNIT_BITS) | base.ordinal();
+        Line line = lines.get(key);
+        if (line == null) {
+            line = new Line(row.getProductId(), base);
+            lines.put(key, line);
+        }
+        double quantity = ProductUnits.toBase(row.getQuantity(), row.getUnit());
+        line.quantity += quantity;
+        if (row.getBudgetId() != null) {
+            line.budgetQuantities.addTo(row.getBudgetId(), quantity);
+        }
+    }
+
+    /**
+     * @return the ids of all aggregated products.
+     */
+    public LongHashSet productIds() {
+        LongHashSet productIds = new LongHashSet(lines.size());
+        for (ObjectCursor<Line> cursor : lines.values()) {
+            productIds.add(cursor.value.productId);
+        }
+        return productIds;
+    }
+
+    /**
+     * @return the aggregated lines ordered by product id and unit.
+     */
+    public List<Line> lines() {
+        List<Line> result = new ArrayList<>(lines.size());
+        for (ObjectCursor<Line> cursor : lines.values()) {
+            result.add(cursor.value);
+        }
+        result.sort(Comparator.comparingLong(Line::getProductId).thenComparing(Line::getUnit));
+        return result;
+    }
+
+    /**
+     * One consolidated shopping line.
+     */
+    public static final class Line {
+
+        private final long productId;
+
+        private final ProductUnit unit;
+
+        private double quantity;
+
+        private final LongDoubleHashMap budgetQuantities = new LongDoubleHashMap();
+
+        Line(long productId, ProductUnit unit) {
+            this.productId = productId;
+            this.unit = unit;
+        }
+
+        public long getProductId() {
+            return productId;
+        }
+
+        /**
+         * @return the normalised unit of {@link #getQuantity()}.
+         */
+        public ProductUnit getUnit() {
+            return unit;
+        }
+
+        public double getQuantity() {
+            return quantity;
+        }
+
+        /**
+         * @return the contributing budget ids in ascending order.
+         */
+        public long[] getBudgetIds() {
+            long[] ids = new long[budgetQuantities.size()];
+            int i = 0;
+            for (LongCursor cursor : budgetQuantities.keys()) {
+                ids[i++] = cursor.value;
+            }
+            Arrays.sort(ids);
+            return ids;
+        }
+
+        /**
+         * @return the quantity contributed by a budget, in {@link #getUnit()}.
+         */
+        public double getBudgetQuantity(long budgetId) {
+            return budgetQuantities.getOrDefault(budgetId, 0d);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Weekly shopping list consolidation.
+ */
+package com.magnus.service.shopping;
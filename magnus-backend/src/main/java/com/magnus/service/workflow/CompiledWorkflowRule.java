@@ -0,0 +1,80 @@
+package com.magnus.service.workflow;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+
+/**
+ * A {@link com.magnus.domain.WorkflowTrigger} with its condition parsed once and its
+ * action configuration pre-read, ready to be evaluated without touching the database.
+ */
+public final class CompiledWorkflowRule {
+
+    private final Long triggerId;
+    private final String triggerName;
+    private final String entityType;
+    private final int executionOrder;
+    private final Expression condition;
+    private final WorkflowRuleAction action;
+    private final JsonNode configuration;
+
+    CompiledWorkflowRule(
+        Long triggerId,
+        String triggerName,
+        String entityType,
+        int executionOrder,
+        Expression condition,
+        WorkflowRuleAction action,
+        JsonNode configuration
+    ) {
+        this.triggerId = triggerId;
+        this.triggerName = triggerName;
+        this.entityType = entityType;
+        this.executionOrder = executionOrder;
+        this.condition = condition;
+        this.action = action;
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return {@code true} if the rule has no condition or its condition evaluates to {@code true}.
+     */
+    boolean matches(EvaluationContext evaluationContext) {
+        return condition == null || Boolean.TRUE.equals(condition.getValue(evaluationContext, Boolean.class));
+    }
+
+    public Long getTriggerId() {
+        return triggerId;
+    }
+
+    public String getTriggerName() {
+        return triggerName;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public int getExecutionOrder() {
+        return executionOrder;
+    }
+
+    public WorkflowRuleAction getAction() {
+        return action;
+    }
+
+    public JsonNode getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledWorkflowRule{" +
+            "triggerId=" + triggerId +
+            ", triggerName='" + triggerName + '\'' +
+            ", entityType='" + entityType + '\'' +
+            ", actionType='" + action.getActionType() + '\'' +
+            ", executionOrder=" + executionOrder +
+            '}';
+    }
+}
@@ -0,0 +1,90 @@
+package com.magnus.service.workflow;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.TaskPriority;
+import com.magnus.domain.enumeration.TaskStatus;
+import com.magnus.domain.enumeration.TaskType;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.TaskService;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.dto.TaskDTO;
+import java.time.Instant;
+import java.time.LocalTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code CREATE_TASK}: creates a task for a budget from a data-driven template, as an
+ * alternative to the hard-coded templates of {@link com.magnus.service.WorkflowAutomationService}.
+ * <p>
+ * Configuration example:
+ * <pre>
+ * {"title": "Shopping - {budgetName}", "type": "SHOPPING", "priority": "HIGH", "status": "TODO",
+ *  "assignedToRole": "LOGISTICS", "dueOffsetDays": -3, "dueTime": "17:00", "estimatedDuration": 240,
+ *  "location": "Suppliers/Markets", "requirements": "..."}
+ * </pre>
+ */
+@Component
+public class CreateTaskAction implements WorkflowRuleAction {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CreateTaskAction.class);
+
+    public static final String ACTION_TYPE = "CREATE_TASK";
+
+    private final TaskService taskService;
+
+    public CreateTaskAction(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @Override
+    public String getActionType() {
+        return ACTION_TYPE;
+    }
+
+    @Override
+    public void execute(CompiledWorkflowRule rule, WorkflowRuleContext context) {
+        if (!(context.getEntity() instanceof BudgetDTO budget)) {
+            LOG.warn("Rule {} can only create tasks for budgets, got {}", rule.getTriggerName(), context.getEntityType());
+            return;
+        }
+        JsonNode config = rule.getConfiguration();
+        Instant now = Instant.now();
+
+        TaskDTO task = new TaskDTO();
+        task.setTitle(interpolate(config.path("title").asText(rule.getTriggerName()), budget));
+        task.setDescription(config.hasNonNull("description") ? interpolate(config.get("description").asText(), budget) : null);
+        task.setType(TaskType.valueOf(config.path("type").asText(TaskType.PREPARATION.name())));
+        task.setPriority(TaskPriority.valueOf(config.path("priority").asText(TaskPriority.MEDIUM.name())));
+        task.setStatus(TaskStatus.valueOf(config.path("status").asText(TaskStatus.TODO.name())));
+        task.setAssignedToRole(UserRole.valueOf(config.path("assignedToRole").asText(UserRole.LOGISTICS.name())));
+        task.setDueDate(budget.getEventDate().plusDays(config.path("dueOffsetDays").asLong(0)));
+        task.setDueTime(config.hasNonNull("dueTime") ? LocalTime.parse(config.get("dueTime").asText()) : null);
+        task.setEstimatedDuration(config.hasNonNull("estimatedDuration") ? config.get("estimatedDuration").asInt() : null);
+        task.setLocation(config.hasNonNull("location") ? config.get("location").asText() : budget.getEventLocation());
+        task.setRequirements(config.hasNonNull("requirements") ? config.get("requirements").asText() : null);
+        task.setAutoScheduled(true);
+        task.setIsRecurring(false);
+        task.setVersion(1);
+        task.setConflictStatus(ConflictStatus.NONE);
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+
+        BudgetDTO relatedBudget = new BudgetDTO();
+        relatedBudget.setId(budget.getId());
+        task.setRelatedBudget(relatedBudget);
+        task.setCreatedBy(budget.getCreatedBy());
+        task.setWeeklyPlan(budget.getWeeklyPlan());
+
+        taskService.save(task);
+    }
+
+    private static String interpolate(String template, BudgetDTO budget) {
+        return template
+            .replace("{budgetName}", String.valueOf(budget.getName()))
+            .replace("{guestCount}", String.valueOf(budget.getGuestCount()))
+            .replace("{eventDate}", String.valueOf(budget.getEventDate()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.magnus.service.workflow;
+
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.NotificationService;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code NOTIFY_ROLE}: sends a workflow notification to every user of a role.
+ * <p>
+ * Configuration: {@code {"role": "COOK", "title": "...", "message": "..."}}. Title and message
+ * may reference {@code {entityType}}, {@code {entityId}} and {@code {status}}.
+ */
+@Component
+public class NotifyRoleAction implements WorkflowRuleAction {
+
+    public static final String ACTION_TYPE = "NOTIFY_ROLE";
+
+    private final NotificationService notificationService;
+
+    public NotifyRoleAction(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public String getActionType() {
+        return ACTION_TYPE;
+    }
+
+    @Override
+    public void execute(CompiledWorkflowRule rule, WorkflowRuleContext context) {
+        UserRole role = UserRole.valueOf(rule.getConfiguration().path("role").asText());
+        String title = interpolate(rule.getConfiguration().path("title").asText(rule.getTriggerName()), context);
+        String message = interpolate(rule.getConfiguration().path("message").asText(title), context);
+        notificationService.sendWorkflowNotification(role, title, message, context.getEntityId());
+    }
+
+    static String interpolate(String template, WorkflowRuleContext context) {
+        return template
+            .replace("{entityType}", String.valueOf(context.getEntityType()))
+            .replace("{entityId}", String.valueOf(context.getEntityId()))
+            .replace("{status}", String.valueOf(context.getStatus()));
+    }
+}
@@ -0,0 +1,234 @@
+package com.magnus.service.workflow;
+
+import com.magnus.domain.enumeration.TaskStatus;
+import com.magnus.service.dto.TaskScheduleDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable task dependency DAG laid out in index arrays (compressed adjacency lists) so that
+ * scheduling thousands of tasks is a handful of linear passes.
+ * <p>
+ * {@link #schedule(Instant)} topologically sorts the graph (Kahn), runs the forward pass for
+ * earliest start/finish and the backward pass for latest start/finish, bounded by each task's
+ * due date. Tasks that are part of (or downstream of) a cycle cannot be ordered; they are
+ * reported in {@link TaskScheduleDTO#getCyclicTaskIds()} and left out of the schedule.
+ */
+public final class TaskGraph {
+
+    /**
+     * A schedulable task. Finished tasks have no remaining duration.
+     *
+     * @param deadline the latest allowed finish, or {@code null} if unconstrained.
+     */
+    public record Node(Long id, String title, TaskStatus status, int durationMinutes, Instant deadline) {}
+
+    /**
+     * A "prerequisite must finish before dependent starts" edge.
+     */
+    public record Edge(Long prerequisiteId, Long dependentId) {}
+
+    private final Node[] nodes;
+
+    private final int[] successorOffsets;
+
+    private final int[] successors;
+
+    private final int[] predecessorOffsets;
+
+    private final int[] predecessors;
+
+    private TaskGraph(Node[] nodes, int[] successorOffsets, int[] successors, int[] predecessorOffsets, int[] predecessors) {
+        this.nodes = nodes;
+        this.successorOffsets = successorOffsets;
+        this.successors = successors;
+        this.predecessorOffsets = predecessorOffsets;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Builds the graph. Edges referencing a task outside {@code nodes} are ignored.
+     */
+    public static TaskGraph of(List<Node> nodes, List<Edge> edges) {
+        Node[] nodeArray = nodes.toArray(Node[]::new);
+        Map<Long, Integer> index = new HashMap<>(nodeArray.length * 2);
+        for (int i = 0; i < nodeArray.length; i++) {
+            index.put(nodeArray[i].id(), i);
+        }
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int edgeCount = 0;
+        for (Edge edge : edges) {
+            Integer prerequisite = index.get(edge.prerequisiteId());
+            Integer dependent = index.get(edge.dependentId());
+            if (prerequisite != null && dependent != null) {
+                from[edgeCount] = prerequisite;
+                to[edgeCount] = dependent;
+                edgeCount++;
+            }
+        }
+        int[] successorOffsets = new int[nodeArray.length + 1];
+        int[] predecessorOffsets = new int[nodeArray.length + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            successorOffsets[from[e] + 1]++;
+            predecessorOffsets[to[e] + 1]++;
+        }
+        for (int i = 0; i < nodeArray.length; i++) {
+            successorOffsets[i + 1] += successorOffsets[i];
+            predecessorOffsets[i + 1] += predecessorOffsets[i];
+        }
+        int[] successors = new int[edgeCount];
+        int[] predecessors = new int[edgeCount];
+        int[] successorFill = Arrays.copyOf(successorOffsets, nodeArray.length);
+        int[] predecessorFill = Arrays.copyOf(predecessorOffsets, nodeArray.length);
+        for (int e = 0; e < edgeCount; e++) {
+            successors[successorFill[from[e]]++] = to[e];
+            predecessors[predecessorFill[to[e]]++] = from[e];
+        }
+        return new TaskGraph(nodeArray, successorOffsets, successors, predecessorOffsets, predecessors);
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Computes the critical-path schedule.
+     *
+     * @param start the instant the remaining work can start (usually now).
+     * @return the schedule.
+     */
+    public TaskScheduleDTO schedule(Instant start) {
+        int n = nodes.length;
+        int[] order = topologicalOrder();
+        int sorted = order.length;
+
+        boolean[] ordered = new boolean[n];
+        for (int v : order) {
+            ordered[v] = true;
+        }
+
+        long[] earliestStart = new long[n];
+        long[] earliestFinish = new long[n];
+        long projectEnd = 0;
+        for (int v : order) {
+            long es = 0;
+            for (int p = predecessorOffsets[v]; p < predecessorOffsets[v + 1]; p++) {
+                es = Math.max(es, earliestFinish[predecessors[p]]);
+            }
+            earliestStart[v] = es;
+            earliestFinish[v] = es + nodes[v].durationMinutes();
+            projectEnd = Math.max(projectEnd, earliestFinish[v]);
+        }
+
+        long[] latestFinish = new long[n];
+        long[] latestStart = new long[n];
+        for (int i = sorted - 1; i >= 0; i--) {
+            int v = order[i];
+            long lf = nodes[v].deadline() != null ? Duration.between(start, nodes[v].deadline()).toMinutes() : Long.MAX_VALUE;
+            for (int s = successorOffsets[v]; s < successorOffsets[v + 1]; s++) {
+                lf = Math.min(lf, latestStart[successors[s]]);
+            }
+            latestFinish[v] = lf == Long.MAX_VALUE ? projectEnd : lf;
+            latestStart[v] = latestFinish[v] - nodes[v].durationMinutes();
+        }
+
+        boolean[] critical = new boolean[n];
+        List<Long> criticalPath = criticalPath(order, earliestStart, earliestFinish, critical);
+
+        TaskScheduleDTO schedule = new TaskScheduleDTO();
+        schedule.setScheduledAt(start);
+        schedule.setTotalDurationMinutes(projectEnd);
+        schedule.setProjectFinish(start.plus(Duration.ofMinutes(projectEnd)));
+        schedule.setCriticalPath(criticalPath);
+        List<TaskScheduleDTO.ScheduledTask> tasks = new ArrayList<>(sorted);
+        for (int v : order) {
+            TaskScheduleDTO.ScheduledTask task = new TaskScheduleDTO.ScheduledTask();
+            task.setTaskId(nodes[v].id());
+            task.setTitle(nodes[v].title());
+            task.setStatus(nodes[v].status());
+            task.setDurationMinutes(nodes[v].durationMinutes());
+            task.setEarliestStart(start.plus(Duration.ofMinutes(earliestStart[v])));
+            task.setEarliestFinish(start.plus(Duration.ofMinutes(earliestFinish[v])));
+            task.setLatestStart(start.plus(Duration.ofMinutes(latestStart[v])));
+            task.setLatestFinish(start.plus(Duration.ofMinutes(latestFinish[v])));
+            task.setSlackMinutes(latestStart[v] - earliestStart[v]);
+            task.setCritical(critical[v]);
+            tasks.add(task);
+        }
+        schedule.setTasks(tasks);
+        List<Long> cyclic = new ArrayList<>(n - sorted);
+        for (int v = 0; v < n; v++) {
+            if (!ordered[v]) {
+                cyclic.add(nodes[v].id());
+            }
+        }
+        schedule.setCyclicTaskIds(cyclic);
+        return schedule;
+    }
+
+    /**
+     * Kahn's algorithm. Nodes on or behind a cycle never reach in-degree zero and are omitted.
+     */
+    int[] topologicalOrder() {
+        int n = nodes.length;
+        int[] inDegree = new int[n];
+        for (int v = 0; v < n; v++) {
+            inDegree[v] = predecessorOffsets[v + 1] - predecessorOffsets[v];
+        }
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                queue[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int s = successorOffsets[v]; s < successorOffsets[v + 1]; s++) {
+                if (--inDegree[successors[s]] == 0) {
+                    queue[tail++] = successors[s];
+                }
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
+    /**
+     * Walks back from the task finishing last along predecessors whose finish determines the start,
+     * which yields the longest (duration-weighted) chain of the graph.
+     */
+    private List<Long> criticalPath(int[] order, long[] earliestStart, long[] earliestFinish, boolean[] critical) {
+        if (order.length == 0) {
+            return new ArrayList<>();
+        }
+        int last = order[0];
+        for (int v : order) {
+            if (earliestFinish[v] > earliestFinish[last]) {
+                last = v;
+            }
+        }
+        List<Long> path = new ArrayList<>();
+        int current = last;
+        while (current >= 0) {
+            critical[current] = true;
+            path.add(nodes[current].id());
+            int next = -1;
+            for (int p = predecessorOffsets[current]; p < predecessorOffsets[current + 1]; p++) {
+                int candidate = predecessors[p];
+                if (earliestFinish[candidate] == earliestStart[current] && (next < 0 || earliestStart[candidate] < earliestStart[next])) {
+                    next = candidate;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,128 @@
+package com.magnus.service.workflow;
+
+import com.magnus.domain.Task;
+import com.magnus.domain.enumeration.DependencyType;
+import com.magnus.domain.enumeration.TaskStatus;
+import com.magnus.repository.TaskDependencyRepository;
+import com.magnus.repository.TaskRepository;
+import com.magnus.service.dto.TaskScheduleDTO;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Critical-path scheduling over the {@link com.magnus.domain.TaskDependency} graph.
+ * <p>
+ * The graph of a budget or weekly plan is loaded with two projection queries (tasks and edges),
+ * then scheduled in memory by {@link TaskGraph}. Only {@code BLOCKS} and {@code REQUIRES}
+ * dependencies constrain the schedule; {@code SUGGESTS} is advisory.
+ */
+@Service
+@Transactional
+public class TaskScheduleService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskScheduleService.class);
+
+    static final Set<DependencyType> HARD_DEPENDENCIES = EnumSet.of(DependencyType.BLOCKS, DependencyType.REQUIRES);
+
+    static final Set<TaskStatus> FINISHED_STATUSES = EnumSet.of(TaskStatus.DONE, TaskStatus.CANCELED);
+
+    private final TaskRepository taskRepository;
+
+    private final TaskDependencyRepository taskDependencyRepository;
+
+    public TaskScheduleService(TaskRepository taskRepository, TaskDependencyRepository taskDependencyRepository) {
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+    }
+
+    /**
+     * Schedules the tasks of a budget starting now.
+     *
+     * @param budgetId the id of the budget.
+     * @return the schedule.
+     */
+    @Transactional(readOnly = true)
+    public TaskScheduleDTO scheduleForBudget(Long budgetId) {
+        LOG.debug("Request to schedule tasks of Budget : {}", budgetId);
+        TaskGraph graph = TaskGraph.of(
+            toNodes(taskRepository.findScheduleRowsByBudgetId(budgetId)),
+            toEdges(taskDependencyRepository.findActiveEdgesByBudgetId(budgetId, HARD_DEPENDENCIES))
+        );
+        return schedule(graph);
+    }
+
+    /**
+     * Schedules the tasks of a weekly plan starting now.
+     *
+     * @param weeklyPlanId the id of the weekly plan.
+     * @return the schedule.
+     */
+    @Transactional(readOnly = true)
+    public TaskScheduleDTO scheduleForWeeklyPlan(Long weeklyPlanId) {
+        LOG.debug("Request to schedule tasks of WeeklyPlan : {}", weeklyPlanId);
+        TaskGraph graph = TaskGraph.of(
+            toNodes(taskRepository.findScheduleRowsByWeeklyPlanId(weeklyPlanId)),
+            toEdges(taskDependencyRepository.findActiveEdgesByWeeklyPlanId(weeklyPlanId, HARD_DEPENDENCIES))
+        );
+        return schedule(graph);
+    }
+
+    /**
+     * Moves the {@code BLOCKED} dependents of a finished task to {@code TODO} once all of their
+     * prerequisites are finished. Only the direct neighbours of the task are examined.
+     *
+     * @param taskId the id of the task that just finished.
+     * @return the unblocked tasks.
+     */
+    public List<Task> unblockDependents(Long taskId) {
+        List<Task> unblocked = taskDependencyRepository.findUnblockedDependents(
+            taskId,
+            HARD_DEPENDENCIES,
+            TaskStatus.BLOCKED,
+            FINISHED_STATUSES
+        );
+        Instant now = Instant.now();
+        for (Task task : unblocked) {
+            task.setStatus(TaskStatus.TODO);
+            task.setUpdatedAt(now);
+        }
+        if (!unblocked.isEmpty()) {
+            LOG.debug("Task {} finished, unblocked {} dependent tasks", taskId, unblocked.size());
+        }
+        return unblocked;
+    }
+
+    private TaskScheduleDTO schedule(TaskGraph graph) {
+        TaskScheduleDTO schedule = graph.schedule(Instant.now());
+        if (schedule.isHasCycle()) {
+            LOG.warn("Task dependency cycle detected, {} tasks could not be scheduled: {}", schedule.getCyclicTaskIds().size(), schedule.getCyclicTaskIds());
+        }
+        return schedule;
+    }
+
+    private static List<TaskGraph.Node> toNodes(List<TaskRepository.ScheduleRow> rows) {
+        ZoneId zone = ZoneId.systemDefault();
+        return rows
+            .stream()
+            .map(row -> {
+                int duration = FINISHED_STATUSES.contains(row.getStatus()) || row.getEstimatedDuration() == null ? 0 : row.getEstimatedDuration();
+                Instant deadline = row.getDueDate() == null
+                    ? null
+                    : row.getDueDate().atTime(row.getDueTime() != null ? row.getDueTime() : LocalTime.MAX).atZone(zone).toInstant();
+                return new TaskGraph.Node(row.getId(), row.getTitle(), row.getStatus(), duration, deadline);
+            })
+            .toList();
+    }
+
+    private static List<TaskGraph.Edge> toEdges(List<TaskDependencyRepository.Edge> edges) {
+        return edges.stream().map(edge -> new TaskGraph.Edge(edge.getPrerequisiteId(), edge.getDependentId())).toList();
+    }
+}
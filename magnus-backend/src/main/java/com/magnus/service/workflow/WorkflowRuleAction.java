@@ -0,0 +1,20 @@
+package com.magnus.service.workflow;
+
+/**
+ * An action a {@link com.magnus.domain.WorkflowTrigger} can fire, selected by its {@code actionType}.
+ * Implementations are Spring beans and are discovered by the {@link WorkflowRuleEngine}.
+ */
+public interface WorkflowRuleAction {
+    /**
+     * @return the {@code actionType} value this action handles.
+     */
+    String getActionType();
+
+    /**
+     * Executes the action for a matching rule.
+     *
+     * @param rule the matching rule, including its pre-parsed configuration.
+     * @param context the event that matched.
+     */
+    void execute(CompiledWorkflowRule rule, WorkflowRuleContext context);
+}
@@ -0,0 +1,56 @@
+package com.magnus.service.workflow;
+
+import com.magnus.service.event.WorkflowEntityEvent;
+
+/**
+ * Root object exposed to trigger conditions, e.g. {@code status == 'RESERVA' and statusChanged}
+ * or {@code entity.guestCount > 50}.
+ */
+public class WorkflowRuleContext {
+
+    private final String entityType;
+    private final Long entityId;
+    private final String action;
+    private final Object entity;
+    private final String status;
+    private final String previousStatus;
+    private final boolean statusChanged;
+
+    public WorkflowRuleContext(WorkflowEntityEvent event) {
+        this.entityType = event.getEntityType();
+        this.entityId = event.getEntityId();
+        this.action = event.getAction();
+        this.entity = event.getEntity();
+        this.status = event.getStatus();
+        this.previousStatus = event.getPreviousStatus();
+        this.statusChanged = event.isStatusChanged();
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public boolean isStatusChanged() {
+        return statusChanged;
+    }
+}
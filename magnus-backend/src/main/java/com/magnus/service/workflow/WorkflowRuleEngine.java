@@ -0,0 +1,230 @@
+package com.magnus.service.workflow;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.WorkflowTrigger;
+import com.magnus.repository.WorkflowTriggerRepository;
+import com.magnus.service.event.WorkflowEntityEvent;
+import com.magnus.service.event.WorkflowTriggersChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes the active {@link WorkflowTrigger} rows.
+ * <p>
+ * Active triggers are compiled once into an immutable index keyed by {@code entityType}: conditions
+ * are parsed into SpEL expressions (evaluated against a {@link WorkflowRuleContext} with a read-only,
+ * data-binding-only context) and action configurations are parsed into JSON trees. The index is
+ * rebuilt after any trigger change commits, so evaluating an entity event only walks the rules of
+ * that entity type and never queries the database. Execution statistics are accumulated in memory
+ * and written back periodically, one statement per fired trigger.
+ */
+@Service
+public class WorkflowRuleEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowRuleEngine.class);
+
+    private final WorkflowTriggerRepository workflowTriggerRepository;
+
+    private final Map<String, WorkflowRuleAction> actions;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate newTransaction;
+
+    private final ApplicationProperties.Workflow.Rules rulesProperties;
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+
+    private final ConcurrentMap<Long, ExecutionStats> pendingStats = new ConcurrentHashMap<>();
+
+    private volatile Map<String, List<CompiledWorkflowRule>> rulesByEntityType = Map.of();
+
+    public WorkflowRuleEngine(
+        WorkflowTriggerRepository workflowTriggerRepository,
+        List<WorkflowRuleAction> actions,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.workflowTriggerRepository = workflowTriggerRepository;
+        this.actions = actions.stream().collect(Collectors.toUnmodifiableMap(WorkflowRuleAction::getActionType, Function.identity()));
+        this.objectMapper = objectMapper;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rulesProperties = applicationProperties.getWorkflow().getRules();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rulesProperties.isEnabled()) {
+            compile();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTriggersChanged(WorkflowTriggersChangedEvent event) {
+        LOG.debug("Workflow triggers changed ({}), recompiling rules", event);
+        if (rulesProperties.isEnabled()) {
+            compile();
+        }
+    }
+
+    /**
+     * Loads every active trigger and atomically replaces the compiled rule index.
+     * Triggers with an invalid condition, configuration or unknown action type are skipped.
+     *
+     * @return the number of compiled rules.
+     */
+    public int compile() {
+        List<WorkflowTrigger> triggers = newTransaction.execute(status -> workflowTriggerRepository.findAllByIsActiveTrueOrderByExecutionOrderAsc());
+        Map<String, List<CompiledWorkflowRule>> index = new HashMap<>();
+        int compiled = 0;
+        for (WorkflowTrigger trigger : triggers != null ? triggers : List.<WorkflowTrigger>of()) {
+            try {
+                CompiledWorkflowRule rule = compile(trigger);
+                index.computeIfAbsent(key(trigger.getEntityType()), k -> new ArrayList<>()).add(rule);
+                compiled++;
+            } catch (Exception e) {
+                LOG.warn("Skipping workflow trigger {} ({}): {}", trigger.getId(), trigger.getTriggerName(), e.getMessage());
+            }
+        }
+        index.replaceAll((entityType, rules) -> {
+            rules.sort(Comparator.comparingInt(CompiledWorkflowRule::getExecutionOrder));
+            return List.copyOf(rules);
+        });
+        rulesByEntityType = Map.copyOf(index);
+        LOG.info("Compiled {} workflow rules for {} entity types", compiled, index.size());
+        return compiled;
+    }
+
+    private CompiledWorkflowRule compile(WorkflowTrigger trigger) throws Exception {
+        WorkflowRuleAction action = actions.get(trigger.getActionType());
+        if (action == null) {
+            throw new IllegalArgumentException("unknown action type '" + trigger.getActionType() + "'");
+        }
+        String conditionText = trigger.getTriggerCondition() != null ? trigger.getTriggerCondition().trim() : "";
+        Expression condition = conditionText.isEmpty() || "true".equalsIgnoreCase(conditionText) ? null : parser.parseExpression(conditionText);
+        JsonNode configuration = trigger.getActionConfiguration() != null && !trigger.getActionConfiguration().isBlank()
+            ? objectMapper.readTree(trigger.getActionConfiguration())
+            : NullNode.getInstance();
+        return new CompiledWorkflowRule(
+            trigger.getId(),
+            trigger.getTriggerName(),
+            trigger.getEntityType(),
+            trigger.getExecutionOrder(),
+            condition,
+            action,
+            configuration
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityEvent(WorkflowEntityEvent event) {
+        if (rulesProperties.isEnabled()) {
+            evaluate(event);
+        }
+    }
+
+    /**
+     * Evaluates the rules registered for the event's entity type and fires the matching ones in
+     * execution order. Each action runs in its own transaction so a failing rule cannot affect
+     * the others.
+     *
+     * @param event the entity event.
+     * @return the number of rules fired.
+     */
+    public int evaluate(WorkflowEntityEvent event) {
+        List<CompiledWorkflowRule> rules = rulesByEntityType.getOrDefault(key(event.getEntityType()), List.of());
+        if (rules.isEmpty()) {
+            return 0;
+        }
+        WorkflowRuleContext context = new WorkflowRuleContext(event);
+        EvaluationContext evaluationContext = SimpleEvaluationContext.forReadOnlyDataBinding()
+            .withInstanceMethods()
+            .withRootObject(context)
+            .build();
+        int fired = 0;
+        for (CompiledWorkflowRule rule : rules) {
+            try {
+                if (rule.matches(evaluationContext)) {
+                    newTransaction.executeWithoutResult(status -> rule.getAction().execute(rule, context));
+                    pendingStats.merge(rule.getTriggerId(), new ExecutionStats(1, Instant.now()), ExecutionStats::combine);
+                    fired++;
+                }
+            } catch (Exception e) {
+                LOG.warn("Workflow rule {} failed for {}: {}", rule, event, e.getMessage());
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Writes accumulated {@code executionCount}/{@code lastExecuted} values back to the trigger table.
+     */
+    @Scheduled(fixedDelayString = "${application.workflow.rules.stats-flush-interval-ms:10000}")
+    public void flushExecutionStats() {
+        for (Long triggerId : List.copyOf(pendingStats.keySet())) {
+            ExecutionStats stats = pendingStats.remove(triggerId);
+            if (stats == null) {
+                continue;
+            }
+            try {
+                newTransaction.executeWithoutResult(status ->
+                    workflowTriggerRepository.incrementExecutionStats(triggerId, stats.count(), stats.lastExecuted())
+                );
+            } catch (Exception e) {
+                LOG.warn("Unable to record execution stats of workflow trigger {}: {}", triggerId, e.getMessage());
+                pendingStats.merge(triggerId, stats, ExecutionStats::combine);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutionStats();
+    }
+
+    /**
+     * @return the compiled rules per entity type (lower-cased).
+     */
+    public Map<String, List<CompiledWorkflowRule>> getRules() {
+        return rulesByEntityType;
+    }
+
+    private static String key(String entityType) {
+        return entityType == null ? "" : entityType.toLowerCase(Locale.ROOT);
+    }
+
+    private record ExecutionStats(long count, Instant lastExecuted) {
+        ExecutionStats combine(ExecutionStats other) {
+            return new ExecutionStats(count + other.count, lastExecuted.isAfter(other.lastExecuted) ? lastExecuted : other.lastExecuted);
+        }
+    }
+}
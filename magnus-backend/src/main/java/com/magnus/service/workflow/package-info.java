@@ -0,0 +1,5 @@
+/**
+ * Data-driven workflow rules compiled from {@link com.magnus.domain.WorkflowTrigger} rows,
+ * and critical-path scheduling over the task dependency graph.
+ */
+package com.magnus.service.workflow;
@@ -1,24 +1,31 @@
 package com.magnus.web.rest;
 
-import com.magnus.repository.AuditLogRepository;
+import com.magnus.service.AuditLogQueryService;
 import com.magnus.service.AuditLogService;
+import com.magnus.service.audit.AuditLogExportService;
+import com.magnus.service.criteria.AuditLogCriteria;
+import com.magnus.service.criteria.KeysetSlice;
 import com.magnus.service.dto.AuditLogDTO;
 import com.magnus.web.rest.errors.BadRequestAlertException;
+import com.magnus.web.rest.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -26,6 +33,7 @@ import tech.jhipster.web.util.ResponseUtil;
 
 /**
  * REST controller for managing {@link com.magnus.domain.AuditLog}.
+ * The audit log is append-only: entries can be created and read, but not changed or deleted.
  */
 @RestController
 @RequestMapping("/api/audit-logs")
@@ -40,11 +48,18 @@ public class AuditLogResource {
 
     private final AuditLogService auditLogService;
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogQueryService auditLogQueryService;
 
-    public AuditLogResource(AuditLogService auditLogService, AuditLogRepository auditLogRepository) {
+    private final AuditLogExportService auditLogExportService;
+
+    public AuditLogResource(
+        AuditLogService auditLogService,
+        AuditLogQueryService auditLogQueryService,
+        AuditLogExportService auditLogExportService
+    ) {
         this.auditLogService = auditLogService;
-        this.auditLogRepository = auditLogRepository;
+        this.auditLogQueryService = auditLogQueryService;
+        this.auditLogExportService = auditLogExportService;
     }
 
     /**
@@ -67,86 +82,76 @@ public class AuditLogResource {
     }
 
     /**
-     * {@code PUT  /audit-logs/:id} : Updates an existing auditLog.
+     * {@code GET  /audit-logs} : get all the auditLogs.
+     * <p>
+     * With a {@code cursor} parameter (empty for the first page) the auditLogs are returned newest first and the
+     * next page is addressed by the {@code X-Next-Cursor} header, so deep pages cost the same as the first one.
+     * With {@code count=false} the page is read by offset without counting the matching auditLogs.
      *
-     * @param id the id of the auditLogDTO to save.
-     * @param auditLogDTO the auditLogDTO to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated auditLogDTO,
-     * or with status {@code 400 (Bad Request)} if the auditLogDTO is not valid,
-     * or with status {@code 500 (Internal Server Error)} if the auditLogDTO couldn't be updated.
-     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     * @param criteria the criteria which the requested entities should match.
+     * @param pageable the pagination information.
+     * @param cursor the keyset cursor of the page, if keyset pagination is requested.
+     * @param count whether the total count should be computed for offset pagination.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of auditLogs in body.
      */
-    @PutMapping("/{id}")
-    public ResponseEntity<AuditLogDTO> updateAuditLog(
-        @PathVariable(value = "id", required = false) final Long id,
-        @Valid @RequestBody AuditLogDTO auditLogDTO
-    ) throws URISyntaxException {
-        LOG.debug("REST request to update AuditLog : {}, {}", id, auditLogDTO);
-        if (auditLogDTO.getId() == null) {
-            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
-        }
-        if (!Objects.equals(id, auditLogDTO.getId())) {
-            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
+    @GetMapping("")
+    public ResponseEntity<List<AuditLogDTO>> getAllAuditLogs(
+        AuditLogCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", defaultValue = "true") boolean count
+    ) {
+        LOG.debug("REST request to get AuditLogs by criteria: {}", criteria);
+        if (cursor != null) {
+            KeysetSlice<AuditLogDTO> slice = auditLogQueryService.findByCriteria(
+                criteria,
+                KeysetPaginationUtil.parseCursor(cursor, ENTITY_NAME),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.content());
         }
-
-        if (!auditLogRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        if (!count) {
+            Slice<AuditLogDTO> slice = auditLogQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
         }
-
-        auditLogDTO = auditLogService.update(auditLogDTO);
-        return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, auditLogDTO.getId().toString()))
-            .body(auditLogDTO);
+        Page<AuditLogDTO> page = auditLogQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
-     * {@code PATCH  /audit-logs/:id} : Partial updates given fields of an existing auditLog, field will ignore if it is null
+     * {@code GET  /audit-logs/count} : count all the auditLogs.
      *
-     * @param id the id of the auditLogDTO to save.
-     * @param auditLogDTO the auditLogDTO to update.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated auditLogDTO,
-     * or with status {@code 400 (Bad Request)} if the auditLogDTO is not valid,
-     * or with status {@code 404 (Not Found)} if the auditLogDTO is not found,
-     * or with status {@code 500 (Internal Server Error)} if the auditLogDTO couldn't be updated.
-     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
      */
-    @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
-    public ResponseEntity<AuditLogDTO> partialUpdateAuditLog(
-        @PathVariable(value = "id", required = false) final Long id,
-        @NotNull @RequestBody AuditLogDTO auditLogDTO
-    ) throws URISyntaxException {
-        LOG.debug("REST request to partial update AuditLog partially : {}, {}", id, auditLogDTO);
-        if (auditLogDTO.getId() == null) {
-            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
-        }
-        if (!Objects.equals(id, auditLogDTO.getId())) {
-            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
-        }
-
-        if (!auditLogRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<AuditLogDTO> result = auditLogService.partialUpdate(auditLogDTO);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, auditLogDTO.getId().toString())
-        );
+    @GetMapping("/count")
+    public ResponseEntity<Long> countAuditLogs(AuditLogCriteria criteria) {
+        LOG.debug("REST request to count AuditLogs by criteria: {}", criteria);
+        return ResponseEntity.ok().body(auditLogQueryService.countByCriteria(criteria));
     }
 
     /**
-     * {@code GET  /audit-logs} : get all the auditLogs.
+     * {@code GET  /audit-logs/export} : stream the auditLogs matching the criteria as CSV, newest first.
+     * <p>
+     * Rows are read in keyset chunks while the response is written, so the export never holds the
+     * whole result (or one long transaction) in memory. Restrict {@code timestamp} to let MySQL prune
+     * the monthly partitions.
      *
-     * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of auditLogs in body.
+     * @param criteria the criteria which the exported entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the CSV document in body.
      */
-    @GetMapping("")
-    public ResponseEntity<List<AuditLogDTO>> getAllAuditLogs(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
-        LOG.debug("REST request to get a page of AuditLogs");
-        Page<AuditLogDTO> page = auditLogService.findAll(pageable);
-        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    @GetMapping(value = "/export", produces = AuditLogExportService.CONTENT_TYPE)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(AuditLogCriteria criteria) {
+        LOG.debug("REST request to export AuditLogs by criteria: {}", criteria);
+        StreamingResponseBody body = outputStream -> auditLogExportService.export(criteria, outputStream);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("audit-log.csv").build().toString())
+            .contentType(MediaType.parseMediaType(AuditLogExportService.CONTENT_TYPE))
+            .body(body);
     }
 
     /**
@@ -161,19 +166,4 @@ public class AuditLogResource {
         Optional<AuditLogDTO> auditLogDTO = auditLogService.findOne(id);
         return ResponseUtil.wrapOrNotFound(auditLogDTO);
     }
-
-    /**
-     * {@code DELETE  /audit-logs/:id} : delete the "id" auditLog.
-     *
-     * @param id the id of the auditLogDTO to delete.
-     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
-     */
-    @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteAuditLog(@PathVariable("id") Long id) {
-        LOG.debug("REST request to delete AuditLog : {}", id);
-        auditLogService.delete(id);
-        return ResponseEntity.noContent()
-            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
-            .build();
-    }
 }
@@ -2,6 +2,8 @@ package com.magnus.web.rest;
 
 import com.magnus.repository.BudgetItemRepository;
 import com.magnus.service.BudgetItemService;
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.BudgetItemDTO;
 import com.magnus.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
@@ -130,6 +132,21 @@ public class BudgetItemResource {
         );
     }
 
+    /**
+     * {@code POST  /budget-items/bulk} : Creates, updates and deletes budgetItems in one transaction.
+     * <p>
+     * Updates and deletes of unknown ids are reported per item and do not roll back the rest.
+     *
+     * @param request the budgetItems to create and update and the ids to delete.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each item,
+     * or with status {@code 400 (Bad Request)} if an item is not valid.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResultDTO<BudgetItemDTO>> bulkBudgetItems(@Valid @RequestBody BulkRequestDTO<BudgetItemDTO> request) {
+        LOG.debug("REST request to apply bulk BudgetItem changes : {}", request);
+        return ResponseEntity.ok(budgetItemService.bulk(request));
+    }
+
     /**
      * {@code GET  /budget-items} : get all the budgetItems.
      *
@@ -1,9 +1,13 @@
 package com.magnus.web.rest;
 
 import com.magnus.repository.BudgetRepository;
+import com.magnus.service.BudgetQueryService;
 import com.magnus.service.BudgetService;
+import com.magnus.service.criteria.BudgetCriteria;
+import com.magnus.service.criteria.KeysetSlice;
 import com.magnus.service.dto.BudgetDTO;
 import com.magnus.web.rest.errors.BadRequestAlertException;
+import com.magnus.web.rest.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -16,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,9 +47,12 @@ public class BudgetResource {
 
     private final BudgetRepository budgetRepository;
 
-    public BudgetResource(BudgetService budgetService, BudgetRepository budgetRepository) {
+    private final BudgetQueryService budgetQueryService;
+
+    public BudgetResource(BudgetService budgetService, BudgetRepository budgetRepository, BudgetQueryService budgetQueryService) {
         this.budgetService = budgetService;
         this.budgetRepository = budgetRepository;
+        this.budgetQueryService = budgetQueryService;
     }
 
     /**
@@ -137,18 +145,56 @@ public class BudgetResource {
 
     /**
      * {@code GET  /budgets} : get all the budgets.
+     * <p>
+     * With a {@code cursor} parameter (empty for the first page) the budgets are returned newest first and the
+     * next page is addressed by the {@code X-Next-Cursor} header, so deep pages cost the same as the first one.
+     * With {@code count=false} the page is read by offset without counting the matching budgets.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @param pageable the pagination information.
+     * @param cursor the keyset cursor of the page, if keyset pagination is requested.
+     * @param count whether the total count should be computed for offset pagination.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of budgets in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<BudgetDTO>> getAllBudgets(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
-        LOG.debug("REST request to get a page of Budgets");
-        Page<BudgetDTO> page = budgetService.findAll(pageable);
+    public ResponseEntity<List<BudgetDTO>> getAllBudgets(
+        BudgetCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", defaultValue = "true") boolean count
+    ) {
+        LOG.debug("REST request to get Budgets by criteria: {}", criteria);
+        if (cursor != null) {
+            KeysetSlice<BudgetDTO> slice = budgetQueryService.findByCriteria(
+                criteria,
+                KeysetPaginationUtil.parseCursor(cursor, ENTITY_NAME),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.content());
+        }
+        if (!count) {
+            Slice<BudgetDTO> slice = budgetQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<BudgetDTO> page = budgetQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /budgets/count} : count all the budgets.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countBudgets(BudgetCriteria criteria) {
+        LOG.debug("REST request to count Budgets by criteria: {}", criteria);
+        return ResponseEntity.ok().body(budgetQueryService.countByCriteria(criteria));
+    }
+
     /**
      * {@code GET  /budgets/:id} : get the "id" budget.
      *
@@ -2,6 +2,8 @@ package com.magnus.web.rest;
 
 import com.magnus.repository.CookingIngredientRepository;
 import com.magnus.service.CookingIngredientService;
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.CookingIngredientDTO;
 import com.magnus.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
@@ -134,6 +136,21 @@ public class CookingIngredientResource {
         );
     }
 
+    /**
+     * {@code POST  /cooking-ingredients/bulk} : Creates, updates and deletes cookingIngredients in one transaction.
+     * <p>
+     * Updates and deletes of unknown ids are reported per item and do not roll back the rest.
+     *
+     * @param request the cookingIngredients to create and update and the ids to delete.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each item,
+     * or with status {@code 400 (Bad Request)} if an item is not valid.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResultDTO<CookingIngredientDTO>> bulkCookingIngredients(@Valid @RequestBody BulkRequestDTO<CookingIngredientDTO> request) {
+        LOG.debug("REST request to apply bulk CookingIngredient changes : {}", request);
+        return ResponseEntity.ok(cookingIngredientService.bulk(request));
+    }
+
     /**
      * {@code GET  /cooking-ingredients} : get all the cookingIngredients.
      *
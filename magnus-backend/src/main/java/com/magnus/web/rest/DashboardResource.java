@@ -0,0 +1,72 @@
+package com.magnus.web.rest;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.service.analytics.BudgetRollupService;
+import com.magnus.service.dto.DashboardRollupDTO;
+import com.magnus.web.rest.errors.BadRequestAlertException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving the management dashboard from the budget rollups.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardResource.class);
+
+    private static final String ENTITY_NAME = "dashboard";
+
+    private final BudgetRollupService budgetRollupService;
+
+    private final ApplicationProperties.Dashboard properties;
+
+    public DashboardResource(BudgetRollupService budgetRollupService, ApplicationProperties applicationProperties) {
+        this.budgetRollupService = budgetRollupService;
+        this.properties = applicationProperties.getDashboard();
+    }
+
+    /**
+     * {@code GET  /dashboard/rollups} : get the budget count, guests, revenue, cost, margin and payments
+     * per period of the event date, overall or per status, event gender, client or template.
+     * <p>
+     * Answered from the precomputed rollups, so the cost depends on the number of periods and keys
+     * returned, not on the number of budgets. Changes show up within a few seconds.
+     *
+     * @param period the period type, {@code MONTH} by default.
+     * @param dimension the dimension, {@code ALL} by default.
+     * @param from the first event date, a year ago by default.
+     * @param to the last event date (inclusive), a year from now by default.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the non-empty rollups in body.
+     * @throws BadRequestAlertException {@code 400 (Bad Request)} if the range is reversed or too long.
+     */
+    @GetMapping("/rollups")
+    public ResponseEntity<List<DashboardRollupDTO>> getRollups(
+        @RequestParam(name = "period", defaultValue = "MONTH") DashboardRollupDTO.Period period,
+        @RequestParam(name = "dimension", defaultValue = "ALL") DashboardRollupDTO.Dimension dimension,
+        @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LOG.debug("REST request to get dashboard rollups by {} and {} from {} to {}", period, dimension, from, to);
+        LocalDate today = LocalDate.now();
+        LocalDate first = from != null ? from : today.minusYears(1);
+        LocalDate last = to != null ? to : today.plusYears(1);
+        if (last.isBefore(first)) {
+            throw new BadRequestAlertException("The range ends before it starts", ENTITY_NAME, "rangeinvalid");
+        }
+        if (ChronoUnit.DAYS.between(first, last) > properties.getMaxRangeDays()) {
+            throw new BadRequestAlertException("The range exceeds " + properties.getMaxRangeDays() + " days", ENTITY_NAME, "rangetoolong");
+        }
+        return ResponseEntity.ok(budgetRollupService.findRollups(period, dimension, first, last));
+    }
+}
@@ -1,9 +1,15 @@
 package com.magnus.web.rest;
 
 import com.magnus.repository.NotificationRepository;
+import com.magnus.security.SecurityUtils;
+import com.magnus.service.NotificationQueryService;
 import com.magnus.service.NotificationService;
+import com.magnus.service.criteria.NotificationCriteria;
+import com.magnus.service.criteria.KeysetSlice;
 import com.magnus.service.dto.NotificationDTO;
+import com.magnus.service.notification.UnreadNotificationCounters;
 import com.magnus.web.rest.errors.BadRequestAlertException;
+import com.magnus.web.rest.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -16,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,9 +49,20 @@ public class NotificationResource {
 
     private final NotificationRepository notificationRepository;
 
-    public NotificationResource(NotificationService notificationService, NotificationRepository notificationRepository) {
+    private final NotificationQueryService notificationQueryService;
+
+    private final UnreadNotificationCounters unreadNotificationCounters;
+
+    public NotificationResource(
+        NotificationService notificationService,
+        NotificationRepository notificationRepository,
+        NotificationQueryService notificationQueryService,
+        UnreadNotificationCounters unreadNotificationCounters
+    ) {
         this.notificationService = notificationService;
         this.notificationRepository = notificationRepository;
+        this.notificationQueryService = notificationQueryService;
+        this.unreadNotificationCounters = unreadNotificationCounters;
     }
 
     /**
@@ -138,18 +156,67 @@ public class NotificationResource {
 
     /**
      * {@code GET  /notifications} : get all the notifications.
+     * <p>
+     * With a {@code cursor} parameter (empty for the first page) the notifications are returned newest first and the
+     * next page is addressed by the {@code X-Next-Cursor} header, so deep pages cost the same as the first one.
+     * With {@code count=false} the page is read by offset without counting the matching notifications.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @param pageable the pagination information.
+     * @param cursor the keyset cursor of the page, if keyset pagination is requested.
+     * @param count whether the total count should be computed for offset pagination.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of notifications in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<NotificationDTO>> getAllNotifications(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
-        LOG.debug("REST request to get a page of Notifications");
-        Page<NotificationDTO> page = notificationService.findAll(pageable);
+    public ResponseEntity<List<NotificationDTO>> getAllNotifications(
+        NotificationCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", defaultValue = "true") boolean count
+    ) {
+        LOG.debug("REST request to get Notifications by criteria: {}", criteria);
+        if (cursor != null) {
+            KeysetSlice<NotificationDTO> slice = notificationQueryService.findByCriteria(
+                criteria,
+                KeysetPaginationUtil.parseCursor(cursor, ENTITY_NAME),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.content());
+        }
+        if (!count) {
+            Slice<NotificationDTO> slice = notificationQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<NotificationDTO> page = notificationQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /notifications/count} : count all the notifications.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countNotifications(NotificationCriteria criteria) {
+        LOG.debug("REST request to count Notifications by criteria: {}", criteria);
+        return ResponseEntity.ok().body(notificationQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /notifications/unread-count} : count the unread notifications of the current user.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Long> getUnreadNotificationCount() {
+        long count = SecurityUtils.getCurrentUserLogin().map(unreadNotificationCounters::unreadCount).orElse(0L);
+        return ResponseEntity.ok().body(count);
+    }
+
     /**
      * {@code GET  /notifications/:id} : get the "id" notification.
      *
@@ -1,9 +1,15 @@
 package com.magnus.web.rest;
 
 import com.magnus.repository.ShoppingItemRepository;
+import com.magnus.service.ShoppingItemQueryService;
 import com.magnus.service.ShoppingItemService;
+import com.magnus.service.criteria.ShoppingItemCriteria;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
 import com.magnus.service.dto.ShoppingItemDTO;
 import com.magnus.web.rest.errors.BadRequestAlertException;
+import com.magnus.web.rest.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -16,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,9 +49,16 @@ public class ShoppingItemResource {
 
     private final ShoppingItemRepository shoppingItemRepository;
 
-    public ShoppingItemResource(ShoppingItemService shoppingItemService, ShoppingItemRepository shoppingItemRepository) {
+    private final ShoppingItemQueryService shoppingItemQueryService;
+
+    public ShoppingItemResource(
+        ShoppingItemService shoppingItemService,
+        ShoppingItemRepository shoppingItemRepository,
+        ShoppingItemQueryService shoppingItemQueryService
+    ) {
         this.shoppingItemService = shoppingItemService;
         this.shoppingItemRepository = shoppingItemRepository;
+        this.shoppingItemQueryService = shoppingItemQueryService;
     }
 
     /**
@@ -136,20 +150,85 @@ public class ShoppingItemResource {
         );
     }
 
+    /**
+     * {@code POST  /shopping-items/bulk} : Creates, updates and deletes shoppingItems in one transaction.
+     * <p>
+     * Updates and deletes of unknown ids are reported per item and do not roll back the rest.
+     *
+     * @param request the shoppingItems to create and update and the ids to delete.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the outcome of each item,
+     * or with status {@code 400 (Bad Request)} if an item is not valid.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResultDTO<ShoppingItemDTO>> bulkShoppingItems(@Valid @RequestBody BulkRequestDTO<ShoppingItemDTO> request) {
+        LOG.debug("REST request to apply bulk ShoppingItem changes : {}", request);
+        return ResponseEntity.ok(shoppingItemService.bulk(request));
+    }
+
     /**
      * {@code GET  /shopping-items} : get all the shoppingItems.
+     * <p>
+     * With a {@code cursor} parameter (empty for the first page) the shoppingItems are returned newest first and the
+     * next page is addressed by the {@code X-Next-Cursor} header, so deep pages cost the same as the first one.
+     * With {@code count=false} the page is read by offset without counting the matching shoppingItems.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @param pageable the pagination information.
+     * @param cursor the keyset cursor of the page, if keyset pagination is requested.
+     * @param count whether the total count should be computed for offset pagination.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shoppingItems in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<ShoppingItemDTO>> getAllShoppingItems(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
-        LOG.debug("REST request to get a page of ShoppingItems");
-        Page<ShoppingItemDTO> page = shoppingItemService.findAll(pageable);
+    public ResponseEntity<List<ShoppingItemDTO>> getAllShoppingItems(
+        ShoppingItemCriteria criteria,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", defaultValue = "true") boolean count
+    ) {
+        LOG.debug("REST request to get ShoppingItems by criteria: {}", criteria);
+        if (cursor != null) {
+            KeysetSlice<ShoppingItemDTO> slice = shoppingItemQueryService.findByCriteria(
+                criteria,
+                KeysetPaginationUtil.parseCursor(cursor, ENTITY_NAME),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.content());
+        }
+        if (!count) {
+            Slice<ShoppingItemDTO> slice = shoppingItemQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<ShoppingItemDTO> page = shoppingItemQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /shopping-items/count} : count all the shoppingItems.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countShoppingItems(ShoppingItemCriteria criteria) {
+        LOG.debug("REST request to count ShoppingItems by criteria: {}", criteria);
+        return ResponseEntity.ok().body(shoppingItemQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /shopping-items/budget/:budgetId} : get the shoppingItems a budget contributes to.
+     *
+     * @param budgetId the id of the budget.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of shoppingItems in body.
+     */
+    @GetMapping("/budget/{budgetId}")
+    public List<ShoppingItemDTO> getShoppingItemsByBudget(@PathVariable("budgetId") Long budgetId) {
+        LOG.debug("REST request to get ShoppingItems of Budget : {}", budgetId);
+        return shoppingItemService.findAllByBudgetId(budgetId);
+    }
+
     /**
      * {@code GET  /shopping-items/:id} : get the "id" shoppingItem.
      *
@@ -1,9 +1,13 @@
 package com.magnus.web.rest;
 
 import com.magnus.repository.TaskRepository;
+import com.magnus.service.TaskQueryService;
 import com.magnus.service.TaskService;
+import com.magnus.service.criteria.TaskCriteria;
+import com.magnus.service.criteria.KeysetSlice;
 import com.magnus.service.dto.TaskDTO;
 import com.magnus.web.rest.errors.BadRequestAlertException;
+import com.magnus.web.rest.util.KeysetPaginationUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -16,8 +20,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -43,9 +47,12 @@ public class TaskResource {
 
     private final TaskRepository taskRepository;
 
-    public TaskResource(TaskService taskService, TaskRepository taskRepository) {
+    private final TaskQueryService taskQueryService;
+
+    public TaskResource(TaskService taskService, TaskRepository taskRepository, TaskQueryService taskQueryService) {
         this.taskService = taskService;
         this.taskRepository = taskRepository;
+        this.taskQueryService = taskQueryService;
     }
 
     /**
@@ -138,26 +145,64 @@ public class TaskResource {
 
     /**
      * {@code GET  /tasks} : get all the tasks.
+     * <p>
+     * With a {@code cursor} parameter (empty for the first page) the tasks are returned newest first and the
+     * next page is addressed by the {@code X-Next-Cursor} header, so deep pages cost the same as the first one.
+     * With {@code count=false} the page is read by offset without counting the matching tasks.
      *
+     * @param criteria the criteria which the requested entities should match.
      * @param pageable the pagination information.
+     * @param cursor the keyset cursor of the page, if keyset pagination is requested.
+     * @param count whether the total count should be computed for offset pagination.
      * @param filter the filter of the request.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tasks in body.
      */
     @GetMapping("")
     public ResponseEntity<List<TaskDTO>> getAllTasks(
+        TaskCriteria criteria,
         @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", defaultValue = "true") boolean count,
         @RequestParam(name = "filter", required = false) String filter
     ) {
         if ("cookingschedule-is-null".equals(filter)) {
-            LOG.debug("REST request to get all Tasks where cookingSchedule is null");
-            return new ResponseEntity<>(taskService.findAllWhereCookingScheduleIsNull(), HttpStatus.OK);
+            LOG.debug("REST request to get a page of Tasks where cookingSchedule is null");
+            Page<TaskDTO> page = taskService.findAllWhereCookingScheduleIsNull(pageable);
+            HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+            return ResponseEntity.ok().headers(headers).body(page.getContent());
+        }
+        LOG.debug("REST request to get Tasks by criteria: {}", criteria);
+        if (cursor != null) {
+            KeysetSlice<TaskDTO> slice = taskQueryService.findByCriteria(
+                criteria,
+                KeysetPaginationUtil.parseCursor(cursor, ENTITY_NAME),
+                pageable.getPageSize()
+            );
+            HttpHeaders headers = KeysetPaginationUtil.generateKeysetHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.content());
         }
-        LOG.debug("REST request to get a page of Tasks");
-        Page<TaskDTO> page = taskService.findAll(pageable);
+        if (!count) {
+            Slice<TaskDTO> slice = taskQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = KeysetPaginationUtil.generateSliceHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), slice);
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        Page<TaskDTO> page = taskQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /tasks/count} : count all the tasks.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countTasks(TaskCriteria criteria) {
+        LOG.debug("REST request to count Tasks by criteria: {}", criteria);
+        return ResponseEntity.ok().body(taskQueryService.countByCriteria(criteria));
+    }
+
     /**
      * {@code GET  /tasks/:id} : get the "id" task.
      *
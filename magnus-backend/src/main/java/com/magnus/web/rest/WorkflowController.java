@@ -3,7 +3,11 @@ package com.magnus.web.rest;
 import com.magnus.domain.enumeration.BudgetStatus;
 import com.magnus.service.WorkflowAutomationService;
 import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.dto.ShoppingItemDTO;
+import com.magnus.service.dto.TaskScheduleDTO;
 import com.magnus.service.impl.BudgetServiceImpl;
+import com.magnus.service.shopping.ShoppingConsolidationService;
+import com.magnus.service.workflow.TaskScheduleService;
 import com.magnus.web.rest.errors.BadRequestAlertException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +18,7 @@ import tech.jhipster.web.util.HeaderUtil;
 
 import jakarta.validation.Valid;
 import java.net.URISyntaxException;
+import java.util.List;
 
 /**
  * REST controller for workflow automation operations.
@@ -32,13 +37,19 @@ public class WorkflowController {
 
     private final WorkflowAutomationService workflowAutomationService;
     private final BudgetServiceImpl budgetService;
+    private final TaskScheduleService taskScheduleService;
+    private final ShoppingConsolidationService shoppingConsolidationService;
 
     public WorkflowController(
         WorkflowAutomationService workflowAutomationService,
-        BudgetServiceImpl budgetService
+        BudgetServiceImpl budgetService,
+        TaskScheduleService taskScheduleService,
+        ShoppingConsolidationService shoppingConsolidationService
     ) {
         this.workflowAutomationService = workflowAutomationService;
         this.budgetService = budgetService;
+        this.taskScheduleService = taskScheduleService;
+        this.shoppingConsolidationService = shoppingConsolidationService;
     }
 
     /**
@@ -156,6 +167,62 @@ public class WorkflowController {
         return ResponseEntity.ok().body(status);
     }
 
+    /**
+     * {@code GET /api/workflow/schedule/{budgetId}} : Get the critical-path schedule of a budget's tasks.
+     *
+     * @param budgetId the id of the budget to schedule.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the schedule.
+     */
+    @GetMapping("/schedule/{budgetId}")
+    public ResponseEntity<TaskScheduleDTO> getBudgetSchedule(@PathVariable Long budgetId) {
+        LOG.debug("REST request to get task schedule for budget : {}", budgetId);
+        return ResponseEntity.ok().body(taskScheduleService.scheduleForBudget(budgetId));
+    }
+
+    /**
+     * {@code GET /api/workflow/schedule/weekly-plan/{weeklyPlanId}} : Get the critical-path schedule of a weekly plan's tasks.
+     *
+     * @param weeklyPlanId the id of the weekly plan to schedule.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the schedule.
+     */
+    @GetMapping("/schedule/weekly-plan/{weeklyPlanId}")
+    public ResponseEntity<TaskScheduleDTO> getWeeklyPlanSchedule(@PathVariable Long weeklyPlanId) {
+        LOG.debug("REST request to get task schedule for weekly plan : {}", weeklyPlanId);
+        return ResponseEntity.ok().body(taskScheduleService.scheduleForWeeklyPlan(weeklyPlanId));
+    }
+
+    /**
+     * {@code POST /api/workflow/consolidate/weekly-plan/{weeklyPlanId}} : Rebuild the consolidated shopping list of a weekly plan.
+     *
+     * @param weeklyPlanId the id of the weekly plan to consolidate.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the consolidated shopping items.
+     */
+    @PostMapping("/consolidate/weekly-plan/{weeklyPlanId}")
+    public ResponseEntity<List<ShoppingItemDTO>> consolidateWeeklyPlan(@PathVariable Long weeklyPlanId) {
+        LOG.debug("REST request to consolidate shopping list for weekly plan : {}", weeklyPlanId);
+        List<ShoppingItemDTO> items = shoppingConsolidationService
+            .consolidateWeeklyPlan(weeklyPlanId)
+            .orElseThrow(() -> new BadRequestAlertException("Weekly plan not found", ENTITY_NAME, "weeklyplannotfound"));
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createAlert(applicationName, "Shopping list consolidated for weekly plan " + weeklyPlanId, weeklyPlanId.toString()))
+            .body(items);
+    }
+
+    /**
+     * {@code POST /api/workflow/consolidate/budget/{budgetId}} : Recompute the shopping lines affected by a budget.
+     *
+     * @param budgetId the id of the budget that changed.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the recomputed shopping items.
+     */
+    @PostMapping("/consolidate/budget/{budgetId}")
+    public ResponseEntity<List<ShoppingItemDTO>> reconsolidateBudget(@PathVariable Long budgetId) {
+        LOG.debug("REST request to reconsolidate shopping list for budget : {}", budgetId);
+        List<ShoppingItemDTO> items = shoppingConsolidationService
+            .reconsolidateBudget(budgetId)
+            .orElseThrow(() -> new BadRequestAlertException("Budget is not part of a weekly plan", ENTITY_NAME, "noweeklyplan"));
+        return ResponseEntity.ok().body(items);
+    }
+
     /**
      * Request object for budget status updates.
      */
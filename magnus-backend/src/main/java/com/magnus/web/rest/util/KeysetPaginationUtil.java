@@ -0,0 +1,93 @@
+package com.magnus.web.rest.util;
+
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.criteria.KeysetSlice;
+import com.magnus.web.rest.errors.BadRequestAlertException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Pagination headers for lists that are read without a total count, complementing
+ * {@link tech.jhipster.web.util.PaginationUtil}.
+ * <p>
+ * Offset slices get {@code next}/{@code prev} links and {@code X-Has-Next-Page}; keyset slices get
+ * {@code X-Next-Cursor} and a {@code next} link carrying that cursor.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+
+    public static final String HEADER_HAS_NEXT_PAGE = "X-Has-Next-Page";
+
+    private static final String HEADER_LINK_FORMAT = "<{0}>; rel=\"{1}\"";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Reads the {@code cursor} request parameter. A blank value asks for the first page.
+     *
+     * @param cursor the cursor token.
+     * @param entityName the name of the listed entity, for the error message.
+     * @return the cursor, or {@code null} for the first page.
+     * @throws BadRequestAlertException if the token is not a valid cursor.
+     */
+    public static KeysetCursor parseCursor(String cursor, String entityName) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return KeysetCursor.parse(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", entityName, "invalidcursor");
+        }
+    }
+
+    /**
+     * Generate pagination headers for a Spring Data {@link Slice} object.
+     *
+     * @param uriBuilder The URI builder.
+     * @param slice The slice.
+     * @return http header.
+     */
+    public static <T> HttpHeaders generateSliceHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HEADER_HAS_NEXT_PAGE, Boolean.toString(slice.hasNext()));
+        List<String> links = new ArrayList<>(2);
+        if (slice.hasNext()) {
+            links.add(link(uriBuilder.replaceQueryParam("page", slice.getNumber() + 1).replaceQueryParam("size", slice.getSize()), "next"));
+        }
+        if (slice.hasPrevious()) {
+            links.add(link(uriBuilder.replaceQueryParam("page", slice.getNumber() - 1).replaceQueryParam("size", slice.getSize()), "prev"));
+        }
+        if (!links.isEmpty()) {
+            headers.add(HttpHeaders.LINK, String.join(",", links));
+        }
+        return headers;
+    }
+
+    /**
+     * Generate pagination headers for a {@link KeysetSlice} object.
+     *
+     * @param uriBuilder The URI builder.
+     * @param slice The keyset slice.
+     * @return http header.
+     */
+    public static <T> HttpHeaders generateKeysetHttpHeaders(UriComponentsBuilder uriBuilder, KeysetSlice<T> slice) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HEADER_HAS_NEXT_PAGE, Boolean.toString(slice.hasNext()));
+        if (slice.hasNext()) {
+            String cursor = slice.nextCursor().toString();
+            headers.add(HEADER_NEXT_CURSOR, cursor);
+            headers.add(HttpHeaders.LINK, link(uriBuilder.replaceQueryParam("page").replaceQueryParam("cursor", cursor), "next"));
+        }
+        return headers;
+    }
+
+    private static String link(UriComponentsBuilder uriBuilder, String relType) {
+        return MessageFormat.format(HEADER_LINK_FORMAT, uriBuilder.toUriString().replace(",", "%2C").replace(";", "%3B"), relType);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Utility classes for the REST resources.
+ */
+package com.magnus.web.rest.util;
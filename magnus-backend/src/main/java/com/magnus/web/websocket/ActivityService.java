@@ -3,44 +3,53 @@ package com.magnus.web.websocket;
 import static com.magnus.config.WebsocketConfiguration.IP_ADDRESS;
 
 import com.magnus.web.websocket.dto.ActivityDTO;
+import com.magnus.web.websocket.dto.PresenceUpdateDTO;
 import java.security.Principal;
 import java.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
 import org.springframework.messaging.handler.annotation.*;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+/**
+ * Receives page views of STOMP sessions and hands them to the {@link PresenceTracker}, which publishes
+ * them to {@code /topic/tracker} in coalesced batches instead of re-broadcasting each one.
+ */
 @Controller
 public class ActivityService implements ApplicationListener<SessionDisconnectEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ActivityService.class);
 
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PresenceTracker presenceTracker;
 
-    public ActivityService(SimpMessageSendingOperations messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public ActivityService(PresenceTracker presenceTracker) {
+        this.presenceTracker = presenceTracker;
     }
 
     @MessageMapping("/topic/activity")
-    @SendTo("/topic/tracker")
-    public ActivityDTO sendActivity(@Payload ActivityDTO activityDTO, StompHeaderAccessor stompHeaderAccessor, Principal principal) {
+    public void sendActivity(@Payload ActivityDTO activityDTO, StompHeaderAccessor stompHeaderAccessor, Principal principal) {
         activityDTO.setUserLogin(principal.getName());
         activityDTO.setSessionId(stompHeaderAccessor.getSessionId());
         activityDTO.setIpAddress(stompHeaderAccessor.getSessionAttributes().get(IP_ADDRESS).toString());
         activityDTO.setTime(Instant.now());
-        LOG.debug("Sending user tracking data {}", activityDTO);
-        return activityDTO;
+        LOG.debug("Recording user tracking data {}", activityDTO);
+        presenceTracker.record(activityDTO);
+    }
+
+    /**
+     * Returns the current presence snapshot of this node to an admin screen subscribing to {@code /app/tracker/snapshot}.
+     */
+    @SubscribeMapping("/tracker/snapshot")
+    public PresenceUpdateDTO trackerSnapshot() {
+        return presenceTracker.snapshot();
     }
 
     @Override
     public void onApplicationEvent(SessionDisconnectEvent event) {
-        ActivityDTO activityDTO = new ActivityDTO();
-        activityDTO.setSessionId(event.getSessionId());
-        activityDTO.setPage("logout");
-        messagingTemplate.convertAndSend("/topic/tracker", activityDTO);
+        presenceTracker.remove(event.getSessionId());
     }
 }
@@ -0,0 +1,96 @@
+package com.magnus.web.websocket;
+
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.NotificationService;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.dto.NotificationDTO;
+import com.magnus.service.event.NotificationCreatedEvent;
+import com.magnus.web.websocket.dto.NotificationReplayDTO;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Pushes notifications to STOMP clients as soon as they are committed.
+ * <p>
+ * Notifications addressed to a user go to {@code /user/queue/notifications}; notifications addressed
+ * to a role go to {@code /topic/role/{role}}, and global ones to every role topic, so a client only
+ * subscribes to its own queue and its role topic. Each pushed message carries a {@code cursor} header.
+ * After (re)connecting, a client sends its last cursor to {@code /app/notifications/replay} and
+ * receives the unread notifications it missed on {@code /user/queue/notifications/replay}.
+ */
+@Controller
+public class NotificationPushService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationPushService.class);
+
+    public static final String ROLE_TOPIC_PREFIX = "/topic/role/";
+
+    public static final String USER_QUEUE = "/queue/notifications";
+
+    public static final String CURSOR_HEADER = "cursor";
+
+    static final int REPLAY_LIMIT = 200;
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    private final NotificationService notificationService;
+
+    public NotificationPushService(SimpMessageSendingOperations messagingTemplate, NotificationService notificationService) {
+        this.messagingTemplate = messagingTemplate;
+        this.notificationService = notificationService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        NotificationDTO notification = event.getNotification();
+        Map<String, Object> headers = Map.of(CURSOR_HEADER, cursorOf(notification));
+        try {
+            if (event.getTargetUserLogin() != null) {
+                messagingTemplate.convertAndSendToUser(event.getTargetUserLogin(), USER_QUEUE, notification, headers);
+            }
+            if (Boolean.TRUE.equals(notification.getIsGlobal())) {
+                for (UserRole role : UserRole.values()) {
+                    messagingTemplate.convertAndSend(ROLE_TOPIC_PREFIX + role.name(), notification, headers);
+                }
+            } else if (notification.getTargetRole() != null) {
+                messagingTemplate.convertAndSend(ROLE_TOPIC_PREFIX + notification.getTargetRole().name(), notification, headers);
+            }
+        } catch (Exception e) {
+            // clients catch up through the replay, so a failed push must not surface to the writer
+            LOG.warn("Unable to push notification {}: {}", notification.getId(), e.getMessage());
+        }
+    }
+
+    @MessageMapping("/notifications/replay")
+    @SendToUser(destinations = USER_QUEUE + "/replay", broadcast = false)
+    public NotificationReplayDTO replay(@Header(name = CURSOR_HEADER, required = false) String cursor, Principal principal) {
+        KeysetCursor position = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                position = KeysetCursor.parse(cursor);
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Ignoring invalid replay cursor from {}", principal.getName());
+            }
+        }
+        List<NotificationDTO> notifications = notificationService.findUnreadVisibleAfter(principal.getName(), position, REPLAY_LIMIT);
+        NotificationReplayDTO replay = new NotificationReplayDTO();
+        replay.setNotifications(notifications);
+        replay.setHasMore(notifications.size() == REPLAY_LIMIT);
+        replay.setCursor(notifications.isEmpty() ? cursor : cursorOf(notifications.get(notifications.size() - 1)));
+        LOG.debug("Replaying notifications to {}: {}", principal.getName(), replay);
+        return replay;
+    }
+
+    private static String cursorOf(NotificationDTO notification) {
+        return new KeysetCursor(notification.getCreatedAt(), notification.getId()).toString();
+    }
+}
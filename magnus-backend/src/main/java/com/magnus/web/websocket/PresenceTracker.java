@@ -0,0 +1,168 @@
+package com.magnus.web.websocket;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.web.websocket.dto.ActivityDTO;
+import com.magnus.web.websocket.dto.PresenceUpdateDTO;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Current page of every connected STOMP session, published to {@code /topic/tracker} at a fixed rate.
+ * <p>
+ * Page views and disconnects only update the in-memory map and mark the session as changed; several
+ * page views of one session between two publications collapse into one entry, and a page view that
+ * does not change the page is not published at all. Every {@code publish-interval-ms} the changed
+ * sessions go out as one diff, and every {@code snapshot-interval-ms} a full snapshot replaces it so
+ * that a client that missed a diff converges. Updates carry a sequence number; an admin screen
+ * subscribes to {@code /app/tracker/snapshot} for its initial view and applies the diffs that follow.
+ * <p>
+ * Presence is kept per node: each node only knows the sessions connected to it. With the broker relay
+ * every node publishes to the same topic, so updates carry the node id and sequence of their node and
+ * clients merge them per node (see {@link PresenceUpdateDTO}). {@code /app/tracker/snapshot} answers
+ * with the snapshot of the node the client is connected to; the other nodes' sessions arrive with
+ * their next periodic snapshot.
+ */
+@Component
+public class PresenceTracker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PresenceTracker.class);
+
+    public static final String TRACKER_TOPIC = "/topic/tracker";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    private final ApplicationProperties.Websocket.Presence properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentMap<String, ActivityDTO> sessions = new ConcurrentHashMap<>();
+
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+    private long sequence;
+
+    // negative until the first publication, which announces the node with a snapshot
+    private long lastSnapshotAt = -1;
+
+    public PresenceTracker(SimpMessageSendingOperations messagingTemplate, ApplicationProperties applicationProperties) {
+        this.messagingTemplate = messagingTemplate;
+        this.properties = applicationProperties.getWebsocket().getPresence();
+    }
+
+    /**
+     * Records the page a session is on.
+     */
+    public void record(ActivityDTO activity) {
+        ActivityDTO previous = sessions.put(activity.getSessionId(), activity);
+        if (
+            previous == null ||
+            !Objects.equals(previous.getPage(), activity.getPage()) ||
+            !Objects.equals(previous.getUserLogin(), activity.getUserLogin())
+        ) {
+            changed.add(activity.getSessionId());
+        }
+    }
+
+    /**
+     * Forgets a disconnected session.
+     */
+    public void remove(String sessionId) {
+        if (sessions.remove(sessionId) != null) {
+            changed.add(sessionId);
+        }
+    }
+
+    /**
+     * @return the number of connected sessions that reported a page.
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * @return the id this node publishes its updates under.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return a snapshot of the sessions of this node, numbered like the last published update.
+     */
+    public synchronized PresenceUpdateDTO snapshot() {
+        PresenceUpdateDTO update = new PresenceUpdateDTO();
+        update.setNodeId(nodeId);
+        update.setSequence(sequence);
+        update.setSnapshot(true);
+        update.setSessions(new ArrayList<>(sessions.values()));
+        update.setRemoved(List.of());
+        return update;
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.websocket.presence.publish-interval-ms:2000}",
+        fixedDelayString = "${application.websocket.presence.publish-interval-ms:2000}"
+    )
+    public void publish() {
+        try {
+            publish(System.currentTimeMillis());
+        } catch (Exception e) {
+            LOG.warn("Unable to publish presence: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes a snapshot if one is due, otherwise a diff if any session changed.
+     */
+    synchronized void publish(long now) {
+        PresenceUpdateDTO update;
+        if (lastSnapshotAt < 0 || now - lastSnapshotAt >= properties.getSnapshotIntervalMs()) {
+            changed.clear();
+            sequence++;
+            update = snapshot();
+            lastSnapshotAt = now;
+        } else {
+            update = drainChanges();
+            if (update == null) {
+                return;
+            }
+        }
+        LOG.debug("Publishing presence {}", update);
+        messagingTemplate.convertAndSend(TRACKER_TOPIC, update);
+    }
+
+    private PresenceUpdateDTO drainChanges() {
+        if (changed.isEmpty()) {
+            return null;
+        }
+        List<ActivityDTO> updated = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (Iterator<String> it = changed.iterator(); it.hasNext();) {
+            String sessionId = it.next();
+            it.remove();
+            ActivityDTO activity = sessions.get(sessionId);
+            if (activity != null) {
+                updated.add(activity);
+            } else {
+                removed.add(sessionId);
+            }
+        }
+        PresenceUpdateDTO update = new PresenceUpdateDTO();
+        update.setNodeId(nodeId);
+        update.setSequence(++sequence);
+        update.setSessions(updated);
+        update.setRemoved(removed);
+        return update;
+    }
+}
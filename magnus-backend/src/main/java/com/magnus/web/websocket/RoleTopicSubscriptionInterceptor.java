@@ -0,0 +1,47 @@
+package com.magnus.web.websocket;
+
+import com.magnus.security.AuthoritiesConstants;
+import java.security.Principal;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Only lets users subscribe to the notification topic of their own {@link com.magnus.domain.enumeration.UserRole};
+ * administrators may subscribe to any role topic. The role is read from the
+ * {@link AuthoritiesConstants#USER_ROLE_PREFIX} authority of the token the connection was opened with.
+ */
+@Component
+public class RoleTopicSubscriptionInterceptor implements ChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(NotificationPushService.ROLE_TOPIC_PREFIX)) {
+            return message;
+        }
+        Principal user = accessor.getUser();
+        if (!(user instanceof Authentication authentication)) {
+            throw new AccessDeniedException("Role topics require an authenticated user");
+        }
+        String role = destination.substring(NotificationPushService.ROLE_TOPIC_PREFIX.length());
+        if (!hasAuthority(authentication, AuthoritiesConstants.ADMIN) && !hasAuthority(authentication, AuthoritiesConstants.USER_ROLE_PREFIX + role)) {
+            throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+        }
+        return message;
+    }
+
+    private static boolean hasAuthority(Authentication authentication, String name) {
+        return authentication.getAuthorities().stream().anyMatch(authority -> name.equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.magnus.web.websocket.dto;
+
+import com.magnus.service.dto.NotificationDTO;
+import java.util.List;
+
+/**
+ * DTO replaying the unread notifications a user missed while disconnected.
+ */
+public class NotificationReplayDTO {
+
+    private List<NotificationDTO> notifications;
+
+    private String cursor;
+
+    private boolean hasMore;
+
+    public List<NotificationDTO> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<NotificationDTO> notifications) {
+        this.notifications = notifications;
+    }
+
+    /**
+     * @return the cursor of the last replayed notification, to be sent with the next replay request.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationReplayDTO{notifications=" + (notifications != null ? notifications.size() : 0) + ", cursor='" + cursor + "', hasMore=" + hasMore + '}';
+    }
+}
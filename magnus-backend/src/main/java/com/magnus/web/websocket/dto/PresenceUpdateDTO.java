@@ -0,0 +1,95 @@
+package com.magnus.web.websocket.dto;
+
+import java.util.List;
+
+/**
+ * DTO published on {@code /topic/tracker}: either a full snapshot of the sessions connected to one
+ * node, or the sessions of that node that changed page and that disconnected since its previous update.
+ * <p>
+ * With the broker relay every node publishes its own updates to the shared topic, so a client keeps
+ * one view per {@link #getNodeId() node}: a snapshot replaces that node's sessions only, and sequence
+ * gaps are checked per node. A node that sent no snapshot for two snapshot intervals is gone (a
+ * restarted node comes back under a new id), and its sessions are dropped.
+ */
+public class PresenceUpdateDTO {
+
+    private String nodeId;
+
+    private long sequence;
+
+    private boolean snapshot;
+
+    private List<ActivityDTO> sessions;
+
+    private List<String> removed;
+
+    /**
+     * @return the id of the node whose sessions this update describes, new on every start of the node.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * @return the sequence of this update among the updates of its node; a client that sees a gap
+     * requests a new snapshot or waits for the node's next one.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return whether {@link #getSessions()} replaces the client's view of the node instead of being merged into it.
+     */
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public List<ActivityDTO> getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(List<ActivityDTO> sessions) {
+        this.sessions = sessions;
+    }
+
+    /**
+     * @return the ids of the sessions that disconnected, empty in a snapshot.
+     */
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<String> removed) {
+        this.removed = removed;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "PresenceUpdateDTO{nodeId=" +
+            nodeId +
+            ", sequence=" +
+            sequence +
+            ", snapshot=" +
+            snapshot +
+            ", sessions=" +
+            (sessions != null ? sessions.size() : 0) +
+            ", removed=" +
+            (removed != null ? removed.size() : 0) +
+            '}'
+        );
+    }
+}
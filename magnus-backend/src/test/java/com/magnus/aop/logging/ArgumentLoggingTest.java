@@ -0,0 +1,52 @@
+package com.magnus.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ArgumentLoggingTest {
+
+    @Test
+    void mostSpecificPackageWins() {
+        ArgumentLogging argumentLogging = new ArgumentLogging(Map.of("com.magnus", true, "com.magnus.repository", false), 1, 200);
+
+        assertThat(argumentLogging.isEnabled("com.magnus.service.MailService")).isTrue();
+        assertThat(argumentLogging.isEnabled("com.magnus.repository.TaskRepository")).isFalse();
+        assertThat(argumentLogging.isEnabled("org.example.Other")).isFalse();
+    }
+
+    @Test
+    void togglesPackagesAtRuntime() {
+        ArgumentLogging argumentLogging = new ArgumentLogging(Map.of("com.magnus", true), 1, 200);
+        assertThat(argumentLogging.isEnabled("com.magnus.service.MailService")).isTrue();
+
+        argumentLogging.setEnabled("com.magnus.service", false);
+        assertThat(argumentLogging.isEnabled("com.magnus.service.MailService")).isFalse();
+
+        argumentLogging.reset("com.magnus.service");
+        assertThat(argumentLogging.isEnabled("com.magnus.service.MailService")).isTrue();
+    }
+
+    @Test
+    void samplesNothingAtZeroRate() {
+        ArgumentLogging argumentLogging = new ArgumentLogging(Map.of("com.magnus", true), 0, 200);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(argumentLogging.sample("com.magnus.service.MailService")).isFalse();
+        }
+        argumentLogging.setSampleRate(1);
+        assertThat(argumentLogging.sample("com.magnus.service.MailService")).isTrue();
+        assertThatThrownBy(() -> argumentLogging.setSampleRate(2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void truncatesLongArguments() {
+        ArgumentLogging argumentLogging = new ArgumentLogging(Map.of(), 1, 10);
+
+        assertThat(argumentLogging.format(new Object[] { "a", 1 })).isEqualTo("[a, 1]");
+        assertThat(argumentLogging.format(new Object[] { "abcdefghijkl", "mnop" })).isEqualTo("[abcdefghi...");
+        assertThat(argumentLogging.format(null)).isEqualTo("null");
+    }
+}
@@ -0,0 +1,69 @@
+package com.magnus.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.magnus.repository.TaskRepository;
+import com.magnus.service.MailService;
+import com.magnus.web.rest.AuthorityResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class InstrumentationInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private Calculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        ArgumentLogging argumentLogging = new ArgumentLogging(Map.of("com.magnus", true), 1, 200);
+        ProxyFactory proxyFactory = new ProxyFactory(new Calculator());
+        proxyFactory.addAdvice(new InstrumentationInterceptor(beanFactory.getBeanProvider(MeterRegistry.class), argumentLogging));
+        calculator = (Calculator) proxyFactory.getProxy();
+    }
+
+    @Test
+    void timesCallsByOutcome() {
+        assertThat(calculator.divide(6, 3)).isEqualTo(2);
+        assertThat(calculator.divide(8, 2)).isEqualTo(4);
+        assertThatThrownBy(() -> calculator.divide(1, 0)).isInstanceOf(ArithmeticException.class);
+
+        assertThat(timer("success").count()).isEqualTo(2);
+        assertThat(timer("error").count()).isEqualTo(1);
+    }
+
+    @Test
+    void findsComponentsOfEachLayer() {
+        assertThat(InstrumentedLayer.componentOf(MailService.class)).isEqualTo(MailService.class);
+        assertThat(InstrumentedLayer.layerOf(MailService.class)).isEqualTo(InstrumentedLayer.SERVICE);
+        assertThat(InstrumentedLayer.componentOf(mock(TaskRepository.class).getClass())).isEqualTo(TaskRepository.class);
+        assertThat(InstrumentedLayer.layerOf(AuthorityResource.class)).isEqualTo(InstrumentedLayer.REST);
+        assertThat(InstrumentedLayer.componentOf(Calculator.class)).isNull();
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry
+            .get(InstrumentationInterceptor.TIMER_NAME)
+            .tag("layer", "other")
+            .tag("component", "Calculator")
+            .tag("outcome", outcome)
+            .timer();
+    }
+
+    static class Calculator {
+
+        public int divide(int a, int b) {
+            return a / b;
+        }
+    }
+}
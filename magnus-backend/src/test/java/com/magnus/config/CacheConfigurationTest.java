@@ -0,0 +1,79 @@
+package com.magnus.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tech.jhipster.config.JHipsterProperties;
+
+class CacheConfigurationTest {
+
+    private final JHipsterProperties.Cache.Ehcache defaults = new JHipsterProperties.Cache.Ehcache();
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        defaults.setMaxEntries(100);
+        defaults.setTimeToLiveSeconds(3600);
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        cacheManager = provider.getCacheManager(
+            URI.create(CacheConfigurationTest.class.getName()),
+            new DefaultConfiguration(provider.getDefaultClassLoader())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void regionNameStripsDomainPackage() {
+        assertThat(CacheConfiguration.regionName("com.magnus.domain.Menu.menuItems")).isEqualTo("Menu.menuItems");
+        assertThat(CacheConfiguration.regionName("usersByLogin")).isEqualTo("usersByLogin");
+    }
+
+    @Test
+    void unconfiguredRegionUsesDefaults() {
+        var configuration = CacheConfiguration.regionConfiguration(null, defaults);
+
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.HEAP).getSize()).isEqualTo(100);
+        assertThat(configuration.getExpiryPolicy().getExpiryForCreation("key", "value")).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void regionAddsOffHeapTierAndIdleExpiry() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setMaxEntries(10L);
+        region.setOffHeapSize(DataSize.ofMegabytes(2));
+        region.setTimeToLive(Duration.ofMinutes(30));
+        region.setTimeToIdle(Duration.ofMinutes(5));
+
+        var configuration = CacheConfiguration.regionConfiguration(region, defaults);
+        Cache<Object, Object> cache = cacheManager.createCache("tiered", Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+        for (long i = 0; i < 200; i++) {
+            cache.put(i, "value " + i);
+        }
+
+        assertThat(configuration.getResourcePools().getPoolForResource(ResourceType.Core.OFFHEAP).getSize()).isEqualTo(
+            MemoryUnit.MB.toBytes(2)
+        );
+        assertThat(configuration.getExpiryPolicy().getExpiryForCreation("key", "value")).isEqualTo(Duration.ofMinutes(30));
+        assertThat(configuration.getExpiryPolicy().getExpiryForAccess("key", () -> "value")).isEqualTo(Duration.ofMinutes(5));
+        assertThat(cache.get(0L)).isEqualTo("value 0");
+        assertThat(cache.get(199L)).isEqualTo("value 199");
+    }
+}
@@ -0,0 +1,95 @@
+package com.magnus.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.FutureTask;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private DataSource target;
+
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void releasesPermitOnceWhenConnectionIsClosed() throws SQLException {
+        Connection first = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+        first.close();
+        first.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void releasesPermitWhenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void nestedConnectionsOfTheSameThreadTakeNoPermit() throws SQLException {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+        Connection outer = dataSource.getConnection();
+
+        Connection inner = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+        inner.close();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+
+        outer.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    void timesOutWhenAllPermitsAreTaken() throws Exception {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        FutureTask<Connection> other = new FutureTask<>(dataSource::getConnection);
+        Thread thread = new Thread(other);
+        thread.start();
+        thread.join();
+
+        assertThatThrownBy(other::get).hasCauseInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void delegatesOtherCallsToTheConnection() throws SQLException {
+        Connection proxy = dataSource.getConnection();
+
+        proxy.setAutoCommit(false);
+        proxy.isClosed();
+
+        verify(connection).setAutoCommit(false);
+        verify(connection).isClosed();
+        assertThat(proxy.unwrap(Connection.class)).isSameAs(connection);
+    }
+}
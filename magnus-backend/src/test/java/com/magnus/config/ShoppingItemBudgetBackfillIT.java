@@ -0,0 +1,187 @@
+package com.magnus.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.magnus.IntegrationTest;
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Budget;
+import com.magnus.domain.Client;
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.WeeklyPlan;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.EventGender;
+import com.magnus.domain.enumeration.PaymentStatus;
+import com.magnus.domain.enumeration.ProductCategory;
+import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.domain.enumeration.WeeklyPlanStatus;
+import jakarta.persistence.EntityManager;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Integration test of the changeSet that backfills {@code shopping_item_budget} from the comma-joined
+ * {@code shopping_item.budget_ids} column, running the SQL shipped in the changelog against rows
+ * written the way the application wrote them before the table existed.
+ */
+@IntegrationTest
+@Transactional
+class ShoppingItemBudgetBackfillIT {
+
+    private static final String CHANGELOG = "config/liquibase/changelog/20261018130000_added_entity_ShoppingItemBudget.xml";
+
+    private static final String BACKFILL_CHANGE_SET = "20261018130000-3";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AppUser user;
+
+    private Client client;
+
+    private WeeklyPlan weeklyPlan;
+
+    @BeforeEach
+    void initFixtures() {
+        Instant now = Instant.now();
+        user = new AppUser()
+            .login("backfill-it")
+            .email("backfill-it@magnus.test")
+            .role(UserRole.LOGISTICS)
+            .isActive(true)
+            .createdAt(now)
+            .updatedAt(now);
+        em.persist(user);
+        client = new Client()
+            .name("Backfill IT")
+            .email("backfill-it@client.test")
+            .phone("600000000")
+            .isActive(true)
+            .createdAt(now)
+            .updatedAt(now);
+        em.persist(client);
+        weeklyPlan = new WeeklyPlan()
+            .weekStart(LocalDate.of(2031, 5, 12))
+            .weekEnd(LocalDate.of(2031, 5, 18))
+            .planName("Backfill IT")
+            .status(WeeklyPlanStatus.DRAFT)
+            .isConsolidated(false)
+            .createdAt(now)
+            .updatedAt(now)
+            .createdBy(user);
+        em.persist(weeklyPlan);
+    }
+
+    @Test
+    void splitsTheQuantityOfEachItemBetweenItsBudgets() throws Exception {
+        Budget first = budget();
+        Budget second = budget();
+        Long shared = shoppingItem(first.getId() + "," + second.getId(), 10.0);
+        Long single = shoppingItem(String.valueOf(first.getId()), 4.0);
+        Long withDeletedBudget = shoppingItem(first.getId() + "," + Long.MAX_VALUE, 6.0);
+        Long malformed = shoppingItem(first.getId() + ", x", 8.0);
+        Long empty = shoppingItem(null, 2.0);
+
+        jdbcTemplate.update(backfillSql());
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "select shopping_item_id, budget_id, quantity from shopping_item_budget where shopping_item_id in (?, ?, ?, ?, ?) " +
+            "order by shopping_item_id, budget_id",
+            shared,
+            single,
+            withDeletedBudget,
+            malformed,
+            empty
+        );
+        assertThat(rows)
+            .extracting(
+                row -> ((Number) row.get("shopping_item_id")).longValue(),
+                row -> ((Number) row.get("budget_id")).longValue(),
+                row -> ((Number) row.get("quantity")).doubleValue()
+            )
+            .containsExactly(
+                tuple(shared, first.getId(), 5.0),
+                tuple(shared, second.getId(), 5.0),
+                tuple(single, first.getId(), 4.0),
+                // the share of a budget that no longer exists is not attributed to the others
+                tuple(withDeletedBudget, first.getId(), 3.0)
+            );
+    }
+
+    private Budget budget() {
+        Instant now = Instant.now();
+        Budget budget = new Budget()
+            .name("Backfill IT")
+            .clientName(client.getName())
+            .eventDate(LocalDate.of(2031, 5, 14))
+            .guestCount(10)
+            .eventGender(EventGender.MIXED)
+            .totalAmount(BigDecimal.ZERO)
+            .status(BudgetStatus.DRAFT)
+            .paymentStatus(PaymentStatus.UNPAID)
+            .isClosed(false)
+            .workflowTriggered(false)
+            .version(1)
+            .conflictStatus(ConflictStatus.NONE)
+            .createdAt(now)
+            .updatedAt(now)
+            .createdBy(user)
+            .client(client);
+        em.persist(budget);
+        em.flush();
+        return budget;
+    }
+
+    private Long shoppingItem(String budgetIds, double totalQuantity) {
+        Instant now = Instant.now();
+        ShoppingItem item = new ShoppingItem()
+            .productName("Backfill IT")
+            .totalQuantity(totalQuantity)
+            .unit(ProductUnit.KG)
+            .category(ProductCategory.MEAT)
+            .budgetIds(budgetIds)
+            .isPurchased(false)
+            .weekStart(weeklyPlan.getWeekStart())
+            .weekEnd(weeklyPlan.getWeekEnd())
+            .isConsolidated(false)
+            .conflictStatus(ConflictStatus.NONE)
+            .version(1)
+            .createdAt(now)
+            .updatedAt(now)
+            .weeklyPlan(weeklyPlan);
+        em.persist(item);
+        em.flush();
+        return item.getId();
+    }
+
+    private static String backfillSql() throws Exception {
+        try (InputStream changelog = new ClassPathResource(CHANGELOG).getInputStream()) {
+            NodeList changeSets = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(changelog).getElementsByTagName("changeSet");
+            for (int i = 0; i < changeSets.getLength(); i++) {
+                Element changeSet = (Element) changeSets.item(i);
+                if (BACKFILL_CHANGE_SET.equals(changeSet.getAttribute("id"))) {
+                    return changeSet.getElementsByTagName("sql").item(0).getTextContent();
+                }
+            }
+        }
+        throw new IllegalStateException("changeSet " + BACKFILL_CHANGE_SET + " not found in " + CHANGELOG);
+    }
+}
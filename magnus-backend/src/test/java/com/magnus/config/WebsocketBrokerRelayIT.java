@@ -0,0 +1,95 @@
+package com.magnus.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Type;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.MultiServerUserRegistry;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the application against the embedded Artemis broker; a plain STOMP client connected straight to
+ * the broker stands in for a second node.
+ */
+@IntegrationTest
+@TestPropertySource(properties = { "application.websocket.broker.mode=embedded", "application.websocket.broker.relay-port=61663" })
+class WebsocketBrokerRelayIT {
+
+    @Autowired
+    private SimpMessageSendingOperations messagingTemplate;
+
+    @Autowired
+    private SimpUserRegistry userRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void relaysTopicMessagesToSubscribersOfOtherNodes() throws Exception {
+        ReactorNettyTcpStompClient client = new ReactorNettyTcpStompClient("localhost", 61663);
+        client.setMessageConverter(new StringMessageConverter());
+        client.setDefaultHeartbeat(new long[] { 0, 0 });
+        // receipts need a scheduler for their timeout
+        client.setTaskScheduler(new ConcurrentTaskScheduler());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.setLogin("guest");
+        connectHeaders.setPasscode("guest");
+        StompSession session = client.connectAsync(connectHeaders, new StompSessionHandlerAdapter() {}).get(10, TimeUnit.SECONDS);
+        try {
+            BlockingQueue<String> received = new LinkedBlockingQueue<>();
+            CountDownLatch subscribed = new CountDownLatch(1);
+            session.setAutoReceipt(true);
+            session
+                .subscribe(
+                    "/topic/relay-test",
+                    new StompFrameHandler() {
+                        @Override
+                        public Type getPayloadType(StompHeaders headers) {
+                            return String.class;
+                        }
+
+                        @Override
+                        public void handleFrame(StompHeaders headers, Object payload) {
+                            received.add((String) payload);
+                        }
+                    }
+                )
+                .addReceiptTask(subscribed::countDown);
+            assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            messagingTemplate.convertAndSend("/topic/relay-test", "hello from node 1");
+
+            assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo("hello from node 1");
+        } finally {
+            session.disconnect();
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void resolvesUserDestinationsAcrossNodes() {
+        assertThat(userRegistry).isInstanceOf(MultiServerUserRegistry.class);
+    }
+
+    @Test
+    void publishesChannelQueueMetrics() {
+        assertThat(meterRegistry.get("websocket.channel.queue.size").tag("channel", "inbound").gauge().value()).isZero();
+        assertThat(meterRegistry.get("websocket.channel.queue.size").tag("channel", "outbound").gauge()).isNotNull();
+    }
+}
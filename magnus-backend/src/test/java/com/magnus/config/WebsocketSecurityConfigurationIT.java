@@ -0,0 +1,78 @@
+package com.magnus.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.magnus.IntegrationTest;
+import com.magnus.security.AuthoritiesConstants;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Integration tests for the inbound STOMP rules of {@link WebsocketSecurityConfiguration}, sending client frames
+ * through the inbound channel the way the WebSocket handler does.
+ */
+@IntegrationTest
+class WebsocketSecurityConfigurationIT {
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private MessageChannel clientInboundChannel;
+
+    @Test
+    void rejectsSubscriptionsToTheUserDestinationBroadcast() {
+        assertThatThrownBy(() -> clientInboundChannel.send(subscribe(WebsocketConfiguration.UNRESOLVED_USER_DESTINATION)))
+            .isInstanceOf(MessageDeliveryException.class)
+            .hasCauseInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsSubscriptionsToTheUserRegistryBroadcast() {
+        assertThatThrownBy(() -> clientInboundChannel.send(subscribe(WebsocketConfiguration.USER_REGISTRY_DESTINATION)))
+            .isInstanceOf(MessageDeliveryException.class)
+            .hasCauseInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsMessagesSentToTheUserRegistryBroadcast() {
+        StompHeaderAccessor accessor = headers(StompCommand.SEND, WebsocketConfiguration.USER_REGISTRY_DESTINATION);
+        Message<byte[]> message = MessageBuilder.createMessage("{}".getBytes(), accessor.getMessageHeaders());
+
+        assertThatThrownBy(() -> clientInboundChannel.send(message))
+            .isInstanceOf(MessageDeliveryException.class)
+            .hasCauseInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void acceptsSubscriptionsToOtherTopics() {
+        assertThat(clientInboundChannel.send(subscribe("/topic/tasks/updates"))).isTrue();
+    }
+
+    private static Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = headers(StompCommand.SUBSCRIBE, destination);
+        accessor.setSubscriptionId("sub-0");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static StompHeaderAccessor headers(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionId("websocket-security-it");
+        accessor.setUser(
+            new UsernamePasswordAuthenticationToken("user", null, List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER)))
+        );
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
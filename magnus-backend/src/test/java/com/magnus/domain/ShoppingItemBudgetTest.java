@@ -0,0 +1,50 @@
+package com.magnus.domain;
+
+import static com.magnus.domain.BudgetTestSamples.*;
+import static com.magnus.domain.ShoppingItemBudgetTestSamples.*;
+import static com.magnus.domain.ShoppingItemTestSamples.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class ShoppingItemBudgetTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(ShoppingItemBudget.class);
+        ShoppingItemBudget shoppingItemBudget1 = getShoppingItemBudgetSample1();
+        ShoppingItemBudget shoppingItemBudget2 = new ShoppingItemBudget();
+        assertThat(shoppingItemBudget1).isNotEqualTo(shoppingItemBudget2);
+
+        shoppingItemBudget2.setId(shoppingItemBudget1.getId());
+        assertThat(shoppingItemBudget1).isEqualTo(shoppingItemBudget2);
+
+        shoppingItemBudget2 = getShoppingItemBudgetSample2();
+        assertThat(shoppingItemBudget1).isNotEqualTo(shoppingItemBudget2);
+    }
+
+    @Test
+    void shoppingItemTest() {
+        ShoppingItemBudget shoppingItemBudget = getShoppingItemBudgetRandomSampleGenerator();
+        ShoppingItem shoppingItemBack = getShoppingItemRandomSampleGenerator();
+
+        shoppingItemBudget.setShoppingItem(shoppingItemBack);
+        assertThat(shoppingItemBudget.getShoppingItem()).isEqualTo(shoppingItemBack);
+
+        shoppingItemBudget.shoppingItem(null);
+        assertThat(shoppingItemBudget.getShoppingItem()).isNull();
+    }
+
+    @Test
+    void budgetTest() {
+        ShoppingItemBudget shoppingItemBudget = getShoppingItemBudgetRandomSampleGenerator();
+        Budget budgetBack = getBudgetRandomSampleGenerator();
+
+        shoppingItemBudget.setBudget(budgetBack);
+        assertThat(shoppingItemBudget.getBudget()).isEqualTo(budgetBack);
+
+        shoppingItemBudget.budget(null);
+        assertThat(shoppingItemBudget.getBudget()).isNull();
+    }
+}
@@ -0,0 +1,22 @@
+package com.magnus.domain;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ShoppingItemBudgetTestSamples {
+
+    private static final Random random = new Random();
+    private static final AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
+
+    public static ShoppingItemBudget getShoppingItemBudgetSample1() {
+        return new ShoppingItemBudget().id(1L);
+    }
+
+    public static ShoppingItemBudget getShoppingItemBudgetSample2() {
+        return new ShoppingItemBudget().id(2L);
+    }
+
+    public static ShoppingItemBudget getShoppingItemBudgetRandomSampleGenerator() {
+        return new ShoppingItemBudget().id(longCount.incrementAndGet());
+    }
+}
@@ -0,0 +1,24 @@
+package com.magnus.domain;
+
+import static com.magnus.domain.WorkflowJobTestSamples.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class WorkflowJobTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(WorkflowJob.class);
+        WorkflowJob workflowJob1 = getWorkflowJobSample1();
+        WorkflowJob workflowJob2 = new WorkflowJob();
+        assertThat(workflowJob1).isNotEqualTo(workflowJob2);
+
+        workflowJob2.setId(workflowJob1.getId());
+        assertThat(workflowJob1).isEqualTo(workflowJob2);
+
+        workflowJob2 = getWorkflowJobSample2();
+        assertThat(workflowJob1).isNotEqualTo(workflowJob2);
+    }
+}
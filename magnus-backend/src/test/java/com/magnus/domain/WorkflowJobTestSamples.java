@@ -0,0 +1,30 @@
+package com.magnus.domain;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WorkflowJobTestSamples {
+
+    private static final Random random = new Random();
+    private static final AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
+    private static final AtomicInteger intCount = new AtomicInteger(random.nextInt() + (2 * Short.MAX_VALUE));
+
+    public static WorkflowJob getWorkflowJobSample1() {
+        return new WorkflowJob().id(1L).budgetId(1L).attempts(1).lockedBy("lockedBy1").lastError("lastError1");
+    }
+
+    public static WorkflowJob getWorkflowJobSample2() {
+        return new WorkflowJob().id(2L).budgetId(2L).attempts(2).lockedBy("lockedBy2").lastError("lastError2");
+    }
+
+    public static WorkflowJob getWorkflowJobRandomSampleGenerator() {
+        return new WorkflowJob()
+            .id(longCount.incrementAndGet())
+            .budgetId(longCount.incrementAndGet())
+            .attempts(intCount.incrementAndGet())
+            .lockedBy(UUID.randomUUID().toString())
+            .lastError(UUID.randomUUID().toString());
+    }
+}
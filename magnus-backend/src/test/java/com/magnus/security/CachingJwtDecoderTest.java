@@ -0,0 +1,120 @@
+package com.magnus.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.management.SecurityMetersService;
+import com.nimbusds.jose.proc.BadJWSException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+class CachingJwtDecoderTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    private JwtDecoder delegate;
+
+    private Clock clock;
+
+    private MeterRegistry meterRegistry;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingJwtDecoder(delegate, new SecurityMetersService(meterRegistry), 2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void verifiesATokenOnlyOnce() {
+        Jwt jwt = jwt("a", NOW + 60_000);
+        when(delegate.decode("a")).thenReturn(jwt);
+
+        assertThat(decoder.decode("a")).isSameAs(jwt);
+        assertThat(decoder.decode("a")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("a");
+        assertThat(decodes("hit")).isEqualTo(1);
+        assertThat(decodes("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotServeTokensPastTheirExpiry() {
+        when(delegate.decode("a")).thenReturn(jwt("a", NOW + 60_000));
+        decoder.decode("a");
+
+        when(clock.millis()).thenReturn(NOW + 60_000);
+        decoder.decode("a");
+
+        verify(delegate, times(2)).decode("a");
+    }
+
+    @Test
+    void staysWithinItsMaximumSize() {
+        when(delegate.decode(anyString())).thenAnswer(invocation -> jwt(invocation.getArgument(0), NOW + 60_000));
+
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("c");
+
+        assertThat(decoder.size()).isEqualTo(2);
+        assertThat(meterRegistry.get(SecurityMetersService.TOKEN_CACHE_SIZE_METER_NAME).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void classifiesFailuresByType() {
+        when(delegate.decode("signature")).thenThrow(new BadJwtException("bad", new BadJWSException("Invalid signature")));
+        when(delegate.decode("malformed")).thenThrow(new BadJwtException("bad", new ParseException("Invalid JWT serialization", 0)));
+        when(delegate.decode("expired")).thenThrow(
+            new JwtValidationException("expired", List.of(new OAuth2Error(CachingJwtDecoder.TOKEN_EXPIRED)))
+        );
+
+        assertThatThrownBy(() -> decoder.decode("signature")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("malformed")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("expired")).isInstanceOf(JwtValidationException.class);
+
+        assertThat(invalidTokens("invalid-signature")).isEqualTo(1);
+        assertThat(invalidTokens("malformed")).isEqualTo(1);
+        assertThat(invalidTokens("expired")).isEqualTo(1);
+        assertThat(decodes("invalid")).isEqualTo(3);
+        assertThat(decoder.size()).isZero();
+    }
+
+    private double decodes(String result) {
+        return meterRegistry.get(SecurityMetersService.TOKEN_DECODE_METER_NAME).tag("result", result).timer().count();
+    }
+
+    private double invalidTokens(String cause) {
+        return meterRegistry.get(SecurityMetersService.INVALID_TOKENS_METER_NAME).tag("cause", cause).counter().count();
+    }
+
+    private static Jwt jwt(String token, long expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "HS512")
+            .subject("user")
+            .issuedAt(Instant.ofEpochMilli(NOW - 1000))
+            .expiresAt(Instant.ofEpochMilli(expiresAt))
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.magnus.security.jwt;
 
+import com.magnus.config.ApplicationProperties;
 import com.magnus.config.SecurityConfiguration;
 import com.magnus.config.SecurityJwtConfiguration;
 import com.magnus.config.WebConfigurer;
@@ -21,6 +22,7 @@ import tech.jhipster.config.JHipsterProperties;
     },
     classes = {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
@@ -0,0 +1,135 @@
+package com.magnus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.IntegrationTest;
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Budget;
+import com.magnus.domain.Client;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.EventGender;
+import com.magnus.domain.enumeration.PaymentStatus;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.mapper.BudgetMapper;
+import com.magnus.web.rest.StatementCountGuard;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the task graph writes of {@link WorkflowAutomationService}.
+ */
+@IntegrationTest
+@Transactional
+class WorkflowAutomationServiceIT {
+
+    private static final int BUDGETS = 8;
+
+    // shopping, cooking, delivery, setup, activities and transport
+    private static final int TASKS_PER_BUDGET = 6;
+
+    // shopping blocks cooking, delivery blocks setup
+    private static final int DEPENDENCIES_PER_BUDGET = 2;
+
+    // one for LOGISTICS, one for COOK
+    private static final int NOTIFICATIONS_PER_BUDGET = 2;
+
+    // hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 25;
+
+    @Autowired
+    private WorkflowAutomationService workflowAutomationService;
+
+    @Autowired
+    private BudgetMapper budgetMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void triggerWritesTheTaskGraphInBatches() {
+        List<BudgetDTO> budgets = createBudgets();
+
+        StatementCountGuard guard = StatementCountGuard.start(em);
+        workflowAutomationService.triggerWorkflowForBudgets(budgets);
+        em.flush();
+
+        // Tasks and dependencies take one statement per JDBC batch; notifications still use IDENTITY ids
+        int taskCount = BUDGETS * TASKS_PER_BUDGET;
+        int dependencyCount = BUDGETS * DEPENDENCIES_PER_BUDGET;
+        guard.assertAtMost(batches(taskCount) + batches(dependencyCount) + (long) BUDGETS * NOTIFICATIONS_PER_BUDGET);
+
+        List<Long> budgetIds = budgets.stream().map(BudgetDTO::getId).toList();
+        assertThat(
+            em
+                .createQuery("select count(t) from Task t where t.relatedBudget.id in :budgetIds", Long.class)
+                .setParameter("budgetIds", budgetIds)
+                .getSingleResult()
+        ).isEqualTo(taskCount);
+        assertThat(
+            em
+                .createQuery("select count(d) from TaskDependency d where d.dependentTask.relatedBudget.id in :budgetIds", Long.class)
+                .setParameter("budgetIds", budgetIds)
+                .getSingleResult()
+        ).isEqualTo(dependencyCount);
+    }
+
+    private static long batches(int rows) {
+        return (rows + BATCH_SIZE - 1) / BATCH_SIZE;
+    }
+
+    private List<BudgetDTO> createBudgets() {
+        String suffix = Long.toString(System.nanoTime());
+        Instant now = Instant.now();
+        AppUser user = new AppUser()
+            .login("workflow-it-" + suffix)
+            .email("workflow-it-" + suffix + "@magnus.test")
+            .role(UserRole.SALES)
+            .isActive(true)
+            .createdAt(now)
+            .updatedAt(now);
+        em.persist(user);
+        Client client = new Client()
+            .name("Workflow IT")
+            .email("workflow-it-" + suffix + "@client.test")
+            .phone("600000000")
+            .isActive(true)
+            .createdAt(now)
+            .updatedAt(now);
+        em.persist(client);
+        return IntStream.range(0, BUDGETS)
+            .mapToObj(i -> {
+                Budget budget = new Budget()
+                    .name("Workflow IT " + i)
+                    .clientName("Workflow IT")
+                    .eventDate(LocalDate.now().plusMonths(1))
+                    .guestCount(20)
+                    .eventGender(EventGender.MIXED)
+                    .mealsAmount(new BigDecimal("500.00"))
+                    .activitiesAmount(new BigDecimal("200.00"))
+                    .transportAmount(new BigDecimal("100.00"))
+                    .totalAmount(new BigDecimal("800.00"))
+                    .status(BudgetStatus.DRAFT)
+                    .paymentStatus(PaymentStatus.UNPAID)
+                    .isClosed(false)
+                    .workflowTriggered(false)
+                    .version(1)
+                    .conflictStatus(ConflictStatus.NONE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .createdBy(user)
+                    .client(client);
+                em.persist(budget);
+                return budgetMapper.toDto(budget);
+            })
+            .toList();
+    }
+}
@@ -0,0 +1,112 @@
+package com.magnus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.domain.enumeration.DependencyType;
+import com.magnus.domain.enumeration.TaskType;
+import com.magnus.service.dto.AppUserDTO;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.dto.TaskDTO;
+import com.magnus.service.dto.TaskDependencyDTO;
+import com.magnus.service.dto.WeeklyPlanDTO;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class WorkflowAutomationServiceTest {
+
+    private TaskService taskService;
+
+    private TaskDependencyService taskDependencyService;
+
+    private WorkflowAutomationService workflowAutomationService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = mock(TaskService.class);
+        taskDependencyService = mock(TaskDependencyService.class);
+        AtomicLong ids = new AtomicLong();
+        when(taskService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TaskDTO> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+        when(taskDependencyService.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        workflowAutomationService = new WorkflowAutomationService(
+            taskService,
+            taskDependencyService,
+            mock(NotificationService.class),
+            mock(ApplicationEventPublisher.class)
+        );
+    }
+
+    @Test
+    void linksGeneratedTasksToTheirBudget() {
+        BudgetDTO budget = budget(7L, BigDecimal.TEN);
+        AppUserDTO owner = new AppUserDTO();
+        owner.setId(3L);
+        budget.setCreatedBy(owner);
+        WeeklyPlanDTO weeklyPlan = new WeeklyPlanDTO();
+        weeklyPlan.setId(5L);
+        budget.setWeeklyPlan(weeklyPlan);
+
+        List<TaskDTO> tasks = workflowAutomationService.generateTasksForBudget(budget);
+
+        assertThat(tasks).isNotEmpty();
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.getRelatedBudget().getId()).isEqualTo(7L);
+            assertThat(task.getCreatedBy()).isSameAs(owner);
+            assertThat(task.getWeeklyPlan()).isSameAs(weeklyPlan);
+        });
+    }
+
+    @Test
+    void savesTheTasksOfAllBudgetsInOneCallAndWiresDependenciesPerBudget() {
+        workflowAutomationService.triggerWorkflowForBudgets(List.of(budget(1L, BigDecimal.TEN), budget(2L, BigDecimal.ZERO)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskDTO>> savedTasks = ArgumentCaptor.forClass(List.class);
+        verify(taskService, times(1)).saveAll(savedTasks.capture());
+        // budget 1: shopping, cooking, delivery, setup; budget 2 has no meals: delivery, setup
+        assertThat(savedTasks.getValue()).extracting(task -> task.getRelatedBudget().getId()).containsExactly(1L, 1L, 1L, 1L, 2L, 2L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskDependencyDTO>> savedDependencies = ArgumentCaptor.forClass(List.class);
+        verify(taskDependencyService, times(1)).saveAll(savedDependencies.capture());
+        List<TaskDependencyDTO> dependencies = savedDependencies.getValue();
+        assertThat(dependencies).hasSize(3);
+        assertThat(dependencies).allSatisfy(dependency -> {
+            assertThat(dependency.getDependencyType()).isEqualTo(DependencyType.BLOCKS);
+            assertThat(dependency.getDependentTask().getId()).isNotNull();
+            assertThat(dependency.getDependentTask().getRelatedBudget().getId()).isEqualTo(
+                dependency.getPrerequisiteTask().getRelatedBudget().getId()
+            );
+        });
+        assertThat(dependencies)
+            .filteredOn(dependency -> dependency.getDependentTask().getType() == TaskType.COOKING)
+            .singleElement()
+            .satisfies(dependency -> assertThat(dependency.getPrerequisiteTask().getType()).isEqualTo(TaskType.SHOPPING));
+    }
+
+    private static BudgetDTO budget(Long id, BigDecimal mealsAmount) {
+        BudgetDTO budget = new BudgetDTO();
+        budget.setId(id);
+        budget.setName("Budget " + id);
+        budget.setEventDate(LocalDate.of(2026, 11, 20));
+        budget.setGuestCount(20);
+        budget.setMealsAmount(mealsAmount);
+        budget.setActivitiesAmount(BigDecimal.ZERO);
+        budget.setTransportAmount(BigDecimal.ZERO);
+        return budget;
+    }
+}
@@ -0,0 +1,203 @@
+package com.magnus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.IntegrationTest;
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Budget;
+import com.magnus.domain.Client;
+import com.magnus.domain.WorkflowJob;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.EventGender;
+import com.magnus.domain.enumeration.PaymentStatus;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.domain.enumeration.WorkflowJobStatus;
+import com.magnus.domain.enumeration.WorkflowJobType;
+import com.magnus.repository.WorkflowJobRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the claiming and lease handling of {@link WorkflowJobService}. Not transactional:
+ * claims are committed and a second connection, outside the pool, plays another worker.
+ */
+@IntegrationTest
+class WorkflowJobServiceIT {
+
+    @Autowired
+    private WorkflowJobService workflowJobService;
+
+    @Autowired
+    private WorkflowJobRepository workflowJobRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Budget budget;
+
+    private List<Long> jobIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        budget = transactionTemplate.execute(status -> createBudget());
+        Instant now = Instant.now();
+        jobIds = transactionTemplate.execute(status ->
+            IntStream.range(0, 3)
+                .mapToObj(i ->
+                    workflowJobRepository.save(
+                        new WorkflowJob()
+                            .jobType(WorkflowJobType.BUDGET_RESERVED)
+                            .budgetId(budget.getId())
+                            .status(WorkflowJobStatus.PENDING)
+                            .attempts(0)
+                            .nextAttemptAt(now.minusSeconds(60 - i))
+                            .createdAt(now)
+                            .updatedAt(now)
+                    )
+                )
+                .map(WorkflowJob::getId)
+                .toList()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            workflowJobRepository.deleteAllById(jobIds);
+            Budget created = em.find(Budget.class, budget.getId());
+            em.remove(created);
+            em.remove(created.getClient());
+            em.remove(created.getCreatedBy());
+        });
+    }
+
+    private Budget createBudget() {
+        String suffix = Long.toString(System.nanoTime());
+        Instant now = Instant.now();
+        AppUser user = new AppUser()
+            .login("jobs-it-" + suffix)
+            .email("jobs-it-" + suffix + "@magnus.test")
+            .role(UserRole.SALES)
+            .isActive(true)
+            .createdAt(now)
+            .updatedAt(now);
+        em.persist(user);
+        Client client = new Client()
+            .name("Jobs IT")
+            .email("jobs-it-" + suffix + "@client.test")
+            .phone("600000000")
+            .isActive(true)
+            .createdAt(now)
+            .updatedAt(now);
+        em.persist(client);
+        Budget created = new Budget()
+            .name("Jobs IT")
+            .clientName("Jobs IT")
+            .eventDate(LocalDate.now().plusMonths(1))
+            .guestCount(10)
+            .eventGender(EventGender.MIXED)
+            .totalAmount(BigDecimal.ZERO)
+            .status(BudgetStatus.DRAFT)
+            .paymentStatus(PaymentStatus.UNPAID)
+            .isClosed(false)
+            .workflowTriggered(false)
+            .version(1)
+            .conflictStatus(ConflictStatus.NONE)
+            .createdAt(now)
+            .updatedAt(now)
+            .createdBy(user)
+            .client(client);
+        em.persist(created);
+        return created;
+    }
+
+    @Test
+    void claimSkipsJobsLockedByAnotherWorker() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        List<Long> claimedByA = new ArrayList<>();
+        try (Connection otherWorker = DriverManager.getConnection(hikari.getJdbcUrl(), hikari.getUsername(), hikari.getPassword())) {
+            otherWorker.setAutoCommit(false);
+            try (PreparedStatement lock = otherWorker.prepareStatement("select id from workflow_job where id = ? for update")) {
+                lock.setLong(1, jobIds.get(0));
+                lock.executeQuery().close();
+            }
+
+            for (WorkflowJob job : workflowJobService.claimBatch(50, "worker-a")) {
+                if (jobIds.contains(job.getId())) {
+                    claimedByA.add(job.getId());
+                    assertThat(job.getStatus()).isEqualTo(WorkflowJobStatus.RUNNING);
+                    assertThat(job.getAttempts()).isEqualTo(1);
+                    assertThat(job.getLockedBy()).isEqualTo("worker-a");
+                    assertThat(job.getLockedAt()).isNotNull();
+                }
+            }
+            otherWorker.rollback();
+        }
+        assertThat(claimedByA).containsExactlyInAnyOrder(jobIds.get(1), jobIds.get(2));
+
+        List<Long> claimedByB = workflowJobService
+            .claimBatch(50, "worker-b")
+            .stream()
+            .map(WorkflowJob::getId)
+            .filter(jobIds::contains)
+            .toList();
+        assertThat(claimedByB).containsExactly(jobIds.get(0));
+    }
+
+    @Test
+    void claimHonoursTheBatchSizeInDueOrder() {
+        List<Long> claimed = workflowJobService.claimBatch(1, "worker-a").stream().map(WorkflowJob::getId).toList();
+
+        assertThat(claimed).hasSize(1);
+        if (jobIds.contains(claimed.get(0))) {
+            assertThat(claimed).containsExactly(jobIds.get(0));
+        }
+    }
+
+    @Test
+    void releasesOnlyJobsWhoseLeaseExpired() {
+        workflowJobService.claimBatch(50, "worker-a");
+        Instant expired = Instant.now().minusMillis(applicationProperties.getWorkflow().getJobs().getLeaseTimeoutMs() + 60_000);
+        transactionTemplate.executeWithoutResult(status -> workflowJobRepository.findById(jobIds.get(0)).orElseThrow().setLockedAt(expired));
+
+        assertThat(workflowJobService.releaseStaleJobs()).isGreaterThanOrEqualTo(1);
+
+        WorkflowJob released = workflowJobRepository.findById(jobIds.get(0)).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(WorkflowJobStatus.PENDING);
+        assertThat(released.getLockedBy()).isNull();
+        assertThat(released.getAttempts()).isEqualTo(1);
+        WorkflowJob stillRunning = workflowJobRepository.findById(jobIds.get(1)).orElseThrow();
+        assertThat(stillRunning.getStatus()).isEqualTo(WorkflowJobStatus.RUNNING);
+        assertThat(stillRunning.getLockedBy()).isEqualTo("worker-a");
+    }
+}
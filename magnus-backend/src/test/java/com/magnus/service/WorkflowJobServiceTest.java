@@ -0,0 +1,91 @@
+package com.magnus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.WorkflowJob;
+import com.magnus.domain.enumeration.WorkflowJobStatus;
+import com.magnus.repository.WorkflowJobRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WorkflowJobServiceTest {
+
+    private WorkflowJobRepository workflowJobRepository;
+
+    private WorkflowJobService workflowJobService;
+
+    @BeforeEach
+    void setUp() {
+        workflowJobRepository = mock(WorkflowJobRepository.class);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        ApplicationProperties.Workflow.Jobs jobs = applicationProperties.getWorkflow().getJobs();
+        jobs.setMaxAttempts(3);
+        jobs.setInitialBackoffMs(1000);
+        jobs.setMaxBackoffMs(5000);
+        workflowJobService = new WorkflowJobService(workflowJobRepository, applicationProperties);
+    }
+
+    @Test
+    void backoffDoublesPerAttemptUpToTheMaximum() {
+        assertThat(workflowJobService.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(workflowJobService.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(workflowJobService.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(workflowJobService.backoff(4)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(workflowJobService.backoff(64)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void failedJobIsRescheduledWhileAttemptsRemain() {
+        WorkflowJob job = runningJob(2);
+        when(workflowJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        Instant before = Instant.now();
+
+        assertThat(workflowJobService.markFailed(1L, new IllegalStateException("boom"))).isTrue();
+
+        assertThat(job.getStatus()).isEqualTo(WorkflowJobStatus.PENDING);
+        assertThat(job.getNextAttemptAt()).isBetween(before.plusSeconds(2), Instant.now().plusSeconds(2));
+        assertThat(job.getLockedAt()).isNull();
+        assertThat(job.getLockedBy()).isNull();
+        assertThat(job.getLastError()).contains("boom");
+    }
+
+    @Test
+    void failedJobIsAbandonedAfterTheLastAttempt() {
+        WorkflowJob job = runningJob(3);
+        Instant nextAttemptAt = job.getNextAttemptAt();
+        when(workflowJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        assertThat(workflowJobService.markFailed(1L, new IllegalStateException("boom"))).isFalse();
+
+        assertThat(job.getStatus()).isEqualTo(WorkflowJobStatus.FAILED);
+        assertThat(job.getNextAttemptAt()).isEqualTo(nextAttemptAt);
+        assertThat(job.getLockedBy()).isNull();
+    }
+
+    @Test
+    void missingJobIsNotRetried() {
+        when(workflowJobRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThat(workflowJobService.markFailed(1L, new IllegalStateException("boom"))).isFalse();
+    }
+
+    private static WorkflowJob runningJob(int attempts) {
+        Instant now = Instant.now();
+        return new WorkflowJob()
+            .id(1L)
+            .budgetId(10L)
+            .status(WorkflowJobStatus.RUNNING)
+            .attempts(attempts)
+            .nextAttemptAt(now.minusSeconds(60))
+            .lockedAt(now)
+            .lockedBy("worker")
+            .createdAt(now)
+            .updatedAt(now);
+    }
+}
@@ -0,0 +1,105 @@
+package com.magnus.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.WorkflowJob;
+import com.magnus.service.dto.BudgetDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class WorkflowJobWorkerTest {
+
+    private WorkflowJobService workflowJobService;
+
+    private WorkflowAutomationService workflowAutomationService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WorkflowJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        workflowJobService = mock(WorkflowJobService.class);
+        workflowAutomationService = mock(WorkflowAutomationService.class);
+        BudgetService budgetService = mock(BudgetService.class);
+        when(budgetService.findOne(any())).thenAnswer(invocation -> Optional.of(budget(invocation.getArgument(0))));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new WorkflowJobWorker(
+            workflowJobService,
+            workflowAutomationService,
+            budgetService,
+            transactionManager,
+            new ApplicationProperties(),
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void completesWholeBatchInOneGo() {
+        worker.processBatch(List.of(job(1L, 10L), job(2L, 20L)));
+
+        verify(workflowJobService).markCompleted(List.of(1L, 2L));
+        verify(workflowJobService, never()).markFailed(any(), any());
+        assertThat(processed("completed")).isEqualTo(2);
+    }
+
+    @Test
+    void replaysFailedBatchJobByJob() {
+        doAnswer(invocation -> {
+            List<BudgetDTO> budgets = invocation.getArgument(0);
+            if (budgets.stream().anyMatch(budget -> budget.getId() == 20L)) {
+                throw new IllegalStateException("bad budget");
+            }
+            return null;
+        })
+            .when(workflowAutomationService)
+            .triggerWorkflowForBudgets(anyList());
+        when(workflowJobService.markFailed(eq(2L), any())).thenReturn(true);
+
+        worker.processBatch(List.of(job(1L, 10L), job(2L, 20L)));
+
+        verify(workflowJobService, never()).markCompleted(List.of(1L, 2L));
+        verify(workflowJobService).markCompleted(List.of(1L));
+        verify(workflowJobService).markFailed(eq(2L), any(IllegalStateException.class));
+        assertThat(processed("completed")).isEqualTo(1);
+        assertThat(processed("retried")).isEqualTo(1);
+        assertThat(processed("failed")).isZero();
+    }
+
+    private double processed(String outcome) {
+        return meterRegistry.get(WorkflowJobWorker.METER_PREFIX + ".processed").tag("outcome", outcome).counter().count();
+    }
+
+    private static WorkflowJob job(Long id, Long budgetId) {
+        return new WorkflowJob().id(id).budgetId(budgetId).attempts(1).createdAt(Instant.now());
+    }
+
+    private static BudgetDTO budget(Long id) {
+        BudgetDTO budget = new BudgetDTO();
+        budget.setId(id);
+        return budget;
+    }
+}
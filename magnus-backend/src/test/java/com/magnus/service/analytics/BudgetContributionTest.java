@@ -0,0 +1,75 @@
+package com.magnus.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.service.dto.DashboardRollupDTO.Dimension;
+import com.magnus.service.dto.DashboardRollupDTO.Period;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BudgetContributionTest {
+
+    private static final LocalDate THURSDAY = LocalDate.of(2026, 10, 22);
+
+    @Test
+    void newBudgetAddsOneUnitToEveryBucket() {
+        Map<RollupKey, RollupMeasures> changes = BudgetContribution.diff(null, contribution("DRAFT", "1000.00", "0.00"));
+
+        assertThat(changes).hasSize(Period.values().length * Dimension.values().length);
+        RollupMeasures week = changes.get(new RollupKey(Period.WEEK, Dimension.STATUS, LocalDate.of(2026, 10, 19), "DRAFT"));
+        assertThat(week.budgets).isEqualTo(1);
+        assertThat(week.guests).isEqualTo(40);
+        assertThat(week.revenue).isEqualByComparingTo("1000");
+        assertThat(week.cost).isEqualByComparingTo("600");
+        RollupMeasures month = changes.get(new RollupKey(Period.MONTH, Dimension.ALL, LocalDate.of(2026, 10, 1), ""));
+        assertThat(month.budgets).isEqualTo(1);
+    }
+
+    @Test
+    void statusChangeMovesTheBudgetBetweenStatusBucketsOnly() {
+        Map<RollupKey, RollupMeasures> changes = BudgetContribution.diff(
+            contribution("DRAFT", "1000.00", "0.00"),
+            contribution("APPROVED", "1000.00", "0.00")
+        );
+
+        assertThat(changes).hasSize(4);
+        assertThat(changes.get(new RollupKey(Period.MONTH, Dimension.STATUS, LocalDate.of(2026, 10, 1), "DRAFT")).budgets).isEqualTo(-1);
+        assertThat(changes.get(new RollupKey(Period.MONTH, Dimension.STATUS, LocalDate.of(2026, 10, 1), "APPROVED")).budgets).isEqualTo(1);
+    }
+
+    @Test
+    void paymentChangesOnlyThePaymentMeasure() {
+        Map<RollupKey, RollupMeasures> changes = BudgetContribution.diff(
+            contribution("APPROVED", "1000.00", "0.00"),
+            contribution("APPROVED", "1000.00", "250.00")
+        );
+
+        assertThat(changes).hasSize(Period.values().length * Dimension.values().length);
+        assertThat(changes.values()).allSatisfy(change -> {
+            assertThat(change.budgets).isZero();
+            assertThat(change.revenue).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(change.paymentsReceived).isEqualByComparingTo("250");
+        });
+    }
+
+    @Test
+    void deletedBudgetIsRemovedAndUnchangedBudgetIsNoop() {
+        BudgetContribution contribution = contribution("DRAFT", "1000.00", "0.00");
+
+        assertThat(BudgetContribution.diff(contribution, null).values()).allSatisfy(change -> assertThat(change.budgets).isEqualTo(-1));
+        assertThat(BudgetContribution.diff(contribution, contribution("DRAFT", "1000.00", "0.00"))).isEmpty();
+    }
+
+    @Test
+    void weeksStartOnMonday() {
+        assertThat(RollupKey.periodStart(Period.WEEK, THURSDAY)).isEqualTo(LocalDate.of(2026, 10, 19));
+        assertThat(RollupKey.periodStart(Period.WEEK, LocalDate.of(2026, 10, 19))).isEqualTo(LocalDate.of(2026, 10, 19));
+        assertThat(RollupKey.periodStart(Period.MONTH, THURSDAY)).isEqualTo(LocalDate.of(2026, 10, 1));
+    }
+
+    private static BudgetContribution contribution(String status, String revenue, String paid) {
+        return new BudgetContribution(1L, THURSDAY, status, "MIXED", "ACME", "", 40, new BigDecimal(revenue), new BigDecimal("600.00"), new BigDecimal(paid));
+    }
+}
@@ -0,0 +1,177 @@
+package com.magnus.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.IntegrationTest;
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Budget;
+import com.magnus.domain.Client;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.EventGender;
+import com.magnus.domain.enumeration.PaymentStatus;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.dto.DashboardRollupDTO;
+import com.magnus.service.dto.DashboardRollupDTO.Dimension;
+import com.magnus.service.dto.DashboardRollupDTO.Period;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the refresh of {@link BudgetRollupService}, which runs its locking read and
+ * upserts in a transaction of its own. Each test uses its own client name, so the client rollups it
+ * reads only hold its own budgets.
+ */
+@IntegrationTest
+class BudgetRollupServiceIT {
+
+    private static final LocalDate EVENT_DATE = LocalDate.of(2031, 5, 14);
+
+    @Autowired
+    private BudgetRollupService budgetRollupService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private String clientName;
+
+    private Long budgetId;
+
+    private Long userId;
+
+    private Long clientId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        clientName = "rollup-it-" + System.nanoTime();
+        budgetId = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            AppUser user = new AppUser()
+                .login(clientName)
+                .email(clientName + "@magnus.test")
+                .role(UserRole.SALES)
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now);
+            em.persist(user);
+            Client client = new Client()
+                .name(clientName)
+                .email(clientName + "@client.test")
+                .phone("600000000")
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now);
+            em.persist(client);
+            Budget budget = new Budget()
+                .name("Rollup IT")
+                .clientName(clientName)
+                .eventDate(EVENT_DATE)
+                .guestCount(40)
+                .eventGender(EventGender.MIXED)
+                .totalAmount(new BigDecimal("1000.00"))
+                .totalCost(new BigDecimal("600.00"))
+                .status(BudgetStatus.DRAFT)
+                .paymentStatus(PaymentStatus.UNPAID)
+                .isClosed(false)
+                .workflowTriggered(false)
+                .version(1)
+                .conflictStatus(ConflictStatus.NONE)
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy(user)
+                .client(client);
+            em.persist(budget);
+            userId = user.getId();
+            clientId = client.getId();
+            return budget.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from budget where id = ?", budgetId);
+        jdbcTemplate.update("delete from client where id = ?", clientId);
+        jdbcTemplate.update("delete from app_user where id = ?", userId);
+        budgetRollupService.markDirty(budgetId);
+        budgetRollupService.refreshPending();
+    }
+
+    @Test
+    void refreshAddsTheBudgetOnceAndAppliesLaterChangesAsDifferences() {
+        budgetRollupService.markDirty(budgetId);
+        budgetRollupService.refreshPending();
+
+        DashboardRollupDTO rollup = clientRollup();
+        assertThat(rollup.getBudgetCount()).isEqualTo(1);
+        assertThat(rollup.getGuestCount()).isEqualTo(40);
+        assertThat(rollup.getRevenue()).isEqualByComparingTo("1000.00");
+        assertThat(rollup.getCost()).isEqualByComparingTo("600.00");
+
+        // an unchanged budget is a no-op, it is not counted twice
+        budgetRollupService.markDirty(budgetId);
+        budgetRollupService.refreshPending();
+        assertThat(clientRollup().getBudgetCount()).isEqualTo(1);
+
+        jdbcTemplate.update("update budget set guest_count = 55, total_amount = 1200 where id = ?", budgetId);
+        budgetRollupService.markDirty(budgetId);
+        budgetRollupService.refreshPending();
+
+        rollup = clientRollup();
+        assertThat(rollup.getBudgetCount()).isEqualTo(1);
+        assertThat(rollup.getGuestCount()).isEqualTo(55);
+        assertThat(rollup.getRevenue()).isEqualByComparingTo("1200.00");
+        assertThat(
+            jdbcTemplate.queryForObject("select guest_count from budget_rollup_contribution where budget_id = ?", Long.class, budgetId)
+        ).isEqualTo(55);
+    }
+
+    @Test
+    void refreshRemovesTheContributionOfADeletedBudget() {
+        budgetRollupService.markDirty(budgetId);
+        budgetRollupService.refreshPending();
+        assertThat(clientRollups()).hasSize(1);
+
+        jdbcTemplate.update("delete from budget where id = ?", budgetId);
+        budgetRollupService.markDirty(budgetId);
+        budgetRollupService.refreshPending();
+
+        assertThat(clientRollups()).isEmpty();
+        assertThat(
+            jdbcTemplate.queryForObject("select count(*) from budget_rollup_contribution where budget_id = ?", Integer.class, budgetId)
+        ).isZero();
+    }
+
+    private DashboardRollupDTO clientRollup() {
+        List<DashboardRollupDTO> rollups = clientRollups();
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getPeriodStart()).isEqualTo(EVENT_DATE.withDayOfMonth(1));
+        return rollups.get(0);
+    }
+
+    private List<DashboardRollupDTO> clientRollups() {
+        return budgetRollupService
+            .findRollups(Period.MONTH, Dimension.CLIENT, EVENT_DATE, EVENT_DATE)
+            .stream()
+            .filter(rollup -> clientName.equals(rollup.getKey()))
+            .toList();
+    }
+}
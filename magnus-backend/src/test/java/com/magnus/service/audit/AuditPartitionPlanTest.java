@@ -0,0 +1,54 @@
+package com.magnus.service.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AuditPartitionPlanTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2027, 1, 15);
+
+    @Test
+    void addsMissingMonthsAfterTheLastPartition() {
+        Map<String, LocalDate> partitions = new LinkedHashMap<>();
+        partitions.put("p_history", LocalDate.of(2026, 10, 1));
+        partitions.put("p202610", LocalDate.of(2026, 11, 1));
+        partitions.put("p202611", LocalDate.of(2026, 12, 1));
+        partitions.put("p202612", LocalDate.of(2027, 1, 1));
+        partitions.put("p202701", LocalDate.of(2027, 2, 1));
+        partitions.put(AuditPartitionPlan.FUTURE_PARTITION, null);
+
+        AuditPartitionPlan plan = AuditPartitionPlan.of(partitions, TODAY, 3, 24);
+
+        assertThat(plan.add()).containsExactly(YearMonth.of(2027, 2), YearMonth.of(2027, 3), YearMonth.of(2027, 4));
+        assertThat(plan.drop()).isEmpty();
+        assertThat(AuditPartitionPlan.partitionName(plan.add().get(0))).isEqualTo("p202702");
+    }
+
+    @Test
+    void dropsPartitionsOlderThanTheRetention() {
+        Map<String, LocalDate> partitions = new LinkedHashMap<>();
+        partitions.put("p_history", LocalDate.of(2026, 10, 1));
+        partitions.put("p202610", LocalDate.of(2026, 11, 1));
+        partitions.put("p202611", LocalDate.of(2026, 12, 1));
+        partitions.put("p202612", LocalDate.of(2027, 1, 1));
+        partitions.put("p202701", LocalDate.of(2027, 2, 1));
+        partitions.put(AuditPartitionPlan.FUTURE_PARTITION, null);
+
+        AuditPartitionPlan plan = AuditPartitionPlan.of(partitions, TODAY, 1, 2);
+
+        assertThat(plan.drop()).containsExactly("p202610", "p_history");
+        assertThat(plan.add()).containsExactly(YearMonth.of(2027, 2));
+    }
+
+    @Test
+    void parsesRangeColumnsBounds() {
+        assertThat(AuditPartitionMaintenance.parseBound("'2026-11-01 00:00:00'")).isEqualTo(LocalDate.of(2026, 11, 1));
+        assertThat(AuditPartitionMaintenance.parseBound("'2026-11-01'")).isEqualTo(LocalDate.of(2026, 11, 1));
+        assertThat(AuditPartitionMaintenance.parseBound("MAXVALUE")).isNull();
+    }
+}
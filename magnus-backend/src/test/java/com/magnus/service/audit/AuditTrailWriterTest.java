@@ -0,0 +1,104 @@
+package com.magnus.service.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.enumeration.AuditAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AuditTrailWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private ApplicationProperties applicationProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setBufferCapacity(3);
+        applicationProperties.getAudit().setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainsBufferedEntriesInBatches() throws InterruptedException {
+        AuditTrailWriter writer = writer();
+        writer.enqueue(entries(3));
+
+        assertThat(writer.drain(0)).isEqualTo(2);
+        assertThat(writer.drain(0)).isEqualTo(1);
+        assertThat(writer.drain(0)).isZero();
+
+        ArgumentCaptor<List<AuditEntry>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AuditTrailWriter.INSERT_SQL), batch.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batch.getValue()).extracting(AuditEntry::entityId).containsExactly("0", "1");
+        assertThat(meterRegistry.get(AuditTrailWriter.METER_PREFIX + ".entries").tag("outcome", "written").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void dropNewestRejectsEntriesWhenFull() throws InterruptedException {
+        applicationProperties.getAudit().setOverflowPolicy(ApplicationProperties.Audit.OverflowPolicy.DROP_NEWEST);
+        AuditTrailWriter writer = writer();
+
+        assertThat(writer.enqueue(entries(5))).isEqualTo(2);
+        assertThat(writer.pending()).isEqualTo(3);
+        assertThat(meterRegistry.get(AuditTrailWriter.METER_PREFIX + ".entries").tag("outcome", "dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dropOldestKeepsTheLatestEntries() throws InterruptedException {
+        applicationProperties.getAudit().setOverflowPolicy(ApplicationProperties.Audit.OverflowPolicy.DROP_OLDEST);
+        applicationProperties.getAudit().setBatchSize(10);
+        AuditTrailWriter writer = writer();
+
+        assertThat(writer.enqueue(entries(5))).isEqualTo(2);
+        writer.drain(0);
+
+        ArgumentCaptor<List<AuditEntry>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AuditTrailWriter.INSERT_SQL), batch.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batch.getValue()).extracting(AuditEntry::entityId).containsExactly("2", "3", "4");
+    }
+
+    @Test
+    void blockGivesUpAfterTimeout() {
+        applicationProperties.getAudit().setBlockTimeoutMs(1);
+        AuditTrailWriter writer = writer();
+
+        assertThat(writer.enqueue(entries(4))).isEqualTo(1);
+        assertThat(writer.pending()).isEqualTo(3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuditTrailWriter writer() {
+        ObjectProvider<PlatformTransactionManager> transactionManager = mock(ObjectProvider.class);
+        when(transactionManager.getObject()).thenReturn(mock(PlatformTransactionManager.class));
+        return new AuditTrailWriter(jdbcTemplate, transactionManager, applicationProperties, meterRegistry);
+    }
+
+    private static List<AuditEntry> entries(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new AuditEntry("Budget", String.valueOf(i), AuditAction.UPDATE, "status", "DRAFT", "RESERVA", "admin", Instant.now()))
+            .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.magnus.service.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class BudgetTotalsDeltaTest {
+
+    @Test
+    void accumulatesItemsIntoTotalsAndCategories() {
+        BudgetTotalsDelta delta = new BudgetTotalsDelta();
+
+        delta.add("menu", new BigDecimal("1200.00"), new BigDecimal("700.00"), 1);
+        delta.add("transport", new BigDecimal("300.50"), null, 1);
+        delta.add("accommodation", new BigDecimal("800.00"), new BigDecimal("650.00"), 1);
+        delta.add("other", new BigDecimal("10.00"), new BigDecimal("5.00"), 1);
+
+        assertThat(delta.amount).isEqualByComparingTo("2310.50");
+        assertThat(delta.cost).isEqualByComparingTo("1355.00");
+        assertThat(delta.meals).isEqualByComparingTo("1200.00");
+        assertThat(delta.transport).isEqualByComparingTo("300.50");
+        assertThat(delta.accommodation).isEqualByComparingTo("800.00");
+        assertThat(delta.activities).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void updateMovingAnItemBetweenCategoriesOnlyShiftsTheCategories() {
+        BudgetTotalsDelta delta = new BudgetTotalsDelta();
+
+        delta.add("activity", new BigDecimal("450.00"), new BigDecimal("200.00"), -1);
+        delta.add("menu", new BigDecimal("450.00"), new BigDecimal("250.00"), 1);
+
+        assertThat(delta.amount).isEqualByComparingTo("0");
+        assertThat(delta.cost).isEqualByComparingTo("50.00");
+        assertThat(delta.activities).isEqualByComparingTo("-450.00");
+        assertThat(delta.meals).isEqualByComparingTo("450.00");
+        assertThat(delta.reconcile).isFalse();
+    }
+}
@@ -0,0 +1,226 @@
+package com.magnus.service.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.IntegrationTest;
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Budget;
+import com.magnus.domain.BudgetItem;
+import com.magnus.domain.Client;
+import com.magnus.domain.Payment;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.domain.enumeration.ConflictStatus;
+import com.magnus.domain.enumeration.EventGender;
+import com.magnus.domain.enumeration.PaymentMethod;
+import com.magnus.domain.enumeration.PaymentStatus;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.concurrency.EntityVersionSnapshotStore;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link BudgetTotalsService}. Not transactional: the deltas are applied when
+ * the item and payment changes commit.
+ */
+@IntegrationTest
+class BudgetTotalsServiceIT {
+
+    private static final String TOTALS_SQL =
+        "select total_amount, total_cost, meals_amount, activities_amount, profit_margin, payment_status, version from budget where id = ?";
+
+    @Autowired
+    private BudgetTotalsService budgetTotalsService;
+
+    @Autowired
+    private EntityVersionSnapshotStore snapshotStore;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Long budgetId;
+
+    private Long userId;
+
+    private Long clientId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        budgetId = transactionTemplate.execute(status -> {
+            String suffix = Long.toString(System.nanoTime());
+            Instant now = Instant.now();
+            AppUser user = new AppUser()
+                .login("totals-it-" + suffix)
+                .email("totals-it-" + suffix + "@magnus.test")
+                .role(UserRole.SALES)
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now);
+            em.persist(user);
+            Client client = new Client()
+                .name("Totals IT")
+                .email("totals-it-" + suffix + "@client.test")
+                .phone("600000000")
+                .isActive(true)
+                .createdAt(now)
+                .updatedAt(now);
+            em.persist(client);
+            Budget budget = new Budget()
+                .name("Totals IT")
+                .clientName(client.getName())
+                .eventDate(LocalDate.now().plusMonths(1))
+                .guestCount(10)
+                .eventGender(EventGender.MIXED)
+                .totalAmount(BigDecimal.ZERO)
+                .totalCost(BigDecimal.ZERO)
+                .mealsAmount(BigDecimal.ZERO)
+                .activitiesAmount(BigDecimal.ZERO)
+                .transportAmount(BigDecimal.ZERO)
+                .accommodationAmount(BigDecimal.ZERO)
+                .status(BudgetStatus.DRAFT)
+                .paymentStatus(PaymentStatus.UNPAID)
+                .isClosed(false)
+                .workflowTriggered(false)
+                .version(1)
+                .conflictStatus(ConflictStatus.NONE)
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy(user)
+                .client(client);
+            em.persist(budget);
+            userId = user.getId();
+            clientId = client.getId();
+            return budget.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from entity_version_snapshot where entity_type = 'Budget' and entity_id = ?", budgetId);
+        jdbcTemplate.update("delete from payment where budget_id = ?", budgetId);
+        jdbcTemplate.update("delete from budget_item where budget_id = ?", budgetId);
+        jdbcTemplate.update("delete from budget where id = ?", budgetId);
+        jdbcTemplate.update("delete from client where id = ?", clientId);
+        jdbcTemplate.update("delete from app_user where id = ?", userId);
+    }
+
+    @Test
+    void appliesItemAndPaymentChangesOnCommit() {
+        Map<String, Object> before = totals();
+        Long activityId = transactionTemplate.execute(status -> {
+            em.persist(item("menu", "100.00", "60.00"));
+            BudgetItem activity = item("activity", "50.00", "20.00");
+            em.persist(activity);
+            return activity.getId();
+        });
+
+        Map<String, Object> afterInsert = totals();
+        assertAmount(afterInsert, "total_amount", "150.00");
+        assertAmount(afterInsert, "total_cost", "80.00");
+        assertAmount(afterInsert, "meals_amount", "100.00");
+        assertAmount(afterInsert, "activities_amount", "50.00");
+        assertAmount(afterInsert, "profit_margin", "46.67");
+        assertThat(afterInsert.get("payment_status")).isEqualTo("UNPAID");
+        // one statement per budget and commit, whatever the number of items
+        assertThat(version(afterInsert)).isEqualTo(version(before) + 1);
+        // the version written by SQL can still be merged against
+        assertThat(snapshotStore.find("Budget", budgetId, (int) version(afterInsert)))
+            .hasValueSatisfying(snapshot -> {
+                assertThat(snapshot).containsEntry("totalAmount", "150").containsEntry("mealsAmount", "100");
+                assertThat(snapshot).containsEntry("name", "Totals IT");
+            });
+
+        transactionTemplate.executeWithoutResult(status -> em.persist(payment("100.00")));
+        assertThat(totals().get("payment_status")).isEqualTo("PARTIALLY_PAID");
+
+        transactionTemplate.executeWithoutResult(status -> em.remove(em.find(BudgetItem.class, activityId)));
+
+        Map<String, Object> afterDelete = totals();
+        assertAmount(afterDelete, "total_amount", "100.00");
+        assertAmount(afterDelete, "total_cost", "60.00");
+        assertAmount(afterDelete, "activities_amount", "0.00");
+        assertAmount(afterDelete, "profit_margin", "40.00");
+        assertThat(afterDelete.get("payment_status")).isEqualTo("PAID");
+    }
+
+    @Test
+    void reconcileRepairsDriftOnlyOnce() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.persist(item("menu", "100.00", "60.00"));
+            em.persist(payment("30.00"));
+        });
+        assertThat(budgetTotalsService.reconcile(budgetId)).isFalse();
+
+        jdbcTemplate.update("update budget set total_amount = 1, meals_amount = 1, payment_status = 'PAID' where id = ?", budgetId);
+
+        assertThat(budgetTotalsService.reconcile(budgetId)).isTrue();
+        Map<String, Object> repaired = totals();
+        assertAmount(repaired, "total_amount", "100.00");
+        assertAmount(repaired, "meals_amount", "100.00");
+        assertAmount(repaired, "profit_margin", "40.00");
+        assertThat(repaired.get("payment_status")).isEqualTo("PARTIALLY_PAID");
+        assertThat(snapshotStore.find("Budget", budgetId, (int) version(repaired)))
+            .hasValueSatisfying(snapshot -> assertThat(snapshot).containsEntry("totalAmount", "100").containsEntry("paymentStatus", "PARTIALLY_PAID"));
+        assertThat(budgetTotalsService.reconcile(budgetId)).isFalse();
+    }
+
+    private BudgetItem item(String itemType, String totalPrice, String totalCost) {
+        Instant now = Instant.now();
+        return new BudgetItem()
+            .itemType(itemType)
+            .templateId("totals-it")
+            .templateName("Totals IT")
+            .quantity(1)
+            .unitPrice(new BigDecimal(totalPrice))
+            .unitCost(new BigDecimal(totalCost))
+            .totalPrice(new BigDecimal(totalPrice))
+            .totalCost(new BigDecimal(totalCost))
+            .isCustomized(false)
+            .version(1)
+            .createdAt(now)
+            .updatedAt(now)
+            .budget(em.getReference(Budget.class, budgetId));
+    }
+
+    private Payment payment(String amount) {
+        Instant now = Instant.now();
+        return new Payment()
+            .method(PaymentMethod.CREDIT_CARD)
+            .amount(new BigDecimal(amount))
+            .paymentDate(LocalDate.now())
+            .isConfirmed(true)
+            .createdAt(now)
+            .updatedAt(now)
+            .budget(em.getReference(Budget.class, budgetId));
+    }
+
+    private Map<String, Object> totals() {
+        return jdbcTemplate.queryForMap(TOTALS_SQL, budgetId);
+    }
+
+    private static long version(Map<String, Object> totals) {
+        return ((Number) totals.get("version")).longValue();
+    }
+
+    private static void assertAmount(Map<String, Object> totals, String column, String expected) {
+        assertThat((BigDecimal) totals.get(column)).isEqualByComparingTo(expected);
+    }
+}
@@ -0,0 +1,65 @@
+package com.magnus.service.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ThreeWayMergeTest {
+
+    @Test
+    void appliesLocalChangesAndKeepsRemoteChanges() {
+        Map<String, String> base = Map.of("name", "Boda", "guestCount", "80", "status", "BORRADOR");
+        Map<String, String> local = Map.of("name", "Boda Pérez", "guestCount", "80", "status", "BORRADOR");
+        Map<String, String> remote = Map.of("name", "Boda", "guestCount", "95", "status", "RESERVA");
+
+        ThreeWayMerge.Result result = ThreeWayMerge.merge(base, local, remote);
+
+        assertThat(result.fromLocal()).containsExactly("name");
+        assertThat(result.conflicts()).isEmpty();
+    }
+
+    @Test
+    void reportsFieldsChangedOnBothSides() {
+        Map<String, String> base = Map.of("guestCount", "80", "description", "a");
+        Map<String, String> local = Map.of("guestCount", "90", "description", "b");
+        Map<String, String> remote = Map.of("guestCount", "95", "description", "b");
+
+        ThreeWayMerge.Result result = ThreeWayMerge.merge(base, local, remote);
+
+        assertThat(result.fromLocal()).isEmpty();
+        assertThat(result.conflicts()).containsExactly(new ThreeWayMerge.Conflict("guestCount", "80", "90", "95"));
+    }
+
+    @Test
+    void treatsEveryDifferenceAsConflictWithoutBase() {
+        Map<String, String> local = new HashMap<>(Map.of("name", "x", "guestCount", "80", "version", "1"));
+        local.put("description", null);
+        Map<String, String> remote = Map.of("name", "y", "guestCount", "80", "version", "3", "description", "d");
+
+        ThreeWayMerge.Result result = ThreeWayMerge.merge(null, local, remote);
+
+        assertThat(result.fromLocal()).isEmpty();
+        assertThat(result.conflicts()).extracting(ThreeWayMerge.Conflict::field).containsExactly("description", "name");
+    }
+
+    @Test
+    void normalizesNumbersAssociationsAndSkipsCollections() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode tree = objectMapper.createObjectNode();
+        tree.put("amount", new BigDecimal("10.50"));
+        tree.putObject("budget").put("id", 7L).put("name", "ignored");
+        tree.putArray("tags").add("a");
+        tree.putNull("notes");
+
+        Map<String, String> values = FieldValues.of(tree, false);
+        assertThat(values).containsOnlyKeys("amount", "budget", "notes");
+        assertThat(values).containsEntry("amount", "10.5").containsEntry("budget", "7");
+        assertThat(values.get("notes")).isNull();
+        assertThat(FieldValues.of(tree, true)).containsOnlyKeys("amount", "budget");
+    }
+}
@@ -0,0 +1,126 @@
+package com.magnus.service.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.Test;
+
+class BudgetCriteriaTest {
+
+    @Test
+    void newBudgetCriteriaHasAllFiltersNullTest() {
+        var budgetCriteria = new BudgetCriteria();
+        assertThat(budgetCriteria).is(criteriaFiltersAre(Objects::isNull));
+    }
+
+    @Test
+    void budgetCriteriaFluentMethodsCreatesFiltersTest() {
+        var budgetCriteria = new BudgetCriteria();
+        setAllFilters(budgetCriteria);
+        assertThat(budgetCriteria).is(criteriaFiltersAre(Objects::nonNull));
+    }
+
+    @Test
+    void budgetCriteriaCopyCreatesNullFilterTest() {
+        var budgetCriteria = new BudgetCriteria();
+        var copy = budgetCriteria.copy();
+
+        assertThat(budgetCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void budgetCriteriaCopyDuplicatesEveryExistingFilterTest() {
+        var budgetCriteria = new BudgetCriteria();
+        setAllFilters(budgetCriteria);
+
+        var copy = budgetCriteria.copy();
+
+        assertThat(budgetCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void toStringVerifier() {
+        var budgetCriteria = new BudgetCriteria();
+
+        assertThat(budgetCriteria).hasToString("BudgetCriteria{}");
+    }
+
+    private static void setAllFilters(BudgetCriteria budgetCriteria) {
+        budgetCriteria.id();
+        budgetCriteria.name();
+        budgetCriteria.clientName();
+        budgetCriteria.eventDate();
+        budgetCriteria.guestCount();
+        budgetCriteria.totalAmount();
+        budgetCriteria.status();
+        budgetCriteria.paymentStatus();
+        budgetCriteria.isClosed();
+        budgetCriteria.createdAt();
+        budgetCriteria.createdById();
+        budgetCriteria.assignedToId();
+        budgetCriteria.clientId();
+        budgetCriteria.weeklyPlanId();
+        budgetCriteria.distinct();
+    }
+
+    private static Condition<BudgetCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId()) &&
+                condition.apply(criteria.getName()) &&
+                condition.apply(criteria.getClientName()) &&
+                condition.apply(criteria.getEventDate()) &&
+                condition.apply(criteria.getGuestCount()) &&
+                condition.apply(criteria.getTotalAmount()) &&
+                condition.apply(criteria.getStatus()) &&
+                condition.apply(criteria.getPaymentStatus()) &&
+                condition.apply(criteria.getIsClosed()) &&
+                condition.apply(criteria.getCreatedAt()) &&
+                condition.apply(criteria.getCreatedById()) &&
+                condition.apply(criteria.getAssignedToId()) &&
+                condition.apply(criteria.getClientId()) &&
+                condition.apply(criteria.getWeeklyPlanId()) &&
+                condition.apply(criteria.getDistinct()),
+            "every filter matches"
+        );
+    }
+
+    private static Condition<BudgetCriteria> copyFiltersAre(BudgetCriteria copy, BiFunction<Object, Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId(), copy.getId()) &&
+                condition.apply(criteria.getName(), copy.getName()) &&
+                condition.apply(criteria.getClientName(), copy.getClientName()) &&
+                condition.apply(criteria.getEventDate(), copy.getEventDate()) &&
+                condition.apply(criteria.getGuestCount(), copy.getGuestCount()) &&
+                condition.apply(criteria.getTotalAmount(), copy.getTotalAmount()) &&
+                condition.apply(criteria.getStatus(), copy.getStatus()) &&
+                condition.apply(criteria.getPaymentStatus(), copy.getPaymentStatus()) &&
+                condition.apply(criteria.getIsClosed(), copy.getIsClosed()) &&
+                condition.apply(criteria.getCreatedAt(), copy.getCreatedAt()) &&
+                condition.apply(criteria.getCreatedById(), copy.getCreatedById()) &&
+                condition.apply(criteria.getAssignedToId(), copy.getAssignedToId()) &&
+                condition.apply(criteria.getClientId(), copy.getClientId()) &&
+                condition.apply(criteria.getWeeklyPlanId(), copy.getWeeklyPlanId()) &&
+                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+            "every filter matches"
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.magnus.service.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void tokenRoundTrips() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2026-10-18T09:15:30.123456Z"), 4211L);
+
+        String token = cursor.toString();
+
+        assertThat(token).doesNotContain("=", "+", "/", "|");
+        assertThat(KeysetCursor.parse(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.parse("not a cursor"));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.parse("MjAyNi0xMC0xOA"));
+    }
+
+    @Test
+    void sliceKeepsCursorWhenMapped() {
+        KeysetCursor cursor = new KeysetCursor(Instant.EPOCH, 1L);
+
+        KeysetSlice<String> slice = new KeysetSlice<>(List.of(1, 2), cursor).map(String::valueOf);
+
+        assertThat(slice.content()).containsExactly("1", "2");
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.nextCursor()).isEqualTo(cursor);
+        assertThat(new KeysetSlice<>(List.of(), null).hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,126 @@
+package com.magnus.service.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.Test;
+
+class NotificationCriteriaTest {
+
+    @Test
+    void newNotificationCriteriaHasAllFiltersNullTest() {
+        var notificationCriteria = new NotificationCriteria();
+        assertThat(notificationCriteria).is(criteriaFiltersAre(Objects::isNull));
+    }
+
+    @Test
+    void notificationCriteriaFluentMethodsCreatesFiltersTest() {
+        var notificationCriteria = new NotificationCriteria();
+        setAllFilters(notificationCriteria);
+        assertThat(notificationCriteria).is(criteriaFiltersAre(Objects::nonNull));
+    }
+
+    @Test
+    void notificationCriteriaCopyCreatesNullFilterTest() {
+        var notificationCriteria = new NotificationCriteria();
+        var copy = notificationCriteria.copy();
+
+        assertThat(notificationCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void notificationCriteriaCopyDuplicatesEveryExistingFilterTest() {
+        var notificationCriteria = new NotificationCriteria();
+        setAllFilters(notificationCriteria);
+
+        var copy = notificationCriteria.copy();
+
+        assertThat(notificationCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void toStringVerifier() {
+        var notificationCriteria = new NotificationCriteria();
+
+        assertThat(notificationCriteria).hasToString("NotificationCriteria{}");
+    }
+
+    private static void setAllFilters(NotificationCriteria notificationCriteria) {
+        notificationCriteria.id();
+        notificationCriteria.title();
+        notificationCriteria.type();
+        notificationCriteria.targetRole();
+        notificationCriteria.relatedEntityType();
+        notificationCriteria.relatedEntityId();
+        notificationCriteria.isRead();
+        notificationCriteria.isGlobal();
+        notificationCriteria.actionRequired();
+        notificationCriteria.priority();
+        notificationCriteria.expiresAt();
+        notificationCriteria.createdAt();
+        notificationCriteria.createdById();
+        notificationCriteria.targetUserId();
+        notificationCriteria.distinct();
+    }
+
+    private static Condition<NotificationCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId()) &&
+                condition.apply(criteria.getTitle()) &&
+                condition.apply(criteria.getType()) &&
+                condition.apply(criteria.getTargetRole()) &&
+                condition.apply(criteria.getRelatedEntityType()) &&
+                condition.apply(criteria.getRelatedEntityId()) &&
+                condition.apply(criteria.getIsRead()) &&
+                condition.apply(criteria.getIsGlobal()) &&
+                condition.apply(criteria.getActionRequired()) &&
+                condition.apply(criteria.getPriority()) &&
+                condition.apply(criteria.getExpiresAt()) &&
+                condition.apply(criteria.getCreatedAt()) &&
+                condition.apply(criteria.getCreatedById()) &&
+                condition.apply(criteria.getTargetUserId()) &&
+                condition.apply(criteria.getDistinct()),
+            "every filter matches"
+        );
+    }
+
+    private static Condition<NotificationCriteria> copyFiltersAre(NotificationCriteria copy, BiFunction<Object, Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId(), copy.getId()) &&
+                condition.apply(criteria.getTitle(), copy.getTitle()) &&
+                condition.apply(criteria.getType(), copy.getType()) &&
+                condition.apply(criteria.getTargetRole(), copy.getTargetRole()) &&
+                condition.apply(criteria.getRelatedEntityType(), copy.getRelatedEntityType()) &&
+                condition.apply(criteria.getRelatedEntityId(), copy.getRelatedEntityId()) &&
+                condition.apply(criteria.getIsRead(), copy.getIsRead()) &&
+                condition.apply(criteria.getIsGlobal(), copy.getIsGlobal()) &&
+                condition.apply(criteria.getActionRequired(), copy.getActionRequired()) &&
+                condition.apply(criteria.getPriority(), copy.getPriority()) &&
+                condition.apply(criteria.getExpiresAt(), copy.getExpiresAt()) &&
+                condition.apply(criteria.getCreatedAt(), copy.getCreatedAt()) &&
+                condition.apply(criteria.getCreatedById(), copy.getCreatedById()) &&
+                condition.apply(criteria.getTargetUserId(), copy.getTargetUserId()) &&
+                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+            "every filter matches"
+        );
+    }
+}
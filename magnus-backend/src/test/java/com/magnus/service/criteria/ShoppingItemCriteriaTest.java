@@ -0,0 +1,123 @@
+package com.magnus.service.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.Test;
+
+class ShoppingItemCriteriaTest {
+
+    @Test
+    void newShoppingItemCriteriaHasAllFiltersNullTest() {
+        var shoppingItemCriteria = new ShoppingItemCriteria();
+        assertThat(shoppingItemCriteria).is(criteriaFiltersAre(Objects::isNull));
+    }
+
+    @Test
+    void shoppingItemCriteriaFluentMethodsCreatesFiltersTest() {
+        var shoppingItemCriteria = new ShoppingItemCriteria();
+        setAllFilters(shoppingItemCriteria);
+        assertThat(shoppingItemCriteria).is(criteriaFiltersAre(Objects::nonNull));
+    }
+
+    @Test
+    void shoppingItemCriteriaCopyCreatesNullFilterTest() {
+        var shoppingItemCriteria = new ShoppingItemCriteria();
+        var copy = shoppingItemCriteria.copy();
+
+        assertThat(shoppingItemCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void shoppingItemCriteriaCopyDuplicatesEveryExistingFilterTest() {
+        var shoppingItemCriteria = new ShoppingItemCriteria();
+        setAllFilters(shoppingItemCriteria);
+
+        var copy = shoppingItemCriteria.copy();
+
+        assertThat(shoppingItemCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void toStringVerifier() {
+        var shoppingItemCriteria = new ShoppingItemCriteria();
+
+        assertThat(shoppingItemCriteria).hasToString("ShoppingItemCriteria{}");
+    }
+
+    private static void setAllFilters(ShoppingItemCriteria shoppingItemCriteria) {
+        shoppingItemCriteria.id();
+        shoppingItemCriteria.productName();
+        shoppingItemCriteria.unit();
+        shoppingItemCriteria.category();
+        shoppingItemCriteria.isPurchased();
+        shoppingItemCriteria.isConsolidated();
+        shoppingItemCriteria.weekStart();
+        shoppingItemCriteria.weekEnd();
+        shoppingItemCriteria.deliveryDate();
+        shoppingItemCriteria.createdAt();
+        shoppingItemCriteria.purchasedById();
+        shoppingItemCriteria.weeklyPlanId();
+        shoppingItemCriteria.budgetId();
+        shoppingItemCriteria.distinct();
+    }
+
+    private static Condition<ShoppingItemCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId()) &&
+                condition.apply(criteria.getProductName()) &&
+                condition.apply(criteria.getUnit()) &&
+                condition.apply(criteria.getCategory()) &&
+                condition.apply(criteria.getIsPurchased()) &&
+                condition.apply(criteria.getIsConsolidated()) &&
+                condition.apply(criteria.getWeekStart()) &&
+                condition.apply(criteria.getWeekEnd()) &&
+                condition.apply(criteria.getDeliveryDate()) &&
+                condition.apply(criteria.getCreatedAt()) &&
+                condition.apply(criteria.getPurchasedById()) &&
+                condition.apply(criteria.getWeeklyPlanId()) &&
+                condition.apply(criteria.getBudgetId()) &&
+                condition.apply(criteria.getDistinct()),
+            "every filter matches"
+        );
+    }
+
+    private static Condition<ShoppingItemCriteria> copyFiltersAre(ShoppingItemCriteria copy, BiFunction<Object, Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId(), copy.getId()) &&
+                condition.apply(criteria.getProductName(), copy.getProductName()) &&
+                condition.apply(criteria.getUnit(), copy.getUnit()) &&
+                condition.apply(criteria.getCategory(), copy.getCategory()) &&
+                condition.apply(criteria.getIsPurchased(), copy.getIsPurchased()) &&
+                condition.apply(criteria.getIsConsolidated(), copy.getIsConsolidated()) &&
+                condition.apply(criteria.getWeekStart(), copy.getWeekStart()) &&
+                condition.apply(criteria.getWeekEnd(), copy.getWeekEnd()) &&
+                condition.apply(criteria.getDeliveryDate(), copy.getDeliveryDate()) &&
+                condition.apply(criteria.getCreatedAt(), copy.getCreatedAt()) &&
+                condition.apply(criteria.getPurchasedById(), copy.getPurchasedById()) &&
+                condition.apply(criteria.getWeeklyPlanId(), copy.getWeeklyPlanId()) &&
+                condition.apply(criteria.getBudgetId(), copy.getBudgetId()) &&
+                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+            "every filter matches"
+        );
+    }
+}
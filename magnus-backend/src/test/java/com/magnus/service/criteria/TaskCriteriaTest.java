@@ -0,0 +1,126 @@
+package com.magnus.service.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.Test;
+
+class TaskCriteriaTest {
+
+    @Test
+    void newTaskCriteriaHasAllFiltersNullTest() {
+        var taskCriteria = new TaskCriteria();
+        assertThat(taskCriteria).is(criteriaFiltersAre(Objects::isNull));
+    }
+
+    @Test
+    void taskCriteriaFluentMethodsCreatesFiltersTest() {
+        var taskCriteria = new TaskCriteria();
+        setAllFilters(taskCriteria);
+        assertThat(taskCriteria).is(criteriaFiltersAre(Objects::nonNull));
+    }
+
+    @Test
+    void taskCriteriaCopyCreatesNullFilterTest() {
+        var taskCriteria = new TaskCriteria();
+        var copy = taskCriteria.copy();
+
+        assertThat(taskCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void taskCriteriaCopyDuplicatesEveryExistingFilterTest() {
+        var taskCriteria = new TaskCriteria();
+        setAllFilters(taskCriteria);
+
+        var copy = taskCriteria.copy();
+
+        assertThat(taskCriteria).satisfies(
+            criteria ->
+                assertThat(criteria).is(
+                    copyFiltersAre(copy, (a, b) -> (a == null || a instanceof Boolean) ? a == b : (a != b && a.equals(b)))
+                ),
+            criteria -> assertThat(criteria).isEqualTo(copy),
+            criteria -> assertThat(criteria).hasSameHashCodeAs(copy)
+        );
+    }
+
+    @Test
+    void toStringVerifier() {
+        var taskCriteria = new TaskCriteria();
+
+        assertThat(taskCriteria).hasToString("TaskCriteria{}");
+    }
+
+    private static void setAllFilters(TaskCriteria taskCriteria) {
+        taskCriteria.id();
+        taskCriteria.title();
+        taskCriteria.type();
+        taskCriteria.priority();
+        taskCriteria.status();
+        taskCriteria.assignedToRole();
+        taskCriteria.dueDate();
+        taskCriteria.createdAt();
+        taskCriteria.completedAt();
+        taskCriteria.createdById();
+        taskCriteria.assignedToId();
+        taskCriteria.weeklyPlanId();
+        taskCriteria.relatedBudgetId();
+        taskCriteria.cookingScheduleId();
+        taskCriteria.distinct();
+    }
+
+    private static Condition<TaskCriteria> criteriaFiltersAre(Function<Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId()) &&
+                condition.apply(criteria.getTitle()) &&
+                condition.apply(criteria.getType()) &&
+                condition.apply(criteria.getPriority()) &&
+                condition.apply(criteria.getStatus()) &&
+                condition.apply(criteria.getAssignedToRole()) &&
+                condition.apply(criteria.getDueDate()) &&
+                condition.apply(criteria.getCreatedAt()) &&
+                condition.apply(criteria.getCompletedAt()) &&
+                condition.apply(criteria.getCreatedById()) &&
+                condition.apply(criteria.getAssignedToId()) &&
+                condition.apply(criteria.getWeeklyPlanId()) &&
+                condition.apply(criteria.getRelatedBudgetId()) &&
+                condition.apply(criteria.getCookingScheduleId()) &&
+                condition.apply(criteria.getDistinct()),
+            "every filter matches"
+        );
+    }
+
+    private static Condition<TaskCriteria> copyFiltersAre(TaskCriteria copy, BiFunction<Object, Object, Boolean> condition) {
+        return new Condition<>(
+            criteria ->
+                condition.apply(criteria.getId(), copy.getId()) &&
+                condition.apply(criteria.getTitle(), copy.getTitle()) &&
+                condition.apply(criteria.getType(), copy.getType()) &&
+                condition.apply(criteria.getPriority(), copy.getPriority()) &&
+                condition.apply(criteria.getStatus(), copy.getStatus()) &&
+                condition.apply(criteria.getAssignedToRole(), copy.getAssignedToRole()) &&
+                condition.apply(criteria.getDueDate(), copy.getDueDate()) &&
+                condition.apply(criteria.getCreatedAt(), copy.getCreatedAt()) &&
+                condition.apply(criteria.getCompletedAt(), copy.getCompletedAt()) &&
+                condition.apply(criteria.getCreatedById(), copy.getCreatedById()) &&
+                condition.apply(criteria.getAssignedToId(), copy.getAssignedToId()) &&
+                condition.apply(criteria.getWeeklyPlanId(), copy.getWeeklyPlanId()) &&
+                condition.apply(criteria.getRelatedBudgetId(), copy.getRelatedBudgetId()) &&
+                condition.apply(criteria.getCookingScheduleId(), copy.getCookingScheduleId()) &&
+                condition.apply(criteria.getDistinct(), copy.getDistinct()),
+            "every filter matches"
+        );
+    }
+}
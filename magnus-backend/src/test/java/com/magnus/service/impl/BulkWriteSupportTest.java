@@ -0,0 +1,128 @@
+package com.magnus.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.service.dto.BulkRequestDTO;
+import com.magnus.service.dto.BulkResultDTO;
+import com.magnus.service.dto.BulkResultDTO.Operation;
+import com.magnus.service.dto.BulkResultDTO.Status;
+import com.magnus.service.mapper.EntityMapper;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+class BulkWriteSupportTest {
+
+    private JpaRepository<Item, Long> repository;
+
+    private final AtomicLong sequence = new AtomicLong(100);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(JpaRepository.class);
+        when(repository.save(any(Item.class))).thenAnswer(invocation -> {
+            Item item = invocation.getArgument(0);
+            if (item.id == null) {
+                item.id = sequence.incrementAndGet();
+            }
+            return item;
+        });
+    }
+
+    @Test
+    void appliesEveryOperationAndFlushesOnce() {
+        when(repository.findAllById(any())).thenReturn(List.of(new Item(1L, "old"), new Item(2L, "gone")));
+        BulkRequestDTO<Item> request = new BulkRequestDTO<>();
+        request.setCreate(List.of(new Item(null, "new")));
+        request.setUpdate(List.of(new Item(1L, "changed"), new Item(3L, "unknown")));
+        request.setDelete(List.of(2L, 2L));
+
+        BulkResultDTO<Item> result = apply(request);
+
+        assertThat(result.getItems())
+            .extracting(BulkResultDTO.Item::getOperation, BulkResultDTO.Item::getIndex, BulkResultDTO.Item::getId, BulkResultDTO.Item::getStatus)
+            .containsExactly(
+                Tuple.tuple(Operation.CREATE, 0, 101L, Status.CREATED),
+                Tuple.tuple(Operation.UPDATE, 0, 1L, Status.UPDATED),
+                Tuple.tuple(Operation.UPDATE, 1, 3L, Status.NOT_FOUND),
+                Tuple.tuple(Operation.DELETE, 0, 2L, Status.DELETED),
+                Tuple.tuple(Operation.DELETE, 1, 2L, Status.NOT_FOUND)
+            );
+        assertThat(result.getItems().get(1).getEntity().name).isEqualTo("changed (reconciled)");
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).findAllById(any());
+        inOrder.verify(repository).delete(any(Item.class));
+        inOrder.verify(repository).flush();
+    }
+
+    @Test
+    void rejectsCreatesWithIdAndUpdatesWithoutId() {
+        BulkRequestDTO<Item> request = new BulkRequestDTO<>();
+        request.setCreate(List.of(new Item(5L, "x")));
+        request.setUpdate(List.of(new Item(null, "y")));
+
+        BulkResultDTO<Item> result = apply(request);
+
+        assertThat(result.getItems()).extracting(BulkResultDTO.Item::getMessage).containsExactly("idexists", "idnull");
+        assertThat(result.count(Status.REJECTED)).isEqualTo(2);
+        verify(repository, never()).save(any(Item.class));
+        verify(repository, never()).findAllById(any());
+    }
+
+    private BulkResultDTO<Item> apply(BulkRequestDTO<Item> request) {
+        return BulkWriteSupport.apply(request, repository, new ItemMapper(), item -> item.id, item -> item.id, (update, existing) ->
+            new Item(update.id, update.name + " (reconciled)")
+        );
+    }
+
+    static class Item {
+
+        Long id;
+
+        String name;
+
+        Item(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    static class ItemMapper implements EntityMapper<Item, Item> {
+
+        @Override
+        public Item toEntity(Item dto) {
+            return new Item(dto.id, dto.name);
+        }
+
+        @Override
+        public Item toDto(Item entity) {
+            return new Item(entity.id, entity.name);
+        }
+
+        @Override
+        public List<Item> toEntity(List<Item> dtoList) {
+            return dtoList.stream().map(this::toEntity).toList();
+        }
+
+        @Override
+        public List<Item> toDto(List<Item> entityList) {
+            return entityList.stream().map(this::toDto).toList();
+        }
+
+        @Override
+        public void partialUpdate(Item entity, Item dto) {
+            entity.name = dto.name;
+        }
+    }
+}
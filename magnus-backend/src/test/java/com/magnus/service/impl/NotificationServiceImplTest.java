@@ -0,0 +1,97 @@
+package com.magnus.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.domain.AppUser;
+import com.magnus.domain.Notification;
+import com.magnus.repository.AppUserRepository;
+import com.magnus.repository.NotificationRepository;
+import com.magnus.service.dto.AppUserDTO;
+import com.magnus.service.dto.NotificationDTO;
+import com.magnus.service.event.NotificationCreatedEvent;
+import com.magnus.service.mapper.NotificationMapper;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+class NotificationServiceImplTest {
+
+    private NotificationRepository notificationRepository;
+
+    private NotificationMapper notificationMapper;
+
+    private AppUserRepository appUserRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private NotificationServiceImpl notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        notificationMapper = mock(NotificationMapper.class);
+        appUserRepository = mock(AppUserRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        notificationService = new NotificationServiceImpl(notificationRepository, notificationMapper, appUserRepository, eventPublisher);
+    }
+
+    @Test
+    void publishesTheLoginOfTheTargetUser() {
+        NotificationDTO saved = saved(7L);
+        when(appUserRepository.findLoginById(7L)).thenReturn(Optional.of("cook"));
+
+        notificationService.save(new NotificationDTO());
+
+        NotificationCreatedEvent event = createdEvent();
+        assertThat(event.getTargetUserLogin()).isEqualTo("cook");
+        assertThat(event.getNotification()).isSameAs(saved);
+    }
+
+    @Test
+    void publishesNoLoginForRoleNotifications() {
+        saved(null);
+
+        notificationService.save(new NotificationDTO());
+
+        assertThat(createdEvent().getTargetUserLogin()).isNull();
+    }
+
+    private NotificationDTO saved(Long targetUserId) {
+        Notification entity = new Notification();
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(1L);
+        if (targetUserId != null) {
+            // the mapper only maps the id of the target user
+            AppUserDTO targetUser = new AppUserDTO();
+            targetUser.setId(targetUserId);
+            dto.setTargetUser(targetUser);
+            AppUser user = new AppUser();
+            user.setId(targetUserId);
+            entity.setTargetUser(user);
+        }
+        when(notificationMapper.toEntity(any(NotificationDTO.class))).thenReturn(entity);
+        when(notificationRepository.save(entity)).thenReturn(entity);
+        when(notificationMapper.toDto(entity)).thenReturn(dto);
+        return dto;
+    }
+
+    private NotificationCreatedEvent createdEvent() {
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events
+            .getAllValues()
+            .stream()
+            .filter(NotificationCreatedEvent.class::isInstance)
+            .map(NotificationCreatedEvent.class::cast)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,149 @@
+package com.magnus.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.repository.NotificationRepository;
+import com.magnus.service.event.NotificationStateChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class NotificationSweeperTest {
+
+    private NotificationRepository notificationRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private ApplicationProperties applicationProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getNotifications().getSweeper().setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new NotificationSweeper(
+            notificationRepository,
+            eventPublisher,
+            mock(PlatformTransactionManager.class),
+            applicationProperties,
+            meterRegistry
+        );
+    }
+
+    @Test
+    void sweepsInIdOrderedBatchesAndRecordsMetrics() {
+        when(notificationRepository.findSweepable(eq(0L), any(Instant.class), any(Instant.class), any(Pageable.class))).thenReturn(
+            List.of(row(1L, true), row(2L, false))
+        );
+        when(notificationRepository.findSweepable(eq(2L), any(Instant.class), any(Instant.class), any(Pageable.class))).thenReturn(
+            List.of(row(5L, true))
+        );
+        when(notificationRepository.lockSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(
+            List.of(row(1L, true), row(2L, false)),
+            List.of(row(5L, true))
+        );
+        when(notificationRepository.deleteSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(2, 1);
+
+        assertThat(sweeper.sweep()).isEqualTo(3);
+
+        verify(notificationRepository, times(2)).archiveSweepable(anyCollection(), any(Instant.class), any(Instant.class));
+        ArgumentCaptor<NotificationStateChangedEvent> events = ArgumentCaptor.forClass(NotificationStateChangedEvent.class);
+        verify(eventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue().getBefore().targetRole()).isEqualTo(UserRole.COOK);
+        assertThat(events.getValue().getAfter()).isNull();
+        assertThat(meterRegistry.get(NotificationSweeper.METER_PREFIX + ".purged").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get(NotificationSweeper.METER_PREFIX + ".duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deletesWithoutArchivingWhenArchiveIsDisabled() {
+        applicationProperties.getNotifications().getSweeper().setArchive(false);
+        when(notificationRepository.findSweepable(eq(0L), any(Instant.class), any(Instant.class), any(Pageable.class))).thenReturn(
+            List.of(row(1L, true))
+        );
+        when(notificationRepository.lockSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(List.of(row(1L, true)));
+        when(notificationRepository.deleteSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(1);
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+
+        verify(notificationRepository, never()).archiveSweepable(anyCollection(), any(Instant.class), any(Instant.class));
+    }
+
+    @Test
+    void leavesNotificationsThatAreNoLongerSweepableAlone() {
+        when(notificationRepository.findSweepable(eq(0L), any(Instant.class), any(Instant.class), any(Pageable.class))).thenReturn(
+            List.of(row(1L, false), row(2L, false))
+        );
+        when(notificationRepository.lockSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(List.of(row(2L, false)));
+        when(notificationRepository.deleteSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(1);
+
+        assertThat(sweeper.sweep()).isEqualTo(1);
+
+        verify(notificationRepository).deleteSweepable(eq(List.of(2L)), any(Instant.class), any(Instant.class));
+        verify(eventPublisher, times(1)).publishEvent(any(NotificationStateChangedEvent.class));
+    }
+
+    @Test
+    void skipsBatchWhenNothingIsLocked() {
+        when(notificationRepository.findSweepable(eq(0L), any(Instant.class), any(Instant.class), any(Pageable.class))).thenReturn(
+            List.of(row(1L, false))
+        );
+        when(notificationRepository.lockSweepable(anyCollection(), any(Instant.class), any(Instant.class))).thenReturn(List.of());
+
+        assertThat(sweeper.sweep()).isZero();
+
+        verify(notificationRepository, never()).deleteSweepable(anyCollection(), any(Instant.class), any(Instant.class));
+        verify(eventPublisher, never()).publishEvent(any(NotificationStateChangedEvent.class));
+    }
+
+    private static NotificationRepository.SweepRow row(Long id, boolean read) {
+        return new NotificationRepository.SweepRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getTargetUserId() {
+                return null;
+            }
+
+            @Override
+            public UserRole getTargetRole() {
+                return UserRole.COOK;
+            }
+
+            @Override
+            public Boolean getIsGlobal() {
+                return false;
+            }
+
+            @Override
+            public Boolean getIsRead() {
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.magnus.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.repository.AppUserRepository;
+import com.magnus.repository.NotificationRepository;
+import com.magnus.service.event.NotificationStateChangedEvent;
+import com.magnus.service.event.NotificationStateChangedEvent.State;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UnreadNotificationCountersTest {
+
+    private NotificationRepository notificationRepository;
+
+    private UnreadNotificationCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        AppUserRepository appUserRepository = mock(AppUserRepository.class);
+        when(appUserRepository.findAudienceByLogin("cook")).thenReturn(Optional.of(audience(7L, UserRole.COOK)));
+        when(appUserRepository.findAudienceByLogin("nobody")).thenReturn(Optional.empty());
+        counters = new UnreadNotificationCounters(notificationRepository, appUserRepository);
+    }
+
+    @Test
+    void rebuildSumsUserRoleAndGlobalBuckets() {
+        when(notificationRepository.countUnreadByAudience()).thenReturn(
+            List.of(row(7L, null, false, 2), row(8L, null, false, 5), row(null, UserRole.COOK, false, 3), row(null, null, true, 1))
+        );
+
+        counters.rebuild();
+
+        assertThat(counters.unreadCount("cook")).isEqualTo(6);
+        assertThat(counters.unreadCount("nobody")).isEqualTo(1);
+    }
+
+    @Test
+    void stateChangesAdjustCounters() {
+        when(notificationRepository.countUnreadByAudience()).thenReturn(List.of());
+        counters.rebuild();
+
+        State unread = new State(7L, null, false, true);
+        State read = new State(7L, null, false, false);
+        counters.onStateChanged(new NotificationStateChangedEvent(this, null, unread));
+        counters.onStateChanged(new NotificationStateChangedEvent(this, null, new State(null, UserRole.COOK, false, true)));
+        assertThat(counters.unreadCount("cook")).isEqualTo(2);
+
+        counters.onStateChanged(new NotificationStateChangedEvent(this, unread, read));
+        assertThat(counters.unreadCount("cook")).isEqualTo(1);
+
+        counters.onStateChanged(new NotificationStateChangedEvent(this, read, null));
+        counters.onStateChanged(new NotificationStateChangedEvent(this, new State(null, UserRole.COOK, false, true), null));
+        assertThat(counters.unreadCount("cook")).isZero();
+    }
+
+    private static AppUserRepository.AudienceRow audience(Long id, UserRole role) {
+        return new AppUserRepository.AudienceRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public UserRole getRole() {
+                return role;
+            }
+        };
+    }
+
+    private static NotificationRepository.UnreadCountRow row(Long userId, UserRole role, boolean global, long unread) {
+        return new NotificationRepository.UnreadCountRow() {
+            @Override
+            public Long getTargetUserId() {
+                return userId;
+            }
+
+            @Override
+            public UserRole getTargetRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getIsGlobal() {
+                return global;
+            }
+
+            @Override
+            public long getUnread() {
+                return unread;
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.magnus.service.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.domain.Budget;
+import com.magnus.domain.ShoppingItem;
+import com.magnus.domain.ShoppingItemBudget;
+import com.magnus.repository.BudgetRepository;
+import com.magnus.repository.ShoppingItemBudgetRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ShoppingItemBudgetLinksTest {
+
+    private BudgetRepository budgetRepository;
+
+    private ShoppingItemBudgetRepository shoppingItemBudgetRepository;
+
+    private ShoppingItemBudgetLinks links;
+
+    @BeforeEach
+    void setUp() {
+        budgetRepository = mock(BudgetRepository.class);
+        shoppingItemBudgetRepository = mock(ShoppingItemBudgetRepository.class);
+        when(budgetRepository.getReferenceById(any())).thenAnswer(invocation -> new Budget().id(invocation.getArgument(0)));
+        links = new ShoppingItemBudgetLinks(budgetRepository, shoppingItemBudgetRepository);
+    }
+
+    @Test
+    void splitsTheTotalEvenlyBetweenExistingBudgets() {
+        ShoppingItem item = item("1, 2,x,3");
+        when(budgetRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(shoppingItemBudgetRepository.findByShoppingItemIdIn(anyCollection())).thenReturn(List.of());
+
+        links.sync(List.of(item));
+
+        assertThat(saved())
+            .extracting(contribution -> contribution.getBudget().getId(), ShoppingItemBudget::getQuantity)
+            .containsExactlyInAnyOrder(Tuple.tuple(1L, 3.0), Tuple.tuple(2L, 3.0));
+        verify(shoppingItemBudgetRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void keepsQuantitiesThatStillAddUpToTheTotal() {
+        ShoppingItem item = item("1,2");
+        when(budgetRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(shoppingItemBudgetRepository.findByShoppingItemIdIn(anyCollection())).thenReturn(
+            List.of(contribution(item, 1L, 4.0), contribution(item, 2L, 2.0))
+        );
+
+        links.sync(List.of(item));
+
+        assertThat(saved()).isEmpty();
+    }
+
+    @Test
+    void dropsBudgetsNoLongerListed() {
+        ShoppingItem item = item("2");
+        ShoppingItemBudget removed = contribution(item, 1L, 4.0);
+        ShoppingItemBudget kept = contribution(item, 2L, 2.0);
+        when(budgetRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(2L));
+        when(shoppingItemBudgetRepository.findByShoppingItemIdIn(anyCollection())).thenReturn(List.of(removed, kept));
+
+        links.sync(List.of(item));
+
+        assertThat(saved()).containsExactly(kept);
+        assertThat(kept.getQuantity()).isEqualTo(6.0);
+        verify(shoppingItemBudgetRepository).deleteAllInBatch(List.of(removed));
+    }
+
+    private List<ShoppingItemBudget> saved() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ShoppingItemBudget>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(shoppingItemBudgetRepository).saveAll(captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    private static ShoppingItem item(String budgetIds) {
+        return new ShoppingItem().id(10L).totalQuantity(6.0).budgetIds(budgetIds);
+    }
+
+    private static ShoppingItemBudget contribution(ShoppingItem item, Long budgetId, double quantity) {
+        return new ShoppingItemBudget().shoppingItem(item).budget(new Budget().id(budgetId)).quantity(quantity);
+    }
+}
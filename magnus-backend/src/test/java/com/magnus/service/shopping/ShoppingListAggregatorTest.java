@@ -0,0 +1,90 @@
+package com.magnus.service.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.magnus.domain.enumeration.ProductUnit;
+import com.magnus.repository.ProductQuantityRow;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ShoppingListAggregatorTest {
+
+    @Test
+    void normalisesUnitsAndAggregatesPerProduct() {
+        ShoppingListAggregator aggregator = new ShoppingListAggregator();
+        aggregator.addRequirement(row(1L, 10L, 2.0, ProductUnit.KG, 100L));
+        aggregator.addRequirement(row(2L, 10L, 500.0, ProductUnit.G, 101L));
+        aggregator.addRequirement(row(3L, 10L, 4.0, ProductUnit.UNITS, 101L));
+        aggregator.addRequirement(row(4L, 20L, 750.0, ProductUnit.ML, 100L));
+
+        List<ShoppingListAggregator.Line> lines = aggregator.lines();
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).getProductId()).isEqualTo(10L);
+        assertThat(lines.get(0).getUnit()).isEqualTo(ProductUnit.KG);
+        assertThat(lines.get(0).getQuantity()).isCloseTo(2.5, within(1e-9));
+        assertThat(lines.get(0).getBudgetIds()).containsExactly(100L, 101L);
+        assertThat(lines.get(0).getBudgetQuantity(100L)).isEqualTo(2.0);
+        assertThat(lines.get(0).getBudgetQuantity(101L)).isCloseTo(0.5, within(1e-9));
+        assertThat(lines.get(1).getUnit()).isEqualTo(ProductUnit.UNITS);
+        assertThat(lines.get(1).getQuantity()).isEqualTo(4.0);
+        assertThat(lines.get(2).getUnit()).isEqualTo(ProductUnit.LITERS);
+        assertThat(lines.get(2).getQuantity()).isCloseTo(0.75, within(1e-9));
+        assertThat(aggregator.productIds().size()).isEqualTo(2);
+    }
+
+    @Test
+    void cookingIngredientsReplaceTheRequirementTheyRefine() {
+        ShoppingListAggregator aggregator = new ShoppingListAggregator();
+        aggregator.addIngredient(row(1L, 10L, 3.0, ProductUnit.KG, 100L));
+        aggregator.addRequirement(row(1L, 10L, 2.0, ProductUnit.KG, 100L));
+        aggregator.addRequirement(row(2L, 10L, 1.0, ProductUnit.KG, 101L));
+        aggregator.addRequirement(row(3L, 10L, null, ProductUnit.KG, 102L));
+
+        List<ShoppingListAggregator.Line> lines = aggregator.lines();
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).getQuantity()).isEqualTo(4.0);
+        assertThat(lines.get(0).getBudgetIds()).containsExactly(100L, 101L);
+        assertThatThrownBy(() -> aggregator.addIngredient(row(4L, 10L, 1.0, ProductUnit.KG, 100L))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void convertsBetweenCompatibleUnits() {
+        assertThat(ProductUnits.convert(1500, ProductUnit.G, ProductUnit.KG)).isCloseTo(1.5, within(1e-9));
+        assertThat(ProductUnits.convert(0.25, ProductUnit.LITERS, ProductUnit.ML)).isCloseTo(250, within(1e-9));
+        assertThat(ProductUnits.compatible(ProductUnit.KG, ProductUnit.UNITS)).isFalse();
+        assertThatThrownBy(() -> ProductUnits.convert(1, ProductUnit.KG, ProductUnit.LITERS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ProductQuantityRow row(Long requirementId, Long productId, Double quantity, ProductUnit unit, Long budgetId) {
+        return new ProductQuantityRow() {
+            @Override
+            public Long getRequirementId() {
+                return requirementId;
+            }
+
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Double getQuantity() {
+                return quantity;
+            }
+
+            @Override
+            public ProductUnit getUnit() {
+                return unit;
+            }
+
+            @Override
+            public Long getBudgetId() {
+                return budgetId;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.magnus.service.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.magnus.domain.enumeration.TaskStatus;
+import com.magnus.service.dto.TaskScheduleDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class TaskGraphTest {
+
+    private static final Instant START = Instant.parse("2026-10-19T08:00:00Z");
+
+    @Test
+    void computesEarliestLatestAndCriticalPath() {
+        // 1 -> 2 -> 4 and 1 -> 3 -> 4, the branch through 2 is longer
+        TaskGraph graph = TaskGraph.of(
+            List.of(node(1L, 60, null), node(2L, 120, null), node(3L, 30, null), node(4L, 45, null)),
+            List.of(edge(1L, 2L), edge(1L, 3L), edge(2L, 4L), edge(3L, 4L))
+        );
+
+        TaskScheduleDTO schedule = graph.schedule(START);
+        Map<Long, TaskScheduleDTO.ScheduledTask> tasks = byId(schedule);
+
+        assertThat(schedule.getTotalDurationMinutes()).isEqualTo(225);
+        assertThat(schedule.getProjectFinish()).isEqualTo(START.plus(Duration.ofMinutes(225)));
+        assertThat(schedule.getCriticalPath()).containsExactly(1L, 2L, 4L);
+        assertThat(schedule.isHasCycle()).isFalse();
+        assertThat(tasks.get(4L).getEarliestStart()).isEqualTo(START.plus(Duration.ofMinutes(180)));
+        assertThat(tasks.get(3L).getSlackMinutes()).isEqualTo(90);
+        assertThat(tasks.get(3L).isCritical()).isFalse();
+        assertThat(tasks.get(2L).getSlackMinutes()).isZero();
+        assertThat(schedule.getTasks().get(0).getTaskId()).isEqualTo(1L);
+        assertThat(schedule.getTasks().get(3).getTaskId()).isEqualTo(4L);
+    }
+
+    @Test
+    void deadlinesBoundLatestFinishAndFlagLateTasks() {
+        TaskGraph graph = TaskGraph.of(
+            List.of(node(1L, 120, null), node(2L, 60, START.plus(Duration.ofMinutes(150)))),
+            List.of(edge(1L, 2L))
+        );
+
+        Map<Long, TaskScheduleDTO.ScheduledTask> tasks = byId(graph.schedule(START));
+
+        assertThat(tasks.get(2L).getLatestFinish()).isEqualTo(START.plus(Duration.ofMinutes(150)));
+        assertThat(tasks.get(2L).getSlackMinutes()).isEqualTo(-30);
+        assertThat(tasks.get(2L).isLate()).isTrue();
+        assertThat(tasks.get(1L).getSlackMinutes()).isEqualTo(-30);
+    }
+
+    @Test
+    void reportsCyclesAndSchedulesTheRest() {
+        TaskGraph graph = TaskGraph.of(
+            List.of(node(1L, 10, null), node(2L, 10, null), node(3L, 10, null), node(4L, 10, null)),
+            List.of(edge(2L, 3L), edge(3L, 2L), edge(3L, 4L), edge(1L, 99L))
+        );
+
+        TaskScheduleDTO schedule = graph.schedule(START);
+
+        assertThat(schedule.isHasCycle()).isTrue();
+        assertThat(schedule.getCyclicTaskIds()).containsExactlyInAnyOrder(2L, 3L, 4L);
+        assertThat(schedule.getTasks()).extracting(TaskScheduleDTO.ScheduledTask::getTaskId).containsExactly(1L);
+    }
+
+    @Test
+    void schedulesLargeChainsLinearly() {
+        int size = 5000;
+        List<TaskGraph.Node> nodes = new ArrayList<>(size);
+        List<TaskGraph.Edge> edges = new ArrayList<>(size * 2);
+        for (long id = 1; id <= size; id++) {
+            nodes.add(node(id, 5, null));
+            if (id > 1) {
+                edges.add(edge(id - 1, id));
+            }
+            if (id > 2) {
+                edges.add(edge(id - 2, id));
+            }
+        }
+
+        TaskScheduleDTO schedule = TaskGraph.of(nodes, edges).schedule(START);
+
+        assertThat(schedule.getTasks()).hasSize(size);
+        assertThat(schedule.getCriticalPath()).hasSize(size);
+        assertThat(schedule.getTotalDurationMinutes()).isEqualTo(5L * size);
+    }
+
+    private static TaskGraph.Node node(Long id, int duration, Instant deadline) {
+        return new TaskGraph.Node(id, "task " + id, TaskStatus.TODO, duration, deadline);
+    }
+
+    private static TaskGraph.Edge edge(Long prerequisite, Long dependent) {
+        return new TaskGraph.Edge(prerequisite, dependent);
+    }
+
+    private static Map<Long, TaskScheduleDTO.ScheduledTask> byId(TaskScheduleDTO schedule) {
+        return schedule.getTasks().stream().collect(Collectors.toMap(TaskScheduleDTO.ScheduledTask::getTaskId, Function.identity()));
+    }
+}
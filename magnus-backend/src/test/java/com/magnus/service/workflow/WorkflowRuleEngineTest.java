@@ -0,0 +1,139 @@
+package com.magnus.service.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.magnus.config.ApplicationProperties;
+import com.magnus.domain.WorkflowTrigger;
+import com.magnus.domain.enumeration.BudgetStatus;
+import com.magnus.repository.WorkflowTriggerRepository;
+import com.magnus.service.dto.BudgetDTO;
+import com.magnus.service.event.WorkflowEntityEvent;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+class WorkflowRuleEngineTest {
+
+    private WorkflowTriggerRepository workflowTriggerRepository;
+
+    private final List<String> fired = new ArrayList<>();
+
+    private WorkflowRuleEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        workflowTriggerRepository = mock(WorkflowTriggerRepository.class);
+        WorkflowRuleAction recordingAction = new WorkflowRuleAction() {
+            @Override
+            public String getActionType() {
+                return "RECORD";
+            }
+
+            @Override
+            public void execute(CompiledWorkflowRule rule, WorkflowRuleContext context) {
+                fired.add(rule.getTriggerName());
+            }
+        };
+        engine = new WorkflowRuleEngine(
+            workflowTriggerRepository,
+            List.of(recordingAction),
+            new ObjectMapper(),
+            new NoOpTransactionManager(),
+            new ApplicationProperties()
+        );
+    }
+
+    @Test
+    void compilesActiveTriggersPerEntityTypeAndSkipsInvalidOnes() {
+        when(workflowTriggerRepository.findAllByIsActiveTrueOrderByExecutionOrderAsc()).thenReturn(
+            List.of(
+                trigger(1L, "reserved", "Budget", "status == 'RESERVA' and statusChanged", "RECORD", 2),
+                trigger(2L, "always", "budget", "", "RECORD", 1),
+                trigger(3L, "task rule", "Task", "true", "RECORD", 1),
+                trigger(4L, "bad expression", "Budget", "status ==", "RECORD", 3),
+                trigger(5L, "unknown action", "Budget", "true", "SEND_FAX", 4)
+            )
+        );
+
+        assertThat(engine.compile()).isEqualTo(3);
+        assertThat(engine.getRules().get("budget")).extracting(CompiledWorkflowRule::getTriggerName).containsExactly("always", "reserved");
+        assertThat(engine.getRules().get("task")).hasSize(1);
+    }
+
+    @Test
+    void firesOnlyMatchingRulesOfTheEventEntityType() {
+        when(workflowTriggerRepository.findAllByIsActiveTrueOrderByExecutionOrderAsc()).thenReturn(
+            List.of(
+                trigger(1L, "reserved", "Budget", "status == 'RESERVA' and statusChanged", "RECORD", 1),
+                trigger(2L, "big event", "Budget", "entity.guestCount > 100", "RECORD", 2),
+                trigger(3L, "task rule", "Task", "true", "RECORD", 1)
+            )
+        );
+        engine.compile();
+
+        BudgetDTO budget = new BudgetDTO();
+        budget.setId(10L);
+        budget.setGuestCount(40);
+        budget.setStatus(BudgetStatus.RESERVA);
+
+        int count = engine.evaluate(
+            new WorkflowEntityEvent(this, "Budget", 10L, WorkflowEntityEvent.ACTION_UPDATED, budget, BudgetStatus.RESERVA, BudgetStatus.APPROVED)
+        );
+
+        assertThat(count).isEqualTo(1);
+        assertThat(fired).containsExactly("reserved");
+    }
+
+    @Test
+    void flushesExecutionStatsOncePerTrigger() {
+        when(workflowTriggerRepository.findAllByIsActiveTrueOrderByExecutionOrderAsc()).thenReturn(
+            List.of(trigger(7L, "always", "Budget", "true", "RECORD", 1))
+        );
+        engine.compile();
+        for (int i = 0; i < 3; i++) {
+            engine.evaluate(new WorkflowEntityEvent(this, "Budget", 1L, WorkflowEntityEvent.ACTION_CREATED, new BudgetDTO(), null, null));
+        }
+
+        engine.flushExecutionStats();
+
+        verify(workflowTriggerRepository).incrementExecutionStats(eq(7L), eq(3L), any(Instant.class));
+    }
+
+    private static WorkflowTrigger trigger(Long id, String name, String entityType, String condition, String actionType, int order) {
+        return new WorkflowTrigger()
+            .id(id)
+            .triggerName(name)
+            .entityType(entityType)
+            .triggerCondition(condition)
+            .actionType(actionType)
+            .isActive(true)
+            .executionOrder(order);
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, org.springframework.transaction.TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+    }
+}
@@ -4,6 +4,7 @@ import static com.magnus.domain.BudgetItemAsserts.*;
 import static com.magnus.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.magnus.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -14,11 +15,13 @@ import com.magnus.domain.Budget;
 import com.magnus.domain.BudgetItem;
 import com.magnus.repository.BudgetItemRepository;
 import com.magnus.service.dto.BudgetItemDTO;
+import com.magnus.service.dto.BulkRequestDTO;
 import com.magnus.service.mapper.BudgetItemMapper;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -492,6 +495,8 @@ class BudgetItemResourceIT {
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
         BudgetItemDTO budgetItemDTO = budgetItemMapper.toDto(updatedBudgetItem);
+        // the update is based on the version read, the server increments it
+        budgetItemDTO.setVersion(DEFAULT_VERSION);
 
         restBudgetItemMockMvc
             .perform(
@@ -623,7 +628,7 @@ class BudgetItemResourceIT {
             .customizations(UPDATED_CUSTOMIZATIONS)
             .notes(UPDATED_NOTES)
             .isCustomized(UPDATED_IS_CUSTOMIZED)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
 
@@ -634,6 +639,7 @@ class BudgetItemResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedBudgetItem))
             )
             .andExpect(status().isOk());
+        partialUpdatedBudgetItem.setVersion(UPDATED_VERSION);
 
         // Validate the BudgetItem in the database
 
@@ -720,6 +726,35 @@ class BudgetItemResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    @Transactional
+    void bulkBudgetItems() throws Exception {
+        // Initialize the database
+        insertedBudgetItem = budgetItemRepository.saveAndFlush(budgetItem);
+        BudgetItem budgetItemToDelete = budgetItemRepository.saveAndFlush(createEntity(em));
+
+        long databaseSizeBeforeBulk = getRepositoryCount();
+
+        BudgetItemDTO budgetItemToUpdate = budgetItemMapper.toDto(insertedBudgetItem);
+        budgetItemToUpdate.setNotes(UPDATED_NOTES);
+        BulkRequestDTO<BudgetItemDTO> request = new BulkRequestDTO<>();
+        request.setCreate(List.of(budgetItemMapper.toDto(createEntity(em))));
+        request.setUpdate(List.of(budgetItemToUpdate));
+        request.setDelete(List.of(budgetItemToDelete.getId(), Long.MAX_VALUE));
+
+        restBudgetItemMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[*].status").value(contains("CREATED", "UPDATED", "DELETED", "NOT_FOUND")))
+            .andExpect(jsonPath("$.items[0].id").isNumber())
+            .andExpect(jsonPath("$.items[1].entity.notes").value(UPDATED_NOTES))
+            .andExpect(jsonPath("$.items[1].entity.version").value(UPDATED_VERSION));
+
+        // One created, one deleted
+        assertSameRepositoryCount(databaseSizeBeforeBulk);
+        assertThat(budgetItemRepository.findById(budgetItemToDelete.getId())).isEmpty();
+    }
+
     protected long getRepositoryCount() {
         return budgetItemRepository.count();
     }
@@ -4,6 +4,7 @@ import static com.magnus.domain.BudgetAsserts.*;
 import static com.magnus.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.magnus.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -18,8 +19,10 @@ import com.magnus.domain.enumeration.ConflictStatus;
 import com.magnus.domain.enumeration.EventGender;
 import com.magnus.domain.enumeration.PaymentStatus;
 import com.magnus.repository.BudgetRepository;
+import com.magnus.service.criteria.KeysetCursor;
 import com.magnus.service.dto.BudgetDTO;
 import com.magnus.service.mapper.BudgetMapper;
+import com.magnus.web.rest.util.KeysetPaginationUtil;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -27,6 +30,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -614,6 +618,102 @@ class BudgetResourceIT {
             .andExpect(jsonPath("$.[*].updatedAt").value(hasItem(DEFAULT_UPDATED_AT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllBudgetsStaysWithinStatementBudget() throws Exception {
+        // Initialize the database
+        insertedBudget = budgetRepository.saveAndFlush(budget);
+        budgetRepository.saveAndFlush(createEntity(em));
+        budgetRepository.saveAndFlush(createEntity(em));
+
+        StatementCountGuard guard = StatementCountGuard.start(em);
+        restBudgetMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc&size=20")).andExpect(status().isOk());
+        restBudgetMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc&size=20&count=false")).andExpect(status().isOk());
+
+        // Page select (plus count) and slice select; createdBy, assignedTo, client, template and weeklyPlan are id-only proxies
+        guard.assertAtMost(3);
+    }
+
+    @Test
+    @Transactional
+    void getAllBudgetsByCombinedCriteria() throws Exception {
+        String clientName = "criteria-" + UUID.randomUUID();
+        Budget match = budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).status(BudgetStatus.RESERVA).guestCount(50));
+        budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).status(BudgetStatus.RESERVA).guestCount(5));
+        budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).status(BudgetStatus.DRAFT).guestCount(50));
+        budgetRepository.saveAndFlush(createEntity(em).clientName(clientName + "-other").status(BudgetStatus.RESERVA).guestCount(50));
+
+        String filter = "clientName.equals=" + clientName + "&status.equals=RESERVA&guestCount.greaterThan=10";
+        restBudgetMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(contains(match.getId().intValue())));
+        restBudgetMockMvc
+            .perform(get(ENTITY_API_URL + "/count?" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().string("1"));
+        restBudgetMockMvc
+            .perform(get(ENTITY_API_URL + "?" + filter + "&cursor="))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(match.getId().intValue())))
+            .andExpect(header().string(KeysetPaginationUtil.HEADER_HAS_NEXT_PAGE, "false"));
+    }
+
+    @Test
+    @Transactional
+    void getAllBudgetsByKeysetCursorAcrossEqualTimes() throws Exception {
+        String clientName = "keyset-" + UUID.randomUUID();
+        Instant newest = DEFAULT_CREATED_AT.plusSeconds(60);
+        Budget older1 = budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).createdAt(DEFAULT_CREATED_AT));
+        Budget tie1 = budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).createdAt(newest));
+        Budget older2 = budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).createdAt(DEFAULT_CREATED_AT));
+        Budget tie2 = budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).createdAt(newest));
+        Budget tie3 = budgetRepository.saveAndFlush(createEntity(em).clientName(clientName).createdAt(newest));
+        String url = ENTITY_API_URL + "?size=2&clientName.equals=" + clientName + "&cursor=";
+
+        // createdAt desc, then id desc: the first page boundary falls between rows with the same createdAt
+        String cursor = restBudgetMockMvc
+            .perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(tie3.getId().intValue(), tie2.getId().intValue())))
+            .andExpect(header().string(KeysetPaginationUtil.HEADER_HAS_NEXT_PAGE, "true"))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.HEADER_NEXT_CURSOR);
+        cursor = restBudgetMockMvc
+            .perform(get(url + cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(tie1.getId().intValue(), older2.getId().intValue())))
+            .andReturn()
+            .getResponse()
+            .getHeader(KeysetPaginationUtil.HEADER_NEXT_CURSOR);
+        restBudgetMockMvc
+            .perform(get(url + cursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(older1.getId().intValue())))
+            .andExpect(header().string(KeysetPaginationUtil.HEADER_HAS_NEXT_PAGE, "false"))
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.HEADER_NEXT_CURSOR));
+
+        // a page that ends exactly on the last row has no next cursor
+        restBudgetMockMvc
+            .perform(get(ENTITY_API_URL + "?size=5&clientName.equals=" + clientName + "&cursor="))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(5))
+            .andExpect(header().doesNotExist(KeysetPaginationUtil.HEADER_NEXT_CURSOR));
+        // a cursor past the last row returns an empty page
+        restBudgetMockMvc
+            .perform(get(url + new KeysetCursor(DEFAULT_CREATED_AT, older1.getId())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @Transactional
+    void getAllBudgetsWithInvalidCursor() throws Exception {
+        restBudgetMockMvc.perform(get(ENTITY_API_URL + "?cursor=not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void getBudget() throws Exception {
@@ -707,6 +807,8 @@ class BudgetResourceIT {
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
         BudgetDTO budgetDTO = budgetMapper.toDto(updatedBudget);
+        // the update is based on the version read, the server increments it
+        budgetDTO.setVersion(DEFAULT_VERSION);
 
         restBudgetMockMvc
             .perform(
@@ -806,7 +908,7 @@ class BudgetResourceIT {
             .isClosed(UPDATED_IS_CLOSED)
             .templateId(UPDATED_TEMPLATE_ID)
             .lastWorkflowExecution(UPDATED_LAST_WORKFLOW_EXECUTION)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .conflictStatus(UPDATED_CONFLICT_STATUS)
             .approvedAt(UPDATED_APPROVED_AT)
             .createdAt(UPDATED_CREATED_AT);
@@ -818,6 +920,7 @@ class BudgetResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedBudget))
             )
             .andExpect(status().isOk());
+        partialUpdatedBudget.setVersion(UPDATED_VERSION);
 
         // Validate the Budget in the database
 
@@ -860,7 +963,7 @@ class BudgetResourceIT {
             .templateId(UPDATED_TEMPLATE_ID)
             .workflowTriggered(UPDATED_WORKFLOW_TRIGGERED)
             .lastWorkflowExecution(UPDATED_LAST_WORKFLOW_EXECUTION)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .conflictStatus(UPDATED_CONFLICT_STATUS)
             .lastModifiedBy(UPDATED_LAST_MODIFIED_BY)
             .approvedAt(UPDATED_APPROVED_AT)
@@ -875,6 +978,7 @@ class BudgetResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedBudget))
             )
             .andExpect(status().isOk());
+        partialUpdatedBudget.setVersion(UPDATED_VERSION);
 
         // Validate the Budget in the database
 
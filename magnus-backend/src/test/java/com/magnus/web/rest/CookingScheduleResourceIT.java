@@ -536,6 +536,8 @@ class CookingScheduleResourceIT {
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
         CookingScheduleDTO cookingScheduleDTO = cookingScheduleMapper.toDto(updatedCookingSchedule);
+        // the update is based on the version read, the server increments it
+        cookingScheduleDTO.setVersion(DEFAULT_VERSION);
 
         restCookingScheduleMockMvc
             .perform(
@@ -675,7 +677,7 @@ class CookingScheduleResourceIT {
             .estimatedDuration(UPDATED_ESTIMATED_DURATION)
             .actualDuration(UPDATED_ACTUAL_DURATION)
             .startedAt(UPDATED_STARTED_AT)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .conflictStatus(UPDATED_CONFLICT_STATUS)
             .lastModifiedBy(UPDATED_LAST_MODIFIED_BY)
             .createdAt(UPDATED_CREATED_AT)
@@ -688,6 +690,7 @@ class CookingScheduleResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedCookingSchedule))
             )
             .andExpect(status().isOk());
+        partialUpdatedCookingSchedule.setVersion(UPDATED_VERSION);
 
         // Validate the CookingSchedule in the database
 
@@ -430,6 +430,8 @@ class ProductRequirementResourceIT {
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
         ProductRequirementDTO productRequirementDTO = productRequirementMapper.toDto(updatedProductRequirement);
+        // the update is based on the version read, the server increments it
+        productRequirementDTO.setVersion(DEFAULT_VERSION);
 
         restProductRequirementMockMvc
             .perform(
@@ -524,7 +526,7 @@ class ProductRequirementResourceIT {
             .actualCost(UPDATED_ACTUAL_COST)
             .isPurchased(UPDATED_IS_PURCHASED)
             .purchasedAt(UPDATED_PURCHASED_AT)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .createdAt(UPDATED_CREATED_AT);
 
         restProductRequirementMockMvc
@@ -534,6 +536,7 @@ class ProductRequirementResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedProductRequirement))
             )
             .andExpect(status().isOk());
+        partialUpdatedProductRequirement.setVersion(UPDATED_VERSION);
 
         // Validate the ProductRequirement in the database
 
@@ -565,7 +568,7 @@ class ProductRequirementResourceIT {
             .isPurchased(UPDATED_IS_PURCHASED)
             .purchasedBy(UPDATED_PURCHASED_BY)
             .purchasedAt(UPDATED_PURCHASED_AT)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .conflictStatus(UPDATED_CONFLICT_STATUS)
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
@@ -577,6 +580,7 @@ class ProductRequirementResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedProductRequirement))
             )
             .andExpect(status().isOk());
+        partialUpdatedProductRequirement.setVersion(UPDATED_VERSION);
 
         // Validate the ProductRequirement in the database
 
@@ -4,18 +4,22 @@ import static com.magnus.domain.ShoppingItemAsserts.*;
 import static com.magnus.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.magnus.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.magnus.IntegrationTest;
+import com.magnus.domain.Budget;
 import com.magnus.domain.ShoppingItem;
 import com.magnus.domain.WeeklyPlan;
 import com.magnus.domain.enumeration.ConflictStatus;
 import com.magnus.domain.enumeration.ProductCategory;
 import com.magnus.domain.enumeration.ProductUnit;
 import com.magnus.repository.ShoppingItemRepository;
+import com.magnus.service.dto.BulkRequestDTO;
 import com.magnus.service.dto.ShoppingItemDTO;
 import com.magnus.service.mapper.ShoppingItemMapper;
 import jakarta.persistence.EntityManager;
@@ -24,6 +28,8 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -263,6 +269,75 @@ class ShoppingItemResourceIT {
         insertedShoppingItem = returnedShoppingItem;
     }
 
+    @Test
+    @Transactional
+    void shoppingItemWrittenThroughTheApiIsListedForItsBudget() throws Exception {
+        Budget budget = BudgetResourceIT.createEntity(em);
+        em.persist(budget);
+        em.flush();
+        shoppingItem.setBudgetIds(budget.getId().toString());
+        var returnedShoppingItemDTO = om.readValue(
+            restShoppingItemMockMvc
+                .perform(
+                    post(ENTITY_API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsBytes(shoppingItemMapper.toDto(shoppingItem)))
+                )
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            ShoppingItemDTO.class
+        );
+        insertedShoppingItem = shoppingItemMapper.toEntity(returnedShoppingItemDTO);
+
+        restShoppingItemMockMvc
+            .perform(get(ENTITY_API_URL + "/budget/{budgetId}", budget.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(returnedShoppingItemDTO.getId().intValue())));
+
+        // Removing the budget from the item removes it from the budget's list
+        returnedShoppingItemDTO.setBudgetIds(null);
+        restShoppingItemMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, returnedShoppingItemDTO.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(returnedShoppingItemDTO))
+            )
+            .andExpect(status().isOk());
+
+        restShoppingItemMockMvc
+            .perform(get(ENTITY_API_URL + "/budget/{budgetId}", budget.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void bulkCreateStaysWithinStatementBudget() throws Exception {
+        Budget budget = BudgetResourceIT.createEntity(em);
+        em.persist(budget);
+        List<ShoppingItemDTO> creates = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ShoppingItemDTO create = shoppingItemMapper.toDto(createEntity(em));
+            create.setBudgetIds(budget.getId().toString());
+            creates.add(create);
+        }
+        BulkRequestDTO<ShoppingItemDTO> request = new BulkRequestDTO<>();
+        request.setCreate(creates);
+
+        StatementCountGuard guard = StatementCountGuard.start(em);
+        restShoppingItemMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[*].status").value(everyItem(is("CREATED"))));
+        em.flush();
+
+        // Budget ids and existing links, then one batched insert of the items and one of their links
+        guard.assertAtMost(4);
+        assertThat(shoppingItemRepository.findByBudgetId(budget.getId())).hasSize(creates.size());
+    }
+
     @Test
     @Transactional
     void createShoppingItemWithExistingId() throws Exception {
@@ -603,6 +678,8 @@ class ShoppingItemResourceIT {
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
         ShoppingItemDTO shoppingItemDTO = shoppingItemMapper.toDto(updatedShoppingItem);
+        // the update is based on the version read, the server increments it
+        shoppingItemDTO.setVersion(DEFAULT_VERSION);
 
         restShoppingItemMockMvc
             .perform(
@@ -700,7 +777,7 @@ class ShoppingItemResourceIT {
             .actualCost(UPDATED_ACTUAL_COST)
             .consolidatedAt(UPDATED_CONSOLIDATED_AT)
             .purchasedAt(UPDATED_PURCHASED_AT)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .createdAt(UPDATED_CREATED_AT);
 
         restShoppingItemMockMvc
@@ -710,6 +787,7 @@ class ShoppingItemResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedShoppingItem))
             )
             .andExpect(status().isOk());
+        partialUpdatedShoppingItem.setVersion(UPDATED_VERSION);
 
         // Validate the ShoppingItem in the database
 
@@ -753,7 +831,7 @@ class ShoppingItemResourceIT {
             .consolidatedAt(UPDATED_CONSOLIDATED_AT)
             .purchasedAt(UPDATED_PURCHASED_AT)
             .conflictStatus(UPDATED_CONFLICT_STATUS)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
 
@@ -764,6 +842,7 @@ class ShoppingItemResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedShoppingItem))
             )
             .andExpect(status().isOk());
+        partialUpdatedShoppingItem.setVersion(UPDATED_VERSION);
 
         // Validate the ShoppingItem in the database
 
@@ -0,0 +1,66 @@
+package com.magnus.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the JDBC statements Hibernate prepares on the test thread while a request is served, so list endpoints can
+ * be held to a query budget that does not grow with the page size. MockMvc serves requests on the calling thread, so
+ * statements of other tests or background jobs are not counted.
+ * <p>
+ * Requires {@link Inspector} as {@code hibernate.session_factory.statement_inspector} in the test profiles.
+ */
+public final class StatementCountGuard {
+
+    private static final ThreadLocal<AtomicLong> COUNTER = new ThreadLocal<>();
+
+    private final AtomicLong counter;
+
+    private StatementCountGuard(AtomicLong counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * Flushes and detaches everything the test set up, so associations are loaded the way a fresh request would,
+     * then starts counting on the current thread.
+     *
+     * @param em the test's entity manager.
+     * @return the started guard.
+     */
+    public static StatementCountGuard start(EntityManager em) {
+        em.flush();
+        em.clear();
+        AtomicLong counter = new AtomicLong();
+        COUNTER.set(counter);
+        return new StatementCountGuard(counter);
+    }
+
+    /**
+     * Stops counting and fails when more than {@code budget} statements were prepared since
+     * {@link #start(EntityManager)}.
+     *
+     * @param budget the maximum number of statements.
+     */
+    public void assertAtMost(long budget) {
+        COUNTER.remove();
+        assertThat(counter.get()).as("statements prepared, exceeding the query budget of %d", budget).isLessThanOrEqualTo(budget);
+    }
+
+    /**
+     * Counts the statements prepared on a thread with a started guard, leaving the SQL unchanged.
+     */
+    public static final class Inspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            AtomicLong counter = COUNTER.get();
+            if (counter != null) {
+                counter.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.magnus.web.rest;
 import static com.magnus.domain.TaskAsserts.*;
 import static com.magnus.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -550,6 +553,54 @@ class TaskResourceIT {
             .andExpect(jsonPath("$.[*].updatedAt").value(hasItem(DEFAULT_UPDATED_AT.toString())));
     }
 
+    @Test
+    @Transactional
+    void getAllTasksStaysWithinStatementBudget() throws Exception {
+        // Initialize the database
+        insertedTask = taskRepository.saveAndFlush(task);
+        taskRepository.saveAndFlush(createEntity(em));
+        taskRepository.saveAndFlush(createEntity(em));
+
+        StatementCountGuard guard = StatementCountGuard.start(em);
+        restTaskMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc&size=20")).andExpect(status().isOk());
+        restTaskMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc&size=20&count=false")).andExpect(status().isOk());
+
+        // Page select (plus count) and slice select; cookingSchedule is joined in, the other associations are id-only proxies
+        guard.assertAtMost(3);
+    }
+
+    @Test
+    @Transactional
+    void getAllTasksWhereCookingScheduleIsNull() throws Exception {
+        String url = ENTITY_API_URL + "?filter=cookingschedule-is-null&sort=id,desc";
+        long unscheduledBefore = Long.parseLong(
+            restTaskMockMvc.perform(get(url + "&size=1")).andExpect(status().isOk()).andReturn().getResponse().getHeader("X-Total-Count")
+        );
+        Task first = taskRepository.saveAndFlush(createEntity(em));
+        Task scheduled = taskRepository.saveAndFlush(createEntity(em));
+        em.persist(CookingScheduleResourceIT.createEntity(em).relatedTask(scheduled));
+        Task second = taskRepository.saveAndFlush(createEntity(em));
+        em.flush();
+        em.clear();
+
+        // newest first: the scheduled task between the two is skipped, not returned on either page
+        restTaskMockMvc
+            .perform(get(url + "&size=1&page=0"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", String.valueOf(unscheduledBefore + 2)))
+            .andExpect(header().string("Link", containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.[*].id").value(contains(second.getId().intValue())));
+        restTaskMockMvc
+            .perform(get(url + "&size=1&page=1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue())));
+        restTaskMockMvc
+            .perform(get(url + "&size=" + (unscheduledBefore + 2)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(first.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(scheduled.getId().intValue()))));
+    }
+
     @Test
     @Transactional
     void getTask() throws Exception {
@@ -633,6 +684,8 @@ class TaskResourceIT {
             .createdAt(UPDATED_CREATED_AT)
             .updatedAt(UPDATED_UPDATED_AT);
         TaskDTO taskDTO = taskMapper.toDto(updatedTask);
+        // the update is based on the version read, the server increments it
+        taskDTO.setVersion(DEFAULT_VERSION);
 
         restTaskMockMvc
             .perform(put(ENTITY_API_URL_ID, taskDTO.getId()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(taskDTO)))
@@ -770,7 +823,7 @@ class TaskResourceIT {
             .parentTaskId(UPDATED_PARENT_TASK_ID)
             .completedAt(UPDATED_COMPLETED_AT)
             .startedAt(UPDATED_STARTED_AT)
-            .version(UPDATED_VERSION)
+            .version(DEFAULT_VERSION)
             .conflictStatus(UPDATED_CONFLICT_STATUS)
             .lastModifiedBy(UPDATED_LAST_MODIFIED_BY)
             .createdAt(UPDATED_CREATED_AT)
@@ -783,6 +836,7 @@ class TaskResourceIT {
                     .content(om.writeValueAsBytes(partialUpdatedTask))
             )
             .andExpect(status().isOk());
+        partialUpdatedTask.setVersion(UPDATED_VERSION);
 
         // Validate the Task in the database
 
@@ -0,0 +1,86 @@
+package com.magnus.web.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.magnus.domain.enumeration.UserRole;
+import com.magnus.service.NotificationService;
+import com.magnus.service.criteria.KeysetCursor;
+import com.magnus.service.dto.NotificationDTO;
+import com.magnus.service.event.NotificationCreatedEvent;
+import com.magnus.web.websocket.dto.NotificationReplayDTO;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+class NotificationPushServiceTest {
+
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private NotificationService notificationService;
+
+    private NotificationPushService pushService;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        notificationService = mock(NotificationService.class);
+        pushService = new NotificationPushService(messagingTemplate, notificationService);
+    }
+
+    @Test
+    void pushesRoleNotificationToRoleTopicOnly() {
+        NotificationDTO notification = notification(1L, UserRole.COOK, false);
+
+        pushService.onNotificationCreated(new NotificationCreatedEvent(this, notification, null));
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/role/COOK"), eq(notification), anyMap());
+        verify(messagingTemplate, never()).convertAndSendToUser(any(), any(), any(), anyMap());
+    }
+
+    @Test
+    void pushesGlobalNotificationToEveryRoleAndTargetUser() {
+        NotificationDTO notification = notification(2L, null, true);
+
+        pushService.onNotificationCreated(new NotificationCreatedEvent(this, notification, "cook"));
+
+        verify(messagingTemplate).convertAndSendToUser(eq("cook"), eq("/queue/notifications"), eq(notification), anyMap());
+        verify(messagingTemplate, times(UserRole.values().length)).convertAndSend(any(String.class), eq(notification), anyMap());
+    }
+
+    @Test
+    void replayReturnsCursorOfLastNotification() {
+        NotificationDTO first = notification(3L, UserRole.SALES, false);
+        NotificationDTO last = notification(4L, UserRole.SALES, false);
+        when(notificationService.findUnreadVisibleAfter(eq("sales"), any(), eq(NotificationPushService.REPLAY_LIMIT))).thenReturn(
+            List.of(first, last)
+        );
+        Principal principal = () -> "sales";
+
+        NotificationReplayDTO replay = pushService.replay("garbage", principal);
+
+        assertThat(replay.getNotifications()).containsExactly(first, last);
+        assertThat(replay.isHasMore()).isFalse();
+        assertThat(KeysetCursor.parse(replay.getCursor())).isEqualTo(new KeysetCursor(last.getCreatedAt(), 4L));
+    }
+
+    private static NotificationDTO notification(Long id, UserRole role, boolean global) {
+        NotificationDTO notification = new NotificationDTO();
+        notification.setId(id);
+        notification.setTitle("notification " + id);
+        notification.setTargetRole(role);
+        notification.setIsGlobal(global);
+        notification.setCreatedAt(Instant.parse("2026-10-18T10:00:00Z").plusSeconds(id));
+        return notification;
+    }
+}
@@ -0,0 +1,115 @@
+package com.magnus.web.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import com.magnus.config.ApplicationProperties;
+import com.magnus.web.websocket.dto.ActivityDTO;
+import com.magnus.web.websocket.dto.PresenceUpdateDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+class PresenceTrackerTest {
+
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private PresenceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getWebsocket().getPresence().setSnapshotIntervalMs(60000);
+        tracker = new PresenceTracker(messagingTemplate, properties);
+        // the first publication is always a snapshot
+        tracker.publish(1000);
+        reset(messagingTemplate);
+    }
+
+    @Test
+    void coalescesPageViewsOfASessionIntoOneDiffEntry() {
+        tracker.record(activity("s1", "admin", "budgets"));
+        tracker.record(activity("s1", "admin", "tasks"));
+        tracker.record(activity("s2", "cook", "cooking"));
+
+        tracker.publish(2000);
+
+        PresenceUpdateDTO update = published();
+        assertThat(update.isSnapshot()).isFalse();
+        assertThat(update.getSequence()).isEqualTo(2);
+        assertThat(update.getSessions()).extracting(ActivityDTO::getPage).containsExactlyInAnyOrder("tasks", "cooking");
+        assertThat(update.getRemoved()).isEmpty();
+        assertThat(update.getNodeId()).isEqualTo(tracker.getNodeId());
+    }
+
+    @Test
+    void publishesNothingWhenNoSessionChangedPage() {
+        tracker.record(activity("s1", "admin", "budgets"));
+        tracker.publish(2000);
+        reset(messagingTemplate);
+
+        tracker.record(activity("s1", "admin", "budgets"));
+        tracker.publish(3000);
+
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    void publishesDisconnectedSessionsAsRemoved() {
+        tracker.record(activity("s1", "admin", "budgets"));
+        tracker.publish(2000);
+        reset(messagingTemplate);
+
+        tracker.remove("s1");
+        tracker.remove("unknown");
+        tracker.publish(3000);
+
+        PresenceUpdateDTO update = published();
+        assertThat(update.getSessions()).isEmpty();
+        assertThat(update.getRemoved()).containsExactly("s1");
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    void publishesFullSnapshotWhenDue() {
+        tracker.record(activity("s1", "admin", "budgets"));
+        tracker.record(activity("s2", "cook", "cooking"));
+
+        tracker.publish(61000);
+
+        PresenceUpdateDTO update = published();
+        assertThat(update.isSnapshot()).isTrue();
+        assertThat(update.getSessions()).hasSize(2);
+        assertThat(tracker.snapshot().getSequence()).isEqualTo(update.getSequence());
+        assertThat(update.getNodeId()).isEqualTo(tracker.getNodeId());
+    }
+
+    @Test
+    void publishesUnderADifferentNodeIdOnEveryNode() {
+        PresenceTracker otherNode = new PresenceTracker(messagingTemplate, new ApplicationProperties());
+
+        assertThat(otherNode.getNodeId()).isNotEqualTo(tracker.getNodeId());
+        assertThat(otherNode.snapshot().getNodeId()).isEqualTo(otherNode.getNodeId());
+    }
+
+    private PresenceUpdateDTO published() {
+        ArgumentCaptor<PresenceUpdateDTO> captor = ArgumentCaptor.forClass(PresenceUpdateDTO.class);
+        verify(messagingTemplate).convertAndSend(eq(PresenceTracker.TRACKER_TOPIC), captor.capture());
+        return captor.getValue();
+    }
+
+    private static ActivityDTO activity(String sessionId, String login, String page) {
+        ActivityDTO activity = new ActivityDTO();
+        activity.setSessionId(sessionId);
+        activity.setUserLogin(login);
+        activity.setPage(page);
+        return activity;
+    }
+}